@@ -0,0 +1,68 @@
+package de.conterra.babelfish.csv.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * runs all benchmarks with the GC profiler and an increasing number of threads<br>
+ * The usual JMH command line options are accepted (e.g. {@code -p rows=10000} or {@code -t 4} to run with a single number of threads only).
+ * The results are written as JSON files into {@code target/jmh}, one per number of threads.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class BenchmarkRunner {
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private BenchmarkRunner() {
+	}
+	
+	/**
+	 * runs the benchmarks
+	 *
+	 * @param args the JMH command line options
+	 * @throws CommandLineOptionException if the command line options couldn't be parsed
+	 * @throws RunnerException            if a benchmark failed
+	 * @since 0.4.0
+	 */
+	public static void main(String[] args)
+	throws CommandLineOptionException, RunnerException {
+		CommandLineOptions options = new CommandLineOptions(args);
+		File               results = new File("target", "jmh");
+		
+		if (!(results.isDirectory()) && !(results.mkdirs())) {
+			throw new RunnerException("Couldn't create the directory " + results);
+		}
+		
+		int maxThreads = options.getThreads().hasValue() ? options.getThreads().get() : Runtime.getRuntime().availableProcessors();
+		int threads    = options.getThreads().hasValue() ? maxThreads : 1;
+		
+		while (threads <= maxThreads) {
+			ChainedOptionsBuilder builder = new OptionsBuilder().parent(options)
+			                                                    .threads(threads)
+			                                                    .addProfiler(GCProfiler.class)
+			                                                    .resultFormat(ResultFormatType.JSON)
+			                                                    .result(new File(results, "result-" + threads + "-threads.json").getPath());
+			
+			if (options.getIncludes().isEmpty()) {
+				builder.include(BenchmarkRunner.class.getPackage().getName() + ".");
+			}
+			
+			new Runner(builder.build()).run();
+			
+			threads = threads < maxThreads ? Math.min(2 * threads, maxThreads) : maxThreads + 1;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package de.conterra.babelfish.csv.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * generates the CSV files of the benchmarks<br>
+ * The files are written once into the temporary directory and reused by later runs with the same parameters.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class CsvFiles {
+	/**
+	 * the number of columns, which are always written (CRS, latitude, longitude and group)
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int FIXED = 4;
+	/**
+	 * the number of rows of a line
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int LINE  = 100;
+	
+	/**
+	 * the directory of the generated files
+	 *
+	 * @since 0.4.0
+	 */
+	private static final File DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "babelfish-csv-benchmark");
+	
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private CsvFiles() {
+	}
+	
+	/**
+	 * gives a CSV file of points, which columns are detected by their headers
+	 *
+	 * @param rows    the number of rows (without the header)
+	 * @param columns the number of columns (at least {@link #FIXED})
+	 * @return the generated CSV file
+	 *
+	 * @throws IOException if the file couldn't be written
+	 * @since 0.4.0
+	 */
+	public static File points(int rows, int columns)
+	throws IOException {
+		return CsvFiles.generate("points-" + rows + "-" + columns + ".csv", rows, columns);
+	}
+	
+	/**
+	 * gives a CSV file of polylines with a configuration file, which groups every {@link #LINE} rows to one line
+	 *
+	 * @param rows    the number of rows (without the header)
+	 * @param columns the number of columns (at least {@link #FIXED})
+	 * @return the generated CSV file
+	 *
+	 * @throws IOException if the file couldn't be written
+	 * @since 0.4.0
+	 */
+	public static File lines(int rows, int columns)
+	throws IOException {
+		File file   = CsvFiles.generate("lines-" + rows + "-" + columns + ".csv", rows, columns);
+		File config = new File(file.getPath() + ".xml");
+		
+		if (!(config.isFile())) {
+			try (Writer writer = new FileWriter(config)) {
+				writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+				             + "<config>\n"
+				             + "\t<ignoreFirstRow>true</ignoreFirstRow>\n"
+				             + "\t<geoType>polyline</geoType>\n"
+				             + "\t<columns>\n"
+				             + "\t\t<group>3</group>\n"
+				             + "\t</columns>\n"
+				             + "</config>\n");
+			}
+		}
+		
+		return file;
+	}
+	
+	/**
+	 * generates a CSV file with random coordinates and attributes, if it doesn't exist yet
+	 *
+	 * @param name    the name of the file
+	 * @param rows    the number of rows (without the header)
+	 * @param columns the number of columns (at least {@link #FIXED})
+	 * @return the generated CSV file
+	 *
+	 * @throws IOException if the file couldn't be written
+	 * @since 0.4.0
+	 */
+	private static File generate(String name, int rows, int columns)
+	throws IOException {
+		File file = new File(CsvFiles.DIRECTORY, name);
+		
+		if (file.isFile()) {
+			return file;
+		}
+		
+		if (!(CsvFiles.DIRECTORY.isDirectory()) && !(CsvFiles.DIRECTORY.mkdirs())) {
+			throw new IOException("Couldn't create the directory " + CsvFiles.DIRECTORY);
+		}
+		
+		File   temp   = new File(CsvFiles.DIRECTORY, name + ".tmp");
+		Random random = new Random(rows * 31L + columns);
+		
+		try (Writer writer = new BufferedWriter(new FileWriter(temp), 1 << 16)) {
+			writer.write("epsg,lat,long,group");
+			for (int column = CsvFiles.FIXED; column < columns; column++) {
+				writer.write(",attribute" + column);
+			}
+			writer.write("\r\n");
+			
+			for (int row = 0; row < rows; row++) {
+				writer.write("4326,");
+				writer.write(Double.toString(47.0 + 8.0 * random.nextDouble()));
+				writer.write(',');
+				writer.write(Double.toString(6.0 + 9.0 * random.nextDouble()));
+				writer.write(",line" + (row / CsvFiles.LINE));
+				
+				for (int column = CsvFiles.FIXED; column < columns; column++) {
+					writer.write(",value" + random.nextInt(100));
+				}
+				writer.write("\r\n");
+			}
+		}
+		
+		if (!(temp.renameTo(file))) {
+			throw new IOException("Couldn't rename " + temp + " to " + file);
+		}
+		
+		return file;
+	}
+}
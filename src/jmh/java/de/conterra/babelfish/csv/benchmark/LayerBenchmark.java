@@ -0,0 +1,143 @@
+package de.conterra.babelfish.csv.benchmark;
+
+import de.conterra.babelfish.csv.CsvConfig;
+import de.conterra.babelfish.csv.CsvDescriptor;
+import de.conterra.babelfish.csv.Group;
+import de.conterra.babelfish.csv.layers.CsvPointLayer;
+import de.conterra.babelfish.csv.layers.CsvPolylineLayer;
+import de.conterra.babelfish.plugin.v10_02.feature.Feature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * defines the benchmarks of the pipeline from the CSV file to the features and groups of a layer
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LayerBenchmark {
+	/**
+	 * the number of rows of the generated CSV files
+	 *
+	 * @since 0.4.0
+	 */
+	@Param({"10000", "1000000", "10000000"})
+	public int rows;
+	/**
+	 * the number of columns of the generated CSV files
+	 *
+	 * @since 0.4.0
+	 */
+	@Param({"4", "12", "32"})
+	public int columns;
+	
+	/**
+	 * the CSV file of points
+	 *
+	 * @since 0.4.0
+	 */
+	private File          pointFile;
+	/**
+	 * the description of the CSV file of points
+	 *
+	 * @since 0.4.0
+	 */
+	private CsvDescriptor pointDescriptor;
+	/**
+	 * the description of the CSV file of polylines
+	 *
+	 * @since 0.4.0
+	 */
+	private CsvDescriptor lineDescriptor;
+	/**
+	 * the layer of points, which data is already parsed
+	 *
+	 * @since 0.4.0
+	 */
+	private CsvPointLayer parsedLayer;
+	
+	/**
+	 * generates the CSV files and parses the data of {@link #parsedLayer}
+	 *
+	 * @throws IOException if a CSV file couldn't be generated or loaded
+	 * @since 0.4.0
+	 */
+	@Setup
+	public void setup()
+	throws IOException {
+		this.pointFile = CsvFiles.points(this.rows, this.columns);
+		this.pointDescriptor = CsvDescriptor.load(this.pointFile);
+		this.lineDescriptor = CsvDescriptor.load(CsvFiles.lines(this.rows, this.columns));
+		
+		this.parsedLayer = new CsvPointLayer(0, this.pointDescriptor);
+		this.parsedLayer.getFeatures().size();
+	}
+	
+	/**
+	 * parses the CSV file of points and creates all features of a new layer
+	 *
+	 * @param blackhole the {@link Blackhole} to consume the features
+	 * @since 0.4.0
+	 */
+	@Benchmark
+	public void parseFeatures(Blackhole blackhole) {
+		for (Feature<?> feature : new CsvPointLayer(0, this.pointDescriptor).getFeatures()) {
+			blackhole.consume(feature);
+		}
+	}
+	
+	/**
+	 * creates all features of a layer, which data is already parsed
+	 *
+	 * @param blackhole the {@link Blackhole} to consume the features
+	 * @since 0.4.0
+	 */
+	@Benchmark
+	public void iterateFeatures(Blackhole blackhole) {
+		for (Feature<?> feature : this.parsedLayer.getFeatures()) {
+			blackhole.consume(feature);
+		}
+	}
+	
+	/**
+	 * parses the CSV file of polylines and creates all groups of a new layer
+	 *
+	 * @param blackhole the {@link Blackhole} to consume the groups
+	 * @since 0.4.0
+	 */
+	@Benchmark
+	public void groups(Blackhole blackhole) {
+		for (Group group : new CsvPolylineLayer(0, this.lineDescriptor).getGroups()) {
+			blackhole.consume(group);
+		}
+	}
+	
+	/**
+	 * loads the configuration of the CSV file of points
+	 *
+	 * @return the loaded configuration
+	 *
+	 * @throws IOException if the configuration couldn't be loaded
+	 * @since 0.4.0
+	 */
+	@Benchmark
+	public CsvConfig config()
+	throws IOException {
+		return CsvConfig.getConfig(this.pointFile);
+	}
+}
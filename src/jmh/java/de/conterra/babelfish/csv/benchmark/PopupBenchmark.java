@@ -0,0 +1,98 @@
+package de.conterra.babelfish.csv.benchmark;
+
+import de.conterra.babelfish.csv.PopupTemplate;
+import de.conterra.babelfish.csv.SimpleField;
+import de.conterra.babelfish.csv.SimplePopup;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * defines the benchmark of the HTML content of a {@link SimplePopup}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PopupBenchmark {
+	/**
+	 * the number of attributes of the {@link SimplePopup}
+	 *
+	 * @since 0.4.0
+	 */
+	@Param({"4", "12", "32"})
+	public int columns;
+	
+	/**
+	 * the {@link SimplePopup} to create the content of
+	 *
+	 * @since 0.4.0
+	 */
+	private SimplePopup popup;
+	/**
+	 * the {@link SimplePopup} with the same attributes, which is rendered by a {@link PopupTemplate} of its {@link Field}s
+	 *
+	 * @since 0.4.0
+	 */
+	private SimplePopup templated;
+	
+	/**
+	 * creates the {@link SimplePopup} with the attributes of a generated row
+	 *
+	 * @since 0.4.0
+	 */
+	@Setup
+	public void setup() {
+		Map<String, String> attributes = new LinkedHashMap<>();
+		for (int column = 0; column < this.columns; column++) {
+			attributes.put("attribute" + column, "value" + column);
+		}
+		
+		this.popup = new SimplePopup("line0", attributes);
+		
+		Map<Field, String> fields = new LinkedHashMap<>();
+		for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+			fields.put(new SimpleField(attribute.getKey(), FieldType.String, attribute.getKey(), false, 255, null), attribute.getValue());
+		}
+		
+		this.templated = new SimplePopup("line0", fields, new PopupTemplate(fields.keySet(), 0), null);
+	}
+	
+	/**
+	 * creates the HTML content of the {@link SimplePopup}
+	 *
+	 * @return the HTML content
+	 *
+	 * @since 0.4.0
+	 */
+	@Benchmark
+	public String content() {
+		return this.popup.getContent();
+	}
+	
+	/**
+	 * creates the HTML content of the {@link SimplePopup} by the {@link PopupTemplate} of its {@link Field}s
+	 *
+	 * @return the HTML content
+	 *
+	 * @since 0.4.0
+	 */
+	@Benchmark
+	public String template() {
+		return this.templated.getContent();
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * package of JMH benchmarks over generated CSV files, which are built and run by the {@code benchmark} profile
+ *
+ * @version 0.4.0
+ * @author ChrissW-R1
+ * @since 0.4.0
+ */
+package de.conterra.babelfish.csv.benchmark;
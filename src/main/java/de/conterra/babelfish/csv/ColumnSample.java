@@ -0,0 +1,134 @@
+package de.conterra.babelfish.csv;
+
+import de.conterra.babelfish.csv.parser.ValueParser;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+/**
+ * defines a sample of the cells of a column, of which the {@link FieldType} and the length of its header field are inferred<br>
+ * A column is an {@link FieldType#Integer}, {@link FieldType#Double} or {@link FieldType#Date} column,
+ * if all of its non-empty cells could be parsed as such (see {@link ValueParser}), otherwise it is a {@link FieldType#String} column.
+ * Integers with leading zeros (e.g. postal codes) are kept as {@link FieldType#String}s, so no digit is lost.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class ColumnSample {
+	/**
+	 * the maximum length of a {@link FieldType#String} field
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int MAX_LENGTH = 32767;
+	
+	/**
+	 * could all sampled cells be parsed as integers?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean integer = true;
+	/**
+	 * could all sampled cells be parsed as decimals?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean decimal = true;
+	/**
+	 * could all sampled cells be parsed as dates?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean date    = true;
+	/**
+	 * the number of sampled non-empty cells
+	 *
+	 * @since 0.4.0
+	 */
+	private int     count   = 0;
+	/**
+	 * the maximum length of the sampled cells
+	 *
+	 * @since 0.4.0
+	 */
+	private int     length  = 0;
+	
+	/**
+	 * adds a cell of the next sampled row
+	 *
+	 * @param cell the cell to add or {@code null}, if it is missing
+	 * @since 0.4.0
+	 */
+	public void add(String cell) {
+		if (cell == null) {
+			return;
+		}
+		
+		this.length = Math.max(this.length, cell.length());
+		
+		String trimmed = cell.trim();
+		if (trimmed.isEmpty()) {
+			return;
+		}
+		
+		this.count++;
+		
+		if (trimmed.length() > 1 && trimmed.charAt(0) == '0' && Character.isDigit(trimmed.charAt(1))) {
+			this.integer = false;
+			this.decimal = false;
+		}
+		
+		if (this.integer && ValueParser.parseInteger(trimmed) == null) {
+			this.integer = false;
+		}
+		if (this.decimal && Double.isNaN(ValueParser.parseDouble(trimmed))) {
+			this.decimal = false;
+		}
+		if (this.date && ValueParser.parseDate(trimmed) == null) {
+			this.date = false;
+		}
+	}
+	
+	/**
+	 * gives the inferred {@link FieldType}
+	 *
+	 * @return the inferred {@link FieldType} or {@link FieldType#String}, if no non-empty cell was sampled
+	 *
+	 * @since 0.4.0
+	 */
+	public FieldType getType() {
+		if (this.count == 0) {
+			return FieldType.String;
+		}
+		
+		if (this.integer) {
+			return FieldType.Integer;
+		}
+		if (this.decimal) {
+			return FieldType.Double;
+		}
+		if (this.date) {
+			return FieldType.Date;
+		}
+		
+		return FieldType.String;
+	}
+	
+	/**
+	 * gives the inferred length<br>
+	 * If not all rows were sampled, the length is doubled and rounded up to a power of two, to leave space for longer cells of the other rows.
+	 *
+	 * @param complete were all rows of the column sampled?
+	 * @return the inferred length between {@code 1} and {@link #MAX_LENGTH}
+	 *
+	 * @since 0.4.0
+	 */
+	public int getLength(boolean complete) {
+		int length = Math.max(1, this.length);
+		
+		if (!(complete)) {
+			length = Integer.highestOneBit(2 * length - 1) << 1;
+		}
+		
+		return Math.min(length, ColumnSample.MAX_LENGTH);
+	}
+}
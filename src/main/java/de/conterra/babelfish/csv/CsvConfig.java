@@ -1,568 +1,988 @@
-package de.conterra.babelfish.csv;
-
-import de.conterra.babelfish.plugin.v10_02.object.geometry.*;
-import de.conterra.babelfish.plugin.v10_02.object.geometry.Point;
-import de.conterra.babelfish.plugin.v10_02.object.geometry.Polygon;
-import de.conterra.babelfish.util.DataUtils;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVRecord;
-import org.jdom2.Element;
-import org.jdom2.JDOMException;
-import org.jdom2.input.SAXBuilder;
-
-import java.awt.*;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.Reader;
-import java.util.Iterator;
-
-/**
- * defines loader of configuration {@link File}s
- *
- * @author ChrissW-R1
- * @version 0.4.0
- * @since 0.1.0
- */
-@Slf4j
-public class CsvConfig {
-	/**
-	 * the default {@link Image}, which is used to draw {@link Point}s, if no other is specified
-	 *
-	 * @since 0.1.0
-	 */
-	public static final Image DEFAULT_IMAGE;
-	
-	static {
-		int picSize = 26;
-		DEFAULT_IMAGE = DataUtils.toImage(DataUtils.decodeBase64("iVBORw0KGgoAAAANSUhEUgAAAQAAAAEACAYAAABccqhmAABiZklEQVR42u2dB3xVRfbHkaYoChYsiDTFruiKrrvuX9e+q7vLqrt2xa5YwAYoFqT33nsv6b33kHwIgdBDDwFCCwkJRcW2nv+cuXfunXvv3PJeXshLmPl8zgcIL++95M3ve37nzNy5jRrJIYcccsghhxxyyNFARmxs7ANq9CAxgIv5JLJsYoAp2HN0kL9ROeQIPpG3UgXKC7uaBNRSlKqvMV4FywPyU5BDjjMn+K4keqtiL3USa3JyCmRlZdNYt269IXbvLrFEcfFW9f/X0Shcs4Z8bxYND2BYr0KhO0JJflJyyBG4DN/DSfDp6emwalWBJuzS0r1QWXkMqqur4fjx4/D999/T+OGHH+Dnn3/2FKfI41lUVVXTOHq0Anbt2g1bthRDEQEEgiE5OdkNCNIhyCGHn6KPEokLhYcZGsWOQmciP336J/jll1/g999/r9X46aef4ccff4QTJ0/Csaoq2LdvP2zbth1WFxZCWlq6CAbVKsC6y09XDjnshd9dJHrMsmjHd+3eDRVE8CdPnqIC/PXXX2td7F7ifyR+/vkXzS0cPHQINm/eAvn5+ZCQkCCCATqDrvITl0OKPja2g9rAqzbb+o0bN8L+/WXUyn///Q8ku/8K//vf/0j8rsfvetSGsLXgX5O+B+f4iZQRx4+fgKMVFbB16zY7GGCZ0EPOAjnORuE/oNpiTRAokEJio/fsKaWix5ods7wXwQVzYFly8tQpOFJeDsVbt0JOTq7IFQyQzUM5zhbhZ5lr+i1bttBsibU8CiaQAvztt98MDT4sHxAuovjpp58Mjw00DPD5sUzYu28frF27VtREnC/3HMhxVgg/P38VyfZ7qCBOE2HURFjoFFCwKOJTJNueOHGSuIjjtEmHwTr55mD/r8UxY1QeO0aj+vhxaulPncLVhB9pI9DNnfzG4jcWv2mBkMP3efjwEdi4aZMdCKQjkKNB1Pgm4eeTDLifChRFywtDE4uL4JnYT5w4YRCyUOjVLuEEBgEMcOUBo6Kykj4GVwPYEqNI7G6B/Q1cYsSVhMzMTFkayNEghN9K7XYbhb93HxWdVfi/OYLgZ5IxfyDW/TgRvCFLm0XPCbuaxnGPYQ8FJxBUqCCoqFCD/B3fIwIBs7wvIMDSpPzoUQoCkyMolc1COeqT+LvzXf1MUuPvLlGsvrvw9aAbck4pS2soOFvhOwn+uMdwAoKNKzC7AQYB7GVgRi8ngY/B5UGnn/tXjF9Z/ErhcfjIEdiwcSMkGUGQJZcP5ag3dh+z2NatW6k4cJPOr15E/4uyno5Co+JSs62z8MWCP67W7d5CebwICEIQuLgBHgKY1cvLj9LvRbsvEr0oTpLSAkulwsI15v7AADnb5Ag28ffms/7atUVw8OAh2tW3Tm514hvs72kqRCogNat6Fr6d4E/4GCYgmGHgCgIPEMClQPwTXwNXBOzEj/GL2tjE18JdjxkZmeY9BNINyBEUtb62ey8tLY3u2GN1vuMEx7qe2F0UEKufKz2I3yp8q+hP0DjpY4hh4AQCt5LgKIYAAkeOlFObX0kex3Y18sKn8YvyO2K/p4OHDsPaonUQHx/Pg6C3nIVy1JX4H+Cz/pq1a+my1vc/KLv2frERPm6bxe28LEt6Ej9f45uFbyf6k0qcdAn2ODcYGEFggkCVEwQ4J1BuhQD+zvCxuLzIi14U+Dp4QVJGRoa5NyBXCuQ4o+IfwNf6O8mkxEmP6+P6hLVCAAXHsqKj+B2yvlX4RtErwj7lZ1hhIAQB7wZMJYEzBBgAjqoAUCBwiEDgEMnw+Njv1RUEc2B/BOGJ/3+AlFdYZpmWDGVJIMeZtfw5OTl0vz5uahFnLcXKYi8AJzcKwCz+Ci/iF2R9q+g54Z9S4pTHYI93goGdG/AfAuU6BA7rEECrj487ffq0QfhKKDsU8f8QpLhkmJSUxINALhfKUatd/vVssuH195i9fsSJ+rPYsmJzr5IIglpfJv6jFdy6uTfxaw0+3uq7iv57Pb63Cf4xtjDgQcC7AVNJYAOBCk8QOKJCQAEAXlGITVR8LlxBsTu3AF+7ZE+puSSYL2erHIEWf1dW7+NFO9u2baMTWpmcanbihI8dbpycOLmPqHVvuSr+o9ymGW/id8r6NqJXBf69JX5Qw/h1KxA4GHhxA64QEDQFzaWAyQUgANDq45/4+rzw8WpDLLcw8H2iC8vLz+chECX7AnIEvNmXmpYGO3bupJNdnJWUjjVOcEX85cbsb677uYafV/Gbs74mfIvoVbH/4BImKBhhIHADDhAwlAPH7CDg5gIYBA6pEDgIZQcO0t8pWn9d/D9pgSsJCIsi4spMS4USAnLUSPw92IRC8ePGFLqGLRA/ugGc+DiJMaPhpBZaf67pJ+7224hfmPUVoYpEb7zS70eb0B8jhMEpEQh0N+AEAcMSoVs/QNAQ5F3AgQMKBPBPfF1e/Bh4MRX+/vE58DASbqlQQkCOmos/OzuHXsKKmVGfeGomUi/MwQyliP+ITfZ3sf62Nb+D+G2Fz4n8Rz1+5EL7ugkIRmdg5wZEEDhuCwH7UsA3F1BWdgD2k8DvxZ8BRa/EaS3ouQPFW3kIyBUCOfwX/8qVeXTSoRBOmzIPBoqATVrb7G9n/c3ir/YufkPWNwvfJHYlTptCAAQzCDhHYOgNOEGg2isEbFzAYScXoABgf1kZhcPJU98bxP+jGth4lRCQIwDiX0knHApPyzZc3YkTGicpdq+9Zf9jHrK/k/hNWd9R+LogTtsE+38eCPYgMLkBGwiYm4LmUoCuCnhyAeIygLmAffvL6J/0PAXDz6H8LPg73mKFgCwH5PAm/lwUP5lkivh54Sjix8mKWegQBUAAsr9gqc+S+e3ELxC+VfA/mUIAAyEIxBAwlAMnxBAIjAsQlwH42SAEsC9TTksCq7PB19pSXCx7AnL4ttSH4sfJpZzAaxQKTn6WmWj2ZwDwmP3NjT+2xdds/e1tv1H89sI3OhZRsOYZDwQLCGwhcMoCAWspIFgV8OgCvJQB+BnhseQIAfw+ev8DE7wQNngvAwkBOTyJPzU1FfaU7qXWlhfX6R9P00nPr08b7X+5cN3f9+zPrL8P4jcL3yL2n21CBAMeBA4QMDUG7UoBVxfguC/AvQxgLgAPW0E4KDdB+dGwuoHPudkIgSw56+Vg4m/Fdvih+PHwDsxgZluNk5kuRRErqoi/5vbfnP3N1t/Y7fcmfrPo3e4CZIaBAgKrG3CEgKEUELuA2i4DEAClCAFs2J763tLIxO/FJUK5Y1AOMwDoIR6YHXbs3EUnqLmphhMYJ9YBCoBD/tl/f7M/V/fbi9+U9W02KRnjZ5vddSoIVDdg7wSs/QB/XECNygAeACQQAKWl+2h5gK9v3uCEX8erNuW1A3Iw8Wvn9uENLNCKfm/aQIMTFycbTjoLACzdf+/232v2N4v/B4H4+axvEb3D5bX6hTZmRyCGgKExGGAXYC0DnFcDRH2AUtUFYAmHf+Jr86DC94b/h6s7HATk/QvP9o4/biFVTvAxbqjBCUvFTwFwUAAA3+2/9+zPLfkxIPE9CRUAYvHbX5mohwkGHAiMEFDLgR95COj22mcXYGgG+lAGOPUBVADs5QCAgf9GKPF7GPD97MIThvQTiOXy4Fko/g5axz83l04enLz85hqcpGytmQeAbf3vpfvvYv/dsr9Z/Kddxa+I3f5UIiMMRBA4LYKABxfgpQxwWg3w2gfYJ+gDMADglYIIB3Qk/FWO+Hls3bYdEhOTZFPwLAUAbfqlpKbSSYITlM+4OHFZjWkAgNYAdK//vXT/DfbfrvY3Z3+L9bcXv9ORZFYQOEBAWAqYewGCFQFfygDPfQD3RiAPgJKSPXQbN4WACigMBMrGTZvlYaNnofgHsKbftu076ITjL6fFCcsmFQ8A7w1AL/W/u/13y/7MogvFbxK47ZHc5rP4hBCwKQUELsC1DPC8HGjaFShqBJY5NQI5AJDAlR1lX4fxsmZ8zKqCAh4CcrtwAxf/A1rdX1REMwmfdXFS4KTCiWQAgA8NQH/rf0/23zb7izO/13sQOEHA1QX4Uwa4LAd62w9gBMA+00oAdQEcAHbv3kO/hz/3EN8HrvzgYa5yk9DZAYBSdrMOnBg4Ofnr63FiUfEzAJR5AYB7A9Bwzb8XABjsv6Dzb87+ruIX3TT0f2IIqOWAskJgdQHmFQFLGeBLH8CwK9CpEejjSoANALD5h+6Cv4wZX6e4eBu/SUiWAg3d+iP1ccLx5+lhJsfJIwaAvysA7g1AffnPXP//oAHAaP+ttb/V+uvC9nL34N9+M96kw9UFcGWA82qAcTnQfwAccdgR6BsA8FRhfE3+Zij42DXGQ0ZlKdAAu/7aTTtQ1Pwx2pipcdKIACBaAnTfAei+AUhvANot/9nV/3b235r9jWL/HX7/XQn8uxgCJhfgAQDe+gAuG4JEKwF+LgXyewEMACjRAYB/ar0YEvgetu/YSQ99YaWAVE3DAgDd7Zeenk4nAk5AdtUdTko2aawAEOwBOOQdAK4bgHxpAJrrf1v7b83+TPjmsHMBrBfAyoCffjYuCWplgC+NQJeVAK9LgYEAAB7jjo1CHkr4fBs3GU4TkrsEG4j4u/O7/XAS8cdt4eRhO8f8BoBoD4DrDkDrCoCnBqBd/W+p/f/nGQBmF2BsBup9gNM/eW8E1hYADgYIAFgG4nMpVytW0cCv4wEwcoNQA2z84fbPkpJSzn4fpxMLJ0lQA8ClAciEam//dcGzISoFrGVAgAFw3HcAHAkQAEpsALBjxy669MjuboSvVbwVNwglyoZgAxF/b37NHycUa8DhfelwcgQ9AALgALaX5cK63XEQs3o4RBcMh7kpPWFk2BMwIvQJGB76dxge8ndYnNEHIlYOhrCVg2BzaSbsPljU4B0AAgCbg/qt14/RxxWuMVww1EEqqX6KvxXb7luwejWt+fgmHO4aCxgAgqgHUF5dCnlbl8CC9A/gq0V3wHtTLoV31XhnMsYl8DaJtyZdDG9OxGgNb0xoDa+PbwWvjb8IXht3IfQYeyG8MqYlvDL6Ahi07FGYn/oJrCoOh2MnyhtMD4ABAJt/uJeAvRd87WJSKqampsnLhhvCsh/u98YPu5xMqCpVhDiRcEIYAFCPVwGOVJVAbOEIGBb2V/hgRhst3p+uRM/pl0HPaRiX0nhvKgECiXemXKIC4WIChNYEBq0IDFoRGBAQjCcgGEcgMPYCAoPz4aXRLeDFUefBqLCnIHXdHKisPlxvVwHMANhOS4Gj1BVWqM7QdO9B6QLqa/ZHO7dnz15VgMqtuLEX4BUAwbwPIG/rYpgQ2x16zboCes3mgvz7o1mXa/EhxkwMFQwzLiNgIDAg8d40HQZvTyEgmExAMImAYOJF8PqECykIXqUgOB9eHtNCBcG5BBSXwaSYHrBtb4H/+wCO1c0+ADMAsDzE/2e7EvG18UBRPCBGuoB6XPtjMwfpjhOJ1Xk4SfDD9g0AwbUTEIU/cEU3+HjulTQ+mXsVfDJPjblKsP/D6D3nChq9MGYzKBAYzLyMAIHAYAaDwSUEBhcTGHAgmMRA0BJeHX+BBoIXR58LL4xqDs+NbAbfLH4A1u5Isj0XIJh2Au7kALCdA8C2bTvocx9V3ws+fo10AfW7819YuIZOAHZnGpxUOAnEANirASBYrwUo2h0Ng0K7wafzryLRFj5boMTnC66GzxeqQf7+GQ3l//BxyuMREAQIGHMZEAgMZrchMLiMwuD9mQQEBAbvTScgmEZAMLU1vDWlFbw5+SICAgKBiS2hx4QLiCMgEBh7Hrw0hkBgdHN4flQzeHZEU/h60f2w5+AWT9cCOJ0JUFvXArgBAP/N7uKErmPzFoMLGC+VVT/E34N1/rGZc/DgYc2Ko8gVAJRoACjxAoA6vhrwYMVOmJL4byLwttBn0dU0+i5qB30Xc7FEjcXGYI//fFFb+v2fLSQwWIBAIM6BRO95BAZzLycwICCYTUAw61IVBJeoIGgNb09tRUBAIDD5Qnh9UksCAgKBCefDK+MIBMaeCy+OIRAY3RSeHdkE/juiMSxK/wIOH90vBIBvh4M6XA14wLerAfEz1wCwkwFgpwaArdt20DMCECTlKszx8atXF8p9AfUMAHTXX15ePv2wmRBxEu1Ut4FqAGAuQJ0wFACsDDABIJDnAVT7cB5A+sYp0GdxWyLmq6EfEXi/pe3gi6XX0PhyGYv20J8L/evK4/ph4PdSQCAQ2lIgIAw+W4AguAI+nn85gQEBwdw28NEcAoLZBASzGAhawzvTWhEQXARvTrmQgECBQI8JLeCV8efBy+MUCLxAIPDcKAKBkY3h3SntYVNJblCcB+ALAPBPfF1sGuNr4GnC3L6A3lJhwS3+rqxm27R5C50czI6jBWQA2OURAHV5IlBF1SGYmvwUEe/VRMTtFEEvJwIn8dUKJb5e0QG+DmHRkQvla1+t6EAf13+F8n1fLidAoFBoR5+375K2FC6fLyIgWEhAsICBoA0BwWXw4ZxLKQh6ziIQmNka3p1B3MC0i+CtqQQCU1rC65MJBCYSCEwgEBhPIDC2GbwwhkHgHPjPiEawMK2fXycCHQnQiUCGTUAiAGw3AgBdI37vEbW3g19bmafderxUqiy4ATAfP6iMjAxl4w+ZSDixULj4gVMA7HIGgKe9ALV8JuDuA2tgQNhNRLDtiHivUQSPog7tAN+EdoRvwjrCtyQGhHWCAeEsOnOhfG1gZCcYltgZxuVcB+NXXgdT1nSByYVdYPr6LjBzSxeYsfk6mL7xWpi6gTxmVQcYnXsNDM9sB98ltIWvoq6AviHEDcy9lILg/dmXEBBcTCDQCt6ZTiAw7UJ4cypC4HzoMakFvDoRIdAcXhynQmB0Y/jvKAUCQ1Y8AQeO7D3jZwJadwGW6CsAO1n9zwFgqwIA/BNfU7lCdC9s2LhJHiJaTwBAl/7WrCmiHz4TJE4AHQC7NQAEbiUgcKcC521dCAPDb4b+IdeQLN6eCL6DIvjwjlTU30WgsDsrEXUtDNLiOhgSex2Mybgepq25CeYV3wKLdt0KC3feAgt33AILdtwM87eTr2+7EeZuvQFmF18PswgEZiIENl0L0zZ2hinrO8HkdR1gYlF7GL/mGhhbeDWMKWgLg9OvgP4xl8HHiwkEZl9M3ACBwIwL4e3pCIEL4PUpLeC1yecRCJwLL09oRiDQFF4Y24RA4BwCgUY0Pp17Kxw4XHrGTgX2ugdAB8B2DQBbirfR78XXx9fFMiAjI1MuCdaH5h/Wa/hhYoZAB4CTBru7DAB6H8DHlYAa3BfA612BVhLxU+GHEuGHtSei7wADIjrCdySTD4zqDIOiO8Pg6GtJELHHYHSBobFdYHzWjTB7wy0QWvpniNr3KETufQSSyp4jf38cwkv/CiF7/qzBgAfBHBUE1A1suk6BwAaEQEcDBEYTCIxcdSUMz7scBmVeBl9EXwIfLSQQmIkQaAlvTiMQmKpCYFJzBQLjm8LzYxvDc2MIBEY3gmdJ9JxxDWzclR3w+wLUdA8AA0CxBoCt9N8IH3x9fPzqwjVaM1CqLTgBEIUfUE5OrrbvHycTTgINADt3WxuB3EqAb43AwN4ZaOW2BfBV2DXwTXh7IvoORPQdieg7KaKPuZZm96EkhsV1oTEikQi38E6I3fMM5B75FNZWDod1laPon2sqBsPqo99BwdGvIb/8S8gr70Me8wkkH3gFIksfg8U7b6cgmEdAMHfrjZobMEKAOYF2MHY1QuAqGJlPILDychiaexkMzr4Uvkq4GHovvwjennEBvDn9fAUCU85VIDARIdAEnh93Djw7phENhMHrk1vBhl1ZtXZnIO8rAMYlQDMAcAkQnwfhg2UAHiCakJAoLxUOUvG3YjXa+vUb6YeOkwgnDzZ58IM2A8BTI9BTH6Dm9wZcuXUBfB1+DXwb0R6+i1KFH9OJiP5aGBqniH54/PUwPOF6GJV0A8xdey9kH+oNm6qmwMaqibD+2DhYd2w0FFWOgDWVQ6CwYiAR/zew6mh/Iv6+sPLIZ5BzpDdkH/4AMg+9C6kHXoOI0kdh0c7bqBuYuw0hcIMRAqQcmEQgMGFtexhHIDBmdVsYteoqGJF3BQxb2QaG5FwGg7Iuhe8yL4avklvBR0tbKhCYdh70mNIcXpncjECgKbw4obECgbEEAOMa0b9/MOsa2H+oJOD3BvS5AbjD2gDE48EYAPBrB9XPGpvKmVnZDABRUnVBav/xQ8RJgRNoT2kprfEYABwbgY4XBTn0AWp4d+Ad+wvgm4hrYEBUexgY3ZEKf3BsZyL8a2FY/HVE9Eq2H5lI7PraP0DmwQ9gc/V0Iv6pRPyTYMOx8QQAY4j4R5LsP0zJ/hUDlOx/9AsCgM9p9s8+8hFkHX4PMg69DWkHX4cU4gYS9j8LS3fdzUGAlQOsJ9ARJhUhBK6BcWo/gJUCQ3PbUBcwMOsSGJDRGr5OawV941rCe/NbEAicCz2mKhB4aWITeGHCOVT8FADjz6H/7rPwVth3sCRgdwd2vwzY2wrAFg4AmzcX0+fG18XHFq7RdwZK1QVh9z87J0ep3dTMvH2HUt9RAOzYZW0E+tEHCGQZsPfQFmLrb4HvojvAwJiORPgk68cT4ScQ4SdeByOTSMZPvgEm5twMkXueIEIfC1uqZ8BmIv5NVZOJ+CfQr7Hsv7ZyKM3+qyu+Jdn/KwIAkv3L1ex/hGT/w+9C+qE3IPXgqwQAL0Ji2bMQt+9pWL77XiMENnehjcGphn4AXwqgC7jc4AK+SW8FX6VeBF8mt4SPI1rAGzOaEyfQjECgCYFAYyJ6FH8jKv4XJyoxPOKJwNh/v+t/cQNQAUAxyfrFtFTA18Xnw9WAhIQEBoHuUnlB1v1ft24D+bB306yBmQFrOwaAmvQBvJcB3lwAQuBQ+T6YnPYIfBfTAQbFEvHHdYKhCZ2p8EckdSHCvx5GpxBbvu5WSD74AhRXz1bEXz1Ns/4bqpTsv+4Yyf7Hhuv2vwLtP6n9CQByyz8lAOhFsn9PyDhMsv8hkv0PvgzJB54nAPgPxO3/N0TvfVJ3AqwxSJcIlX6AUgqgC2ClgMkFZF4C36ajC7gI+qe0hH5JF8DncS3gnfnN4dWpTeHlyY3hxUnnUAi8MLER/ftLJPDrizL7iO8FUFP7L6r/d3mr/7ds0QGAf5aVKasOCAA8UVquBgTh5h/c+osfHmZw3P67k1i+rQYA+NYH8KsM8MEFRK35goi/PQyK60iyvrJePyKJZP2ULjA69QYYn3UTLNx2Oyf+mar4VetfRbJ/lVr7UwAQ+19J7H/ldwQAxP5XIAD6EABw9v/wWwQAPQgAXoSkA89CQtlTBAD/hOh9f4eI0kdg8c47YN62m+jqgLEfwK0KqC5gRL6xFzAgg7gAUgZ8lXIhfJF8AfRNbAGfx58HPZcRFzC1CRH7OVT8L0xSAUD+/fKUxvAKifwtUTbZ3w/773f9b2wAMgBs2rSFfj86Dvz//FUFclNQkAFgADvwEz88/KAwU7Btncoyj6gP4G0/gG0Z4LcLqISNe5JhYGx7GBzfgWR9Iv4kIv7k62BUahcYk3Y9TMy9CZbu7moSP6n7q1H8k/XsX0XsfxUCYAQHgAEcAEj9X/4xAcCHkHmE2P/Db0LqoVfo8yYe+A/El3WH2P1PEgA8RgDwEISU3EdcwM1cKXCdVgoYXAD2AvKZCyAAyMYyQHEBrAzol3g+BcCnsc3hg9Cm8Oq0xkT0KP5GqvjPIWAgQb7ee0EHKC3bGXj777AByLX+pwDYQg8KpdcIkNfD712/YaO8QjDIAED3/q8iZKbr/2Si4ERAouO/2TqvoQzY5WMZ4GU1wM0FqCsCB46UwrjUPyriT+yoiD/lWkX86dfDtMKbYdmeOyC27B8W8W+q5sU/jsQYKKoapQKA1P/HBikAqEQAfAErGQDKP1AB8AakEAAkHXwOEg48DXFl/4SY/X+DqH0PQ8Tev0LYnvtJKXAXLQXMLmDyer4XwK0IWJqBehnQJ6EFfBZ3Lnwc04xAoAm8OuMcCoGXiPhfpuI/h4Khx/QmMDv1XZfmnz/233oFoGj9X1T/YwOQAQCXAPfu3U+fFwGQkpIilwODCADa8h9+wDhJ8E8NAL6WAU6rAa7NQDcXUAEJG4bAoIT2VPzDkzsR8XeGUWnqDj4q/q4QUvpHWucrNT+Kf4oi/mrF+uvZn9T/CIAqBgDiAI59pwLgSwqAnKMKADKOvANph0n9f+glAgBi/w88RSBDsv/+xyBy30MEAA9CeOkDEEpcAO4RMLiAjddyy4Jsc5C1GcjKgP5YBhAA9FUB8ElsM+gV3QQ+CG8Mr85sRMTfSBH/9HOI+BvDazOawGszm8K6Hemes38g7L9b/c8AsGHjZvo8CAHsA2Rl58g+QJCI/wFW/+OHhh86ThK6not7urkyYLvPZYAfzUCBC+D3BZQc2EjEfw0MSeoAw1D8qUT86Sj+LkT8xPaX3E6z/8ryT/WGHxH/Rib+apL9q1n2V+y/BoAqUgJUMQB8A/mVpASo6AO5BABZGgBeg2QCgMSD/4X4A8T+lz1BAPAodQCR+x7UXMCinbfTTUK6C9BXBOi+AFYGrDKXAcbVgL5qGfAJKQN6RzeFjyIbQ8+wRtBjFgEAET86gh4zCABmNoHXZzWBQZF/8Sv7s80/rtt/Hex/cbG4/sfsjwBAl4CvhVBYVbBa9gGCBAD05J80Uv+jZWMZAK0cu6jDpzLASzPQzgV46AWEFL5PxN8ehqV0IOLvRMR/rSr+G2EJFX9XCN97P2yuUtb5lW7/JNX2T1DEX03EXz2WBMn+1QQA1QQA1SMJAIYTAAyBwqqBUHDsWwKA/hQAORUMAG9DKgXAiwQAz0DcgX9BTNnfqQOI2v+I4gL2KS5g2e5uSi9A3SWIFw0Zm4H6agCWAWw1gPUBvhb0ARgAPghvBO+FEAjMZOJvTMRPYnYTeHNOU8jbEhGQ7C/q/vtr/xEAGPga+D3r1m/g+wDyjIC6Xv/Pyc2lxMaJsZN80PhBKi7AQxnAbQqqPRdQDrvLNsDgpGtgaDKKvyMRf2cYk3kdTMy7ARbvulXL/rlHPlaFP1kXPrH8G2jWZ+LnATBaAUA1cQHVwwgABkFB1QBYdYwAoJI4gIpPIOvo+5BRjgDoQQDwPCQcfJoCAEuAmLLHLS4gpORPylZhrgyYxsqAog7aasAobjVgcI7SB/jW0Ac4n/YBPlX7AB9FkTIg4hx4n0CgZ8g58NpsAgAq/sbwxhwCgLlNYUjUX7xlf5vmn+vmHz/sP9r+9Rs20efcQb6/aN0GSExKklcHBgEA1isHf66hHyROCiQ6BUCxtQzQVgNcNgX57AI8QCCksCcMTWkPw1M7wMj0TjA681oYl9OFCO0WWLL7NlhKa/976MYetsynN/vGqoGiH6OKn8RxDAIAGgQCx4kLqB4Cq6u+IwD4CvKO9SUAIA7gKHEA5W9B6pFXIUkFQPzB7gQC/7C6gL3KxUN44RArA3B3oHk1wNgHUJYDB6p9gK+5PgDfCOzFAQD/fG8ZE39jIv4m8Na8pvD2vGaQtznCIn5z9vfS/BPZ/21+2H8GAPw+hAoCAF2nvHlIkDQA161bTz9YzNj4AVKaqwAQu4Bd3puBbElQ4ALE+wKsDcF9B3fDqLSbYFhqexiRTrJ/ZmcYm3UdzNlyE71Kj9n/uLLudHffhmPj6P5+ZZPPGLXWV0PN+ih8BQBKMAisOT4UVleTMqDqGwKAfpBbqTiAdATA4VcoABIP/odA4N8EAP9U+wCPG8qA0D33UQDMd+kDjFaXA50agWYAfMgB4ENSEryzhABgLgHAPAKA+QQAC5rB1JQXtHV/v7O/08U/Ptp/FD92/1mfCQGQpV8XIBuBdbkBCAM/LPxwkfz0Q9yy1VIGeGoG1pILyNk6G4amXgPD09sT8XeEMdmdYVrR9dRmL9Lsf1fIOPwOdQCK8InAj42im3yKqrioxhilA+AEeTyJdTRGUxdQeHwwFFQzABAHUIEAeJM4gFdICfACbQImHHwK4rkyIIorA0JL74NFO2/V+gCztih9gKncciC7QIg1AoUbgviVACEAzqF9gbcXNibib0LE3xTeWdgM3l3YHHbv3eZb7e8h+1ubf97tPwIAA58bv85tCMqSaqzDFYCUlFRKarRm+CHzAPDUDPTkAuz2BVgbgiIITMt9CIaltYeRGR1gdFYnmJB3La2vEQB8/Y+X7VLRV45U1/aHG6MKY4QCgeMKBFD8608St3ByPKw7ORaKTo4iABhCAPAt5FX1gxwCgMyKnioAekDy4Rch8dCzWhkQewAB8DdDH4ACgLwvfjmQNQLtAGBdCdB3BH4Wry8FYtY3A+DDcBR/EyL+pvDuombw3uJmEFEwyLjrz6XzX/Ps72z/163fSJt/+Hz4fwX6+QDywqC63AGIJ7VQAOzeTWs5tn97Sy26APHuQGspgBDYsW8dDE1rB8MzSPbPUrL/zE3X0y23ZgDglXx4PT9e1YcX9uDe/jXHuKgaSpf71lYPp3afQuDEGAqADacm0Cg6OZqUAUOoA1hZ1ReyK3tTACg9gB6QcvglUgY8R1wAA8A/BAD4sysA+JUAZwCcTwCgLAX2im5qBECEAgB0Bu+HEAAsIgAg4n9vSTP4Lrqr/a4/f7K/bfNvmzD7m+0/AwB+Dz52bdF6uRIQDADIzsmlHxRmAP4CDq0MEDYDA+gCHEuBQ5C6ZSwMS28HIzPbw+jsjjCp8FqYU3yDCoBbCABu0wDARF9YOZjEIBID9Tg2kO70K6warIDgOAHBceIGToyimX/9qfEkJigO4MRgWFX9FQHA5wQAvTQApBkA8AzXCDQCYMWeewIEgJYGAPR2AECvqKbw3tKmVPw9lzaD95c1h52lxcLGny/Z33rln0vzz8b+IwCw9lfmFgJgHb3tnFwJqDsAaMd/s51a+MHhB7iZuQCnZqAXF2DeF2DbELSHwOLCF+lBmyOz2sOY3I50a+1sCgBrCVBYQQRe8R29nh8v6cUoqCR/sjg2gHb4ca2/sHowbfhhzb/2xEgqfIw1J4ZCwfEBkFf9BeQe+5QA4CMCgPcMJQACwKkEWFZyp+cSYJTnEkDgACJ1ANB9AuFNVfE3gw+WN4f4tePtG3+WdX8/s7/j2r/R/iMA8Gv4/WvWroPk5GQJgLoGQMHqQvrB7di5UwNAoFyA11LAvCrAQ2BoxtUwIqsdjMppDxMLO9E1dRSUCABU8Ee/oYd5rKr4ikR/PSq/olFw7GsoqCIwqBpAu/2F1YNo0w/r/sITg6j486u/pNk/59jHkFX5IWQefVcFwKvGHgA2AU0AiNj7AF2VQADM96EHMMRzD+AcWwDgSsH7K0gsJwBY0RymZz7vzfq71v41z/4MAKwMQACkpcmlwDrfA1BQoAAA6Y7krqkLsN0d6FMpoEBgU0kmDMtsCyOy28Hole3p8dszVADMVQHArwJkHn6PXsePJ/nkH+0HeTT6Ql5FPxr5lRjk/459STf6rKoiUKgisCD1/qpq/LM/yfz9VPF/omZ/Yv+Pvg1p5a8T+4/LgPoqgLIZ6AltFSCSAACvQ8B9CYvUZcC5dBnweupc8P1btgOr5wS6Xg/gsArAA6B3pCL+D0Oaw9cxnTxZf+GuP1PnPxDZv2jdelr7b1UdQGZmlgRAXe8BwA8FPzz8UPGD8+YCXFYE2O5Ar6WADQRSt4yG4VlEJDntYHxBB5pBEQCzEABbb6TLbCg0FBwCIOnA83QlAI/xwpN88JqAlUe5qPhMiUry/5V96E4/3OyDsfJYH8it+ozafsz8KH5c/ss8+g5n/1/S9gHEa/sA+I1AD1Inspi8H/M+AP2EIP2yYPM+gIEe9gF8YNoH8FFUY/g4+lwNAFgqfBRGIpSUDGHncuJ3a/y5df59yf6bhdkfxY+B34s3Ds2QAKh7AOCHhB8cUlwBgDcXYFkREFwj4FMpIIBA5PpPYHg2EUluO7qFFgWEQkJBobBQYCg0FNzSkq70SG88wAO3A+MxXjnlvfQ4ykVFbz0qlcBmHxU9jQ9p5mfiTzvyGsn+L3PZX2D/CQBCSu+lbmSxWv+zw0HYTsApgp2A+sEgxvMBEQDskuBPXQDQJ+4i+v8MAB9HEfGHEyiQWLk5xLv1N+35t1/395b9+eYfy/7Y/MPvKyQAwAa0PCS0rncBrt9ISY4fIn5wnlyAcF+AXUNQXAo49gNUCMxd/SSMyGkLo/PbUeEwAKCg5ggbgV0h6/D79ACPrCMfkHifRE8amRjl5O/lKGzy51Hlz8yj7ylRwQWp+dH2a+LHDUC09mfdf30XYMx+xf5H7L2fvj6r/82XBOsXA3HXAqhnAoiOBvtSuxbgPAIAIuqYpoZrAXQANKEA+Cz2Ag0A9OKhCAKNyHMhoWic9vu2s/6s8Sfc829a93fK/nZLfzT7qwBA64+PwQNCuVuGyc1AdQuAYvXD2+TiAsT7Atg1Ap5LAVM/wA4C01fdDyNy2xKxtKONMxQQCmkm1wfARhvuumNlAB7Sgb2AzMPv0DP8lHgL0jGOvKlH+RukrlcChY6BS33K39+gNb+y7v+y1vlXtgA/Zcr+j9Haf/meP1AXwtt/vv6ftsF5BWCw4FSgvoKrAVH8ZgCg+PvGt6KNQnws7RmQsuCTqPNgRcFnNuJ3s/61k/0RAPj/EgBBA4ANlOLKVs1Nri7AtSHotRSwaQryEBiWfQUBwFW0XkbhYAONNgJty4DbiRDvgtSDr9DTe/EAz7RDr0HqoR6QevhVNV6hzTwUNg2S3bG7j2LHdf5UGq+qwn9Jsf0G8Str/0rt/zjt/K8o7Ubh42T/7er/4cLTgfVNQJ8L9gAwALAG4KcxLaB/wqUKAOIUAHwWS8AR3QIW5r3j3frbNP4cd/15qf257K8AYCMBwFrIXZknAVD3TcAN9EO0AsAKgS2eGoLiVQHHfoANBIblXAEj866iZ+qjcAxlwOYuhuVAPI8vau+jELv/CYgv+zc9xDOdnuD7EiQffJGe44eX8mImTzr0LF3KS6L/foFmeAzc5MP+jl9Xsj7W/M/Qi3908bPO/yNE/HfTxh+Kfwmf/bdZzwLQLgUW1v/2DUDrCkAjwyagz+NawjdJV+kAiD9XdQ4tYFzG/b6J367xZ9rz72/2x9of/726UAIgaACAHyJ+YEIXsMndBbiXAsZ+gBgC+ywQGJZ7OYwiWRLrZRQOXwbQ1QBirxduvwOiSkk9vu9pEv8iNfnfaTMQD+xMx+x/8GV6gm/igWfoOX54lBdmcmzkYVZHgSdSIDynCB7/fvBZ5etU+E/Tmh9tv534zbU/fzKwkv07a/cHGGdzGMhA7jAQ0VkA1gagDoB+8a1hYEp7pf5nAEg4jx4tPi7zfo91v1fr79u6vzn7o/VHGEgABNEyIH54+IEpEHB2AbYXCtmVApZ+gLEp6AQBBADaZBQM2mZcP5/MuYB5xV0hZs9/Iab0PyS60/P5o/Y+Ti/LxZOB0KInH3iBAiC+jAi47B9UxNjAw118mNUZDKzxFH2MIvx/qjX/36n46Xbf0ruI8O80WH++9jc2/0TnAHD23+E4MPNpQOb6HzcHfZFwCQxO60zcwnkUGAwACJDxWfcLxC/e7uuP9Rev+9tnfwQALgFKAAQJAJDQbIeW2AUIGoK+lgIuTUE7CAylALiCCgaFY3YBEbv/TQDwLETveQqi9vwTIkv/Rs/nxzv6hu29D0L3/gki9j1A3QCKHzv2KGLM4gwEuJkHRU7FzoKKXhe+kvX/RrM+Pufy0j8Yxc+sP38K0Bbx3YHM9wgcrC3/2R8IKqr/dQA0hS9J/T80/Xrol9CKfg+CA1cP8DkmEAAIm36O1n+7q/Xf5GD9nbI/1v4ofrwaMCdXAqDuAVC0npJaDIHNPjUErduEBf0ATxBQegJDc9pQoaBd1l2A0gtYWPxniC55HqJ2PwORJf+CiJInILzkUQgrwQM5/g9C9txLd+WF7r2XxJ8hcv9DpDR4iHbtMYujoGNVGFCRmwO/TjO+ss6PQFlOsj52+5ntZ+LHVQh2BJjopiD8/QFHO9wTQDsLULX/tgeBRBh3AA7Ak5IybiZOoDUHgBZ0GzEFwG5/6n7v2V8kfrvsj+KnAFgtARA0AFAgwPZqb/TUEPTeD3BoCrpAAO0x7pLTXADtBSgrAmE7nobIXf+FiF3/hrBdT0LorschZPdDJO6H5btJli65h16Vp0OAfI1k7dDSe4kruJ9k84cNMDDG4/T/w8nj8Pup8LWsbyN+tuuPOwqcdf4n2t4h2Nj8M3f/ne2/DoBBqZ1hZOZt8EXixQb7j8+DALAXv/91v2v2L3LI/kT8CgBWSgDUNQDWEELTDysQpYBLU9BXCGBzDJtkmC2pCyhoS7Po5KIuELHzOQjf+TSE7fwnhOz8G6zY+Qgs3/kALNt5HyzdeQ+9Qcfy3XdrEMBdeihcFDCCAAWNwsZzBBVAKIGNvRVU8IrolYxvFP4SrubnxW++G9Bk/pZgptrfvPYvuiGI1v23tf8EADFNqfhHZ98JXyZdQgFA7T/J/ugkpuc+6Un85rqfbfjxx/qz7L/GIfuvWl0oAVDHAChlVwOuVSFgLQU2uZQC3AYhl6agzxAgMSKng+oC2tAlM8yemEWnrruFOID/QOj27rBi+xOwfPtjsGz7g7B0+19gyY57YfGOu2Dxzj9QCOAR3ctLFBCgeHGzDgOBEncqQDCFLnpd+GypbxFr+HG233hXYPGtwVnnn94NSJD9zc0/4e4/k/3HDUCjs+6EsTndoH/SpQb7jwAIXfO59vs2d/ztmn5a3c82/Dha/0021p9l/yJh9l9VUEgPo5HnAtYdANTzAFbRD4ovBby4APtSgGsK+gQB6xLhzIJHVRdwGc2amD0xi04puglCtj0FK7b9A5ZtexyWbnsIlmy7HxZt+xMs3NYNFmy7AxZuv5OA4E5YooJg6e4/0Ky9RN0wZISBODTRM7vPZX221m+w/UT8Wt1vuSMwW/c3dv75pT/D2r9j808HwNdJV8LY7G4wIfde6Jd4kcH+KwD4zFn8hqZfAKy/sPFnzf4IgPT0DHkxULAAYI2tC6hJP4BbGXCCwC4BBEjMW/00zZKYLVkpgBAYX9gRlm/9Fyzd+ndYUvwILCp+ABYW3wcLiu+BecV30uXB+VvvoHsEFhEIoBtYuOM2KlwUMAoZYYCiRiAs0YCgiH2Jmunx//FxZuFj1mdLfdjw020/L36l7md3AzZbf1z3xwt/jHcE5rO/ee2/kSX7o0MYkn49jCfin7TyL+R7jfYfgbKyOMRF/IGr+20bf4Lsj5EmAVCnABhPzwTMzKI2zegC3CGwyZ+VAQ8Q4HcMRq3/gmZJ3CarlQLqqsDCzY/C4i2PwcItD8KCzX+BeZv/CHM33wVzNt8Oc7bcBnOLbycQ6ErdwILtXWm2xlodBYxCZjBgQDAH+z/2WE34vOVXu/1aw48T/3iz+GnX32T9uXV/vvOPtb/93n/j9f9js++GiUT8k1beZ7H/CJWNO/L8Fr8/db/Tsh8v/vxVqyUA6hgAAxgAlM0Z6yylgHlVwNIPYLsETU1B/yFg7AvkFM+nd8rBRhlaZh4Ck9cQAW96GOZvuh/mbvoTzNnUDWZt7AozN94CszbdArM33wpzVRDM3qIIFoWLmZvCYJsCAxqqyDWxM8FzosfvwysQzVkfLb8mflbz8+KnF/zoN/9ge/71xp+67k9Eq2X/aFPtH27M/qz51z+xDRX/lLwHYGzOXRb7jwDA36Uv4jc2/dgJv4Gx/gwA+QWrKQC4uwN1l4o88wDojr/8pORk5cNSXYA/qwIBgcBOKwR2lGymFhmzJW6WQeuMR2dhHY319LSiO2HOhvtg9oZ7YOaGO2HG+lth+vqbYMaGmzUQzNh0Pb14aCbdOtyFbh9mMOCBYAn1/w2ix4xvEj5afrrUV9Req/l58Y/gxc+6/uo1/2j92T0A+8SfZ9j2+6GH7D80/UaYTMQ/bdVDMCLrZov9n5T7VxUAforf17rfo/VH8ecZASDPBKwDACh3Bk5IoDaNbdFUXEBN+gHeICDcJ6BCgJUEuBdgRNYN1CrzEBjKIEDENanwRpi+7k6Ytu42mFp0I0wpugGmrb8Rpq7vQrfg4iEcWJujYFG4aNkRBjMpDBQgYBNvNhezVMErmV7J9tTqG4Sv7PDDrD9xrbLUR7v9q9tytt8qfnPX32D9+XV/286/kv0/i2tBs/+0/IdhRsFjMCi9oyX7h639XLH/voi/hnW/pevPrP9qXfwUAPkFkEDmngRAEOwFwA+KWTZrKRBoCOirAwYI7LBCABuBy9a8R7vk3xDLbHUCSjkwkl4wRARIYnyhIkbMxpiVsSZHe46CReGigBkMGBAwq1tC/X8meryeX8/4Sq2vZX20/NpSn17z8+IfyMRvqPuVLb+89ed3/Tll/2+Tr1bF/zjMWv0E9E+62JD9vyQAWLMtkd6M07DUVyvi92b99exfQAEgbwwSJHsB8KIMZwhsqEUI6NuGzSUB2tesLXNpnYz18rccBPiegLI6oDQHcastWnC04tiI00BAMvVkDQYdVWeguwNzTGWCN4meZXx8Xnx+PuvTdX7yPpRuvyDzq+JnS35a3R/X3MH6Wzv/+NiJK++DGasU8U8veMSS/QekXUkBGnjxb9TmgyZ+H60/ij93Zb4EQBAAIAo/gMzMbIXYaing1g8wbhLyHwJemoN4TcCA1CsVCPBOQGsMqkuEakmA2ZduGNJAoGwfnsC7AiJiKmYEAhE2QsESTPBqpmfZnlp9lvGp8PWsz+p9utRH3pfS8ONtP9/0U5f81LpfuOVXtf7arj81+w9IaQfTVfHPKfwXjM+925L95696kQJ0a0DEr1/lV5O6n1l/jKzsHLkLMFhWAlJT02itprgAcT/ArinoHwRE24bFJcGePXthXv6LNKvpEFB6AnR1APcJaH0BxQ1gFsYGHAoTBYpCRcEyV8BKBCXaawLnYwLL8pzoESYIFT3j68JHAA1Tsz5d52fdfrbWb8j8ivjNS358119s/ZvSDULY+GPin7/2afgu7WpD9sfzBPNw/Z8A1LrDz3fx17juV7v+zPqvzF8F6fouQHkgaF03AhMSE+kHxuo2ayng3BT0AgHRjkFDc9CmJMD9AGu3J9EJjuJBCKCYUFRYEqDI9JJAAALqCJQdhGMYDIiIFSAoUKDiNkehKniD6HWrrwlfrfW1rM/V+8pSn97ws4hf3e3HL/kZ6n6B9f8utb0m/nlE/LMLn7Rk/2EZ19Ot1Pg7LBaIf3NAxe+17l+tip9E3ipIlTcFCa5GIH5IzhBY7z8ELJuF9GsH3EoCWgaU7oORGXdoEEAxoai+ViFgdgOYhTUQqKUBDwPFGVylClqBgjmY2Fmm10Sfr4ieZnxV+EOY8AmIEEh0hx9xKWydX2v4qTW/WfyWpp95zV+1/p/FnU+s/2OK+Nc8DQuL/gtjcu6wZP/Y9YPpVupiw4U9ok0+/orft6Yfb/1R/BjcfQHlHoA6BkAWu0ko+/AM/YBahIChLyAsCRQ3gMuBiRvGU/Eo2U6BgFYScCAYaACB4giwR8BgQJ0BBwQaqwRB/095HMv0uuhVq68JX6/18X3w9T5mZLbUx2p+zfY7iJ/W/VzXH4ExIvNWg/gXr3uBPH8rXfzkd/Jd2lWwvWQz3U9hsPy1Kf41vokfG4BxcXEMAF2lCoOgD5CSmkprNiEE1tYQAqJtw44lgREEWAbgCUHfpXTStrv200oC5gaU3gDW3MwRoDBRoAwGijNoowEB9xIwKFiCil0XvJLplWyPz4eQUTK+UfgIJLbBh1n+PvxSn4v4hXU/+Z6vky7Xxb9WEf/k/P+j4kcgsuwfXtSXAhN/b8Z637i3v8biNzf9PNT9TPzcDUHkCkDQbAiKj1fIzSBQWNsQcCgJTL0BbAYiABLXj1POvacXvbBlL90NYNbVQKCVBoor4GFAQwUCjdzLVKeg/F37uprlqeA50ePzKVbfJHwCItroU7M+W+NHy28QP9fwcxM/fs/nxPrPKniCin+BmvkXrXsOvk651GD9v0u/CnaUbKH1v1O9b7+91zfx2zX97Or+XBUAGRlZcgUgyCBQzfYD4IfHXIB5ZcALBOz3CfhSEljdAB4QsnfvfhiaehvdMccffdWP6w0oIDCWBjwMqDOgQFChoILBEFlM7LzglUyviZ7W+HrGR+Hrtb7J8hP7zjb5+Cp+/Fmn5j9ExP+MJv6l61+B8Su7Gaw/vn7Eur4UlAhMZ8sfePHbNf3M1j+HRHJKqmwABhkA5tMLgzIytQ8x0BAQ9QXES4W8G9BBgM1ABEBecSgVCNriTzkQ9LWAwOQKiFiZM1CA0FoT9IBMBoeLtcyuR2vte2im17K93uBTMr5R+Oaszzb5sHV+J/HzdT8e9IHiX1j0rCZ+rP/7k9r/C876D8+8nt5fEQGAvzdj1hfV++JNPr6I39e6nwIgN49uP5cNwOACQA+6HJiQSD88MwT0lYEAQsClJKBuwLRSgJMbJ/mC/LcMd8Plb4Zh2BFngYEOBBTyN3ykc6F+jYodH6sKXrH4iuhZjU+tvkD4CCg+6xvqfUvDTyz+4Zm3wPy1vPhfheUbX4fBGR0M1h/fU8H2cPq7wWso3C1/3Ymfr/9JtJLqCw4AtGIfCn5QNYWAt76AvRuwKwtwcuMk31laDF/FX2PqkjfXboulgUB1BQwGzC4z0bD4SoPDhZrI+dAET76fFz0+P16BZxF+TFO90Sew/Pw6v7Hbr4t/UFpnTvwvUvGvIOKfnH+fxfovX9sT9u8ro78b/J1t8sPyB1z8+SbxqwDgNgCtl8oLLghEsV2B7MP0DQLGHYNuELB1A8KVAh0EuCcAbxyKpYD1hJxmhtKAdwXMGTB3QDvnfCRzwX0dH9dP/T5cguxjFr1A+L0EwrdYfrbOLxD/0Izrifj/Q8T/nCL+DYr4FxQ9YxH/OFIi7N67lYi/jJZJ3rK+qN7Xt/f6LX5zx5+r+2n2J5GUlCzr/yAFQHe2GoAfpGcIrLGDgFtJYFwl0N2AoCzgQID7AhAAZWUHIGLNAMthGUYbrdwqm94tR3UG7KYZDArMKaC4teD+j1l7Kvj4cwWi12v8jxyEz1/Ywyy/vslHf79jc+7WxL+EE//yDT3g29Q2qvgV6z8w/SrYsCsN9peR7L93v+l+fcas72z5efGvq6H4C2zFn52DpwDL9f+gXw3ACzWcIGBZIuQgoF1A5NIX8OIG7ECA1wfsJwBACEzP/q/jFlreGehA0KGgRTwX3NeZ2Kng1aYeE31vvsYXCt+a9XnLz783XOqbsPLPVPyLqPhfgmVE9Cs2vkHFPzD9aoP4sTTJ3baA/g727z9Al0u9Z31xvS/c3uvS7fdF/NwRYKVSbcEJAHpOYHJKilLL+QyBIlsIWEsCOzfgDgIsBZgL2L1vGwxMutmz1eYzrgYG1Xprof6fHk2NgjeJnu/s2wvfLus3gy8TL4UZBX+DBWv/S8T/PCxZz4l/oyr+JKP404snw4EDB+nvoKSkVBO+XdYXWX5DvW+5sMc/8a80iT9HFX8WCc7+j5dqC04AdGDNQPzgPEOgUAABrjnoVhKI3YAzCPBaAZz8KIKSfdthUNItlgxs7ribs7Ahorngvk7FHtVYE/yHqp03i95g9UXCFwBI6fTfrGzw0cT/MhV/CBX/a8LMv2jNq3Dw4CH6syMIFdvvS9YX1/sG8RcGVvxZ2bnS/tcTCNBrA/BqrZVqR1cEAcu2YbfmoI0b8BsEJPDACxQBimHPfgKB5Fs0EWIWfj9cHPpjVLGq9TkVeKT+Nb+ey6Pwv066AqbkP6hs8MGtvar4l294jYj/TVvxLybiP3TosAYAdEO+CN/W8ovEv7rm4mcASE1Nl/a/Pu0JwIs16AfLIJDvIwRs+gJrHSHgCwgUGODSF4rhIBFFadkOGJx8qzFTexCxL/GB6XmZ6J2E3ztGr/X7xl8E43LugbmF3WHeWuMGHyb+hev+C9+mtbGIP2Zjfzh8+IgGANzx52z3HbK+oN4XNvtM23v9ET9mf9xjIrv/9QcC9KgwXLNVILDKHgKCFQJhX8BvNyAGgXafwi0qBIgoUBh7D+yEWXnP65ady+q9oppZBOxLfGgSPC/6j7hSwix8jC8SLoFRWV1h9up/EPH/27TBRxX/pjdhyqr/Myz1UfGnXgiZ26bBkSPlGgCw7jcK3/esL6r3RZ1+x3V+D+LPyMzmN/90kAqrJy4AlwRzVcKLIIBXfDn3BawlgdUNuIPAyRFgoA1GO4zCQIGgUMLW9jHU70ozsCn0iWsNn8deCL0imxoBYYnGlvhIJHiB8JnVx5N78fiuCbl/hpkFfyfi/yex/E+py3zPGtb4F697HoZkdjRsWOqvLvUV782GI+VE/EeO0J8Pr/V3Er6hw2+X9b3W++pVff6KP5NEot78k/cArEc7A6uZCxBBIM8JAj66AWtZ4A0EPAxw2zDaYgaA8vKjsGZXNPSNu8TS1PskpgXJyJfBF/GXEhhcBB9Hn6eL2yDyxipEmjgKns/2n8e1JKJvDyMzb1dO7dXO7lPEv4At89FOvyL+CXn3ELG31jYiKZa/JUxb9TCUHS6hPwv+TEcIAPBKP3fhe8v6IssvEn9eDcRvyv7y+O96BIEBmgtQt3Oyei/PY3NQtEpg6A24lgVuPQIjDBAC6ASoWIhojpJAAc1d9aK+jEdDEfBnsURsBARfJV5BA4HQJ64VgUJLAonzaLDHGsRO4tPYFvTOvHh3nm9Jlh+ecQuMz8F79N1Pm3vTVz2iHtn9pHYdP+30r9OX+aYW/BW+Sb3Msk15YEZbSN06CioqKuHo0QooP6oAAK+IFNX49sJfb/hdu2Z9h3pfuLffRfyZWTmQnJwiL/2t9y4gPcMCAccVAg9uwLYs8BEEZhhgkxCXB8uJZUYAoIBQSEUlsTAguZOyph9jFDNm7f4EBF8nXmmMpKvg2+R28B3J6INSO8GQtC4wNP0GKnbM8KOz/kDvzYfCx5t0TM67H6ZS8T9KLP/f1Hq/Oz24UznB53ny96dg3Mq7qPBZrc9n/aXrXoODR0uhsvKYDgDyc5TQzO+D8O3svkvW99LsE23yEYk/3Zj95ZV/9dUFxBEXkKN+8EYIOJcE9m5AXBY4gcDcI3CCAfYF8JqBcg4AKKhjx47RZhqeLPSxZbMPXkNwLvQjWf0rzOrJbWn9PjC1AwxO60zvwjss4yZ6LBc288Zk3wXjcu4m9f2f6J158f580/Ifonfpmbma1PuF/yBZvztt9qHoJ+X9GYZmdlavQ7BenIRn+2/anwBVVVXkfVZpAMDaH2/uIW7uOQvf1u7bZX1hve8ufiZ8Kv4sRfwZJJL07C+X/uq7C8BtnPihs0kg7gv46QY8gcDeFdjBAM/FQ+vMA+AYEVhVVTVkbZ9OxN2Zbu8VBcKgb8JFxAW0oSfxDsu4gWT922B09h30Gv3xuX8kWZ+IP+//iOX/K63X2V16JuXdB+Nyu8GIrBvh29QruAuQeOErWX/+mmdgc1kSVB8/DlXV1SoAjtH3e+jQIbrzUZTtvQvf16xvX+/n8pbfRfzp+qk/svav5xDoTT/EuDj6gdMJIHQDBY6rBHZuwBcQmFcNvMAArx3AJcLKykoDAKqrj8Px4ydg475EurPuU7bv3xSfmaJvwoXQP+lS+CoZg5QNKW3gm5TL4duUK7irDlmIhT8i+0aI3PwxlFVshRMnTtL3YQRAFT3XD9+/Jdv7K3wvWV9k+UXNPhfxY+OPO/VX1v4NZV9ASmqaNgk8lwQObsAzCMyrBgJXYAcDBgS8Sw46ARQXD4ATJ07AyZMnoaL6AOTungWL1/aAwenXaRcGsSsBtUg4T70NN3dVYaJY9HyNPyHvjxC15RPYU74avv/+ezh16hR53VM6AMj7wfeFjgWXNZ2yPe3q+yF8X7K+r80+XvypaRky+zcwAHRnHyh+0NkMAqKSgF8l4N1AgEBgcQWuMNCBgP0BPFVIB8BxDQAoxlOnvifi/AF++OEHOFS1HfL3zIGErQNgav7D9Bp97RJhk+DNop+x+jFYUPQfSN4xELYfSYfqU+Xw4+nT8OOPP9Ln1gFwUgMAwgl39tmL3pztnYXvxe7bdvl9bPYpwlfEj40/7sgvue7fgCBArxFAa0cnAgcBdzdgUxb4AIJCMwgErsCuTDADAVcK9u7bT+32cQTACSsAUKyniWhP//QT/PTTz/Dzzz/DL7/8Ar/++iuUVa+DXRVZsLsSI5vGDz9XwW+//UYDH4OPxe/5iXz/6dM/kecTA6CSlCV4kIfI3lvX8K1dfVfhu9h9T1lfZPltxM8d+Fktd/01LAB0ZS4ANwexbCCCAO8G+N6AXVlg6A8IQeDiClxhYAUCBjoCvKCooqJCBcApKk4DAE5bAYAi/9///kfj999/p4F/twfAaQqAH35QAUBAgxuW8HATr6I3Z3va1Xey+pzw7e2+c9YXWX5RvZ+uRlp6Jm/95Z7/BgiB8cqFQvF0QrDJ4ZMbcCgLHEFQaAWBHQyUMkEABAsUdDDgYSNYHmBGRpGiWFG0KF4UMQPAL7/8aoEAC138IgD8SJf0sBexbsNGl5qeE71I+IW+C9/frG+1/ALxZ2TTrj93wY8876+hLwui1aMZwQUCRjdgUxaYQWAuDVYbQeATDNyAwIGBBTYNsR7ft7+MAgHdAYr5559/0VzAr2q2/w2Fz8TPZX/sLRwlzgKv18f7GngTvCjTW7O92eaba3xn4XvI+j5YfhQ+Bmf95fX+DRwCPZQPOY5OAgMEPIOgwDMI3FyBqETQewY2QFCh4AkMXODBpOw25tvw7sXbjYFfx2ajRei2YrfL8jaiN2V7f4XvS9a3Wn6j+NNIpErrf3Y2BNHyZaqTxAyCHLeywAUE5mahBQQiGDgBwQsUbCDhGl6fz1bsYsHbit5s87nmnlfh85t63LK+neVH8WPdHy+t/1kHAO3osOSUNJohRBCwdQMuIOCbhZ5cgR0M3IDAgUGHgw+AEAhcE/naIufXtBG8V9Fbs70Pwq9h1qfiT1fEz53zJ63/WQaBAeyDx8lBM0V2AEGQbwWBxRXYwcAJCAYouIAhILHWUex2grcVvSXbrzb8zmosfLusn8lnfUX8yalpvPh7S1WcfRBYT0uBxEQ6WZSJk6uDQJ1cvoNglQkEHmFQYAMDL1Dg4MBHoUuYH+/2/HZit6vpbUW/qsAk/FX+Cd+2w29v+bHmT0nLoKtBcruv3BsAyjbhdGXiMBCY3IBXEJhXDayuwNQrcICBo0MwgcETHDwGez631xVleDvR5wtFX3PhWzr8LlkfxY9bfbklv2p5jz9ZCqgbhLLo5NHdQIBAIHIFds7ADQheoRDgcBK7veCtohdmezfhe7b7dllf6fQz8Sclpci9/nIISgGSFXDyUAhk5vgHgkDDQAWCKxRMgGDhSdgsCryHSPC+iN4p25szvlj4NnbfIetjmNb75ZKfHMZSAA+BYBOJuQFhf8AfEJh7BXZlAgcEWyj4A4YCP0Re4PD6joJ3F72b8LPchC+w++lm4avix5o/Gc/2j9Nu7hElZ74cwlIAJwydTJobqCEIbGBgcQZOQNCgUOAMhVoKTeirxO/NTvBeRO+v8O3svjnro/ixx4MnQ7ETfmTdL4cIAlnKQaIJdDIpGSXbAQQupUFNYeAGBCEcdOfg5iDyLFHgKHLPgvdD9IEVfiYnfEX8pqafXO+XQwiADuxaATwLnk4qH0DgLwx8AoIJDJ7g4GesdBG6k+D9Fb2wuedV+JzdZ1kfbX+CcbNPDznT5XCCQG9+aRAnlyMIzM1Cc3ngCwzs3AEHBVcwCEHhED48V66D2DXB10j04q6+V+GnmoSPkZhsaPrJu/rK4QkCUeyyYTqxKATEIDCvGji6AgcYOAHBEQo1BYQPAvcidtHSnUH0ZosvzPbm5p5X4XPiT0mHpOQ0/o6+crOPHJ4BoF02nJCYpEFADIIsEwgE5UFWrncYuAHBBAbPcPAjclyE7iR4x0wvyvZmm8939X0UPl7fkUSC2+knm35y+AyBB/ilQTbhHEFgcQUiGDg7AyEQOCi4gsEFFl5F7Sh0gdjtsry76MXZvibCx+DO9ZNNPzn8hsB47apBMslSGARsQODoCkQlgpM78AIFARz8hYToOZxe007sdoIXid422/sifGb3mfiJ7U/Qj/SWTT85alwKrGd3F8JJRycfD4K0TN9dAecMfAKCCQqeAeFnCF9L8J5cBc/Zey/Z3ryc5yT8ZE74ScmpRPzJsuknR0AhoO0SxMxCnQAHAkdX4AADO3dgBYIRCrZg8AAJ13B53kwHsVsFL8jytqJ3yPY2Vt8sfOz2J9A9/rLpJ0ctLg3iRKOTUJ2QKWpp4OoKLDBwcAeZOR6goILBBAefQGEnboPIc4WvbRW7e5Z3Fr1I+DbZ3iR8GkmpsuknR61CIEtZGoyjE1DJQiYQiFyBBQY2PQNHhyB2Cu6A8D/sXscsdKcMb63pvYjed+Fj5o+LT5An+8hxZpYGscPMJqQGgprAwAkIJiiIwWByDg6gcBa2WOBCofsgeP9EbxV+okD4GNyZfrLpJ0etQqC73g9IppmIZiQzDFK9wEDvGTgBwQoFezB4B4UHYVtEnm15H2leBM/V9CLR+5rtE1XR00hE8RuafvJWXnLUOgS0pUGchGxyKpPVNxhYgJCW6QwFExjEcLCLbFN4+740W6HbiN0uy4syvaipZ5PtEznRU+ETAMfTjn+cPNFXjjNeCpSyrcLK5EzlQGB0Bc5lgm9AsIJBAAgbULhGul1k2gvdJHY7wdvZe/dsn2rI9rzwaebXm37yPn5ynFEIaEuDWH9SJ0Aj1ZC5vMLACQhWKKhgsIGDOywy3UUtFHmm5X2keBG8XU0vEr2dzWeiV4WPERdnaPp1l7NSjjMNgQE6BJKVDKVOWkcYWMoEMRAsUBCAQQyHwEaKrdBtxO6a5b2J3pztqegTkmjExifKY73kCAoI0F2CeMwUm6xs8jrBwA4IXqBgBIM7IPwKk8Bthe4kdifBexG9QPhx8Rbxy80+ctQpALQDRHAdmk5YbgLbwsAHIBihwIHBBg7egOEgaEeRpxveS5LPgvdD9LzwqfjjZN0vR1BBQNslGEcmKE5YNomFMPAIBAsUBGCwwsEGFJ5C/DxJjkK3Ebud4P0VPUZcIt/0k3W/HEEFgSx2x2GcuPxEFsFA5A68QkEHgwkODpDwKUTPqb5eogexexK8g+gNwo9TIiYuAWJiMeRFPnIEeSlAsxQ6AXUyC2HgBAQ3KLjAwSlchexJ5DaZnRO7k+C9i14VvlX8cr1fjuAuBWJxiSou0WBhzTBwA4IFCgIw6HCwgYTfkSLO5gKhC8XuJHhbey8SfQJEx8aTP+PkPn856k8pgNlKmcj65LbAwA0INlAQgsEFEj6Fw3PbvR/z+xYJ3pPo45joFeHTiInjs7+8g68c9aMUwKxFsxg/uW2A4AQFIRgc4FBrkeBB6JzYfRG8VfTxEKVGTIxc8pOjHpYCmLXYhGaT3AgDZyC4QcEVEAEIt9cVCt1N8CZ7LxJ9FMn6GNG6+OWSnxz1CgJ0gxBmL5zYNLTJnuANCDZQMICBj4RaiHiHjC4Qu7vgjVleJPqo6DiIjMY/Y/nsL62/HPUKANq1AtrEVie6EQYmIAihIACDAxxqLeI8CD3O+LNEe8jyvOiViIXIqFhp/eWo9xAYz1xAVLQyyQ2TngeCAArRrlAwAoJFbA0jxhAur+sidifBi0SPEREVS7O/tP5y1HcAaJcNYy1LJ7lmbz0AwQIFG8fgGRI+huA1okVCjzW+Z8+Cj9YFr0SMFjExMdL6y9EgINCduQCW4WhE2wDBBgoWMNjCQewk3MPDc8XYCd0kdhfBRwoEHxGpRDiJ6OgYueFHjgYFgSzFBXATXhWBf1AQA8IWFD5GlDBsXj/aXezCLM8JXoloGhFR0XLDjxwNDgAd2KSOjFImPBOAIQs6QiGWE5gJDq6Q8DMErxEpErqb2B0ETyMiGsLUYNaf/Cn3+svR8BqC6AIMkz/SCQgxnJhMYLDAwQqJmoXguaPshB5rfd8eBa9EFISFR5HnjGbiL12xYkVr8ms7p4YhhxxB1RCkOwQjIvXJj2IwAkEABSEYrIBwhIXHiLANm9ePdBG7neBV0YeqgX9n2T86OvrfARC/hIEcQQeBAWqG0wSgiSHCBAUHMAgB4QoKH0Pw3OGWiPYudpPglYhUIiySlBda9s+yEXBjh5BAkKPeQKBU6QVEm8RgBkKUSUhOjsEZFL6Hy/ML3pe72I2CD+EijHyN9UiWL1/eyUXsvoYEgRxBBYAezAUwMWjCoBHlAQxRNgIUuAgfI8w1ojwI3VnwIWERSoRGwAoS0br1n0B+RU1qGI25P+2A0FiCQI66hEAWcwGaGDiBhIaZwRDlGGF8RAQouOcMdY1Id7FzgucjIjKKWf/qCRMmXEp+PU39DC9g8OIQ5JCj1gHwALO8KAwmBhSIQTAWMYng4A0S/ofgtQTvy4vYV4SG01geogT+nTX+wsPD3yC/mmYBCF8AEYheQm2GHA0YAlHMBTBhrBCKRgWDBzjYwsJjhHiKCA9CFwveGGFa9ifWP5v8SpoHKLxAob6BQEKhAQKgA+8CzALRoRDuIDATICyQqEFwz7nCNcJdxK4IfvmKMFimBj6W/fyLFi16lPxKzlXjPJc41yG8QsEOCPUJBBIIDQAC8+nlwsQFoChQIFQoNMIdwwiIcA8i9TfCPQqcE7pJ7NYIpT8zdUCRkYvIr6KFj+EVDs1NYPDXGUgQyFFrLoBuDgoh4rITzHIDHMKDJPT3tcxF7EuXGyNEzf7Y+Bs5cuRN5FdxPhcXmP7tFG5gcHMIdjCorxCQMKiHEBig1MExBpGgcJQI8xTLLaAQhU22NscKr+I2Cl0kdj1CYOmyEFhCIlrd9BMSEjKU/Apa+hAXmKImQHBzBU3qOQjkqCcA0LYIh4SFK0KhEeoYvgKi5uEmcLHYzREapmX/46+99to15FdwkSAutAkREFp6BIKbK5AgkKOuXUC0UDRLWXiEQ+1HiCZyO6HrsQIWL1UC/86W/RYuXNiT/OitXMIJDF7dgVdX0FBBIEe9cgGkPmZiUSLEUyw1x/IaxDKv4jYKnRe7KELDItiy3z7yY19sitam8AUGTkCwcwVuIDADoT73B+SoBxDowVyAk4j4bOoLIGoe7gLnY9GS5YZYQr7Glv0mTpz4T/IjX2KKQAGhJiCwaxg2BDcgRz2AAL1QCOtks4AwvIrvTIXoPVpi8TJYSCIsXMn+EREReeRHvYzEpabwFwg1AUEg3UCwg0CO+uICsE5erIrHk8gCCAt/X4++V1Xs5uCz/8CBAx8kP2obFQJ8+AsEO1dQV2VBsIJAjvrkArAXsNBGUAtVsWnhr2h9FPcih/fjFGzL7woyyI94uSnamMINCG4QaOWhT3Am+wONJQDk8L0XQFyAv4ILpli2PETL/u+//3438iNeYQonEHiBQF2DoL64ATnqZy8g+EWO71EJq3uIVLP/0qVLZ5Ef7UouRBAww8CuTDgTIGhoZYEc9bYX4BjLahUSurh9LzWWrwhly37HH3vssRvJj3aVGlfawKAuQHC29AfkaEgrAvUh2JbfBQsWjCE/UlsuzgQIZH9Air+BuICadOdrORYvFa84rAgJ07L/ww8/jBf8XG2CgK8gaGMDAtkfkOJv6C4gwuMy3nJL+CZkc/i/R4DL/mPJj9JOjatN4QSC+tAfaFEPygI5GoILWBJkm4Ccgl3ui9n/wQcfvIX8KNdwEGjnAwRkf0CKX7oAFBPupPN1O25thds2ZJb9p0yZ8qkqfj78cQO11R9oHYT9gUCBQI4G5wJquI/fPgJ3zQDL/pGRkWXk7Xcg0V6NugBBfegPNAswBORoaAPvlae7gJCgDHYlIcv+kydP/kwFQIdaAMEVLo3Cy4IQBGfCDcjREAcR1WvMBRiuxzdFbYnaGuJzAkLUy33V7N9RjQ41AEF96A+0rAU34A8I5Gigg37AuguIDIIDQcSBx5qpl/t+Tt5zJzVEIKjLsiBY+wNuB5HYnVgsx9kAgKioKM0FeD+aq/aDHRUWasz+ndVwgkCw9AcuDbL+gISAHFYA4AfOXEB4RKTlrD6n8EXI9uF8ZiDL/hMmTOjDAaAuQFCX/QF/Lj12Op/Q15OK5Wig4qcAiIiIeEN3AWFBE6bsfx2Ja9WoTRAEa3/A7pxCLweVeu0LuG0llqOhZX/1g2/KXEBoeESdCd58jDjL/tOmTRuiAuC6GoCgvQ0IgqE/4HYQidfTiNxOK67p9QRyNFAANAsNDX2T3UfA8Wz/gIf4BiHYlFR3/Z2455577iLvsYsJAnYgqE/9gUsa+X4aka+XG/tyLYF0AGcrAHCSEBewl60I1PUdglj2nzVr1iTy3q5XAdBFAIIzURb4C4KaQKB1I/+2E0sAyOEfAMLCwoawU4N8u2+fb2G9/6Ax+Ox/9913d1MBcL0JBNfVAQjMVxz66wbcTiTyAgG7UsANAE6NQAmAsxAATRkAevfufRXeV4+6gIhIx5t5+h/uNw6NUnf9zZw5czJ5XzeocX0dgKC2ywJfSwInAHhxAFL8ctg7AJw4eF891guovTsD2wfL/hjdunW7m7ynG9UIBAg6mUBwpssCL2cPuAHgIocSwNfs78vty+U4GwDw1ltvtcP767FeAG7DdQo7Ibt9n12w7L9o0aIo8n5u4gDgBIK67A84HUQiOqjU6aRiu1KglUsjUJT9/en8y+3AZ+syoDpJcOK0DA0NnYoijCIuICQs8oxFaJie/Z966qlHyXu5WYXATR4gUJf9Aa8QcCsFeAB4sf9m8dck80vxn4UQEAHggm+//fZWJsSwiKgzBoDIqGh2g0/M/reoALCDQF2CoJ0DBK5ygIATAETZ3078F3gUf03OD5TjbGwEqhPqwrCwsKWKC4iGUFIK1H5Eadm/T58+r6kAuOUMgqBTI98uNPIFAk4AENX/ZutvJ35/LL+s9+Vw7gPgRPvmm29u01wAEWdoLQfL/itWrCgkr3+rGrfUIggCtZvQDQJ2AHCy/k6Z3y7rB+rUYDnO8jKghTrRLgoPD4/XXUDgxI5lhTnwOgR8rQEDBvQir32bGv6A4AaXRqGbG+jk4gZ8AQBfApjFf5lN5vci/BY1sPsy68vh6gJworWcPn36k3ovIFoo3JpFNI2IyGh2h9+D5HVv5wDgBILacAPXOjgBOwiIAGDO/iLb75b1zY2+FjLry3Emm4G0FxAZGbmSXpEXFaMJNtDBsv/48eNHqQDwCgF/QSBaNvQCAR4AvAPwIn5RvS9a4hPV+b40+BpL0csRqF7ABfPmzXuBXSocTjK1XTAxOz1GFBFq7R8VFXXy9ttv/wt5za5q1DYIughA4AUAdtm/rU3NL8r6dhnfSfjNpfDlqG0X0FjgAlpGR0fvZS7AV4E7Rwx/0c8S8lp3cACoDRDc4AACp56AGQDm7N9WkPV58V9ik/Wl8OUIWheg7QtYvHjxu7oLCFxERMVoS39PPPHEk+S17lQhUFMQeHED5pJABADztmEvmV+U9X0R/rlS+HLUNQSamkoB3QVEK8INRESp2Z8AJpO8xh/UuNMBBLfbgMAJAiIQiFyAHQBEmZ/V/Hy974vwWzayLueJhF+TG4DKIUdAGoJ0VYBdJBQTE+un4GMtgc+Fz9mrV693OAC4QaCrCwRu9eAE7ADgJn6nrF+TjC+zvRxBWQpo/YCePXu2ZZcKR0bHCgXtNfD7o6IV8YeHh+PS311q/KGGILjVwQ3YAcCr+J3svhfh22X7QNzuWw45an9VICwsbApzASjimgTL/mPIIM/dTY1Ag8DOBdwgsP58zS/K+rzw2zgI35ztW3jI9r5u2pGil+PMu4CRI0fexJp2ipDj/IxYrfl38803P8gBwF8QeAXAjTaZX5T1zXbfLeM7bdcNVLaXQ466dQERERGLlWPDiI2PifMrotXsP3fu3DjynPeQuFsNNxDc6QIBHgAi++8kfnPWFwn/Mhur76/Nl1t05agXENBcwLx58x5n2dtfADD7/9JLL72sAoCHwN0CANzl0QWYAeBF/KKsb9fZ90f4MtvL0bBcQFRUVI7iAlDQ8T4Ffg9+b0hIyA7yXH/kAHCPjRswQ8ANAF7Ez1t+O7tvJ3ynxp7TEp6s7eWo9y4AJ/Z5y5Yte4c2AxECsfE+RYzqHkaNGjWePNe9KgT+6NEJ8C7Aq/iZ8EV23ynjX9JI3NG3260nT9yRo8FCwOIC2Mag6Ng4nwDAyocbb7zxURUA97qAoJuDA3AS/w0m8fMZn1/Wu9KU8VmN72bzm0vhy3E2uQDDisCKFSv66C4gwVPExCr2f86cOfHkOf6khhsERACwEz9v+c12v4OD8C/1UfiiJTwpejnOml7Aeb169dLuIRCD1j4uwT3U7N+zZ8/3OQDwIOABYHYATuI3W/7ruKzP231RjS+y+oEUvhxyNMwyQNsYRDK7WPSJeqj2Pzw8/JBA/HYAcBI/b/n5rH+tTYPvqhpYfSebL0Uvx1lZBrQYNmzYzaymjyWCj41PtA/V/k+cOHEO+d4/c+EFACLxm2t9ZvfNdT7f4JPCl0OOGpYBhiPEIyIi4hQIxNmLH+GgguKRRx552iR8O/GbMz+z/Czrm4XP7L5Txhct5Tk19sxr91L0csgygCsDzp8xY8YTmguggk+yRlw8v/bvZP/vMdl+lvX5Wv9GDxnf3Nxr3ch+Kc/fZTw55JB9ABRWdHT0PqUMiIe4hCRLMEAMIkMVu3kF4I82lp+v9W8S1PkdPAi/lYfGnrxRphxy+NAHYCcGoZguXLBgQU8mcov4af2v/N9NN930cCPxsh8TP7P85qzP7D6/fdcs/MtNVt/XjO+2U08OOSQABH0AFFlrdkPROCL4uIRkLWLjE9jNPrNUi/9Hm2bfHwS1/k02dp8t6V0pEH6rGghfZns55PBQBhhuJoqiW7p06UilDIiD+MRkLVj3f8iQIQNUoZu3+t5lyvp8k4/ZfV+E72b1pc2XQ44A9gHoXYT69OlzB18GoPj5+v+22277PzXLm/f0dzVlfJHwRTX+xZzV55fynDbuSIsvhxwBBsD5qggvDgsLS6AAiIuHhKQUUg4o9n/JkiUZqrW/o5HxKj5Rd9/c4GMZv42gxncSvsjmy0wvhxwB6AOwDUHa3YQRAOPGjevOMj5v/0eNGtVfFTp/iOctjazLeqLOvpvV98fmyyGHHDUAAN8HaKFmYhTnpVFRUfuUZqC++adbt253q/aeP55LtINPtKRn7ur7kvGl8OWQo5bKAMOOQFWgl8yZM+dDbWMQieXLl6eqIu/SyHoMd2cPdb7dBTpOGV/afDnkOMN9ALoc+NRTT3VmS4IYkyZN+ky19p256MhZ/XY2wney+s2l8OWQo+4BwPoArAxA0V4cGhq6jAHgrbfeureRfkcd/p56bQVW3034Xpt7csghxxnsA5zHuYBW/fr160qPDo+M3KwK/MpG4ttm16S5J0UvhxxBVAa0UMVLIUDEv5LU/zNUkbfhwu6gTV+6+lL4csgRRGVAczMEFi1a9N7UqVOfVEV+cSP7W2dJ4cshRz0uA0QQOF/tCVyoxkWNrHfH5bv6UvgNcPw/amyOEbKHvLwAAAAASUVORK5CYII=")).getScaledInstance(picSize, picSize, Image.SCALE_SMOOTH);
-	}
-	
-	/**
-	 * a user-friendly description
-	 *
-	 * @since 0.1.0
-	 */
-	private String description;
-	/**
-	 * a text of copyright information
-	 *
-	 * @since 0.1.0
-	 */
-	private String                          copyright      = "";
-	/**
-	 * should the first row ignored, in case of headlines?
-	 *
-	 * @since 0.1.0
-	 */
-	private boolean                         ignoreFirstRow = true;
-	/**
-	 * the {@link GeometryObject} type
-	 *
-	 * @since 0.1.0
-	 */
-	private Class<? extends GeometryObject> geoType        = Point.class;
-	/**
-	 * column, in which the longitude is stored
-	 *
-	 * @since 0.1.0
-	 */
-	private int                             longColumn     = -1;
-	/**
-	 * column, in which the latitude is stored
-	 *
-	 * @since 0.1.0
-	 */
-	private int                             latColumn      = -1;
-	/**
-	 * column, in which the elevation is stored
-	 *
-	 * @since 0.1.0
-	 */
-	private int                             eleColumn      = -1;
-	/**
-	 * column, in which the CRS is stored
-	 *
-	 * @since 0.1.0
-	 */
-	private int                             crsColumn      = -1;
-	/**
-	 * column, in which the object ID is stored
-	 *
-	 * @since 0.2.4
-	 */
-	private int                             idColumn       = -1;
-	/**
-	 * columns, to group coordinates to {@link GeometryObject}s
-	 *
-	 * @since 0.1.0
-	 */
-	private int[]                           groupColumn    = new int[0];
-	/**
-	 * the {@link Color} to draw a line
-	 *
-	 * @since 0.1.0
-	 */
-	private Color                           lineColor      = Color.BLACK;
-	/**
-	 * the stroke to draw a line
-	 *
-	 * @since 0.1.0
-	 */
-	private int                             lineStroke     = 1;
-	/**
-	 * the {@link Color}, to fill {@link Polygon}s
-	 *
-	 * @since 0.1.0
-	 */
-	private Color                           fillColor      = Color.BLUE;
-	/**
-	 * the {@link Image}, which should be used to draw {@link Point}s
-	 *
-	 * @since 0.1.0
-	 */
-	private Image                           pointImage     = CsvConfig.DEFAULT_IMAGE;
-	
-	/**
-	 * standard constructor
-	 *
-	 * @since 0.1.0
-	 */
-	private CsvConfig() {
-	}
-	
-	/**
-	 * constructor, with given configuration {@link File}
-	 *
-	 * @param file the configuration {@link File} to load
-	 * @throws IllegalArgumentException if the given {@link File} doesn't exist
-	 * @throws IOException              if an {@link Exception} occurred on reading the file
-	 * @since 0.1.0
-	 */
-	private CsvConfig(File file)
-	throws IllegalArgumentException, IOException {
-		this();
-		
-		String fileName = file.getName();
-		
-		if (!(file.exists())) {
-			throw new IllegalArgumentException("Config file " + fileName + " doesn't exist!");
-		}
-		
-		try {
-			Element rootNode = (new SAXBuilder()).build(file).getRootElement();
-			
-			Element child = rootNode.getChild("description");
-			if (child != null) {
-				this.description = child.getText();
-			} else {
-				this.description = fileName.substring(0, fileName.length() - ".xml".length());
-			}
-			
-			child = rootNode.getChild("copyright");
-			if (child != null) {
-				this.copyright = child.getText();
-			}
-			
-			child = rootNode.getChild("ignoreFirstRow");
-			if (child != null) {
-				this.ignoreFirstRow = Boolean.parseBoolean(child.getText());
-			}
-			
-			child = rootNode.getChild("geoType");
-			if (child != null) {
-				String type = child.getText();
-				
-				try {
-					@SuppressWarnings("unchecked")
-					Class<? extends GeometryObject> clazz = (Class<? extends GeometryObject>) Class.forName(type);
-					this.geoType = clazz;
-				} catch (ClassNotFoundException | ClassCastException e) {
-					if (type.equalsIgnoreCase("Polygon") || type.equalsIgnoreCase("Poly")) {
-						this.geoType = Polygon.class;
-					} else if (type.equalsIgnoreCase("Polyline") || type.equalsIgnoreCase("Line")) {
-						this.geoType = Polyline.class;
-					} else if (type.equalsIgnoreCase("MultiPoint")) {
-						this.geoType = Multipoint.class;
-					} else {
-						this.geoType = Point.class;
-					}
-				}
-			}
-			
-			child = rootNode.getChild("columns");
-			if (child != null) {
-				Element child2 = child.getChild("long");
-				try {
-					if (child2 != null) {
-						this.longColumn = Integer.parseInt(child2.getText());
-					}
-				} catch (NumberFormatException e) {
-				}
-				
-				child2 = child.getChild("lat");
-				try {
-					if (child2 != null) {
-						this.latColumn = Integer.parseInt(child2.getText());
-					}
-				} catch (NumberFormatException e) {
-				}
-				
-				child2 = child.getChild("ele");
-				try {
-					if (child2 != null) {
-						this.eleColumn = Integer.parseInt(child2.getText());
-					}
-				} catch (NumberFormatException e) {
-				}
-				
-				child2 = child.getChild("crs");
-				try {
-					if (child2 != null) {
-						this.crsColumn = Integer.parseInt(child2.getText());
-					}
-				} catch (NumberFormatException e) {
-				}
-				
-				child2 = child.getChild("objectId");
-				try {
-					if (child2 != null) {
-						this.idColumn = Integer.parseInt(child2.getText());
-					}
-				} catch (NumberFormatException e) {
-				}
-				
-				child2 = child.getChild("group");
-				if (child2 != null) {
-					String[] cols = child2.getText().split(",");
-					this.groupColumn = new int[cols.length];
-					int i = 0;
-					for (String col : cols) {
-						try {
-							this.groupColumn[i] = Integer.parseInt(col);
-						} catch (NumberFormatException e) {
-						}
-						
-						i++;
-					}
-				}
-			}
-			
-			child = rootNode.getChild("style");
-			if (child != null) {
-				Element child2 = child.getChild("line");
-				if (child2 != null) {
-					Element child3 = child2.getChild("color");
-					if (child3 != null) {
-						try {
-							Color color = CsvConfig.getColor(child3.getText());
-							
-							if (color != null) {
-								this.lineColor = color;
-							} else {
-								log.warn("Wrong syntax of the line color tag was used! E.g.: 'RED,GREEN,BLUE,ALPHA'");
-							}
-						} catch (NumberFormatException e) {
-							log.warn("Couldn't parse color numbers for line color!", e);
-						}
-					}
-					
-					child3 = child2.getChild("stroke");
-					if (child3 != null) {
-						try {
-							this.lineStroke = Integer.parseInt(child3.getText());
-						} catch (NumberFormatException e) {
-							log.warn("Couldn't parse stroke of line!", e);
-						}
-					}
-				}
-				
-				child2 = child.getChild("fillColor");
-				if (child2 != null) {
-					Color color = CsvConfig.getColor(child2.getText());
-					
-					if (color != null) {
-						this.fillColor = color;
-					} else {
-						log.warn("Wrong syntax of the fill color tag was used! E.g.: 'RED,GREEN,BLUE,ALPHA'");
-					}
-				}
-				
-				child2 = child.getChild("pointImage");
-				if (child2 != null) {
-					this.pointImage = DataUtils.toImage(DataUtils.decodeBase64(child2.getText()));
-				}
-			}
-		} catch (JDOMException e) {
-			throw new IOException("An error occurred on reading config file: " + fileName, e);
-		}
-	}
-	
-	/**
-	 * gives a user-friendly description
-	 *
-	 * @return the description
-	 *
-	 * @since 0.1.0
-	 */
-	public String getDescription() {
-		return this.description;
-	}
-	
-	/**
-	 * gives a text of copyright information
-	 *
-	 * @return the copyright text
-	 *
-	 * @since 0.1.0
-	 */
-	public String getCopyright() {
-		return this.copyright;
-	}
-	
-	/**
-	 * should the first row ignored, in case of headlines?
-	 *
-	 * @return {@code true}, if the first row should be ignored
-	 *
-	 * @since 0.1.0
-	 */
-	public boolean isIgnoreFirstRow() {
-		return this.ignoreFirstRow;
-	}
-	
-	/**
-	 * gives the {@link GeometryObject} type
-	 *
-	 * @return the {@link GeometryObject} type
-	 *
-	 * @since 0.1.0
-	 */
-	public Class<? extends GeometryObject> getGeoType() {
-		return this.geoType;
-	}
-	
-	/**
-	 * gives the column, in which the longitude is stored
-	 *
-	 * @return the column, in which the longitude is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
-	 *
-	 * @since 0.2.0
-	 */
-	public int getLongColumn() {
-		return this.longColumn;
-	}
-	
-	/**
-	 * gives the column, in which the latitude is stored
-	 *
-	 * @return the column, in which the latitude is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
-	 *
-	 * @since 0.2.0
-	 */
-	public int getLatColumn() {
-		return this.latColumn;
-	}
-	
-	/**
-	 * gives the column, in which the elevation is stored
-	 *
-	 * @return the column, in which the elevation is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
-	 *
-	 * @since 0.2.0
-	 */
-	public int getEleColumn() {
-		return this.eleColumn;
-	}
-	
-	/**
-	 * gives the column, in which the CRS is stored
-	 *
-	 * @return the column, in which the CRS is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
-	 *
-	 * @since 0.1.0
-	 */
-	public int getCrsColumn() {
-		return this.crsColumn;
-	}
-	
-	/**
-	 * gives the column, in which the object ID is stored
-	 *
-	 * @return the column, in which the object ID is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
-	 *
-	 * @since 0.2.4
-	 */
-	public int getIdColumn() {
-		return this.idColumn;
-	}
-	
-	/**
-	 * gives an array of columns, to group coordinates to {@link GeometryObject}s
-	 *
-	 * @return an array of columns, to group coordinates to {@link GeometryObject}s, if the array is empty the coordinates should not grouped
-	 *
-	 * @since 0.1.0
-	 */
-	public int[] getGroupColumn() {
-		return this.groupColumn.clone();
-	}
-	
-	/**
-	 * gives the {@link Color} to draw a line
-	 *
-	 * @return the {@link Color} to draw a line
-	 *
-	 * @since 0.1.0
-	 */
-	public Color getLineColor() {
-		return this.lineColor;
-	}
-	
-	/**
-	 * gives the stroke to draw a line
-	 *
-	 * @return the stroke to draw a line
-	 *
-	 * @since 0.1.0
-	 */
-	public int getLineStroke() {
-		return this.lineStroke;
-	}
-	
-	/**
-	 * gives the {@link Color}, to fill {@link Polygon}s
-	 *
-	 * @return the {@link Color}, to fill {@link Polygon}s
-	 *
-	 * @since 0.1.0
-	 */
-	public Color getFillColor() {
-		return this.fillColor;
-	}
-	
-	/**
-	 * gives the {@link Image}, which should be used to draw {@link Point}s
-	 *
-	 * @return the {@link Image}, which should be used to draw {@link Point}s
-	 *
-	 * @since 0.1.0
-	 */
-	public Image getPointImage() {
-		return this.pointImage;
-	}
-	
-	/**
-	 * extracts the color numbers from a {@link String} and creates a {@link Color}
-	 *
-	 * @param text the {@link String} with syntax "RED,GREEN,BLUE,ALPHA" (alpha is optional)
-	 * @return the generated {@link Color} or {@code null}, is the syntax is corrupted
-	 *
-	 * @throws NumberFormatException if the {@link String} contains non-numeric characters
-	 * @since 0.1.0
-	 */
-	private static Color getColor(String text)
-	throws NumberFormatException {
-		String[] colors = text.split(",");
-		if (colors.length >= 3) {
-			int alpha;
-			
-			if (colors.length >= 4) {
-				alpha = Integer.parseInt(colors[3]);
-			} else {
-				alpha = 255;
-			}
-			
-			return new Color(Integer.parseInt(colors[0]), Integer.parseInt(colors[1]), Integer.parseInt(colors[2]), alpha);
-		}
-		
-		return null;
-	}
-	
-	/**
-	 * gives the {@link CsvConfig} of a CSV {@link File}
-	 *
-	 * @param file the CSV {@link File} to get the loader of
-	 * @return the {@link CsvConfig} of {@code file} or {@code null}, if no configuration file exists of the given {@link File}
-	 *
-	 * @throws IOException if no configuration file exists and no configuration could load from headlines
-	 * @since 0.1.0
-	 */
-	public static CsvConfig getConfig(File file)
-	throws IOException {
-		String fileName  = file.getName();
-		String extension = ".xml";
-		if (!(fileName.endsWith(extension))) {
-			File configFile = new File(file.getAbsoluteFile() + extension);
-			
-			CsvConfig config = null;
-			try {
-				config = new CsvConfig(configFile);
-			} catch (IllegalArgumentException | IOException e) {
-				log.info("Couldn't read config file of CSV file: " + fileName, e);
-			}
-			
-			Reader reader = null;
-			try {
-				if (config == null) {
-					config = new CsvConfig();
-					
-					config.description = "Content of file: " + fileName;
-				}
-				
-				int lon = config.getLongColumn();
-				int lat = config.getLatColumn();
-				int ele = config.getEleColumn();
-				int crs = config.getCrsColumn();
-				int id  = config.getIdColumn();
-				
-				reader = new FileReader(file);
-				Iterator<CSVRecord> records = CSVFormat.EXCEL.parse(reader).iterator();
-				
-				if (records.hasNext()) {
-					CSVRecord record = records.next();
-					
-					int i = 0;
-					for (String header : record) {
-						if (i != lon && i != lat && i != ele && i != crs && i != id) {
-							if (lon < 0 && (header.equalsIgnoreCase("long") || header.equalsIgnoreCase("lon") || header.equalsIgnoreCase("longitude") || header.equalsIgnoreCase("x"))) {
-								lon = i;
-							} else if (lat < 0 && (header.equalsIgnoreCase("lat") || header.equalsIgnoreCase("latitude") || header.equalsIgnoreCase("y"))) {
-								lat = i;
-							} else if (ele < 0 && (header.equalsIgnoreCase("ele") || header.equalsIgnoreCase("elevation") || header.equalsIgnoreCase("z"))) {
-								ele = i;
-							} else if (crs < 0 && (header.equalsIgnoreCase("CRS") || header.equalsIgnoreCase("EPSG") || header.equalsIgnoreCase("SRS"))) {
-								crs = i;
-							} else if (id < 0 && (header.equalsIgnoreCase("ID") || header.equalsIgnoreCase("ObjectID") || header.equalsIgnoreCase("UID"))) {
-								id = i;
-							}
-						}
-						
-						i++;
-					}
-				}
-				
-				if (lon < 0 || lat < 0 || crs < 0) {
-					throw new IOException("A configuration file or column headers of coordinates and reference system are necessary!");
-				}
-				
-				config.longColumn = lon;
-				config.latColumn = lat;
-				config.eleColumn = ele;
-				config.crsColumn = crs;
-				config.idColumn = id;
-				
-				return config;
-			} catch (IOException e) {
-				throw new IOException("Couldn't read column names from CSV file: " + fileName, e);
-			} finally {
-				DataUtils.closeStream(reader);
-			}
-		}
-		
-		String msg = "The given CSV file ends with '" + extension + "', so it is a config file --> ignore.";
-		log.debug(msg);
-		throw new IllegalArgumentException(msg);
-	}
-}
+package de.conterra.babelfish.csv;
+
+import de.conterra.babelfish.csv.parser.Compression;
+import de.conterra.babelfish.csv.parser.ParserType;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.*;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.Point;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.Polygon;
+import de.conterra.babelfish.util.DataUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * defines loader of configuration {@link File}s
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+@Slf4j
+public class CsvConfig {
+	/**
+	 * the default {@link Image}, which is used to draw {@link Point}s, if no other is specified
+	 *
+	 * @since 0.1.0
+	 */
+	public static final Image  DEFAULT_IMAGE;
+	/**
+	 * the file extension of configuration {@link File}s
+	 *
+	 * @since 0.4.0
+	 */
+	public static final String EXTENSION = ".xml";
+	
+	static {
+		int picSize = 26;
+		DEFAULT_IMAGE = DataUtils.toImage(DataUtils.decodeBase64("iVBORw0KGgoAAAANSUhEUgAAAQAAAAEACAYAAABccqhmAABiZklEQVR42u2dB3xVRfbHkaYoChYsiDTFruiKrrvuX9e+q7vLqrt2xa5YwAYoFqT33nsv6b33kHwIgdBDDwFCCwkJRcW2nv+cuXfunXvv3PJeXshLmPl8zgcIL++95M3ve37nzNy5jRrJIYcccsghhxxyyNFARmxs7ANq9CAxgIv5JLJsYoAp2HN0kL9ROeQIPpG3UgXKC7uaBNRSlKqvMV4FywPyU5BDjjMn+K4keqtiL3USa3JyCmRlZdNYt269IXbvLrFEcfFW9f/X0Shcs4Z8bxYND2BYr0KhO0JJflJyyBG4DN/DSfDp6emwalWBJuzS0r1QWXkMqqur4fjx4/D999/T+OGHH+Dnn3/2FKfI41lUVVXTOHq0Anbt2g1bthRDEQEEgiE5OdkNCNIhyCGHn6KPEokLhYcZGsWOQmciP336J/jll1/g999/r9X46aef4ccff4QTJ0/Csaoq2LdvP2zbth1WFxZCWlq6CAbVKsC6y09XDjnshd9dJHrMsmjHd+3eDRVE8CdPnqIC/PXXX2td7F7ifyR+/vkXzS0cPHQINm/eAvn5+ZCQkCCCATqDrvITl0OKPja2g9rAqzbb+o0bN8L+/WXUyn///Q8ku/8K//vf/0j8rsfvetSGsLXgX5O+B+f4iZQRx4+fgKMVFbB16zY7GGCZ0EPOAjnORuE/oNpiTRAokEJio/fsKaWix5ods7wXwQVzYFly8tQpOFJeDsVbt0JOTq7IFQyQzUM5zhbhZ5lr+i1bttBsibU8CiaQAvztt98MDT4sHxAuovjpp58Mjw00DPD5sUzYu28frF27VtREnC/3HMhxVgg/P38VyfZ7qCBOE2HURFjoFFCwKOJTJNueOHGSuIjjtEmHwTr55mD/r8UxY1QeO0aj+vhxaulPncLVhB9pI9DNnfzG4jcWv2mBkMP3efjwEdi4aZMdCKQjkKNB1Pgm4eeTDLifChRFywtDE4uL4JnYT5w4YRCyUOjVLuEEBgEMcOUBo6Kykj4GVwPYEqNI7G6B/Q1cYsSVhMzMTFkayNEghN9K7XYbhb93HxWdVfi/OYLgZ5IxfyDW/TgRvCFLm0XPCbuaxnGPYQ8FJxBUqCCoqFCD/B3fIwIBs7wvIMDSpPzoUQoCkyMolc1COeqT+LvzXf1MUuPvLlGsvrvw9aAbck4pS2soOFvhOwn+uMdwAoKNKzC7AQYB7GVgRi8ngY/B5UGnn/tXjF9Z/ErhcfjIEdiwcSMkGUGQJZcP5ag3dh+z2NatW6k4cJPOr15E/4uyno5Co+JSs62z8MWCP67W7d5CebwICEIQuLgBHgKY1cvLj9LvRbsvEr0oTpLSAkulwsI15v7AADnb5Ag28ffms/7atUVw8OAh2tW3Tm514hvs72kqRCogNat6Fr6d4E/4GCYgmGHgCgIPEMClQPwTXwNXBOzEj/GL2tjE18JdjxkZmeY9BNINyBEUtb62ey8tLY3u2GN1vuMEx7qe2F0UEKufKz2I3yp8q+hP0DjpY4hh4AQCt5LgKIYAAkeOlFObX0kex3Y18sKn8YvyO2K/p4OHDsPaonUQHx/Pg6C3nIVy1JX4H+Cz/pq1a+my1vc/KLv2frERPm6bxe28LEt6Ej9f45uFbyf6k0qcdAn2ODcYGEFggkCVEwQ4J1BuhQD+zvCxuLzIi14U+Dp4QVJGRoa5NyBXCuQ4o+IfwNf6O8mkxEmP6+P6hLVCAAXHsqKj+B2yvlX4RtErwj7lZ1hhIAQB7wZMJYEzBBgAjqoAUCBwiEDgEMnw+Njv1RUEc2B/BOGJ/3+AlFdYZpmWDGVJIMeZtfw5OTl0vz5uahFnLcXKYi8AJzcKwCz+Ci/iF2R9q+g54Z9S4pTHYI93goGdG/AfAuU6BA7rEECrj487ffq0QfhKKDsU8f8QpLhkmJSUxINALhfKUatd/vVssuH195i9fsSJ+rPYsmJzr5IIglpfJv6jFdy6uTfxaw0+3uq7iv57Pb63Cf4xtjDgQcC7AVNJYAOBCk8QOKJCQAEAXlGITVR8LlxBsTu3AF+7ZE+puSSYL2erHIEWf1dW7+NFO9u2baMTWpmcanbihI8dbpycOLmPqHVvuSr+o9ymGW/id8r6NqJXBf69JX5Qw/h1KxA4GHhxA64QEDQFzaWAyQUgANDq45/4+rzw8WpDLLcw8H2iC8vLz+chECX7AnIEvNmXmpYGO3bupJNdnJWUjjVOcEX85cbsb677uYafV/Gbs74mfIvoVbH/4BImKBhhIHADDhAwlAPH7CDg5gIYBA6pEDgIZQcO0t8pWn9d/D9pgSsJCIsi4spMS4USAnLUSPw92IRC8ePGFLqGLRA/ugGc+DiJMaPhpBZaf67pJ+7224hfmPUVoYpEb7zS70eb0B8jhMEpEQh0N+AEAcMSoVs/QNAQ5F3AgQMKBPBPfF1e/Bh4MRX+/vE58DASbqlQQkCOmos/OzuHXsKKmVGfeGomUi/MwQyliP+ITfZ3sf62Nb+D+G2Fz4n8Rz1+5EL7ugkIRmdg5wZEEDhuCwH7UsA3F1BWdgD2k8DvxZ8BRa/EaS3ouQPFW3kIyBUCOfwX/8qVeXTSoRBOmzIPBoqATVrb7G9n/c3ir/YufkPWNwvfJHYlTptCAAQzCDhHYOgNOEGg2isEbFzAYScXoABgf1kZhcPJU98bxP+jGth4lRCQIwDiX0knHApPyzZc3YkTGicpdq+9Zf9jHrK/k/hNWd9R+LogTtsE+38eCPYgMLkBGwiYm4LmUoCuCnhyAeIygLmAffvL6J/0PAXDz6H8LPg73mKFgCwH5PAm/lwUP5lkivh54Sjix8mKWegQBUAAsr9gqc+S+e3ELxC+VfA/mUIAAyEIxBAwlAMnxBAIjAsQlwH42SAEsC9TTksCq7PB19pSXCx7AnL4ttSH4sfJpZzAaxQKTn6WmWj2ZwDwmP3NjT+2xdds/e1tv1H89sI3OhZRsOYZDwQLCGwhcMoCAWspIFgV8OgCvJQB+BnhseQIAfw+ev8DE7wQNngvAwkBOTyJPzU1FfaU7qXWlhfX6R9P00nPr08b7X+5cN3f9+zPrL8P4jcL3yL2n21CBAMeBA4QMDUG7UoBVxfguC/AvQxgLgAPW0E4KDdB+dGwuoHPudkIgSw56+Vg4m/Fdvih+PHwDsxgZluNk5kuRRErqoi/5vbfnP3N1t/Y7fcmfrPo3e4CZIaBAgKrG3CEgKEUELuA2i4DEAClCAFs2J763tLIxO/FJUK5Y1AOMwDoIR6YHXbs3EUnqLmphhMYJ9YBCoBD/tl/f7M/V/fbi9+U9W02KRnjZ5vddSoIVDdg7wSs/QB/XECNygAeACQQAKWl+2h5gK9v3uCEX8erNuW1A3Iw8Wvn9uENLNCKfm/aQIMTFycbTjoLACzdf+/232v2N4v/B4H4+axvEb3D5bX6hTZmRyCGgKExGGAXYC0DnFcDRH2AUtUFYAmHf+Jr86DC94b/h6s7HATk/QvP9o4/biFVTvAxbqjBCUvFTwFwUAAA3+2/9+zPLfkxIPE9CRUAYvHbX5mohwkGHAiMEFDLgR95COj22mcXYGgG+lAGOPUBVADs5QCAgf9GKPF7GPD97MIThvQTiOXy4Fko/g5axz83l04enLz85hqcpGytmQeAbf3vpfvvYv/dsr9Z/Kddxa+I3f5UIiMMRBA4LYKABxfgpQxwWg3w2gfYJ+gDMADglYIIB3Qk/FWO+Hls3bYdEhOTZFPwLAUAbfqlpKbSSYITlM+4OHFZjWkAgNYAdK//vXT/DfbfrvY3Z3+L9bcXv9ORZFYQOEBAWAqYewGCFQFfygDPfQD3RiAPgJKSPXQbN4WACigMBMrGTZvlYaNnofgHsKbftu076ITjL6fFCcsmFQ8A7w1AL/W/u/13y/7MogvFbxK47ZHc5rP4hBCwKQUELsC1DPC8HGjaFShqBJY5NQI5AJDAlR1lX4fxsmZ8zKqCAh4CcrtwAxf/A1rdX1REMwmfdXFS4KTCiWQAgA8NQH/rf0/23zb7izO/13sQOEHA1QX4Uwa4LAd62w9gBMA+00oAdQEcAHbv3kO/hz/3EN8HrvzgYa5yk9DZAYBSdrMOnBg4Ofnr63FiUfEzAJR5AYB7A9Bwzb8XABjsv6Dzb87+ruIX3TT0f2IIqOWAskJgdQHmFQFLGeBLH8CwK9CpEejjSoANALD5h+6Cv4wZX6e4eBu/SUiWAg3d+iP1ccLx5+lhJsfJIwaAvysA7g1AffnPXP//oAHAaP+ttb/V+uvC9nL34N9+M96kw9UFcGWA82qAcTnQfwAccdgR6BsA8FRhfE3+Zij42DXGQ0ZlKdAAu/7aTTtQ1Pwx2pipcdKIACBaAnTfAei+AUhvANot/9nV/3b235r9jWL/HX7/XQn8uxgCJhfgAQDe+gAuG4JEKwF+LgXyewEMACjRAYB/ar0YEvgetu/YSQ99YaWAVE3DAgDd7Zeenk4nAk5AdtUdTko2aawAEOwBOOQdAK4bgHxpAJrrf1v7b83+TPjmsHMBrBfAyoCffjYuCWplgC+NQJeVAK9LgYEAAB7jjo1CHkr4fBs3GU4TkrsEG4j4u/O7/XAS8cdt4eRhO8f8BoBoD4DrDkDrCoCnBqBd/W+p/f/nGQBmF2BsBup9gNM/eW8E1hYADgYIAFgG4nMpVytW0cCv4wEwcoNQA2z84fbPkpJSzn4fpxMLJ0lQA8ClAciEam//dcGzISoFrGVAgAFw3HcAHAkQAEpsALBjxy669MjuboSvVbwVNwglyoZgAxF/b37NHycUa8DhfelwcgQ9AALgALaX5cK63XEQs3o4RBcMh7kpPWFk2BMwIvQJGB76dxge8ndYnNEHIlYOhrCVg2BzaSbsPljU4B0AAgCbg/qt14/RxxWuMVww1EEqqX6KvxXb7luwejWt+fgmHO4aCxgAgqgHUF5dCnlbl8CC9A/gq0V3wHtTLoV31XhnMsYl8DaJtyZdDG9OxGgNb0xoDa+PbwWvjb8IXht3IfQYeyG8MqYlvDL6Ahi07FGYn/oJrCoOh2MnyhtMD4ABAJt/uJeAvRd87WJSKqampsnLhhvCsh/u98YPu5xMqCpVhDiRcEIYAFCPVwGOVJVAbOEIGBb2V/hgRhst3p+uRM/pl0HPaRiX0nhvKgECiXemXKIC4WIChNYEBq0IDFoRGBAQjCcgGEcgMPYCAoPz4aXRLeDFUefBqLCnIHXdHKisPlxvVwHMANhOS4Gj1BVWqM7QdO9B6QLqa/ZHO7dnz15VgMqtuLEX4BUAwbwPIG/rYpgQ2x16zboCes3mgvz7o1mXa/EhxkwMFQwzLiNgIDAg8d40HQZvTyEgmExAMImAYOJF8PqECykIXqUgOB9eHtNCBcG5BBSXwaSYHrBtb4H/+wCO1c0+ADMAsDzE/2e7EvG18UBRPCBGuoB6XPtjMwfpjhOJ1Xk4SfDD9g0AwbUTEIU/cEU3+HjulTQ+mXsVfDJPjblKsP/D6D3nChq9MGYzKBAYzLyMAIHAYAaDwSUEBhcTGHAgmMRA0BJeHX+BBoIXR58LL4xqDs+NbAbfLH4A1u5Isj0XIJh2Au7kALCdA8C2bTvocx9V3ws+fo10AfW7819YuIZOAHZnGpxUOAnEANirASBYrwUo2h0Ng0K7wafzryLRFj5boMTnC66GzxeqQf7+GQ3l//BxyuMREAQIGHMZEAgMZrchMLiMwuD9mQQEBAbvTScgmEZAMLU1vDWlFbw5+SICAgKBiS2hx4QLiCMgEBh7Hrw0hkBgdHN4flQzeHZEU/h60f2w5+AWT9cCOJ0JUFvXArgBAP/N7uKErmPzFoMLGC+VVT/E34N1/rGZc/DgYc2Ko8gVAJRoACjxAoA6vhrwYMVOmJL4byLwttBn0dU0+i5qB30Xc7FEjcXGYI//fFFb+v2fLSQwWIBAIM6BRO95BAZzLycwICCYTUAw61IVBJeoIGgNb09tRUBAIDD5Qnh9UksCAgKBCefDK+MIBMaeCy+OIRAY3RSeHdkE/juiMSxK/wIOH90vBIBvh4M6XA14wLerAfEz1wCwkwFgpwaArdt20DMCECTlKszx8atXF8p9AfUMAHTXX15ePv2wmRBxEu1Ut4FqAGAuQJ0wFACsDDABIJDnAVT7cB5A+sYp0GdxWyLmq6EfEXi/pe3gi6XX0PhyGYv20J8L/evK4/ph4PdSQCAQ2lIgIAw+W4AguAI+nn85gQEBwdw28NEcAoLZBASzGAhawzvTWhEQXARvTrmQgECBQI8JLeCV8efBy+MUCLxAIPDcKAKBkY3h3SntYVNJblCcB+ALAPBPfF1sGuNr4GnC3L6A3lJhwS3+rqxm27R5C50czI6jBWQA2OURAHV5IlBF1SGYmvwUEe/VRMTtFEEvJwIn8dUKJb5e0QG+DmHRkQvla1+t6EAf13+F8n1fLidAoFBoR5+375K2FC6fLyIgWEhAsICBoA0BwWXw4ZxLKQh6ziIQmNka3p1B3MC0i+CtqQQCU1rC65MJBCYSCEwgEBhPIDC2GbwwhkHgHPjPiEawMK2fXycCHQnQiUCGTUAiAGw3AgBdI37vEbW3g19bmafderxUqiy4ATAfP6iMjAxl4w+ZSDixULj4gVMA7HIGgKe9ALV8JuDuA2tgQNhNRLDtiHivUQSPog7tAN+EdoRvwjrCtyQGhHWCAeEsOnOhfG1gZCcYltgZxuVcB+NXXgdT1nSByYVdYPr6LjBzSxeYsfk6mL7xWpi6gTxmVQcYnXsNDM9sB98ltIWvoq6AviHEDcy9lILg/dmXEBBcTCDQCt6ZTiAw7UJ4cypC4HzoMakFvDoRIdAcXhynQmB0Y/jvKAUCQ1Y8AQeO7D3jZwJadwGW6CsAO1n9zwFgqwIA/BNfU7lCdC9s2LhJHiJaTwBAl/7WrCmiHz4TJE4AHQC7NQAEbiUgcKcC521dCAPDb4b+IdeQLN6eCL6DIvjwjlTU30WgsDsrEXUtDNLiOhgSex2Mybgepq25CeYV3wKLdt0KC3feAgt33AILdtwM87eTr2+7EeZuvQFmF18PswgEZiIENl0L0zZ2hinrO8HkdR1gYlF7GL/mGhhbeDWMKWgLg9OvgP4xl8HHiwkEZl9M3ACBwIwL4e3pCIEL4PUpLeC1yecRCJwLL09oRiDQFF4Y24RA4BwCgUY0Pp17Kxw4XHrGTgX2ugdAB8B2DQBbirfR78XXx9fFMiAjI1MuCdaH5h/Wa/hhYoZAB4CTBru7DAB6H8DHlYAa3BfA612BVhLxU+GHEuGHtSei7wADIjrCdySTD4zqDIOiO8Pg6GtJELHHYHSBobFdYHzWjTB7wy0QWvpniNr3KETufQSSyp4jf38cwkv/CiF7/qzBgAfBHBUE1A1suk6BwAaEQEcDBEYTCIxcdSUMz7scBmVeBl9EXwIfLSQQmIkQaAlvTiMQmKpCYFJzBQLjm8LzYxvDc2MIBEY3gmdJ9JxxDWzclR3w+wLUdA8AA0CxBoCt9N8IH3x9fPzqwjVaM1CqLTgBEIUfUE5OrrbvHycTTgINADt3WxuB3EqAb43AwN4ZaOW2BfBV2DXwTXh7IvoORPQdieg7KaKPuZZm96EkhsV1oTEikQi38E6I3fMM5B75FNZWDod1laPon2sqBsPqo99BwdGvIb/8S8gr70Me8wkkH3gFIksfg8U7b6cgmEdAMHfrjZobMEKAOYF2MHY1QuAqGJlPILDychiaexkMzr4Uvkq4GHovvwjennEBvDn9fAUCU85VIDARIdAEnh93Djw7phENhMHrk1vBhl1ZtXZnIO8rAMYlQDMAcAkQnwfhg2UAHiCakJAoLxUOUvG3YjXa+vUb6YeOkwgnDzZ58IM2A8BTI9BTH6Dm9wZcuXUBfB1+DXwb0R6+i1KFH9OJiP5aGBqniH54/PUwPOF6GJV0A8xdey9kH+oNm6qmwMaqibD+2DhYd2w0FFWOgDWVQ6CwYiAR/zew6mh/Iv6+sPLIZ5BzpDdkH/4AMg+9C6kHXoOI0kdh0c7bqBuYuw0hcIMRAqQcmEQgMGFtexhHIDBmdVsYteoqGJF3BQxb2QaG5FwGg7Iuhe8yL4avklvBR0tbKhCYdh70mNIcXpncjECgKbw4obECgbEEAOMa0b9/MOsa2H+oJOD3BvS5AbjD2gDE48EYAPBrB9XPGpvKmVnZDABRUnVBav/xQ8RJgRNoT2kprfEYABwbgY4XBTn0AWp4d+Ad+wvgm4hrYEBUexgY3ZEKf3BsZyL8a2FY/HVE9Eq2H5lI7PraP0DmwQ9gc/V0Iv6pRPyTYMOx8QQAY4j4R5LsP0zJ/hUDlOx/9AsCgM9p9s8+8hFkHX4PMg69DWkHX4cU4gYS9j8LS3fdzUGAlQOsJ9ARJhUhBK6BcWo/gJUCQ3PbUBcwMOsSGJDRGr5OawV941rCe/NbEAicCz2mKhB4aWITeGHCOVT8FADjz6H/7rPwVth3sCRgdwd2vwzY2wrAFg4AmzcX0+fG18XHFq7RdwZK1QVh9z87J0ep3dTMvH2HUt9RAOzYZW0E+tEHCGQZsPfQFmLrb4HvojvAwJiORPgk68cT4ScQ4SdeByOTSMZPvgEm5twMkXueIEIfC1uqZ8BmIv5NVZOJ+CfQr7Hsv7ZyKM3+qyu+Jdn/KwIAkv3L1ex/hGT/w+9C+qE3IPXgqwQAL0Ji2bMQt+9pWL77XiMENnehjcGphn4AXwqgC7jc4AK+SW8FX6VeBF8mt4SPI1rAGzOaEyfQjECgCYFAYyJ6FH8jKv4XJyoxPOKJwNh/v+t/cQNQAUAxyfrFtFTA18Xnw9WAhIQEBoHuUnlB1v1ft24D+bB306yBmQFrOwaAmvQBvJcB3lwAQuBQ+T6YnPYIfBfTAQbFEvHHdYKhCZ2p8EckdSHCvx5GpxBbvu5WSD74AhRXz1bEXz1Ns/4bqpTsv+4Yyf7Hhuv2vwLtP6n9CQByyz8lAOhFsn9PyDhMsv8hkv0PvgzJB54nAPgPxO3/N0TvfVJ3AqwxSJcIlX6AUgqgC2ClgMkFZF4C36ajC7gI+qe0hH5JF8DncS3gnfnN4dWpTeHlyY3hxUnnUAi8MLER/ftLJPDrizL7iO8FUFP7L6r/d3mr/7ds0QGAf5aVKasOCAA8UVquBgTh5h/c+osfHmZw3P67k1i+rQYA+NYH8KsM8MEFRK35goi/PQyK60iyvrJePyKJZP2ULjA69QYYn3UTLNx2Oyf+mar4VetfRbJ/lVr7UwAQ+19J7H/ldwQAxP5XIAD6EABw9v/wWwQAPQgAXoSkA89CQtlTBAD/hOh9f4eI0kdg8c47YN62m+jqgLEfwK0KqC5gRL6xFzAgg7gAUgZ8lXIhfJF8AfRNbAGfx58HPZcRFzC1CRH7OVT8L0xSAUD+/fKUxvAKifwtUTbZ3w/773f9b2wAMgBs2rSFfj86Dvz//FUFclNQkAFgADvwEz88/KAwU7Btncoyj6gP4G0/gG0Z4LcLqISNe5JhYGx7GBzfgWR9Iv4kIv7k62BUahcYk3Y9TMy9CZbu7moSP6n7q1H8k/XsX0XsfxUCYAQHgAEcAEj9X/4xAcCHkHmE2P/Db0LqoVfo8yYe+A/El3WH2P1PEgA8RgDwEISU3EdcwM1cKXCdVgoYXAD2AvKZCyAAyMYyQHEBrAzol3g+BcCnsc3hg9Cm8Oq0xkT0KP5GqvjPIWAgQb7ee0EHKC3bGXj777AByLX+pwDYQg8KpdcIkNfD712/YaO8QjDIAED3/q8iZKbr/2Si4ERAouO/2TqvoQzY5WMZ4GU1wM0FqCsCB46UwrjUPyriT+yoiD/lWkX86dfDtMKbYdmeOyC27B8W8W+q5sU/jsQYKKoapQKA1P/HBikAqEQAfAErGQDKP1AB8AakEAAkHXwOEg48DXFl/4SY/X+DqH0PQ8Tev0LYnvtJKXAXLQXMLmDyer4XwK0IWJqBehnQJ6EFfBZ3Lnwc04xAoAm8OuMcCoGXiPhfpuI/h4Khx/QmMDv1XZfmnz/233oFoGj9X1T/YwOQAQCXAPfu3U+fFwGQkpIilwODCADa8h9+wDhJ8E8NAL6WAU6rAa7NQDcXUAEJG4bAoIT2VPzDkzsR8XeGUWnqDj4q/q4QUvpHWucrNT+Kf4oi/mrF+uvZn9T/CIAqBgDiAI59pwLgSwqAnKMKADKOvANph0n9f+glAgBi/w88RSBDsv/+xyBy30MEAA9CeOkDEEpcAO4RMLiAjddyy4Jsc5C1GcjKgP5YBhAA9FUB8ElsM+gV3QQ+CG8Mr85sRMTfSBH/9HOI+BvDazOawGszm8K6Hemes38g7L9b/c8AsGHjZvo8CAHsA2Rl58g+QJCI/wFW/+OHhh86ThK6not7urkyYLvPZYAfzUCBC+D3BZQc2EjEfw0MSeoAw1D8qUT86Sj+LkT8xPaX3E6z/8ryT/WGHxH/Rib+apL9q1n2V+y/BoAqUgJUMQB8A/mVpASo6AO5BABZGgBeg2QCgMSD/4X4A8T+lz1BAPAodQCR+x7UXMCinbfTTUK6C9BXBOi+AFYGrDKXAcbVgL5qGfAJKQN6RzeFjyIbQ8+wRtBjFgEAET86gh4zCABmNoHXZzWBQZF/8Sv7s80/rtt/Hex/cbG4/sfsjwBAl4CvhVBYVbBa9gGCBAD05J80Uv+jZWMZAK0cu6jDpzLASzPQzgV46AWEFL5PxN8ehqV0IOLvRMR/rSr+G2EJFX9XCN97P2yuUtb5lW7/JNX2T1DEX03EXz2WBMn+1QQA1QQA1SMJAIYTAAyBwqqBUHDsWwKA/hQAORUMAG9DKgXAiwQAz0DcgX9BTNnfqQOI2v+I4gL2KS5g2e5uSi9A3SWIFw0Zm4H6agCWAWw1gPUBvhb0ARgAPghvBO+FEAjMZOJvTMRPYnYTeHNOU8jbEhGQ7C/q/vtr/xEAGPga+D3r1m/g+wDyjIC6Xv/Pyc2lxMaJsZN80PhBKi7AQxnAbQqqPRdQDrvLNsDgpGtgaDKKvyMRf2cYk3kdTMy7ARbvulXL/rlHPlaFP1kXPrH8G2jWZ+LnATBaAUA1cQHVwwgABkFB1QBYdYwAoJI4gIpPIOvo+5BRjgDoQQDwPCQcfJoCAEuAmLLHLS4gpORPylZhrgyYxsqAog7aasAobjVgcI7SB/jW0Ac4n/YBPlX7AB9FkTIg4hx4n0CgZ8g58NpsAgAq/sbwxhwCgLlNYUjUX7xlf5vmn+vmHz/sP9r+9Rs20efcQb6/aN0GSExKklcHBgEA1isHf66hHyROCiQ6BUCxtQzQVgNcNgX57AI8QCCksCcMTWkPw1M7wMj0TjA681oYl9OFCO0WWLL7NlhKa/976MYetsynN/vGqoGiH6OKn8RxDAIAGgQCx4kLqB4Cq6u+IwD4CvKO9SUAIA7gKHEA5W9B6pFXIUkFQPzB7gQC/7C6gL3KxUN44RArA3B3oHk1wNgHUJYDB6p9gK+5PgDfCOzFAQD/fG8ZE39jIv4m8Na8pvD2vGaQtznCIn5z9vfS/BPZ/21+2H8GAPw+hAoCAF2nvHlIkDQA161bTz9YzNj4AVKaqwAQu4Bd3puBbElQ4ALE+wKsDcF9B3fDqLSbYFhqexiRTrJ/ZmcYm3UdzNlyE71Kj9n/uLLudHffhmPj6P5+ZZPPGLXWV0PN+ih8BQBKMAisOT4UVleTMqDqGwKAfpBbqTiAdATA4VcoABIP/odA4N8EAP9U+wCPG8qA0D33UQDMd+kDjFaXA50agWYAfMgB4ENSEryzhABgLgHAPAKA+QQAC5rB1JQXtHV/v7O/08U/Ptp/FD92/1mfCQGQpV8XIBuBdbkBCAM/LPxwkfz0Q9yy1VIGeGoG1pILyNk6G4amXgPD09sT8XeEMdmdYVrR9dRmL9Lsf1fIOPwOdQCK8InAj42im3yKqrioxhilA+AEeTyJdTRGUxdQeHwwFFQzABAHUIEAeJM4gFdICfACbQImHHwK4rkyIIorA0JL74NFO2/V+gCztih9gKncciC7QIg1AoUbgviVACEAzqF9gbcXNibib0LE3xTeWdgM3l3YHHbv3eZb7e8h+1ubf97tPwIAA58bv85tCMqSaqzDFYCUlFRKarRm+CHzAPDUDPTkAuz2BVgbgiIITMt9CIaltYeRGR1gdFYnmJB3La2vEQB8/Y+X7VLRV45U1/aHG6MKY4QCgeMKBFD8608St3ByPKw7ORaKTo4iABhCAPAt5FX1gxwCgMyKnioAekDy4Rch8dCzWhkQewAB8DdDH4ACgLwvfjmQNQLtAGBdCdB3BH4Wry8FYtY3A+DDcBR/EyL+pvDuombw3uJmEFEwyLjrz6XzX/Ps72z/163fSJt/+Hz4fwX6+QDywqC63AGIJ7VQAOzeTWs5tn97Sy26APHuQGspgBDYsW8dDE1rB8MzSPbPUrL/zE3X0y23ZgDglXx4PT9e1YcX9uDe/jXHuKgaSpf71lYPp3afQuDEGAqADacm0Cg6OZqUAUOoA1hZ1ReyK3tTACg9gB6QcvglUgY8R1wAA8A/BAD4sysA+JUAZwCcTwCgLAX2im5qBECEAgB0Bu+HEAAsIgAg4n9vSTP4Lrqr/a4/f7K/bfNvmzD7m+0/AwB+Dz52bdF6uRIQDADIzsmlHxRmAP4CDq0MEDYDA+gCHEuBQ5C6ZSwMS28HIzPbw+jsjjCp8FqYU3yDCoBbCABu0wDARF9YOZjEIBID9Tg2kO70K6warIDgOAHBceIGToyimX/9qfEkJigO4MRgWFX9FQHA5wQAvTQApBkA8AzXCDQCYMWeewIEgJYGAPR2AECvqKbw3tKmVPw9lzaD95c1h52lxcLGny/Z33rln0vzz8b+IwCw9lfmFgJgHb3tnFwJqDsAaMd/s51a+MHhB7iZuQCnZqAXF2DeF2DbELSHwOLCF+lBmyOz2sOY3I50a+1sCgBrCVBYQQRe8R29nh8v6cUoqCR/sjg2gHb4ca2/sHowbfhhzb/2xEgqfIw1J4ZCwfEBkFf9BeQe+5QA4CMCgPcMJQACwKkEWFZyp+cSYJTnEkDgACJ1ANB9AuFNVfE3gw+WN4f4tePtG3+WdX8/s7/j2r/R/iMA8Gv4/WvWroPk5GQJgLoGQMHqQvrB7di5UwNAoFyA11LAvCrAQ2BoxtUwIqsdjMppDxMLO9E1dRSUCABU8Ee/oYd5rKr4ikR/PSq/olFw7GsoqCIwqBpAu/2F1YNo0w/r/sITg6j486u/pNk/59jHkFX5IWQefVcFwKvGHgA2AU0AiNj7AF2VQADM96EHMMRzD+AcWwDgSsH7K0gsJwBY0RymZz7vzfq71v41z/4MAKwMQACkpcmlwDrfA1BQoAAA6Y7krqkLsN0d6FMpoEBgU0kmDMtsCyOy28Hole3p8dszVADMVQHArwJkHn6PXsePJ/nkH+0HeTT6Ql5FPxr5lRjk/459STf6rKoiUKgisCD1/qpq/LM/yfz9VPF/omZ/Yv+Pvg1p5a8T+4/LgPoqgLIZ6AltFSCSAACvQ8B9CYvUZcC5dBnweupc8P1btgOr5wS6Xg/gsArAA6B3pCL+D0Oaw9cxnTxZf+GuP1PnPxDZv2jdelr7b1UdQGZmlgRAXe8BwA8FPzz8UPGD8+YCXFYE2O5Ar6WADQRSt4yG4VlEJDntYHxBB5pBEQCzEABbb6TLbCg0FBwCIOnA83QlAI/xwpN88JqAlUe5qPhMiUry/5V96E4/3OyDsfJYH8it+ozafsz8KH5c/ss8+g5n/1/S9gHEa/sA+I1AD1Inspi8H/M+AP2EIP2yYPM+gIEe9gF8YNoH8FFUY/g4+lwNAFgqfBRGIpSUDGHncuJ3a/y5df59yf6bhdkfxY+B34s3Ds2QAKh7AOCHhB8cUlwBgDcXYFkREFwj4FMpIIBA5PpPYHg2EUluO7qFFgWEQkJBobBQYCg0FNzSkq70SG88wAO3A+MxXjnlvfQ4ykVFbz0qlcBmHxU9jQ9p5mfiTzvyGsn+L3PZX2D/CQBCSu+lbmSxWv+zw0HYTsApgp2A+sEgxvMBEQDskuBPXQDQJ+4i+v8MAB9HEfGHEyiQWLk5xLv1N+35t1/395b9+eYfy/7Y/MPvKyQAwAa0PCS0rncBrt9ISY4fIn5wnlyAcF+AXUNQXAo49gNUCMxd/SSMyGkLo/PbUeEwAKCg5ggbgV0h6/D79ACPrCMfkHifRE8amRjl5O/lKGzy51Hlz8yj7ylRwQWp+dH2a+LHDUC09mfdf30XYMx+xf5H7L2fvj6r/82XBOsXA3HXAqhnAoiOBvtSuxbgPAIAIuqYpoZrAXQANKEA+Cz2Ag0A9OKhCAKNyHMhoWic9vu2s/6s8Sfc829a93fK/nZLfzT7qwBA64+PwQNCuVuGyc1AdQuAYvXD2+TiAsT7Atg1Ap5LAVM/wA4C01fdDyNy2xKxtKONMxQQCmkm1wfARhvuumNlAB7Sgb2AzMPv0DP8lHgL0jGOvKlH+RukrlcChY6BS33K39+gNb+y7v+y1vlXtgA/Zcr+j9Haf/meP1AXwtt/vv6ftsF5BWCw4FSgvoKrAVH8ZgCg+PvGt6KNQnws7RmQsuCTqPNgRcFnNuJ3s/61k/0RAPj/EgBBA4ANlOLKVs1Nri7AtSHotRSwaQryEBiWfQUBwFW0XkbhYAONNgJty4DbiRDvgtSDr9DTe/EAz7RDr0HqoR6QevhVNV6hzTwUNg2S3bG7j2LHdf5UGq+qwn9Jsf0G8Str/0rt/zjt/K8o7Ubh42T/7er/4cLTgfVNQJ8L9gAwALAG4KcxLaB/wqUKAOIUAHwWS8AR3QIW5r3j3frbNP4cd/15qf257K8AYCMBwFrIXZknAVD3TcAN9EO0AsAKgS2eGoLiVQHHfoANBIblXAEj866iZ+qjcAxlwOYuhuVAPI8vau+jELv/CYgv+zc9xDOdnuD7EiQffJGe44eX8mImTzr0LF3KS6L/foFmeAzc5MP+jl9Xsj7W/M/Qi3908bPO/yNE/HfTxh+Kfwmf/bdZzwLQLgUW1v/2DUDrCkAjwyagz+NawjdJV+kAiD9XdQ4tYFzG/b6J367xZ9rz72/2x9of/726UAIgaACAHyJ+YEIXsMndBbiXAsZ+gBgC+ywQGJZ7OYwiWRLrZRQOXwbQ1QBirxduvwOiSkk9vu9pEv8iNfnfaTMQD+xMx+x/8GV6gm/igWfoOX54lBdmcmzkYVZHgSdSIDynCB7/fvBZ5etU+E/Tmh9tv534zbU/fzKwkv07a/cHGGdzGMhA7jAQ0VkA1gagDoB+8a1hYEp7pf5nAEg4jx4tPi7zfo91v1fr79u6vzn7o/VHGEgABNEyIH54+IEpEHB2AbYXCtmVApZ+gLEp6AQBBADaZBQM2mZcP5/MuYB5xV0hZs9/Iab0PyS60/P5o/Y+Ti/LxZOB0KInH3iBAiC+jAi47B9UxNjAw118mNUZDKzxFH2MIvx/qjX/36n46Xbf0ruI8O80WH++9jc2/0TnAHD23+E4MPNpQOb6HzcHfZFwCQxO60zcwnkUGAwACJDxWfcLxC/e7uuP9Rev+9tnfwQALgFKAAQJAJDQbIeW2AUIGoK+lgIuTUE7CAylALiCCgaFY3YBEbv/TQDwLETveQqi9vwTIkv/Rs/nxzv6hu29D0L3/gki9j1A3QCKHzv2KGLM4gwEuJkHRU7FzoKKXhe+kvX/RrM+Pufy0j8Yxc+sP38K0Bbx3YHM9wgcrC3/2R8IKqr/dQA0hS9J/T80/Xrol9CKfg+CA1cP8DkmEAAIm36O1n+7q/Xf5GD9nbI/1v4ofrwaMCdXAqDuAVC0npJaDIHNPjUErduEBf0ATxBQegJDc9pQoaBd1l2A0gtYWPxniC55HqJ2PwORJf+CiJInILzkUQgrwQM5/g9C9txLd+WF7r2XxJ8hcv9DpDR4iHbtMYujoGNVGFCRmwO/TjO+ss6PQFlOsj52+5ntZ+LHVQh2BJjopiD8/QFHO9wTQDsLULX/tgeBRBh3AA7Ak5IybiZOoDUHgBZ0GzEFwG5/6n7v2V8kfrvsj+KnAFgtARA0AFAgwPZqb/TUEPTeD3BoCrpAAO0x7pLTXADtBSgrAmE7nobIXf+FiF3/hrBdT0LorschZPdDJO6H5btJli65h16Vp0OAfI1k7dDSe4kruJ9k84cNMDDG4/T/w8nj8Pup8LWsbyN+tuuPOwqcdf4n2t4h2Nj8M3f/ne2/DoBBqZ1hZOZt8EXixQb7j8+DALAXv/91v2v2L3LI/kT8CgBWSgDUNQDWEELTDysQpYBLU9BXCGBzDJtkmC2pCyhoS7Po5KIuELHzOQjf+TSE7fwnhOz8G6zY+Qgs3/kALNt5HyzdeQ+9Qcfy3XdrEMBdeihcFDCCAAWNwsZzBBVAKIGNvRVU8IrolYxvFP4SrubnxW++G9Bk/pZgptrfvPYvuiGI1v23tf8EADFNqfhHZ98JXyZdQgFA7T/J/ugkpuc+6Un85rqfbfjxx/qz7L/GIfuvWl0oAVDHAChlVwOuVSFgLQU2uZQC3AYhl6agzxAgMSKng+oC2tAlM8yemEWnrruFOID/QOj27rBi+xOwfPtjsGz7g7B0+19gyY57YfGOu2Dxzj9QCOAR3ctLFBCgeHGzDgOBEncqQDCFLnpd+GypbxFr+HG233hXYPGtwVnnn94NSJD9zc0/4e4/k/3HDUCjs+6EsTndoH/SpQb7jwAIXfO59vs2d/ztmn5a3c82/Dha/0021p9l/yJh9l9VUEgPo5HnAtYdANTzAFbRD4ovBby4APtSgGsK+gQB6xLhzIJHVRdwGc2amD0xi04puglCtj0FK7b9A5ZtexyWbnsIlmy7HxZt+xMs3NYNFmy7AxZuv5OA4E5YooJg6e4/0Ky9RN0wZISBODTRM7vPZX221m+w/UT8Wt1vuSMwW/c3dv75pT/D2r9j808HwNdJV8LY7G4wIfde6Jd4kcH+KwD4zFn8hqZfAKy/sPFnzf4IgPT0DHkxULAAYI2tC6hJP4BbGXCCwC4BBEjMW/00zZKYLVkpgBAYX9gRlm/9Fyzd+ndYUvwILCp+ABYW3wcLiu+BecV30uXB+VvvoHsEFhEIoBtYuOM2KlwUMAoZYYCiRiAs0YCgiH2Jmunx//FxZuFj1mdLfdjw020/L36l7md3AzZbf1z3xwt/jHcE5rO/ee2/kSX7o0MYkn49jCfin7TyL+R7jfYfgbKyOMRF/IGr+20bf4Lsj5EmAVCnABhPzwTMzKI2zegC3CGwyZ+VAQ8Q4HcMRq3/gmZJ3CarlQLqqsDCzY/C4i2PwcItD8KCzX+BeZv/CHM33wVzNt8Oc7bcBnOLbycQ6ErdwILtXWm2xlodBYxCZjBgQDAH+z/2WE34vOVXu/1aw48T/3iz+GnX32T9uXV/vvOPtb/93n/j9f9js++GiUT8k1beZ7H/CJWNO/L8Fr8/db/Tsh8v/vxVqyUA6hgAAxgAlM0Z6yylgHlVwNIPYLsETU1B/yFg7AvkFM+nd8rBRhlaZh4Ck9cQAW96GOZvuh/mbvoTzNnUDWZt7AozN94CszbdArM33wpzVRDM3qIIFoWLmZvCYJsCAxqqyDWxM8FzosfvwysQzVkfLb8mflbz8+KnF/zoN/9ge/71xp+67k9Eq2X/aFPtH27M/qz51z+xDRX/lLwHYGzOXRb7jwDA36Uv4jc2/dgJv4Gx/gwA+QWrKQC4uwN1l4o88wDojr/8pORk5cNSXYA/qwIBgcBOKwR2lGymFhmzJW6WQeuMR2dhHY319LSiO2HOhvtg9oZ7YOaGO2HG+lth+vqbYMaGmzUQzNh0Pb14aCbdOtyFbh9mMOCBYAn1/w2ix4xvEj5afrrUV9Req/l58Y/gxc+6/uo1/2j92T0A+8SfZ9j2+6GH7D80/UaYTMQ/bdVDMCLrZov9n5T7VxUAforf17rfo/VH8ecZASDPBKwDACh3Bk5IoDaNbdFUXEBN+gHeICDcJ6BCgJUEuBdgRNYN1CrzEBjKIEDENanwRpi+7k6Ytu42mFp0I0wpugGmrb8Rpq7vQrfg4iEcWJujYFG4aNkRBjMpDBQgYBNvNhezVMErmV7J9tTqG4Sv7PDDrD9xrbLUR7v9q9tytt8qfnPX32D9+XV/286/kv0/i2tBs/+0/IdhRsFjMCi9oyX7h639XLH/voi/hnW/pevPrP9qXfwUAPkFkEDmngRAEOwFwA+KWTZrKRBoCOirAwYI7LBCABuBy9a8R7vk3xDLbHUCSjkwkl4wRARIYnyhIkbMxpiVsSZHe46CReGigBkMGBAwq1tC/X8meryeX8/4Sq2vZX20/NpSn17z8+IfyMRvqPuVLb+89ed3/Tll/2+Tr1bF/zjMWv0E9E+62JD9vyQAWLMtkd6M07DUVyvi92b99exfQAEgbwwSJHsB8KIMZwhsqEUI6NuGzSUB2tesLXNpnYz18rccBPiegLI6oDQHcastWnC04tiI00BAMvVkDQYdVWeguwNzTGWCN4meZXx8Xnx+PuvTdX7yPpRuvyDzq+JnS35a3R/X3MH6Wzv/+NiJK++DGasU8U8veMSS/QekXUkBGnjxb9TmgyZ+H60/ij93Zb4EQBAAIAo/gMzMbIXYaing1g8wbhLyHwJemoN4TcCA1CsVCPBOQGsMqkuEakmA2ZduGNJAoGwfnsC7AiJiKmYEAhE2QsESTPBqpmfZnlp9lvGp8PWsz+p9utRH3pfS8ONtP9/0U5f81LpfuOVXtf7arj81+w9IaQfTVfHPKfwXjM+925L95696kQJ0a0DEr1/lV5O6n1l/jKzsHLkLMFhWAlJT02itprgAcT/ArinoHwRE24bFJcGePXthXv6LNKvpEFB6AnR1APcJaH0BxQ1gFsYGHAoTBYpCRcEyV8BKBCXaawLnYwLL8pzoESYIFT3j68JHAA1Tsz5d52fdfrbWb8j8ivjNS358119s/ZvSDULY+GPin7/2afgu7WpD9sfzBPNw/Z8A1LrDz3fx17juV7v+zPqvzF8F6fouQHkgaF03AhMSE+kHxuo2ayng3BT0AgHRjkFDc9CmJMD9AGu3J9EJjuJBCKCYUFRYEqDI9JJAAALqCJQdhGMYDIiIFSAoUKDiNkehKniD6HWrrwlfrfW1rM/V+8pSn97ws4hf3e3HL/kZ6n6B9f8utb0m/nlE/LMLn7Rk/2EZ19Ot1Pg7LBaIf3NAxe+17l+tip9E3ipIlTcFCa5GIH5IzhBY7z8ELJuF9GsH3EoCWgaU7oORGXdoEEAxoai+ViFgdgOYhTUQqKUBDwPFGVylClqBgjmY2Fmm10Sfr4ieZnxV+EOY8AmIEEh0hx9xKWydX2v4qTW/WfyWpp95zV+1/p/FnU+s/2OK+Nc8DQuL/gtjcu6wZP/Y9YPpVupiw4U9ok0+/orft6Yfb/1R/BjcfQHlHoA6BkAWu0ko+/AM/YBahIChLyAsCRQ3gMuBiRvGU/Eo2U6BgFYScCAYaACB4giwR8BgQJ0BBwQaqwRB/095HMv0uuhVq68JX6/18X3w9T5mZLbUx2p+zfY7iJ/W/VzXH4ExIvNWg/gXr3uBPH8rXfzkd/Jd2lWwvWQz3U9hsPy1Kf41vokfG4BxcXEMAF2lCoOgD5CSmkprNiEE1tYQAqJtw44lgREEWAbgCUHfpXTStrv200oC5gaU3gDW3MwRoDBRoAwGijNoowEB9xIwKFiCil0XvJLplWyPz4eQUTK+UfgIJLbBh1n+PvxSn4v4hXU/+Z6vky7Xxb9WEf/k/P+j4kcgsuwfXtSXAhN/b8Z637i3v8biNzf9PNT9TPzcDUHkCkDQbAiKj1fIzSBQWNsQcCgJTL0BbAYiABLXj1POvacXvbBlL90NYNbVQKCVBoor4GFAQwUCjdzLVKeg/F37uprlqeA50ePzKVbfJHwCItroU7M+W+NHy28QP9fwcxM/fs/nxPrPKniCin+BmvkXrXsOvk651GD9v0u/CnaUbKH1v1O9b7+91zfx2zX97Or+XBUAGRlZcgUgyCBQzfYD4IfHXIB5ZcALBOz3CfhSEljdAB4QsnfvfhiaehvdMccffdWP6w0oIDCWBjwMqDOgQFChoILBEFlM7LzglUyviZ7W+HrGR+Hrtb7J8hP7zjb5+Cp+/Fmn5j9ExP+MJv6l61+B8Su7Gaw/vn7Eur4UlAhMZ8sfePHbNf3M1j+HRHJKqmwABhkA5tMLgzIytQ8x0BAQ9QXES4W8G9BBgM1ABEBecSgVCNriTzkQ9LWAwOQKiFiZM1CA0FoT9IBMBoeLtcyuR2vte2im17K93uBTMr5R+Oaszzb5sHV+J/HzdT8e9IHiX1j0rCZ+rP/7k9r/C876D8+8nt5fEQGAvzdj1hfV++JNPr6I39e6nwIgN49uP5cNwOACQA+6HJiQSD88MwT0lYEAQsClJKBuwLRSgJMbJ/mC/LcMd8Plb4Zh2BFngYEOBBTyN3ykc6F+jYodH6sKXrH4iuhZjU+tvkD4CCg+6xvqfUvDTyz+4Zm3wPy1vPhfheUbX4fBGR0M1h/fU8H2cPq7wWso3C1/3Ymfr/9JtJLqCw4AtGIfCn5QNYWAt76AvRuwKwtwcuMk31laDF/FX2PqkjfXboulgUB1BQwGzC4z0bD4SoPDhZrI+dAET76fFz0+P16BZxF+TFO90Sew/Pw6v7Hbr4t/UFpnTvwvUvGvIOKfnH+fxfovX9sT9u8ro78b/J1t8sPyB1z8+SbxqwDgNgCtl8oLLghEsV2B7MP0DQLGHYNuELB1A8KVAh0EuCcAbxyKpYD1hJxmhtKAdwXMGTB3QDvnfCRzwX0dH9dP/T5cguxjFr1A+L0EwrdYfrbOLxD/0Izrifj/Q8T/nCL+DYr4FxQ9YxH/OFIi7N67lYi/jJZJ3rK+qN7Xt/f6LX5zx5+r+2n2J5GUlCzr/yAFQHe2GoAfpGcIrLGDgFtJYFwl0N2AoCzgQID7AhAAZWUHIGLNAMthGUYbrdwqm94tR3UG7KYZDArMKaC4teD+j1l7Kvj4cwWi12v8jxyEz1/Ywyy/vslHf79jc+7WxL+EE//yDT3g29Q2qvgV6z8w/SrYsCsN9peR7L93v+l+fcas72z5efGvq6H4C2zFn52DpwDL9f+gXw3ACzWcIGBZIuQgoF1A5NIX8OIG7ECA1wfsJwBACEzP/q/jFlreGehA0KGgRTwX3NeZ2Kng1aYeE31vvsYXCt+a9XnLz783XOqbsPLPVPyLqPhfgmVE9Cs2vkHFPzD9aoP4sTTJ3baA/g727z9Al0u9Z31xvS/c3uvS7fdF/NwRYKVSbcEJAHpOYHJKilLL+QyBIlsIWEsCOzfgDgIsBZgL2L1vGwxMutmz1eYzrgYG1Xprof6fHk2NgjeJnu/s2wvfLus3gy8TL4UZBX+DBWv/S8T/PCxZz4l/oyr+JKP404snw4EDB+nvoKSkVBO+XdYXWX5DvW+5sMc/8a80iT9HFX8WCc7+j5dqC04AdGDNQPzgPEOgUAABrjnoVhKI3YAzCPBaAZz8KIKSfdthUNItlgxs7ribs7Ahorngvk7FHtVYE/yHqp03i95g9UXCFwBI6fTfrGzw0cT/MhV/CBX/a8LMv2jNq3Dw4CH6syMIFdvvS9YX1/sG8RcGVvxZ2bnS/tcTCNBrA/BqrZVqR1cEAcu2YbfmoI0b8BsEJPDACxQBimHPfgKB5Fs0EWIWfj9cHPpjVLGq9TkVeKT+Nb+ey6Pwv066AqbkP6hs8MGtvar4l294jYj/TVvxLybiP3TosAYAdEO+CN/W8ovEv7rm4mcASE1Nl/a/Pu0JwIs16AfLIJDvIwRs+gJrHSHgCwgUGODSF4rhIBFFadkOGJx8qzFTexCxL/GB6XmZ6J2E3ztGr/X7xl8E43LugbmF3WHeWuMGHyb+hev+C9+mtbGIP2Zjfzh8+IgGANzx52z3HbK+oN4XNvtM23v9ET9mf9xjIrv/9QcC9KgwXLNVILDKHgKCFQJhX8BvNyAGgXafwi0qBIgoUBh7D+yEWXnP65ady+q9oppZBOxLfGgSPC/6j7hSwix8jC8SLoFRWV1h9up/EPH/27TBRxX/pjdhyqr/Myz1UfGnXgiZ26bBkSPlGgCw7jcK3/esL6r3RZ1+x3V+D+LPyMzmN/90kAqrJy4AlwRzVcKLIIBXfDn3BawlgdUNuIPAyRFgoA1GO4zCQIGgUMLW9jHU70ozsCn0iWsNn8deCL0imxoBYYnGlvhIJHiB8JnVx5N78fiuCbl/hpkFfyfi/yex/E+py3zPGtb4F697HoZkdjRsWOqvLvUV782GI+VE/EeO0J8Pr/V3Er6hw2+X9b3W++pVff6KP5NEot78k/cArEc7A6uZCxBBIM8JAj66AWtZ4A0EPAxw2zDaYgaA8vKjsGZXNPSNu8TS1PskpgXJyJfBF/GXEhhcBB9Hn6eL2yDyxipEmjgKns/2n8e1JKJvDyMzb1dO7dXO7lPEv4At89FOvyL+CXn3ELG31jYiKZa/JUxb9TCUHS6hPwv+TEcIAPBKP3fhe8v6IssvEn9eDcRvyv7y+O96BIEBmgtQt3Oyei/PY3NQtEpg6A24lgVuPQIjDBAC6ASoWIhojpJAAc1d9aK+jEdDEfBnsURsBARfJV5BA4HQJ64VgUJLAonzaLDHGsRO4tPYFvTOvHh3nm9Jlh+ecQuMz8F79N1Pm3vTVz2iHtn9pHYdP+30r9OX+aYW/BW+Sb3Msk15YEZbSN06CioqKuHo0QooP6oAAK+IFNX49sJfb/hdu2Z9h3pfuLffRfyZWTmQnJwiL/2t9y4gPcMCAccVAg9uwLYs8BEEZhhgkxCXB8uJZUYAoIBQSEUlsTAguZOyph9jFDNm7f4EBF8nXmmMpKvg2+R28B3J6INSO8GQtC4wNP0GKnbM8KOz/kDvzYfCx5t0TM67H6ZS8T9KLP/f1Hq/Oz24UznB53ny96dg3Mq7qPBZrc9n/aXrXoODR0uhsvKYDgDyc5TQzO+D8O3svkvW99LsE23yEYk/3Zj95ZV/9dUFxBEXkKN+8EYIOJcE9m5AXBY4gcDcI3CCAfYF8JqBcg4AKKhjx47RZhqeLPSxZbMPXkNwLvQjWf0rzOrJbWn9PjC1AwxO60zvwjss4yZ6LBc288Zk3wXjcu4m9f2f6J158f580/Ifonfpmbma1PuF/yBZvztt9qHoJ+X9GYZmdlavQ7BenIRn+2/anwBVVVXkfVZpAMDaH2/uIW7uOQvf1u7bZX1hve8ufiZ8Kv4sRfwZJJL07C+X/uq7C8BtnPihs0kg7gv46QY8gcDeFdjBAM/FQ+vMA+AYEVhVVTVkbZ9OxN2Zbu8VBcKgb8JFxAW0oSfxDsu4gWT922B09h30Gv3xuX8kWZ+IP+//iOX/K63X2V16JuXdB+Nyu8GIrBvh29QruAuQeOErWX/+mmdgc1kSVB8/DlXV1SoAjtH3e+jQIbrzUZTtvQvf16xvX+/n8pbfRfzp+qk/svav5xDoTT/EuDj6gdMJIHQDBY6rBHZuwBcQmFcNvMAArx3AJcLKykoDAKqrj8Px4ydg475EurPuU7bv3xSfmaJvwoXQP+lS+CoZg5QNKW3gm5TL4duUK7irDlmIhT8i+0aI3PwxlFVshRMnTtL3YQRAFT3XD9+/Jdv7K3wvWV9k+UXNPhfxY+OPO/VX1v4NZV9ASmqaNgk8lwQObsAzCMyrBgJXYAcDBgS8Sw46ARQXD4ATJ07AyZMnoaL6AOTungWL1/aAwenXaRcGsSsBtUg4T70NN3dVYaJY9HyNPyHvjxC15RPYU74avv/+ezh16hR53VM6AMj7wfeFjgWXNZ2yPe3q+yF8X7K+r80+XvypaRky+zcwAHRnHyh+0NkMAqKSgF8l4N1AgEBgcQWuMNCBgP0BPFVIB8BxDQAoxlOnvifi/AF++OEHOFS1HfL3zIGErQNgav7D9Bp97RJhk+DNop+x+jFYUPQfSN4xELYfSYfqU+Xw4+nT8OOPP9Ln1gFwUgMAwgl39tmL3pztnYXvxe7bdvl9bPYpwlfEj40/7sgvue7fgCBArxFAa0cnAgcBdzdgUxb4AIJCMwgErsCuTDADAVcK9u7bT+32cQTACSsAUKyniWhP//QT/PTTz/Dzzz/DL7/8Ar/++iuUVa+DXRVZsLsSI5vGDz9XwW+//UYDH4OPxe/5iXz/6dM/kecTA6CSlCV4kIfI3lvX8K1dfVfhu9h9T1lfZPltxM8d+Fktd/01LAB0ZS4ANwexbCCCAO8G+N6AXVlg6A8IQeDiClxhYAUCBjoCvKCooqJCBcApKk4DAE5bAYAi/9///kfj999/p4F/twfAaQqAH35QAUBAgxuW8HATr6I3Z3va1Xey+pzw7e2+c9YXWX5RvZ+uRlp6Jm/95Z7/BgiB8cqFQvF0QrDJ4ZMbcCgLHEFQaAWBHQyUMkEABAsUdDDgYSNYHmBGRpGiWFG0KF4UMQPAL7/8aoEAC138IgD8SJf0sBexbsNGl5qeE71I+IW+C9/frG+1/ALxZ2TTrj93wY8876+hLwui1aMZwQUCRjdgUxaYQWAuDVYbQeATDNyAwIGBBTYNsR7ft7+MAgHdAYr5559/0VzAr2q2/w2Fz8TPZX/sLRwlzgKv18f7GngTvCjTW7O92eaba3xn4XvI+j5YfhQ+Bmf95fX+DRwCPZQPOY5OAgMEPIOgwDMI3FyBqETQewY2QFCh4AkMXODBpOw25tvw7sXbjYFfx2ajRei2YrfL8jaiN2V7f4XvS9a3Wn6j+NNIpErrf3Y2BNHyZaqTxAyCHLeywAUE5mahBQQiGDgBwQsUbCDhGl6fz1bsYsHbit5s87nmnlfh85t63LK+neVH8WPdHy+t/1kHAO3osOSUNJohRBCwdQMuIOCbhZ5cgR0M3IDAgUGHgw+AEAhcE/naIufXtBG8V9Fbs70Pwq9h1qfiT1fEz53zJ63/WQaBAeyDx8lBM0V2AEGQbwWBxRXYwcAJCAYouIAhILHWUex2grcVvSXbrzb8zmosfLusn8lnfUX8yalpvPh7S1WcfRBYT0uBxEQ6WZSJk6uDQJ1cvoNglQkEHmFQYAMDL1Dg4MBHoUuYH+/2/HZit6vpbUW/qsAk/FX+Cd+2w29v+bHmT0nLoKtBcruv3BsAyjbhdGXiMBCY3IBXEJhXDayuwNQrcICBo0MwgcETHDwGez631xVleDvR5wtFX3PhWzr8LlkfxY9bfbklv2p5jz9ZCqgbhLLo5NHdQIBAIHIFds7ADQheoRDgcBK7veCtohdmezfhe7b7dllf6fQz8Sclpci9/nIISgGSFXDyUAhk5vgHgkDDQAWCKxRMgGDhSdgsCryHSPC+iN4p25szvlj4NnbfIetjmNb75ZKfHMZSAA+BYBOJuQFhf8AfEJh7BXZlAgcEWyj4A4YCP0Re4PD6joJ3F72b8LPchC+w++lm4avix5o/Gc/2j9Nu7hElZ74cwlIAJwydTJobqCEIbGBgcQZOQNCgUOAMhVoKTeirxO/NTvBeRO+v8O3svjnro/ixx4MnQ7ETfmTdL4cIAlnKQaIJdDIpGSXbAQQupUFNYeAGBCEcdOfg5iDyLFHgKHLPgvdD9IEVfiYnfEX8pqafXO+XQwiADuxaATwLnk4qH0DgLwx8AoIJDJ7g4GesdBG6k+D9Fb2wuedV+JzdZ1kfbX+CcbNPDznT5XCCQG9+aRAnlyMIzM1Cc3ngCwzs3AEHBVcwCEHhED48V66D2DXB10j04q6+V+GnmoSPkZhsaPrJu/rK4QkCUeyyYTqxKATEIDCvGji6AgcYOAHBEQo1BYQPAvcidtHSnUH0ZosvzPbm5p5X4XPiT0mHpOQ0/o6+crOPHJ4BoF02nJCYpEFADIIsEwgE5UFWrncYuAHBBAbPcPAjclyE7iR4x0wvyvZmm8939X0UPl7fkUSC2+knm35y+AyBB/ilQTbhHEFgcQUiGDg7AyEQOCi4gsEFFl5F7Sh0gdjtsry76MXZvibCx+DO9ZNNPzn8hsB47apBMslSGARsQODoCkQlgpM78AIFARz8hYToOZxe007sdoIXid422/sifGb3mfiJ7U/Qj/SWTT85alwKrGd3F8JJRycfD4K0TN9dAecMfAKCCQqeAeFnCF9L8J5cBc/Zey/Z3ryc5yT8ZE74ScmpRPzJsuknR0AhoO0SxMxCnQAHAkdX4AADO3dgBYIRCrZg8AAJ13B53kwHsVsFL8jytqJ3yPY2Vt8sfOz2J9A9/rLpJ0ctLg3iRKOTUJ2QKWpp4OoKLDBwcAeZOR6goILBBAefQGEnboPIc4WvbRW7e5Z3Fr1I+DbZ3iR8GkmpsuknR61CIEtZGoyjE1DJQiYQiFyBBQY2PQNHhyB2Cu6A8D/sXscsdKcMb63pvYjed+Fj5o+LT5An+8hxZpYGscPMJqQGgprAwAkIJiiIwWByDg6gcBa2WOBCofsgeP9EbxV+okD4GNyZfrLpJ0etQqC73g9IppmIZiQzDFK9wEDvGTgBwQoFezB4B4UHYVtEnm15H2leBM/V9CLR+5rtE1XR00hE8RuafvJWXnLUOgS0pUGchGxyKpPVNxhYgJCW6QwFExjEcLCLbFN4+740W6HbiN0uy4syvaipZ5PtEznRU+ETAMfTjn+cPNFXjjNeCpSyrcLK5EzlQGB0Bc5lgm9AsIJBAAgbULhGul1k2gvdJHY7wdvZe/dsn2rI9rzwaebXm37yPn5ynFEIaEuDWH9SJ0Aj1ZC5vMLACQhWKKhgsIGDOywy3UUtFHmm5X2keBG8XU0vEr2dzWeiV4WPERdnaPp1l7NSjjMNgQE6BJKVDKVOWkcYWMoEMRAsUBCAQQyHwEaKrdBtxO6a5b2J3pztqegTkmjExifKY73kCAoI0F2CeMwUm6xs8jrBwA4IXqBgBIM7IPwKk8Bthe4kdifBexG9QPhx8Rbxy80+ctQpALQDRHAdmk5YbgLbwsAHIBihwIHBBg7egOEgaEeRpxveS5LPgvdD9LzwqfjjZN0vR1BBQNslGEcmKE5YNomFMPAIBAsUBGCwwsEGFJ5C/DxJjkK3Ebud4P0VPUZcIt/0k3W/HEEFgSx2x2GcuPxEFsFA5A68QkEHgwkODpDwKUTPqb5eogexexK8g+gNwo9TIiYuAWJiMeRFPnIEeSlAsxQ6AXUyC2HgBAQ3KLjAwSlchexJ5DaZnRO7k+C9i14VvlX8cr1fjuAuBWJxiSou0WBhzTBwA4IFCgIw6HCwgYTfkSLO5gKhC8XuJHhbey8SfQJEx8aTP+PkPn856k8pgNlKmcj65LbAwA0INlAQgsEFEj6Fw3PbvR/z+xYJ3pPo45joFeHTiInjs7+8g68c9aMUwKxFsxg/uW2A4AQFIRgc4FBrkeBB6JzYfRG8VfTxEKVGTIxc8pOjHpYCmLXYhGaT3AgDZyC4QcEVEAEIt9cVCt1N8CZ7LxJ9FMn6GNG6+OWSnxz1CgJ0gxBmL5zYNLTJnuANCDZQMICBj4RaiHiHjC4Qu7vgjVleJPqo6DiIjMY/Y/nsL62/HPUKANq1AtrEVie6EQYmIAihIACDAxxqLeI8CD3O+LNEe8jyvOiViIXIqFhp/eWo9xAYz1xAVLQyyQ2TngeCAArRrlAwAoJFbA0jxhAur+sidifBi0SPEREVS7O/tP5y1HcAaJcNYy1LJ7lmbz0AwQIFG8fgGRI+huA1okVCjzW+Z8+Cj9YFr0SMFjExMdL6y9EgINCduQCW4WhE2wDBBgoWMNjCQewk3MPDc8XYCd0kdhfBRwoEHxGpRDiJ6OgYueFHjgYFgSzFBXATXhWBf1AQA8IWFD5GlDBsXj/aXezCLM8JXoloGhFR0XLDjxwNDgAd2KSOjFImPBOAIQs6QiGWE5gJDq6Q8DMErxEpErqb2B0ETyMiGsLUYNaf/Cn3+svR8BqC6AIMkz/SCQgxnJhMYLDAwQqJmoXguaPshB5rfd8eBa9EFISFR5HnjGbiL12xYkVr8ms7p4YhhxxB1RCkOwQjIvXJj2IwAkEABSEYrIBwhIXHiLANm9ePdBG7neBV0YeqgX9n2T86OvrfARC/hIEcQQeBAWqG0wSgiSHCBAUHMAgB4QoKH0Pw3OGWiPYudpPglYhUIiySlBda9s+yEXBjh5BAkKPeQKBU6QVEm8RgBkKUSUhOjsEZFL6Hy/ML3pe72I2CD+EijHyN9UiWL1/eyUXsvoYEgRxBBYAezAUwMWjCoBHlAQxRNgIUuAgfI8w1ojwI3VnwIWERSoRGwAoS0br1n0B+RU1qGI25P+2A0FiCQI66hEAWcwGaGDiBhIaZwRDlGGF8RAQouOcMdY1Id7FzgucjIjKKWf/qCRMmXEp+PU39DC9g8OIQ5JCj1gHwALO8KAwmBhSIQTAWMYng4A0S/ofgtQTvy4vYV4SG01geogT+nTX+wsPD3yC/mmYBCF8AEYheQm2GHA0YAlHMBTBhrBCKRgWDBzjYwsJjhHiKCA9CFwveGGFa9ifWP5v8SpoHKLxAob6BQEKhAQKgA+8CzALRoRDuIDATICyQqEFwz7nCNcJdxK4IfvmKMFimBj6W/fyLFi16lPxKzlXjPJc41yG8QsEOCPUJBBIIDQAC8+nlwsQFoChQIFQoNMIdwwiIcA8i9TfCPQqcE7pJ7NYIpT8zdUCRkYvIr6KFj+EVDs1NYPDXGUgQyFFrLoBuDgoh4rITzHIDHMKDJPT3tcxF7EuXGyNEzf7Y+Bs5cuRN5FdxPhcXmP7tFG5gcHMIdjCorxCQMKiHEBig1MExBpGgcJQI8xTLLaAQhU22NscKr+I2Cl0kdj1CYOmyEFhCIlrd9BMSEjKU/Apa+hAXmKImQHBzBU3qOQjkqCcA0LYIh4SFK0KhEeoYvgKi5uEmcLHYzREapmX/46+99to15FdwkSAutAkREFp6BIKbK5AgkKOuXUC0UDRLWXiEQ+1HiCZyO6HrsQIWL1UC/86W/RYuXNiT/OitXMIJDF7dgVdX0FBBIEe9cgGkPmZiUSLEUyw1x/IaxDKv4jYKnRe7KELDItiy3z7yY19sitam8AUGTkCwcwVuIDADoT73B+SoBxDowVyAk4j4bOoLIGoe7gLnY9GS5YZYQr7Glv0mTpz4T/IjX2KKQAGhJiCwaxg2BDcgRz2AAL1QCOtks4AwvIrvTIXoPVpi8TJYSCIsXMn+EREReeRHvYzEpabwFwg1AUEg3UCwg0CO+uICsE5erIrHk8gCCAt/X4++V1Xs5uCz/8CBAx8kP2obFQJ8+AsEO1dQV2VBsIJAjvrkArAXsNBGUAtVsWnhr2h9FPcih/fjFGzL7woyyI94uSnamMINCG4QaOWhT3Am+wONJQDk8L0XQFyAv4ILpli2PETL/u+//3438iNeYQonEHiBQF2DoL64ATnqZy8g+EWO71EJq3uIVLP/0qVLZ5Ef7UouRBAww8CuTDgTIGhoZYEc9bYX4BjLahUSurh9LzWWrwhly37HH3vssRvJj3aVGlfawKAuQHC29AfkaEgrAvUh2JbfBQsWjCE/UlsuzgQIZH9Air+BuICadOdrORYvFa84rAgJ07L/ww8/jBf8XG2CgK8gaGMDAtkfkOJv6C4gwuMy3nJL+CZkc/i/R4DL/mPJj9JOjatN4QSC+tAfaFEPygI5GoILWBJkm4Ccgl3ui9n/wQcfvIX8KNdwEGjnAwRkf0CKX7oAFBPupPN1O25thds2ZJb9p0yZ8qkqfj78cQO11R9oHYT9gUCBQI4G5wJquI/fPgJ3zQDL/pGRkWXk7Xcg0V6NugBBfegPNAswBORoaAPvlae7gJCgDHYlIcv+kydP/kwFQIdaAMEVLo3Cy4IQBGfCDcjREAcR1WvMBRiuxzdFbYnaGuJzAkLUy33V7N9RjQ41AEF96A+0rAU34A8I5Gigg37AuguIDIIDQcSBx5qpl/t+Tt5zJzVEIKjLsiBY+wNuB5HYnVgsx9kAgKioKM0FeD+aq/aDHRUWasz+ndVwgkCw9AcuDbL+gISAHFYA4AfOXEB4RKTlrD6n8EXI9uF8ZiDL/hMmTOjDAaAuQFCX/QF/Lj12Op/Q15OK5Wig4qcAiIiIeEN3AWFBE6bsfx2Ja9WoTRAEa3/A7pxCLweVeu0LuG0llqOhZX/1g2/KXEBoeESdCd58jDjL/tOmTRuiAuC6GoCgvQ0IgqE/4HYQidfTiNxOK67p9QRyNFAANAsNDX2T3UfA8Wz/gIf4BiHYlFR3/Z2455577iLvsYsJAnYgqE/9gUsa+X4aka+XG/tyLYF0AGcrAHCSEBewl60I1PUdglj2nzVr1iTy3q5XAdBFAIIzURb4C4KaQKB1I/+2E0sAyOEfAMLCwoawU4N8u2+fb2G9/6Ax+Ox/9913d1MBcL0JBNfVAQjMVxz66wbcTiTyAgG7UsANAE6NQAmAsxAATRkAevfufRXeV4+6gIhIx5t5+h/uNw6NUnf9zZw5czJ5XzeocX0dgKC2ywJfSwInAHhxAFL8ctg7AJw4eF891guovTsD2wfL/hjdunW7m7ynG9UIBAg6mUBwpssCL2cPuAHgIocSwNfs78vty+U4GwDw1ltvtcP767FeAG7DdQo7Ibt9n12w7L9o0aIo8n5u4gDgBIK67A84HUQiOqjU6aRiu1KglUsjUJT9/en8y+3AZ+syoDpJcOK0DA0NnYoijCIuICQs8oxFaJie/Z966qlHyXu5WYXATR4gUJf9Aa8QcCsFeAB4sf9m8dck80vxn4UQEAHggm+//fZWJsSwiKgzBoDIqGh2g0/M/reoALCDQF2CoJ0DBK5ygIATAETZ3078F3gUf03OD5TjbGwEqhPqwrCwsKWKC4iGUFIK1H5Eadm/T58+r6kAuOUMgqBTI98uNPIFAk4AENX/ZutvJ35/LL+s9+Vw7gPgRPvmm29u01wAEWdoLQfL/itWrCgkr3+rGrfUIggCtZvQDQJ2AHCy/k6Z3y7rB+rUYDnO8jKghTrRLgoPD4/XXUDgxI5lhTnwOgR8rQEDBvQir32bGv6A4AaXRqGbG+jk4gZ8AQBfApjFf5lN5vci/BY1sPsy68vh6gJworWcPn36k3ovIFoo3JpFNI2IyGh2h9+D5HVv5wDgBILacAPXOjgBOwiIAGDO/iLb75b1zY2+FjLry3Emm4G0FxAZGbmSXpEXFaMJNtDBsv/48eNHqQDwCgF/QSBaNvQCAR4AvAPwIn5RvS9a4hPV+b40+BpL0csRqF7ABfPmzXuBXSocTjK1XTAxOz1GFBFq7R8VFXXy9ttv/wt5za5q1DYIughA4AUAdtm/rU3NL8r6dhnfSfjNpfDlqG0X0FjgAlpGR0fvZS7AV4E7Rwx/0c8S8lp3cACoDRDc4AACp56AGQDm7N9WkPV58V9ik/Wl8OUIWheg7QtYvHjxu7oLCFxERMVoS39PPPHEk+S17lQhUFMQeHED5pJABADztmEvmV+U9X0R/rlS+HLUNQSamkoB3QVEK8INRESp2Z8AJpO8xh/UuNMBBLfbgMAJAiIQiFyAHQBEmZ/V/Hy974vwWzayLueJhF+TG4DKIUdAGoJ0VYBdJBQTE+un4GMtgc+Fz9mrV693OAC4QaCrCwRu9eAE7ADgJn6nrF+TjC+zvRxBWQpo/YCePXu2ZZcKR0bHCgXtNfD7o6IV8YeHh+PS311q/KGGILjVwQ3YAcCr+J3svhfh22X7QNzuWw45an9VICwsbApzASjimgTL/mPIIM/dTY1Ag8DOBdwgsP58zS/K+rzw2zgI35ztW3jI9r5u2pGil+PMu4CRI0fexJp2ipDj/IxYrfl38803P8gBwF8QeAXAjTaZX5T1zXbfLeM7bdcNVLaXQ466dQERERGLlWPDiI2PifMrotXsP3fu3DjynPeQuFsNNxDc6QIBHgAi++8kfnPWFwn/Mhur76/Nl1t05agXENBcwLx58x5n2dtfADD7/9JLL72sAoCHwN0CANzl0QWYAeBF/KKsb9fZ90f4MtvL0bBcQFRUVI7iAlDQ8T4Ffg9+b0hIyA7yXH/kAHCPjRswQ8ANAF7Ez1t+O7tvJ3ynxp7TEp6s7eWo9y4AJ/Z5y5Yte4c2AxECsfE+RYzqHkaNGjWePNe9KgT+6NEJ8C7Aq/iZ8EV23ynjX9JI3NG3260nT9yRo8FCwOIC2Mag6Ng4nwDAyocbb7zxURUA97qAoJuDA3AS/w0m8fMZn1/Wu9KU8VmN72bzm0vhy3E2uQDDisCKFSv66C4gwVPExCr2f86cOfHkOf6khhsERACwEz9v+c12v4OD8C/1UfiiJTwpejnOml7Aeb169dLuIRCD1j4uwT3U7N+zZ8/3OQDwIOABYHYATuI3W/7ruKzP231RjS+y+oEUvhxyNMwyQNsYRDK7WPSJeqj2Pzw8/JBA/HYAcBI/b/n5rH+tTYPvqhpYfSebL0Uvx1lZBrQYNmzYzaymjyWCj41PtA/V/k+cOHEO+d4/c+EFACLxm2t9ZvfNdT7f4JPCl0OOGpYBhiPEIyIi4hQIxNmLH+GgguKRRx552iR8O/GbMz+z/Czrm4XP7L5Txhct5Tk19sxr91L0csgygCsDzp8xY8YTmguggk+yRlw8v/bvZP/vMdl+lvX5Wv9GDxnf3Nxr3ch+Kc/fZTw55JB9ABRWdHT0PqUMiIe4hCRLMEAMIkMVu3kF4I82lp+v9W8S1PkdPAi/lYfGnrxRphxy+NAHYCcGoZguXLBgQU8mcov4af2v/N9NN930cCPxsh8TP7P85qzP7D6/fdcs/MtNVt/XjO+2U08OOSQABH0AFFlrdkPROCL4uIRkLWLjE9jNPrNUi/9Hm2bfHwS1/k02dp8t6V0pEH6rGghfZns55PBQBhhuJoqiW7p06UilDIiD+MRkLVj3f8iQIQNUoZu3+t5lyvp8k4/ZfV+E72b1pc2XQ44A9gHoXYT69OlzB18GoPj5+v+22277PzXLm/f0dzVlfJHwRTX+xZzV55fynDbuSIsvhxwBBsD5qggvDgsLS6AAiIuHhKQUUg4o9n/JkiUZqrW/o5HxKj5Rd9/c4GMZv42gxncSvsjmy0wvhxwB6AOwDUHa3YQRAOPGjevOMj5v/0eNGtVfFTp/iOctjazLeqLOvpvV98fmyyGHHDUAAN8HaKFmYhTnpVFRUfuUZqC++adbt253q/aeP55LtINPtKRn7ur7kvGl8OWQo5bKAMOOQFWgl8yZM+dDbWMQieXLl6eqIu/SyHoMd2cPdb7dBTpOGV/afDnkOMN9ALoc+NRTT3VmS4IYkyZN+ky19p256MhZ/XY2wney+s2l8OWQo+4BwPoArAxA0V4cGhq6jAHgrbfeureRfkcd/p56bQVW3034Xpt7csghxxnsA5zHuYBW/fr160qPDo+M3KwK/MpG4ttm16S5J0UvhxxBVAa0UMVLIUDEv5LU/zNUkbfhwu6gTV+6+lL4csgRRGVAczMEFi1a9N7UqVOfVEV+cSP7W2dJ4cshRz0uA0QQOF/tCVyoxkWNrHfH5bv6UvgNcPw/amyOEbKHvLwAAAAASUVORK5CYII=")).getScaledInstance(picSize, picSize, Image.SCALE_SMOOTH);
+	}
+	
+	/**
+	 * a user-friendly description
+	 *
+	 * @since 0.1.0
+	 */
+	private String                          description;
+	/**
+	 * a text of copyright information
+	 *
+	 * @since 0.1.0
+	 */
+	private String                          copyright      = "";
+	/**
+	 * should the first row ignored, in case of headlines?
+	 *
+	 * @since 0.1.0
+	 */
+	private boolean                         ignoreFirstRow = true;
+	/**
+	 * the {@link GeometryObject} type
+	 *
+	 * @since 0.1.0
+	 */
+	private Class<? extends GeometryObject> geoType        = Point.class;
+	/**
+	 * column, in which the longitude is stored
+	 *
+	 * @since 0.1.0
+	 */
+	private int                             longColumn     = -1;
+	/**
+	 * column, in which the latitude is stored
+	 *
+	 * @since 0.1.0
+	 */
+	private int                             latColumn      = -1;
+	/**
+	 * column, in which the elevation is stored
+	 *
+	 * @since 0.1.0
+	 */
+	private int                             eleColumn      = -1;
+	/**
+	 * column, in which the CRS is stored
+	 *
+	 * @since 0.1.0
+	 */
+	private int                             crsColumn      = -1;
+	/**
+	 * column, in which the object ID is stored
+	 *
+	 * @since 0.2.4
+	 */
+	private int                             idColumn       = -1;
+	/**
+	 * columns, to group coordinates to {@link GeometryObject}s
+	 *
+	 * @since 0.1.0
+	 */
+	private int[]                           groupColumn    = new int[0];
+	/**
+	 * the {@link Color} to draw a line
+	 *
+	 * @since 0.1.0
+	 */
+	private Color                           lineColor      = Color.BLACK;
+	/**
+	 * the stroke to draw a line
+	 *
+	 * @since 0.1.0
+	 */
+	private int                             lineStroke     = 1;
+	/**
+	 * the {@link Color}, to fill {@link Polygon}s
+	 *
+	 * @since 0.1.0
+	 */
+	private Color                           fillColor      = Color.BLUE;
+	/**
+	 * the {@link Image}, which should be used to draw {@link Point}s
+	 *
+	 * @since 0.1.0
+	 */
+	private Image                           pointImage     = CsvConfig.DEFAULT_IMAGE;
+	/**
+	 * should the features be parsed on every request one by one, instead of holding all of them in memory?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean                         streaming      = false;
+	/**
+	 * the {@link ParserType} to read the CSV file with
+	 *
+	 * @since 0.4.0
+	 */
+	private ParserType                      parser         = ParserType.COMMONS;
+	/**
+	 * should a large CSV file be split into chunks, which are parsed in parallel?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean                         parallel       = false;
+	/**
+	 * should an append-only CSV file be followed by parsing only the appended rows after a change?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean                         follow         = false;
+	/**
+	 * should the parsed rows be stored in a binary snapshot, which is read instead of parsing an unchanged CSV file again?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean                         snapshot       = false;
+	/**
+	 * the folder of the snapshot or {@code null}, if it is stored next to the CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	private File                            snapshotFolder = null;
+	/**
+	 * the maximum size of the cached HTML contents of the popups in kilobytes or {@code 0}, if they shouldn't be cached
+	 *
+	 * @since 0.4.0
+	 */
+	private int                             popupCache     = 0;
+	/**
+	 * the minimum scale, at which the layer is visible, or {@code 0}, if it has no minimum scale
+	 *
+	 * @since 0.4.0
+	 */
+	private int                             minScale       = 0;
+	/**
+	 * the maximum scale, at which the layer is visible, or {@code 0}, if it has no maximum scale
+	 *
+	 * @since 0.4.0
+	 */
+	private int                             maxScale       = 0;
+	/**
+	 * the tolerance of the generalization of {@link Polyline}s and {@link Polygon}s in pixels or {@code 0}, if they shouldn't be generalized
+	 *
+	 * @since 0.4.0
+	 */
+	private double                          generalization = 1.0;
+	/**
+	 * the size of the cells in pixels, into which the points are aggregated to clusters
+	 *
+	 * @since 0.4.0
+	 */
+	private int                             clusterSize    = 64;
+	/**
+	 * should the {@link FieldType}s and lengths of the header fields be inferred of a sample of the rows?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean                         inferTypes     = true;
+	/**
+	 * the configured {@link FieldType}s of the header fields, mapped by their column index
+	 *
+	 * @since 0.4.0
+	 */
+	private Map<Integer, FieldType>         fieldTypes     = new HashMap<>();
+	/**
+	 * the configured lengths of the header fields, mapped by their column index
+	 *
+	 * @since 0.4.0
+	 */
+	private Map<Integer, Integer>           fieldLengths   = new HashMap<>();
+	
+	/**
+	 * standard constructor
+	 *
+	 * @since 0.1.0
+	 */
+	private CsvConfig() {
+	}
+	
+	/**
+	 * constructor, with given configuration {@link File}
+	 *
+	 * @param file the configuration {@link File} to load
+	 * @throws IllegalArgumentException if the given {@link File} doesn't exist
+	 * @throws IOException              if an {@link Exception} occurred on reading the file
+	 * @since 0.1.0
+	 */
+	private CsvConfig(File file)
+	throws IllegalArgumentException, IOException {
+		this();
+		
+		String fileName = file.getName();
+		
+		if (!(file.exists())) {
+			throw new IllegalArgumentException("Config file " + fileName + " doesn't exist!");
+		}
+		
+		try {
+			Element rootNode = (new SAXBuilder()).build(file).getRootElement();
+			
+			Element child = rootNode.getChild("description");
+			if (child != null) {
+				this.description = child.getText();
+			} else {
+				this.description = fileName.substring(0, fileName.length() - CsvConfig.EXTENSION.length());
+			}
+			
+			child = rootNode.getChild("copyright");
+			if (child != null) {
+				this.copyright = child.getText();
+			}
+			
+			child = rootNode.getChild("ignoreFirstRow");
+			if (child != null) {
+				this.ignoreFirstRow = Boolean.parseBoolean(child.getText());
+			}
+			
+			child = rootNode.getChild("streaming");
+			if (child != null) {
+				this.streaming = Boolean.parseBoolean(child.getText());
+			}
+			
+			child = rootNode.getChild("parallel");
+			if (child != null) {
+				this.parallel = Boolean.parseBoolean(child.getText());
+			}
+			
+			child = rootNode.getChild("follow");
+			if (child != null) {
+				this.follow = Boolean.parseBoolean(child.getText());
+			}
+			
+			child = rootNode.getChild("snapshot");
+			if (child != null) {
+				this.snapshot = Boolean.parseBoolean(child.getText());
+			}
+			
+			child = rootNode.getChild("popupCache");
+			try {
+				if (child != null) {
+					this.popupCache = Math.max(0, Integer.parseInt(child.getText().trim()));
+				}
+			} catch (NumberFormatException e) {
+			}
+			
+			child = rootNode.getChild("minScale");
+			try {
+				if (child != null) {
+					this.minScale = Math.max(0, Integer.parseInt(child.getText().trim()));
+				}
+			} catch (NumberFormatException e) {
+			}
+			
+			child = rootNode.getChild("maxScale");
+			try {
+				if (child != null) {
+					this.maxScale = Math.max(0, Integer.parseInt(child.getText().trim()));
+				}
+			} catch (NumberFormatException e) {
+			}
+			
+			child = rootNode.getChild("generalization");
+			try {
+				if (child != null) {
+					this.generalization = Math.max(0.0, Double.parseDouble(child.getText().trim()));
+				}
+			} catch (NumberFormatException e) {
+			}
+			
+			child = rootNode.getChild("clusterSize");
+			try {
+				if (child != null) {
+					this.clusterSize = Math.max(0, Integer.parseInt(child.getText().trim()));
+				}
+			} catch (NumberFormatException e) {
+			}
+			
+			child = rootNode.getChild("inferTypes");
+			if (child != null) {
+				this.inferTypes = Boolean.parseBoolean(child.getText());
+			}
+			
+			child = rootNode.getChild("snapshotFolder");
+			if (child != null && !(child.getText().trim().isEmpty())) {
+				this.snapshotFolder = new File(child.getText().trim());
+			}
+			
+			child = rootNode.getChild("parser");
+			if (child != null) {
+				ParserType type = ParserType.fromName(child.getText());
+				
+				if (type != null) {
+					this.parser = type;
+				} else {
+					log.warn("Unknown parser " + child.getText() + " in config file " + fileName + "! Use " + this.parser + " instead.");
+				}
+			}
+			
+			child = rootNode.getChild("geoType");
+			if (child != null) {
+				String type = child.getText();
+				
+				try {
+					@SuppressWarnings("unchecked")
+					Class<? extends GeometryObject> clazz = (Class<? extends GeometryObject>) Class.forName(type);
+					this.geoType = clazz;
+				} catch (ClassNotFoundException | ClassCastException e) {
+					if (type.equalsIgnoreCase("Polygon") || type.equalsIgnoreCase("Poly")) {
+						this.geoType = Polygon.class;
+					} else if (type.equalsIgnoreCase("Polyline") || type.equalsIgnoreCase("Line")) {
+						this.geoType = Polyline.class;
+					} else if (type.equalsIgnoreCase("MultiPoint")) {
+						this.geoType = Multipoint.class;
+					} else {
+						this.geoType = Point.class;
+					}
+				}
+			}
+			
+			child = rootNode.getChild("columns");
+			if (child != null) {
+				Element child2 = child.getChild("long");
+				try {
+					if (child2 != null) {
+						this.longColumn = Integer.parseInt(child2.getText());
+					}
+				} catch (NumberFormatException e) {
+				}
+				
+				child2 = child.getChild("lat");
+				try {
+					if (child2 != null) {
+						this.latColumn = Integer.parseInt(child2.getText());
+					}
+				} catch (NumberFormatException e) {
+				}
+				
+				child2 = child.getChild("ele");
+				try {
+					if (child2 != null) {
+						this.eleColumn = Integer.parseInt(child2.getText());
+					}
+				} catch (NumberFormatException e) {
+				}
+				
+				child2 = child.getChild("crs");
+				try {
+					if (child2 != null) {
+						this.crsColumn = Integer.parseInt(child2.getText());
+					}
+				} catch (NumberFormatException e) {
+				}
+				
+				child2 = child.getChild("objectId");
+				try {
+					if (child2 != null) {
+						this.idColumn = Integer.parseInt(child2.getText());
+					}
+				} catch (NumberFormatException e) {
+				}
+				
+				child2 = child.getChild("group");
+				if (child2 != null) {
+					String[] cols = child2.getText().split(",");
+					this.groupColumn = new int[cols.length];
+					int i = 0;
+					for (String col : cols) {
+						try {
+							this.groupColumn[i] = Integer.parseInt(col);
+						} catch (NumberFormatException e) {
+						}
+						
+						i++;
+					}
+				}
+				
+				for (Element field : child.getChildren("field")) {
+					try {
+						int column = Integer.parseInt(field.getAttributeValue("column", "").trim());
+						
+						String type = field.getAttributeValue("type");
+						if (type != null) {
+							FieldType fieldType = CsvConfig.getFieldType(type);
+							
+							if (fieldType != null) {
+								this.fieldTypes.put(column, fieldType);
+							} else {
+								log.warn("Unknown field type " + type + " of column " + column + " in config file " + fileName + "! The type is inferred instead.");
+							}
+						}
+						
+						String length = field.getAttributeValue("length");
+						if (length != null) {
+							this.fieldLengths.put(column, Integer.parseInt(length.trim()));
+						}
+					} catch (NumberFormatException e) {
+						log.warn("Couldn't parse the column or length of a field in config file " + fileName + "!", e);
+					}
+				}
+			}
+			
+			child = rootNode.getChild("style");
+			if (child != null) {
+				Element child2 = child.getChild("line");
+				if (child2 != null) {
+					Element child3 = child2.getChild("color");
+					if (child3 != null) {
+						try {
+							Color color = CsvConfig.getColor(child3.getText());
+							
+							if (color != null) {
+								this.lineColor = color;
+							} else {
+								log.warn("Wrong syntax of the line color tag was used! E.g.: 'RED,GREEN,BLUE,ALPHA'");
+							}
+						} catch (NumberFormatException e) {
+							log.warn("Couldn't parse color numbers for line color!", e);
+						}
+					}
+					
+					child3 = child2.getChild("stroke");
+					if (child3 != null) {
+						try {
+							this.lineStroke = Integer.parseInt(child3.getText());
+						} catch (NumberFormatException e) {
+							log.warn("Couldn't parse stroke of line!", e);
+						}
+					}
+				}
+				
+				child2 = child.getChild("fillColor");
+				if (child2 != null) {
+					Color color = CsvConfig.getColor(child2.getText());
+					
+					if (color != null) {
+						this.fillColor = color;
+					} else {
+						log.warn("Wrong syntax of the fill color tag was used! E.g.: 'RED,GREEN,BLUE,ALPHA'");
+					}
+				}
+				
+				child2 = child.getChild("pointImage");
+				if (child2 != null) {
+					this.pointImage = DataUtils.toImage(DataUtils.decodeBase64(child2.getText()));
+				}
+			}
+		} catch (JDOMException e) {
+			throw new IOException("An error occurred on reading config file: " + fileName, e);
+		}
+	}
+	
+	/**
+	 * gives a user-friendly description
+	 *
+	 * @return the description
+	 *
+	 * @since 0.1.0
+	 */
+	public String getDescription() {
+		return this.description;
+	}
+	
+	/**
+	 * gives a text of copyright information
+	 *
+	 * @return the copyright text
+	 *
+	 * @since 0.1.0
+	 */
+	public String getCopyright() {
+		return this.copyright;
+	}
+	
+	/**
+	 * should the first row ignored, in case of headlines?
+	 *
+	 * @return {@code true}, if the first row should be ignored
+	 *
+	 * @since 0.1.0
+	 */
+	public boolean isIgnoreFirstRow() {
+		return this.ignoreFirstRow;
+	}
+	
+	/**
+	 * gives the {@link GeometryObject} type
+	 *
+	 * @return the {@link GeometryObject} type
+	 *
+	 * @since 0.1.0
+	 */
+	public Class<? extends GeometryObject> getGeoType() {
+		return this.geoType;
+	}
+	
+	/**
+	 * gives the column, in which the longitude is stored
+	 *
+	 * @return the column, in which the longitude is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
+	 *
+	 * @since 0.2.0
+	 */
+	public int getLongColumn() {
+		return this.longColumn;
+	}
+	
+	/**
+	 * gives the column, in which the latitude is stored
+	 *
+	 * @return the column, in which the latitude is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
+	 *
+	 * @since 0.2.0
+	 */
+	public int getLatColumn() {
+		return this.latColumn;
+	}
+	
+	/**
+	 * gives the column, in which the elevation is stored
+	 *
+	 * @return the column, in which the elevation is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
+	 *
+	 * @since 0.2.0
+	 */
+	public int getEleColumn() {
+		return this.eleColumn;
+	}
+	
+	/**
+	 * gives the column, in which the CRS is stored
+	 *
+	 * @return the column, in which the CRS is stored or a negative {@link Integer}, if no column is specified (headlines should be used)
+	 *
+	 * @since 0.1.0
+	 */
+	public int getCrsColumn() {
+		return this.crsColumn;
+	}
+	
+	/**
+	 * gives the column, in which the object ID is stored
+	 *
+	 * @return the column, in which the object ID is stored or a negative {@link Integer}, if no column is specified
+	 * and the numbers of the rows are used as synthetic object IDs
+	 *
+	 * @since 0.2.4
+	 */
+	public int getIdColumn() {
+		return this.idColumn;
+	}
+	
+	/**
+	 * gives an array of columns, to group coordinates to {@link GeometryObject}s
+	 *
+	 * @return an array of columns, to group coordinates to {@link GeometryObject}s, if the array is empty the coordinates should not grouped
+	 *
+	 * @since 0.1.0
+	 */
+	public int[] getGroupColumn() {
+		return this.groupColumn.clone();
+	}
+	
+	/**
+	 * gives the {@link Color} to draw a line
+	 *
+	 * @return the {@link Color} to draw a line
+	 *
+	 * @since 0.1.0
+	 */
+	public Color getLineColor() {
+		return this.lineColor;
+	}
+	
+	/**
+	 * gives the stroke to draw a line
+	 *
+	 * @return the stroke to draw a line
+	 *
+	 * @since 0.1.0
+	 */
+	public int getLineStroke() {
+		return this.lineStroke;
+	}
+	
+	/**
+	 * gives the {@link Color}, to fill {@link Polygon}s
+	 *
+	 * @return the {@link Color}, to fill {@link Polygon}s
+	 *
+	 * @since 0.1.0
+	 */
+	public Color getFillColor() {
+		return this.fillColor;
+	}
+	
+	/**
+	 * gives the {@link Image}, which should be used to draw {@link Point}s
+	 *
+	 * @return the {@link Image}, which should be used to draw {@link Point}s
+	 *
+	 * @since 0.1.0
+	 */
+	public Image getPointImage() {
+		return this.pointImage;
+	}
+	
+	/**
+	 * should the features be parsed on every request one by one, instead of holding all of them in memory?
+	 *
+	 * @return {@code true}, if the features should be streamed from the file
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isStreaming() {
+		return this.streaming;
+	}
+	
+	/**
+	 * gives the {@link ParserType} to read the CSV file with
+	 *
+	 * @return the {@link ParserType}
+	 *
+	 * @since 0.4.0
+	 */
+	public ParserType getParser() {
+		return this.parser;
+	}
+	
+	/**
+	 * should a large CSV file be split into chunks, which are parsed in parallel?<br>
+	 * The chunks are always read by a {@link de.conterra.babelfish.csv.parser.MappedRowReader}, independent of {@link #getParser()}.
+	 *
+	 * @return {@code true}, if the CSV file should be parsed in parallel
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isParallel() {
+		return this.parallel;
+	}
+	
+	/**
+	 * should an append-only CSV file be followed by parsing only the appended rows after a change?<br>
+	 * The rows are always read by a {@link de.conterra.babelfish.csv.parser.MappedRowReader}, independent of {@link #getParser()},
+	 * to know the position in the file, at which the parsing has stopped.
+	 *
+	 * @return {@code true}, if the CSV file should be followed
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isFollow() {
+		return this.follow;
+	}
+	
+	/**
+	 * should the parsed rows be stored in a binary snapshot, which is read instead of parsing an unchanged CSV file again?
+	 *
+	 * @return {@code true}, if a snapshot should be used
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isSnapshot() {
+		return this.snapshot;
+	}
+	
+	/**
+	 * gives the folder of the snapshot
+	 *
+	 * @return the folder of the snapshot or {@code null}, if it is stored next to the CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	public File getSnapshotFolder() {
+		return this.snapshotFolder;
+	}
+	
+	/**
+	 * gives the maximum size of the cached HTML contents of the popups
+	 *
+	 * @return the maximum size in kilobytes or {@code 0}, if the contents shouldn't be cached
+	 *
+	 * @since 0.4.0
+	 */
+	public int getPopupCache() {
+		return this.popupCache;
+	}
+	
+	/**
+	 * gives the minimum scale, at which the layer is visible
+	 *
+	 * @return the minimum scale or {@code 0}, if the layer has no minimum scale
+	 *
+	 * @since 0.4.0
+	 */
+	public int getMinScale() {
+		return this.minScale;
+	}
+	
+	/**
+	 * gives the maximum scale, at which the layer is visible
+	 *
+	 * @return the maximum scale or {@code 0}, if the layer has no maximum scale
+	 *
+	 * @since 0.4.0
+	 */
+	public int getMaxScale() {
+		return this.maxScale;
+	}
+	
+	/**
+	 * gives the tolerance of the generalization of {@link Polyline}s and {@link Polygon}s<br>
+	 * A vertex is omitted, if it deviates less than this number of pixels from the generalized geometry at the requested resolution.
+	 *
+	 * @return the tolerance in pixels or {@code 0}, if the geometries shouldn't be generalized
+	 *
+	 * @since 0.4.0
+	 */
+	public double getGeneralization() {
+		return this.generalization;
+	}
+	
+	/**
+	 * gives the size of the cells, into which the points are aggregated to clusters
+	 *
+	 * @return the size of the cells in pixels or {@code 0}, if the points shouldn't be aggregated
+	 *
+	 * @since 0.4.0
+	 */
+	public int getClusterSize() {
+		return this.clusterSize;
+	}
+	
+	/**
+	 * should the {@link FieldType}s and lengths of the header fields be inferred of a sample of the rows?<br>
+	 * Otherwise all header fields are {@link FieldType#String}s with the maximum length, except the configured ones.
+	 *
+	 * @return {@code true}, if the header fields should be inferred
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isInferTypes() {
+		return this.inferTypes;
+	}
+	
+	/**
+	 * gives the configured {@link FieldType}s of the header fields
+	 *
+	 * @return an unmodifiable {@link Map} of the configured {@link FieldType}s, mapped by their column index
+	 *
+	 * @since 0.4.0
+	 */
+	public Map<Integer, FieldType> getFieldTypes() {
+		return Collections.unmodifiableMap(this.fieldTypes);
+	}
+	
+	/**
+	 * gives the configured lengths of the header fields
+	 *
+	 * @return an unmodifiable {@link Map} of the configured lengths, mapped by their column index
+	 *
+	 * @since 0.4.0
+	 */
+	public Map<Integer, Integer> getFieldLengths() {
+		return Collections.unmodifiableMap(this.fieldLengths);
+	}
+	
+	/**
+	 * should the rows be grouped to {@link Multipoint}s, {@link Polygon}s or {@link Polyline}s?<br>
+	 * The attributes of a group contain the joined values of its rows, so they are always {@link FieldType#String}s.
+	 *
+	 * @return {@code true}, if the rows are grouped by {@link #getGroupColumn()}
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isGrouped() {
+		return Multipoint.class.isAssignableFrom(this.geoType) || Polygon.class.isAssignableFrom(this.geoType) || Polyline.class.isAssignableFrom(this.geoType);
+	}
+	
+	/**
+	 * gives the {@link FieldType} with a given name
+	 *
+	 * @param name the name of the {@link FieldType} (case insensitive)
+	 * @return the {@link FieldType} with the given name or {@code null}, if no one exists
+	 *
+	 * @since 0.4.0
+	 */
+	private static FieldType getFieldType(String name) {
+		for (FieldType type : FieldType.values()) {
+			if (type.name().equalsIgnoreCase(name.trim())) {
+				return type;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * extracts the color numbers from a {@link String} and creates a {@link Color}
+	 *
+	 * @param text the {@link String} with syntax "RED,GREEN,BLUE,ALPHA" (alpha is optional)
+	 * @return the generated {@link Color} or {@code null}, is the syntax is corrupted
+	 *
+	 * @throws NumberFormatException if the {@link String} contains non-numeric characters
+	 * @since 0.1.0
+	 */
+	private static Color getColor(String text)
+	throws NumberFormatException {
+		String[] colors = text.split(",");
+		if (colors.length >= 3) {
+			int alpha;
+			
+			if (colors.length >= 4) {
+				alpha = Integer.parseInt(colors[3]);
+			} else {
+				alpha = 255;
+			}
+			
+			return new Color(Integer.parseInt(colors[0]), Integer.parseInt(colors[1]), Integer.parseInt(colors[2]), alpha);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * checks, if a {@link File} is a configuration {@link File} and no CSV data {@link File}
+	 *
+	 * @param file the {@link File} to check
+	 * @return {@code true}, if {@code file} is a configuration {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	static boolean isConfigFile(File file) {
+		return file.getName().endsWith(CsvConfig.EXTENSION);
+	}
+	
+	/**
+	 * gives the configuration {@link File} of a CSV {@link File}<br>
+	 * The configuration of a compressed CSV {@link File} (e.g. {@code data.csv.gz}) could be stored
+	 * next to it ({@code data.csv.gz.xml}) or with the name of the decompressed {@link File} ({@code data.csv.xml}).
+	 *
+	 * @param file the CSV {@link File}
+	 * @return the configuration {@link File} of {@code file}, which might not exist
+	 *
+	 * @since 0.4.0
+	 */
+	public static File getConfigFile(File file) {
+		File result = new File(file.getAbsolutePath() + CsvConfig.EXTENSION);
+		
+		if (!(result.isFile())) {
+			String extension = Compression.of(file).getExtension(file);
+			
+			if (extension != null) {
+				String path = file.getAbsolutePath();
+				
+				result = new File(path.substring(0, path.length() - extension.length()) + CsvConfig.EXTENSION);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * gives the {@link CsvConfig} of a CSV {@link File}
+	 *
+	 * @param file the CSV {@link File} to get the loader of
+	 * @return the {@link CsvConfig} of {@code file} or {@code null}, if no configuration file exists of the given {@link File}
+	 *
+	 * @throws IOException if no configuration file exists and no configuration could load from headlines
+	 * @see CsvDescriptor#load(File)
+	 * @since 0.1.0
+	 */
+	public static CsvConfig getConfig(File file)
+	throws IOException {
+		return CsvDescriptor.load(file).getConfig();
+	}
+	
+	/**
+	 * gives the {@link CsvConfig} of a CSV {@link File}, of which the first row was already read
+	 *
+	 * @param file     the CSV {@link File} to get the loader of
+	 * @param firstRow the cells of the first row of {@code file}, which are used to detect not configured columns
+	 * @return the {@link CsvConfig} of {@code file}
+	 *
+	 * @throws IOException if no configuration file exists and no configuration could load from headlines
+	 * @since 0.4.0
+	 */
+	static CsvConfig getConfig(File file, List<String> firstRow)
+	throws IOException {
+		String fileName   = file.getName();
+		File   configFile = CsvConfig.getConfigFile(file);
+		
+		CsvConfig config = null;
+		try {
+			config = new CsvConfig(configFile);
+		} catch (IllegalArgumentException | IOException e) {
+			log.info("Couldn't read config file of CSV file: " + fileName, e);
+		}
+		
+		if (config == null) {
+			config = new CsvConfig();
+			
+			config.description = "Content of file: " + fileName;
+		}
+		
+		int lon = config.getLongColumn();
+		int lat = config.getLatColumn();
+		int ele = config.getEleColumn();
+		int crs = config.getCrsColumn();
+		int id  = config.getIdColumn();
+		
+		int i = 0;
+		for (String header : firstRow) {
+			if (i != lon && i != lat && i != ele && i != crs && i != id) {
+				if (lon < 0 && (header.equalsIgnoreCase("long") || header.equalsIgnoreCase("lon") || header.equalsIgnoreCase("longitude") || header.equalsIgnoreCase("x"))) {
+					lon = i;
+				} else if (lat < 0 && (header.equalsIgnoreCase("lat") || header.equalsIgnoreCase("latitude") || header.equalsIgnoreCase("y"))) {
+					lat = i;
+				} else if (ele < 0 && (header.equalsIgnoreCase("ele") || header.equalsIgnoreCase("elevation") || header.equalsIgnoreCase("z"))) {
+					ele = i;
+				} else if (crs < 0 && (header.equalsIgnoreCase("CRS") || header.equalsIgnoreCase("EPSG") || header.equalsIgnoreCase("SRS"))) {
+					crs = i;
+				} else if (id < 0 && (header.equalsIgnoreCase("ID") || header.equalsIgnoreCase("ObjectID") || header.equalsIgnoreCase("UID"))) {
+					id = i;
+				}
+			}
+			
+			i++;
+		}
+		
+		if (lon < 0 || lat < 0 || crs < 0) {
+			throw new IOException("A configuration file or column headers of coordinates and reference system are necessary for CSV file: " + fileName);
+		}
+		
+		config.longColumn = lon;
+		config.latColumn = lat;
+		config.eleColumn = ele;
+		config.crsColumn = crs;
+		config.idColumn = id;
+		
+		return config;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+package de.conterra.babelfish.csv;
+
+import de.conterra.babelfish.csv.data.LayerSnapshot;
+import de.conterra.babelfish.csv.parser.Compression;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import de.conterra.babelfish.util.DataUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.List;
+
+/**
+ * defines the immutable description of a CSV {@link File}<br>
+ * It holds the {@link CsvConfig} with the resolved columns and the header fields, which are loaded together by opening the {@link File} only once.
+ * The {@link FieldType}s and lengths of the header fields are inferred of the first {@link #SAMPLE_ROWS} rows (see {@link ColumnSample}),
+ * unless they are configured or the inference is disabled by {@link CsvConfig#isInferTypes()}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@Slf4j
+public final class CsvDescriptor {
+	/**
+	 * the maximum number of rows, of which the header fields are inferred
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int SAMPLE_ROWS = 1000;
+	
+	/**
+	 * the CSV {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	private final File                file;
+	/**
+	 * the configuration with the resolved columns
+	 *
+	 * @since 0.4.0
+	 */
+	private final CsvConfig           config;
+	/**
+	 * the cells of the first row
+	 *
+	 * @since 0.4.0
+	 */
+	private final List<String>        firstRow;
+	/**
+	 * header fields (from column headers)
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<Integer, Field> headers;
+	
+	/**
+	 * constructor, with all necessary attributes
+	 *
+	 * @param file     the CSV {@link File}
+	 * @param config   the configuration with the resolved columns
+	 * @param firstRow the cells of the first row
+	 * @param samples  the samples of the columns, of which the header fields are inferred
+	 * @param complete were all rows sampled?
+	 * @since 0.4.0
+	 */
+	private CsvDescriptor(File file, CsvConfig config, List<String> firstRow, List<ColumnSample> samples, boolean complete) {
+		this.file = file;
+		this.config = config;
+		this.firstRow = Collections.unmodifiableList(new ArrayList<>(firstRow));
+		
+		Map<Integer, Field>     headers = new HashMap<>();
+		Map<Integer, FieldType> types   = config.getFieldTypes();
+		Map<Integer, Integer>   lengths = config.getFieldLengths();
+		boolean                 grouped = config.isGrouped();
+		
+		if (config.isIgnoreFirstRow()) {
+			int i = 0;
+			for (String header : firstRow) {
+				if (i != config.getLongColumn()
+				    && i != config.getLatColumn()
+				    && i != config.getEleColumn()
+				    && i != config.getCrsColumn()) {
+					FieldType type   = FieldType.String;
+					int       length = ColumnSample.MAX_LENGTH;
+					
+					if (i < samples.size() && !(grouped)) {
+						type = samples.get(i).getType();
+						length = samples.get(i).getLength(complete);
+					}
+					
+					if (types.containsKey(i) && !(grouped)) {
+						type = types.get(i);
+					}
+					if (lengths.containsKey(i)) {
+						length = lengths.get(i);
+					}
+					
+					headers.put(i, new SimpleField(header, type, "", false, length, null));
+				}
+				
+				i++;
+			}
+		}
+		this.headers = Collections.unmodifiableMap(headers);
+	}
+	
+	/**
+	 * gives the CSV {@link File}
+	 *
+	 * @return the CSV {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	public File getFile() {
+		return this.file;
+	}
+	
+	/**
+	 * gives the configuration with the resolved columns
+	 *
+	 * @return the configuration
+	 *
+	 * @since 0.4.0
+	 */
+	public CsvConfig getConfig() {
+		return this.config;
+	}
+	
+	/**
+	 * gives the cells of the first row<br>
+	 * These are the column names, if the first row should be ignored.
+	 *
+	 * @return an unmodifiable {@link List} of the cells of the first row or an empty {@link List}, if the {@link File} is empty
+	 *
+	 * @since 0.4.0
+	 */
+	public List<String> getFirstRow() {
+		return this.firstRow;
+	}
+	
+	/**
+	 * gives a {@link Map} of header fields (from column headers)
+	 *
+	 * @return an unmodifiable {@link Map} of header fields (from column headers)
+	 *
+	 * @since 0.4.0
+	 */
+	public Map<Integer, Field> getHeaders() {
+		return this.headers;
+	}
+	
+	/**
+	 * loads the {@link CsvDescriptor} of a CSV {@link File}<br>
+	 * The CSV {@link File} and its configuration file are read only once.
+	 *
+	 * @param file the CSV {@link File} to load the description of
+	 * @return the loaded {@link CsvDescriptor}
+	 *
+	 * @throws IOException              if no configuration file exists and no configuration could load from headlines
+	 * @throws IllegalArgumentException if the given {@link File} is a configuration or snapshot {@link File} and no data {@link File}
+	 * @since 0.4.0
+	 */
+	public static CsvDescriptor load(File file)
+	throws IOException, IllegalArgumentException {
+		String fileName = file.getName();
+		
+		if (CsvConfig.isConfigFile(file)) {
+			String msg = "The given CSV file ends with '" + CsvConfig.EXTENSION + "', so it is a config file --> ignore.";
+			log.debug(msg);
+			throw new IllegalArgumentException(msg);
+		}
+		
+		if (LayerSnapshot.isSnapshotFile(file)) {
+			String msg = "The given CSV file ends with '" + LayerSnapshot.EXTENSION + "', so it is a snapshot file --> ignore.";
+			log.debug(msg);
+			throw new IllegalArgumentException(msg);
+		}
+		
+		List<String>       firstRow = new ArrayList<>();
+		List<ColumnSample> samples  = new ArrayList<>();
+		boolean            complete = false;
+		CsvConfig          config;
+		
+		Reader reader = null;
+		try {
+			Iterator<CSVRecord> records;
+			
+			try {
+				reader = Compression.of(file).openReader(file);
+				records = CSVFormat.EXCEL.parse(reader).iterator();
+				
+				if (records.hasNext()) {
+					for (String cell : records.next()) {
+						firstRow.add(cell);
+					}
+				}
+			} catch (IOException | IllegalStateException e) {
+				throw new IOException("Couldn't read column names from CSV file: " + fileName, e);
+			}
+			
+			config = CsvConfig.getConfig(file, firstRow);
+			
+			if (config.isIgnoreFirstRow() && config.isInferTypes()) {
+				for (int i = 0; i < firstRow.size(); i++) {
+					samples.add(new ColumnSample());
+				}
+				
+				try {
+					for (int row = 0; row < CsvDescriptor.SAMPLE_ROWS && records.hasNext(); row++) {
+						CSVRecord record = records.next();
+						
+						for (int i = 0; i < samples.size() && i < record.size(); i++) {
+							samples.get(i).add(record.get(i));
+						}
+					}
+					
+					complete = !(records.hasNext());
+				} catch (IllegalStateException e) {
+					log.warn("Couldn't read all sample rows of CSV file: " + fileName, e);
+				}
+			}
+		} finally {
+			DataUtils.closeStream(reader);
+		}
+		
+		return new CsvDescriptor(file, config, firstRow, samples, complete);
+	}
+}
@@ -1,102 +1,398 @@
-package de.conterra.babelfish.csv;
-
-import de.conterra.babelfish.plugin.Plugin;
-import de.conterra.babelfish.plugin.PluginAdapter;
-import de.conterra.babelfish.plugin.RestService;
-import de.conterra.babelfish.plugin.ServiceContainer;
-import de.conterra.babelfish.plugin.v10_02.feature.FeatureService;
-import de.conterra.babelfish.util.DataUtils;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.Reader;
-import java.net.URISyntaxException;
-
-/**
- * defines a {@link Plugin}, which represents CSV files as a {@link FeatureService}
- *
- * @author ChrissW-R1
- * @version 0.4.0
- * @since 0.1.0
- */
-@Slf4j
-public class CsvPlugin
-		implements Plugin {
-	/**
-	 * the only instance of a {@link CsvPlugin}<br>
-	 * (singleton pattern)
-	 *
-	 * @since 0.1.0
-	 */
-	public static final CsvPlugin INSTANCE = new CsvPlugin();
-	
-	/**
-	 * standard constructor
-	 *
-	 * @since 0.1.0
-	 */
-	public CsvPlugin() {
-	}
-	
-	@Override
-	public String getName() {
-		return "CSV";
-	}
-	
-	@Override
-	public boolean init() {
-		boolean result = true;
-		
-		try {
-			File pluginFolder = new File(PluginAdapter.getPluginFolder(CsvPlugin.INSTANCE).toURI());
-			
-			for (File file : pluginFolder.listFiles()) {
-				String fileName = file.getName();
-				
-				Reader reader = null;
-				try {
-					reader = new FileReader(file);
-					CSVFormat.EXCEL.parse(reader);
-					
-					try {
-						if (!(ServiceContainer.registerService(new CsvService(file)))) {
-							result = false;
-						}
-					} catch (IllegalArgumentException e) {
-						log.debug("Ignore the file " + fileName + ", because it is a config file and no CSV data file.", e);
-					} catch (IOException e) {
-						log.warn("The configuration of " + fileName + " couldn't be loaded!", e);
-						
-						result = false;
-					}
-				} catch (IOException e) {
-					log.debug("The file " + fileName + " is not a valid CSV.", e);
-				}
-				
-				DataUtils.closeStream(reader);
-			}
-		} catch (URISyntaxException e) {
-			String msg = "Exception occurred: " + e.getMessage();
-			log.error(msg, e);
-			throw new NullPointerException(msg);
-		}
-		
-		return result;
-	}
-	
-	@Override
-	public boolean shutdown() {
-		boolean result = true;
-		
-		for (RestService service : ServiceContainer.getServices(this.getName())) {
-			if (!(ServiceContainer.unregisterService(service))) {
-				result = false;
-			}
-		}
-		
-		return result;
-	}
-}
+package de.conterra.babelfish.csv;
+
+import de.conterra.babelfish.csv.data.CrsCache;
+import de.conterra.babelfish.csv.data.LayerSnapshot;
+import de.conterra.babelfish.csv.metrics.MetricsRegistries;
+import de.conterra.babelfish.csv.parser.Compression;
+import de.conterra.babelfish.plugin.Plugin;
+import de.conterra.babelfish.plugin.PluginAdapter;
+import de.conterra.babelfish.plugin.RestService;
+import de.conterra.babelfish.plugin.ServiceContainer;
+import de.conterra.babelfish.plugin.v10_02.feature.FeatureService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * defines a {@link Plugin}, which represents CSV files as a {@link FeatureService}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+@Slf4j
+public class CsvPlugin
+		implements Plugin {
+	/**
+	 * the only instance of a {@link CsvPlugin}<br>
+	 * (singleton pattern)
+	 *
+	 * @since 0.1.0
+	 */
+	public static final CsvPlugin INSTANCE = new CsvPlugin();
+	/**
+	 * the time in milliseconds without any further change of a {@link File} in the plugin folder, before it is loaded again
+	 *
+	 * @since 0.4.0
+	 */
+	public static final long      DELAY    = 1000L;
+	
+	/**
+	 * defines the result of loading a {@link File} on startup
+	 *
+	 * @since 0.4.0
+	 */
+	private static final class LoadedFile {
+		/**
+		 * the loaded {@link File}
+		 *
+		 * @since 0.4.0
+		 */
+		private final File       file;
+		/**
+		 * the created {@link CsvService} or {@code null}, if the {@link File} is no CSV data file
+		 *
+		 * @since 0.4.0
+		 */
+		private final CsvService service;
+		/**
+		 * could the configuration of a CSV data file not be loaded?
+		 *
+		 * @since 0.4.0
+		 */
+		private final boolean    failed;
+		/**
+		 * the loading time in nanoseconds
+		 *
+		 * @since 0.4.0
+		 */
+		private final long       duration;
+		
+		/**
+		 * constructor, with all necessary attributes
+		 *
+		 * @param file     the loaded {@link File}
+		 * @param service  the created {@link CsvService} or {@code null}, if the {@link File} is no CSV data file
+		 * @param failed   could the configuration of a CSV data file not be loaded?
+		 * @param duration the loading time in nanoseconds
+		 * @since 0.4.0
+		 */
+		private LoadedFile(File file, CsvService service, boolean failed, long duration) {
+			this.file = file;
+			this.service = service;
+			this.failed = failed;
+			this.duration = duration;
+		}
+	}
+	
+	/**
+	 * the registered {@link CsvService}s by their absolute CSV {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<File, CsvService> services = new ConcurrentHashMap<>();
+	/**
+	 * the {@link FolderWatcher} of the plugin folder or {@code null}, if the plugin isn't started
+	 *
+	 * @since 0.4.0
+	 */
+	private FolderWatcher               watcher  = null;
+	
+	/**
+	 * standard constructor
+	 *
+	 * @since 0.1.0
+	 */
+	public CsvPlugin() {
+	}
+	
+	@Override
+	public String getName() {
+		return "CSV";
+	}
+	
+	@Override
+	public boolean init() {
+		boolean result = true;
+		
+		try {
+			File   pluginFolder = new File(PluginAdapter.getPluginFolder(CsvPlugin.INSTANCE).toURI());
+			File[] files        = pluginFolder.listFiles();
+			
+			if (files == null) {
+				log.error("The plugin folder " + pluginFolder + " couldn't be read!");
+				return false;
+			}
+			
+			Arrays.sort(files);
+			
+			long            start    = System.nanoTime();
+			int             threads  = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), files.length));
+			AtomicInteger   counter  = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "csv-startup-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				
+				return thread;
+			});
+			
+			int services = 0;
+			try {
+				List<Future<LoadedFile>> futures = new ArrayList<>();
+				for (File file : files) {
+					futures.add(executor.submit(() -> CsvPlugin.load(file)));
+				}
+				
+				for (int i = 0; i < futures.size(); i++) {
+					LoadedFile loaded;
+					try {
+						loaded = futures.get(i).get();
+					} catch (ExecutionException e) {
+						log.error("An unexpected error occurred on loading the CSV file " + files[i].getName() + "!", e.getCause());
+						
+						result = false;
+						continue;
+					}
+					
+					String fileName = loaded.file.getName();
+					long   duration = loaded.duration / 1000000L;
+					
+					if (loaded.failed) {
+						result = false;
+					}
+					
+					if (loaded.service != null) {
+						if (ServiceContainer.registerService(loaded.service)) {
+							this.services.put(loaded.file.getAbsoluteFile(), loaded.service);
+							MetricsRegistries.register(loaded.service.getMetrics());
+							services++;
+							
+							log.info("Loaded the CSV file " + fileName + " in " + duration + " ms.");
+						} else {
+							result = false;
+						}
+					} else {
+						log.debug("Checked the file " + fileName + " in " + duration + " ms.");
+					}
+				}
+			} catch (InterruptedException e) {
+				log.error("The startup was interrupted!", e);
+				Thread.currentThread().interrupt();
+				
+				result = false;
+			} finally {
+				executor.shutdownNow();
+			}
+			
+			log.info("Started " + services + " CSV services of " + files.length + " files with " + threads + " threads in " + ((System.nanoTime() - start) / 1000000L) + " ms.");
+			
+			this.watch(pluginFolder);
+		} catch (URISyntaxException e) {
+			String msg = "Exception occurred: " + e.getMessage();
+			log.error(msg, e);
+			throw new NullPointerException(msg);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * loads the {@link CsvDescriptor} of a {@link File} and creates its {@link CsvService}<br>
+	 * The {@link File} is opened only once to read the header and resolve the configuration.
+	 *
+	 * @param file the {@link File} to load
+	 * @return the {@link LoadedFile}
+	 *
+	 * @since 0.4.0
+	 */
+	private static LoadedFile load(File file) {
+		long       start    = System.nanoTime();
+		String     fileName = file.getName();
+		CsvService service  = null;
+		boolean    failed   = false;
+		
+		if (file.isFile()) {
+			try {
+				service = new CsvService(CsvDescriptor.load(file));
+			} catch (IllegalArgumentException e) {
+				log.debug("Ignore the file " + fileName + ", because it is a config or snapshot file and no CSV data file.", e);
+			} catch (IOException e) {
+				log.warn("The configuration of " + fileName + " couldn't be loaded!", e);
+				
+				failed = true;
+			}
+		} else {
+			log.debug("Ignore " + fileName + ", because it is not a file.");
+		}
+		
+		return new LoadedFile(file, service, failed, System.nanoTime() - start);
+	}
+	
+	/**
+	 * starts watching the plugin folder, so added, changed and removed CSV {@link File}s are loaded again without a restart
+	 *
+	 * @param pluginFolder the plugin folder to watch
+	 * @since 0.4.0
+	 */
+	private void watch(File pluginFolder) {
+		try {
+			this.watcher = new FolderWatcher(pluginFolder, CsvPlugin.DELAY, new FolderWatcher.Listener() {
+				@Override
+				public void changed(File file) {
+					CsvPlugin.this.reload(file, false);
+				}
+				
+				@Override
+				public void overflowed() {
+					CsvPlugin.this.reloadAll(pluginFolder);
+				}
+			});
+			this.watcher.start();
+		} catch (IOException | UnsupportedOperationException e) {
+			log.warn("The plugin folder " + pluginFolder + " couldn't be watched, so changed CSV files are only loaded on a restart!", e);
+		}
+	}
+	
+	/**
+	 * loads a changed {@link File} of the plugin folder again and swaps the {@link CsvService} of its CSV {@link File}<br>
+	 * A changed configuration {@link File} always leads to a new {@link CsvService}.
+	 * If only the rows of a CSV {@link File} changed, the registered {@link CsvService} is kept, because its layer loads the rows again on its own.
+	 * All other {@link CsvService}s are not touched.
+	 *
+	 * @param changed the changed {@link File}
+	 * @param force   should a new {@link CsvService} be created in any case?
+	 * @since 0.4.0
+	 */
+	private synchronized void reload(File changed, boolean force) {
+		if (LayerSnapshot.isSnapshotFile(changed)) {
+			return;
+		}
+		
+		boolean    config   = CsvConfig.isConfigFile(changed);
+		String     path     = changed.getAbsolutePath();
+		File       file     = config ? Compression.resolve(new File(path.substring(0, path.length() - CsvConfig.EXTENSION.length()))) : changed.getAbsoluteFile();
+		String     fileName = file.getName();
+		CsvService previous = this.services.get(file);
+		
+		if (!(file.isFile())) {
+			if (previous != null) {
+				if (ServiceContainer.unregisterService(previous)) {
+					this.services.remove(file);
+					MetricsRegistries.unregister(previous.getMetrics());
+					log.info("Removed the CSV service of " + fileName + ", because the file doesn't exist anymore.");
+				} else {
+					log.warn("The CSV service of the removed file " + fileName + " couldn't be unregistered!");
+				}
+			}
+			
+			return;
+		}
+		
+		LoadedFile loaded  = CsvPlugin.load(file);
+		CsvService service = loaded.service;
+		
+		if (service == null) {
+			return;
+		}
+		
+		if (previous != null && !(force || config) && previous.getDescriptor().getFirstRow().equals(service.getDescriptor().getFirstRow())) {
+			log.debug("Kept the CSV service of " + fileName + ", because only its rows changed.");
+			return;
+		}
+		
+		if (previous != null && !(ServiceContainer.unregisterService(previous))) {
+			log.warn("The CSV service of " + fileName + " couldn't be unregistered, so the changes are ignored!");
+			return;
+		}
+		
+		if (previous != null) {
+			MetricsRegistries.unregister(previous.getMetrics());
+		}
+		
+		if (ServiceContainer.registerService(service)) {
+			this.services.put(file, service);
+			MetricsRegistries.register(service.getMetrics());
+			log.info((previous != null ? "Reloaded" : "Loaded") + " the CSV file " + fileName + " in " + (loaded.duration / 1000000L) + " ms.");
+		} else if (previous != null && ServiceContainer.registerService(previous)) {
+			MetricsRegistries.register(previous.getMetrics());
+			log.warn("The reloaded CSV service of " + fileName + " couldn't be registered, so the previous one is kept!");
+		} else {
+			this.services.remove(file);
+			log.error("The CSV service of " + fileName + " couldn't be registered!");
+		}
+	}
+	
+	/**
+	 * loads all {@link File}s of the plugin folder again, after changes of the folder were lost
+	 *
+	 * @param pluginFolder the plugin folder
+	 * @since 0.4.0
+	 */
+	private synchronized void reloadAll(File pluginFolder) {
+		Set<File> files = new LinkedHashSet<>(this.services.keySet());
+		
+		File[] current = pluginFolder.listFiles();
+		if (current != null) {
+			Arrays.sort(current);
+			
+			for (File file : current) {
+				if (!(CsvConfig.isConfigFile(file))) {
+					files.add(file.getAbsoluteFile());
+				}
+			}
+		}
+		
+		log.info("Changes of the plugin folder " + pluginFolder + " were lost, so all " + files.size() + " files are loaded again.");
+		
+		for (File file : files) {
+			this.reload(file, true);
+		}
+	}
+	
+	@Override
+	public boolean shutdown() {
+		boolean result = true;
+		
+		if (this.watcher != null) {
+			try {
+				this.watcher.close();
+			} catch (IOException e) {
+				log.warn("The watcher of the plugin folder couldn't be closed!", e);
+			}
+			
+			this.watcher = null;
+		}
+		
+		for (RestService service : ServiceContainer.getServices(this.getName())) {
+			if (!(ServiceContainer.unregisterService(service))) {
+				result = false;
+			}
+		}
+		
+		for (CsvService service : this.services.values()) {
+			MetricsRegistries.unregister(service.getMetrics());
+		}
+		
+		this.services.clear();
+		
+		CrsCache crsCache = CrsCache.INSTANCE;
+		log.debug("Decoded " + crsCache.getMisses() + " CRS codes, " + crsCache.getHits() + " were taken from the cache.");
+		crsCache.clear();
+		
+		return result;
+	}
+}
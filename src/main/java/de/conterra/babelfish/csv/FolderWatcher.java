@@ -0,0 +1,263 @@
+package de.conterra.babelfish.csv;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * defines a watcher of a folder, which reports created, modified and deleted {@link File}s on a background thread<br>
+ * The events are debounced per {@link File}, so a burst of events (e.g. while a large {@link File} is copied)
+ * is reported only once, after no further event of the {@link File} occurred for a given delay.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@Slf4j
+public class FolderWatcher
+		implements Closeable {
+	/**
+	 * defines the listener of the changes of a watched folder
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public interface Listener {
+		/**
+		 * called, after a {@link File} was created, modified or deleted
+		 *
+		 * @param file the changed {@link File}, which doesn't exist anymore, if it was deleted
+		 * @since 0.4.0
+		 */
+		void changed(File file);
+		
+		/**
+		 * called, after events were lost, so every {@link File} of the folder could have been changed
+		 *
+		 * @since 0.4.0
+		 */
+		void overflowed();
+	}
+	
+	/**
+	 * the watched folder
+	 *
+	 * @since 0.4.0
+	 */
+	private final Path            folder;
+	/**
+	 * the time in nanoseconds without any further event, before a change is reported
+	 *
+	 * @since 0.4.0
+	 */
+	private final long            delay;
+	/**
+	 * the {@link Listener}, which gets the changes
+	 *
+	 * @since 0.4.0
+	 */
+	private final Listener        listener;
+	/**
+	 * the {@link WatchService}, at which {@link #folder} is registered
+	 *
+	 * @since 0.4.0
+	 */
+	private final WatchService    service;
+	/**
+	 * the background thread, which takes the events
+	 *
+	 * @since 0.4.0
+	 */
+	private final Thread          thread;
+	/**
+	 * the changed {@link File}s, which aren't reported yet, together with the time of their last event in nanoseconds<br>
+	 * It is only accessed by {@link #thread}.
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<File, Long> pending = new LinkedHashMap<>();
+	/**
+	 * the time of the last lost events in nanoseconds or {@code null}, if no events were lost since the last report<br>
+	 * It is only accessed by {@link #thread}.
+	 *
+	 * @since 0.4.0
+	 */
+	private Long overflow = null;
+	
+	/**
+	 * constructor, which registers the folder, but doesn't start watching yet
+	 *
+	 * @param folder   the folder to watch
+	 * @param delay    the time in milliseconds without any further event, before a change is reported
+	 * @param listener the {@link Listener}, which gets the changes
+	 * @throws IOException if the folder couldn't be registered
+	 * @since 0.4.0
+	 */
+	public FolderWatcher(File folder, long delay, Listener listener)
+	throws IOException {
+		this.folder = folder.toPath();
+		this.delay = TimeUnit.MILLISECONDS.toNanos(delay);
+		this.listener = listener;
+		this.service = this.folder.getFileSystem().newWatchService();
+		
+		try {
+			this.folder.register(this.service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+		} catch (IOException | RuntimeException e) {
+			this.service.close();
+			throw e;
+		}
+		
+		this.thread = new Thread(this::run, "csv-watcher");
+		this.thread.setDaemon(true);
+	}
+	
+	/**
+	 * starts watching the folder on the background thread
+	 *
+	 * @since 0.4.0
+	 */
+	public void start() {
+		this.thread.start();
+		
+		log.debug("Started watching the folder " + this.folder + ".");
+	}
+	
+	/**
+	 * takes the events of the folder and reports the debounced changes, until the {@link FolderWatcher} is closed
+	 *
+	 * @since 0.4.0
+	 */
+	private void run() {
+		try {
+			while (!(Thread.currentThread().isInterrupted())) {
+				long     wait = this.getWait();
+				WatchKey key  = wait < 0 ? this.service.take() : this.service.poll(wait, TimeUnit.NANOSECONDS);
+				
+				if (key != null) {
+					long now = System.nanoTime();
+					
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+							this.overflow = now;
+						} else {
+							File file = this.folder.resolve((Path) event.context()).toFile();
+							
+							this.pending.remove(file);
+							this.pending.put(file, now);
+						}
+					}
+					
+					if (!(key.reset())) {
+						log.warn("The folder " + this.folder + " couldn't be watched anymore!");
+						return;
+					}
+				}
+				
+				this.report();
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			log.debug("Stopped watching the folder " + this.folder + ".");
+		}
+	}
+	
+	/**
+	 * gives the time until the next change should be reported
+	 *
+	 * @return the time in nanoseconds or {@code -1}, if no change is pending
+	 *
+	 * @since 0.4.0
+	 */
+	private long getWait() {
+		Long last = this.overflow;
+		
+		if (!(this.pending.isEmpty())) {
+			long first = this.pending.values().iterator().next();
+			
+			last = last != null ? Math.min(last, first) : first;
+		}
+		
+		if (last == null) {
+			return -1;
+		}
+		
+		return Math.max(1, last + this.delay - System.nanoTime());
+	}
+	
+	/**
+	 * reports all changes, which got no further event for {@link #delay}
+	 *
+	 * @since 0.4.0
+	 */
+	private void report() {
+		long now = System.nanoTime();
+		
+		if (this.overflow != null && now - this.overflow >= this.delay) {
+			this.overflow = null;
+			this.pending.clear();
+			
+			try {
+				this.listener.overflowed();
+			} catch (RuntimeException e) {
+				log.error("An unexpected error occurred on reloading the folder " + this.folder + "!", e);
+			}
+			
+			return;
+		}
+		
+		List<File> files = new ArrayList<>();
+		
+		Iterator<Map.Entry<File, Long>> iterator = this.pending.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<File, Long> entry = iterator.next();
+			
+			if (now - entry.getValue() < this.delay) {
+				break;
+			}
+			
+			files.add(entry.getKey());
+			iterator.remove();
+		}
+		
+		for (File file : files) {
+			try {
+				this.listener.changed(file);
+			} catch (RuntimeException e) {
+				log.error("An unexpected error occurred on reloading the file " + file.getName() + "!", e);
+			}
+		}
+	}
+	
+	/**
+	 * stops watching the folder and waits for the background thread to finish the current report
+	 *
+	 * @throws IOException if the {@link WatchService} couldn't be closed
+	 * @since 0.4.0
+	 */
+	@Override
+	public void close()
+	throws IOException {
+		this.thread.interrupt();
+		this.service.close();
+		
+		try {
+			this.thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
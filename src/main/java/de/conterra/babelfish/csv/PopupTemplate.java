@@ -0,0 +1,293 @@
+package de.conterra.babelfish.csv;
+
+import de.conterra.babelfish.csv.parser.ValueParser;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * defines the template of the HTML content of a {@link SimplePopup}, which is built once per layer of its header {@link Field}s<br>
+ * The markup of every row is prepared in advance, so the content is written into a single pre-sized buffer.
+ * The rendered content could be cached per feature, up to a maximum number of characters.
+ * The typed values of the parsed CSV data are rendered like the cells, they were parsed of (see {@link #format(Object, Object)}).
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class PopupTemplate {
+	/**
+	 * a template without any {@link Field}s, which renders all attributes in the order of their {@link Map}
+	 *
+	 * @since 0.4.0
+	 */
+	public static final PopupTemplate EMPTY = new PopupTemplate(Collections.<Field>emptyList(), 0);
+	
+	/**
+	 * the markup before the object name
+	 *
+	 * @since 0.4.0
+	 */
+	private static final String HEAD      = "<html>"
+	                                        + " <body>"
+	                                        + "  <h2>Object-Info</h2>"
+	                                        + "  <p>Object: <b>";
+	/**
+	 * the markup between the object name and the first attribute
+	 *
+	 * @since 0.4.0
+	 */
+	private static final String TABLE     = "</b></p>"
+	                                        + "  <table>"
+	                                        + "   <tr>"
+	                                        + "    <th>key</th>"
+	                                        + "    <th>value</th>"
+	                                        + "   </tr>";
+	/**
+	 * the markup before the key of an attribute
+	 *
+	 * @since 0.4.0
+	 */
+	private static final String ROW_START = "   <tr>"
+	                                        + "    <td>";
+	/**
+	 * the markup between the key and the value of an attribute
+	 *
+	 * @since 0.4.0
+	 */
+	private static final String ROW_VALUE = "</td>"
+	                                        + "    <td>";
+	/**
+	 * the markup after the value of an attribute
+	 *
+	 * @since 0.4.0
+	 */
+	private static final String ROW_END   = "</td>"
+	                                        + "   </tr>";
+	/**
+	 * the markup after the last attribute
+	 *
+	 * @since 0.4.0
+	 */
+	private static final String TAIL      = "  </table>"
+	                                        + " </body>"
+	                                        + "</html>";
+	/**
+	 * the expected length of an object name or a value, which is used to pre-size the buffer
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int    VALUE     = 16;
+	/**
+	 * the milliseconds of a day
+	 *
+	 * @since 0.4.0
+	 */
+	private static final long   DAY       = 86400000L;
+	
+	/**
+	 * the {@link Field}s in the order of their rows
+	 *
+	 * @since 0.4.0
+	 */
+	private final Field[]             fields;
+	/**
+	 * the markup of every row of {@link #fields} up to its value
+	 *
+	 * @since 0.4.0
+	 */
+	private final String[]            rows;
+	/**
+	 * the {@link Field}s of {@link #fields}, to find attributes, which are not part of this template
+	 *
+	 * @since 0.4.0
+	 */
+	private final Set<Field>          known;
+	/**
+	 * the expected length of a rendered content
+	 *
+	 * @since 0.4.0
+	 */
+	private final int                 length;
+	/**
+	 * the maximum number of cached characters or {@code 0}, if no content is cached
+	 *
+	 * @since 0.4.0
+	 */
+	private final long                capacity;
+	/**
+	 * the cached contents by the keys of their features in access order or {@code null}, if no content is cached
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<Object, String> cache;
+	/**
+	 * the number of currently cached characters
+	 *
+	 * @since 0.4.0
+	 */
+	private long                      cached = 0;
+	
+	/**
+	 * constructor, with given {@link Field}s and cache size
+	 *
+	 * @param fields   the {@link Field}s in the order of their rows
+	 * @param capacity the maximum number of cached characters or {@code 0}, if no content should be cached
+	 * @since 0.4.0
+	 */
+	public PopupTemplate(Collection<? extends Field> fields, long capacity) {
+		this.fields = fields.toArray(new Field[fields.size()]);
+		this.rows = new String[this.fields.length];
+		this.known = new HashSet<>(fields);
+		this.capacity = capacity;
+		this.cache = capacity > 0 ? new LinkedHashMap<>(16, 0.75f, true) : null;
+		
+		int length = PopupTemplate.HEAD.length() + PopupTemplate.TABLE.length() + PopupTemplate.TAIL.length() + PopupTemplate.VALUE;
+		for (int i = 0; i < this.fields.length; i++) {
+			this.rows[i] = PopupTemplate.ROW_START + this.fields[i].getName() + PopupTemplate.ROW_VALUE;
+			length += this.rows[i].length() + PopupTemplate.ROW_END.length() + PopupTemplate.VALUE;
+		}
+		this.length = length;
+	}
+	
+	/**
+	 * renders the HTML content of a feature<br>
+	 * The attributes of the {@link Field}s of this template are rendered in their order,
+	 * all other attributes afterwards in the order of {@code attributes}.
+	 *
+	 * @param key        the key of the feature, under which the content is cached, or {@code null}, if it shouldn't be cached
+	 * @param objectName the name of the feature
+	 * @param attributes the attributes of the feature by their {@link Field}s or names
+	 * @return the rendered content
+	 *
+	 * @since 0.4.0
+	 */
+	public String render(Object key, String objectName, Map<?, ?> attributes) {
+		if (key != null && this.cache != null) {
+			synchronized (this.cache) {
+				String content = this.cache.get(key);
+				
+				if (content != null) {
+					return content;
+				}
+			}
+		}
+		
+		String content = this.render(objectName, attributes);
+		
+		if (key != null && this.cache != null && content.length() <= this.capacity) {
+			synchronized (this.cache) {
+				String previous = this.cache.put(key, content);
+				
+				this.cached += content.length() - (previous != null ? previous.length() : 0);
+				
+				Iterator<String> eldest = this.cache.values().iterator();
+				while (this.cached > this.capacity && eldest.hasNext()) {
+					this.cached -= eldest.next().length();
+					eldest.remove();
+				}
+			}
+		}
+		
+		return content;
+	}
+	
+	/**
+	 * renders the HTML content of a feature into a single pre-sized buffer
+	 *
+	 * @param objectName the name of the feature
+	 * @param attributes the attributes of the feature by their {@link Field}s or names
+	 * @return the rendered content
+	 *
+	 * @since 0.4.0
+	 */
+	private String render(String objectName, Map<?, ?> attributes) {
+		int           extra  = Math.max(0, attributes.size() - this.fields.length);
+		StringBuilder result = new StringBuilder(this.length + extra * (PopupTemplate.ROW_START.length() + PopupTemplate.ROW_VALUE.length() + PopupTemplate.ROW_END.length() + 2 * PopupTemplate.VALUE));
+		
+		result.append(PopupTemplate.HEAD).append(objectName).append(PopupTemplate.TABLE);
+		
+		int found = 0;
+		for (int i = 0; i < this.fields.length; i++) {
+			Object value = attributes.get(this.fields[i]);
+			
+			if (value != null || attributes.containsKey(this.fields[i])) {
+				result.append(this.rows[i]).append(PopupTemplate.format(this.fields[i], value)).append(PopupTemplate.ROW_END);
+				found++;
+			}
+		}
+		
+		if (found < attributes.size()) {
+			for (Map.Entry<?, ?> attribute : attributes.entrySet()) {
+				Object key = attribute.getKey();
+				
+				if (!(this.known.contains(key))) {
+					result.append(PopupTemplate.ROW_START)
+					      .append(key instanceof Field ? ((Field) key).getName() : key)
+					      .append(PopupTemplate.ROW_VALUE)
+					      .append(PopupTemplate.format(key, attribute.getValue()))
+					      .append(PopupTemplate.ROW_END);
+				}
+			}
+		}
+		
+		return result.append(PopupTemplate.TAIL).toString();
+	}
+	
+	/**
+	 * formats the value of an attribute like the cell, it was parsed of<br>
+	 * The milliseconds of a {@link FieldType#Date} {@link Field} are formatted as ISO-8601 date, which omits the time at midnight,
+	 * a decimal number in plain notation without trailing zeros (e.g. {@code 10000000} instead of {@code 1.0E7}).
+	 * All other values are formatted by their {@link Object#toString()}.
+	 *
+	 * @param key   the {@link Field} or the name of the attribute
+	 * @param value the value of the attribute
+	 * @return the formatted value
+	 *
+	 * @since 0.4.0
+	 */
+	private static Object format(Object key, Object value) {
+		if (value instanceof Long && key instanceof Field && ((Field) key).getType() == FieldType.Date) {
+			long millis = (Long) value;
+			
+			return millis % PopupTemplate.DAY == 0L ? ValueParser.formatDate(millis).substring(0, 10) : ValueParser.formatDate(millis);
+		}
+		
+		if (value instanceof Double) {
+			double number = (Double) value;
+			
+			if (Double.isNaN(number) || Double.isInfinite(number)) {
+				return value;
+			}
+			
+			return number == 0.0 ? "0" : BigDecimal.valueOf(number).stripTrailingZeros().toPlainString();
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * gives the number of currently cached characters
+	 *
+	 * @return the number of cached characters
+	 *
+	 * @since 0.4.0
+	 */
+	public long getCached() {
+		if (this.cache == null) {
+			return 0L;
+		}
+		
+		synchronized (this.cache) {
+			return this.cached;
+		}
+	}
+}
@@ -1,62 +1,136 @@
-package de.conterra.babelfish.csv;
-
-import de.conterra.babelfish.plugin.v10_02.feature.Attachment;
-import de.conterra.babelfish.plugin.v10_02.feature.Feature;
-import de.conterra.babelfish.plugin.v10_02.feature.Field;
-import de.conterra.babelfish.plugin.v10_02.object.feature.FeatureObject;
-
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Set;
-
-/**
- * defines a very simple {@link Feature}
- *
- * @param <T> the type of the {@link FeatureObject}
- * @author ChrissW-R1
- * @version 0.1.0
- * @since 0.1.0
- */
-public class SimpleFeature<T extends FeatureObject>
-		implements Feature<T> {
-	/**
-	 * the {@link FeatureObject}
-	 *
-	 * @since 0.1.0
-	 */
-	private final T feature;
-	
-	/**
-	 * constructor, with given {@link FeatureObject}
-	 *
-	 * @param feature the {@link FeatureObject}
-	 * @since 0.1.0
-	 */
-	public SimpleFeature(T feature) {
-		this.feature = feature;
-	}
-	
-	@Override
-	public T getFeature() {
-		return this.feature;
-	}
-	
-	@Override
-	public Set<? extends Attachment> getAttachments() {
-		return new LinkedHashSet<>();
-	}
-	
-	@Override
-	public SimplePopup getPopup() {
-		T feature = this.getFeature();
-		
-		Map<? extends Field, ?> attr       = feature.getAttributes();
-		Map<String, String>     attrString = new LinkedHashMap<>();
-		for (Field key : attr.keySet()) {
-			attrString.put(key.getName(), attr.get(key).toString());
-		}
-		
-		return new SimplePopup(feature.toString(), attrString);
-	}
+package de.conterra.babelfish.csv;
+
+import de.conterra.babelfish.plugin.v10_02.feature.Attachment;
+import de.conterra.babelfish.plugin.v10_02.feature.Feature;
+import de.conterra.babelfish.plugin.v10_02.object.feature.FeatureObject;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * defines a very simple {@link Feature}<br>
+ * If it has an identifier, it equals every {@link SimpleFeature} with the same {@link PopupTemplate} and an equal identifier,
+ * so a {@link Feature}, which is created again of the same row, {@link Group} or cluster, is found in a {@link Set} of them.
+ *
+ * @param <T> the type of the {@link FeatureObject}
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+public class SimpleFeature<T extends FeatureObject>
+		implements Feature<T> {
+	/**
+	 * the {@link FeatureObject}
+	 *
+	 * @since 0.1.0
+	 */
+	private final T             feature;
+	/**
+	 * the {@link PopupTemplate} to render the content of the {@link SimplePopup}
+	 *
+	 * @since 0.4.0
+	 */
+	private final PopupTemplate template;
+	/**
+	 * the key of the {@link FeatureObject}, under which the content of the {@link SimplePopup} is cached, or {@code null}, if it shouldn't be cached
+	 *
+	 * @since 0.4.0
+	 */
+	private final Object        key;
+	/**
+	 * the identifier of the {@link FeatureObject} among the ones of the same {@link PopupTemplate} or {@code null}, if it equals only itself
+	 *
+	 * @since 0.4.0
+	 */
+	private final Object        id;
+	
+	/**
+	 * constructor, with given {@link FeatureObject}
+	 *
+	 * @param feature the {@link FeatureObject}
+	 * @since 0.1.0
+	 */
+	public SimpleFeature(T feature) {
+		this(feature, PopupTemplate.EMPTY, null);
+	}
+	
+	/**
+	 * constructor, with given {@link FeatureObject} and {@link PopupTemplate}
+	 *
+	 * @param feature  the {@link FeatureObject}
+	 * @param template the {@link PopupTemplate} to render the content of the {@link SimplePopup}
+	 * @param key      the key of the {@link FeatureObject}, under which the content is cached by {@code template}, or {@code null}, if it shouldn't be cached
+	 * @since 0.4.0
+	 */
+	public SimpleFeature(T feature, PopupTemplate template, Object key) {
+		this(feature, template, key, key);
+	}
+	
+	/**
+	 * constructor, with given {@link FeatureObject}, {@link PopupTemplate} and identifier
+	 *
+	 * @param feature  the {@link FeatureObject}
+	 * @param template the {@link PopupTemplate} to render the content of the {@link SimplePopup}
+	 * @param key      the key of the {@link FeatureObject}, under which the content is cached by {@code template}, or {@code null}, if it shouldn't be cached
+	 * @param id       the identifier of the {@link FeatureObject} among the ones of {@code template} or {@code null}, if it should equal only itself
+	 * @since 0.4.0
+	 */
+	public SimpleFeature(T feature, PopupTemplate template, Object key, Object id) {
+		this.feature = feature;
+		this.template = template;
+		this.key = key;
+		this.id = id;
+	}
+	
+	@Override
+	public T getFeature() {
+		return this.feature;
+	}
+	
+	/**
+	 * gives the identifier of the {@link FeatureObject}
+	 *
+	 * @return the identifier among the {@link FeatureObject}s of the same {@link PopupTemplate} or {@code null}, if it equals only itself
+	 *
+	 * @since 0.4.0
+	 */
+	public Object getId() {
+		return this.id;
+	}
+	
+	@Override
+	public Set<? extends Attachment> getAttachments() {
+		return new LinkedHashSet<>();
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The attributes aren't copied, because the content is rendered of them by the {@link PopupTemplate} only on request.
+	 */
+	@Override
+	public SimplePopup getPopup() {
+		T feature = this.getFeature();
+		
+		return new SimplePopup(feature.toString(), feature.getAttributes(), this.template, this.key);
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		
+		if (this.id == null || o == null || this.getClass() != o.getClass()) {
+			return false;
+		}
+		
+		SimpleFeature<?> other = (SimpleFeature<?>) o;
+		
+		return this.template == other.template && this.id.equals(other.id);
+	}
+	
+	@Override
+	public int hashCode() {
+		return this.id != null ? this.id.hashCode() : System.identityHashCode(this);
+	}
 }
\ No newline at end of file
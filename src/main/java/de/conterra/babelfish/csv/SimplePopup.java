@@ -1,83 +1,93 @@
-package de.conterra.babelfish.csv;
-
-import de.conterra.babelfish.plugin.v10_02.feature.Popup;
-import de.conterra.babelfish.plugin.v10_02.feature.PopupType;
-
-import java.util.HashMap;
-import java.util.Map;
-
-/**
- * defines a very simple {@link Popup}
- *
- * @author ChrissW-R1
- * @version 0.1.0
- * @since 0.1.0
- */
-public class SimplePopup
-		implements Popup {
-	/**
-	 * the name of an object to show in the {@link Popup}
-	 *
-	 * @since 0.1.0
-	 */
-	private final String objectName;
-	/**
-	 * a {@link Map} of all attributes to show in a table
-	 *
-	 * @since 0.1.0
-	 */
-	private final Map<String, String> attributes = new HashMap<>();
-	
-	/**
-	 * constructor, with given object name
-	 *
-	 * @param objectName the name of an object to show in the {@link Popup}
-	 * @since 0.1.0
-	 */
-	public SimplePopup(String objectName) {
-		this.objectName = objectName;
-	}
-	
-	/**
-	 * constructor, with given object name and attributes
-	 *
-	 * @param objectName the name of an object to show in the {@link Popup}
-	 * @param attr       the attributes to show in a table
-	 * @since 0.1.0
-	 */
-	public SimplePopup(String objectName, Map<? extends String, ? extends String> attr) {
-		this(objectName);
-		
-		this.attributes.putAll(attr);
-	}
-	
-	@Override
-	public PopupType getType() {
-		return PopupType.HtmlText;
-	}
-	
-	@Override
-	public String getContent() {
-		String result = "<html>"
-				+ " <body>"
-				+ "  <h2>Object-Info</h2>"
-				+ "  <p>Object: <b>" + this.objectName + "</b></p>"
-				+ "  <table>"
-				+ "   <tr>"
-				+ "    <th>key</th>"
-				+ "    <th>value</th>"
-				+ "   </tr>";
-		
-		for (String key : this.attributes.keySet())
-			result += "   <tr>"
-					+ "    <td>" + key + "</td>"
-					+ "    <td>" + this.attributes.get(key) + "</td>"
-					+ "   </tr>";
-		
-		result += "  </table>"
-				+ " </body>"
-				+ "</html>";
-		
-		return result;
-	}
-}
\ No newline at end of file
+package de.conterra.babelfish.csv;
+
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.Popup;
+import de.conterra.babelfish.plugin.v10_02.feature.PopupType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * defines a very simple {@link Popup}<br>
+ * The content is rendered by a {@link PopupTemplate} on the first request.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+public class SimplePopup
+		implements Popup {
+	/**
+	 * the name of an object to show in the {@link Popup}
+	 *
+	 * @since 0.1.0
+	 */
+	private final String        objectName;
+	/**
+	 * a {@link Map} of all attributes to show in a table, by their {@link Field}s or names
+	 *
+	 * @since 0.1.0
+	 */
+	private final Map<?, ?>     attributes;
+	/**
+	 * the {@link PopupTemplate} to render the content
+	 *
+	 * @since 0.4.0
+	 */
+	private final PopupTemplate template;
+	/**
+	 * the key of the object, under which the content is cached by {@link #template}, or {@code null}, if it shouldn't be cached
+	 *
+	 * @since 0.4.0
+	 */
+	private final Object        key;
+	
+	/**
+	 * constructor, with given object name
+	 *
+	 * @param objectName the name of an object to show in the {@link Popup}
+	 * @since 0.1.0
+	 */
+	public SimplePopup(String objectName) {
+		this(objectName, Collections.<Object, Object>emptyMap(), PopupTemplate.EMPTY, null);
+	}
+	
+	/**
+	 * constructor, with given object name and attributes
+	 *
+	 * @param objectName the name of an object to show in the {@link Popup}
+	 * @param attr       the attributes to show in a table, which are shown in their order
+	 * @since 0.1.0
+	 */
+	public SimplePopup(String objectName, Map<? extends String, ? extends String> attr) {
+		this(objectName, new LinkedHashMap<>(attr), PopupTemplate.EMPTY, null);
+	}
+	
+	/**
+	 * constructor, with given object name, attributes and {@link PopupTemplate}<br>
+	 * The attributes are not copied, so they mustn't be changed afterwards.
+	 *
+	 * @param objectName the name of an object to show in the {@link Popup}
+	 * @param attributes the attributes to show in a table, by their {@link Field}s or names
+	 * @param template   the {@link PopupTemplate} to render the content
+	 * @param key        the key of the object, under which the content is cached by {@code template}, or {@code null}, if it shouldn't be cached
+	 * @since 0.4.0
+	 */
+	public SimplePopup(String objectName, Map<?, ?> attributes, PopupTemplate template, Object key) {
+		this.objectName = objectName;
+		this.attributes = attributes;
+		this.template = template;
+		this.key = key;
+	}
+	
+	@Override
+	public PopupType getType() {
+		return PopupType.HtmlText;
+	}
+	
+	@Override
+	public String getContent() {
+		return this.template.render(this.key, this.objectName, this.attributes);
+	}
+}
@@ -0,0 +1,160 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * defines a column of attribute values, which are stored in the form of their {@link FieldType}<br>
+ * The cells of the rows are added as {@link String}s and converted once during the creation,
+ * so the values could be filtered and serialized without parsing them again.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public abstract class AttributeColumn {
+	/**
+	 * package-private standard constructor, so all columns are defined in this package
+	 *
+	 * @since 0.4.0
+	 */
+	AttributeColumn() {
+	}
+	
+	/**
+	 * creates an empty column of a {@link FieldType}
+	 *
+	 * @param type the {@link FieldType} of the values
+	 * @return a {@link NumberColumn} of numbers and dates or a {@link DictionaryColumn} of all other {@link FieldType}s
+	 *
+	 * @since 0.4.0
+	 */
+	static AttributeColumn create(FieldType type) {
+		return NumberColumn.isSupported(type) ? new NumberColumn(type) : new DictionaryColumn();
+	}
+	
+	/**
+	 * writes the {@link FieldType} and the values of a frozen column to a snapshot
+	 *
+	 * @param out    the {@link DataOutputStream} to write to
+	 * @param column the column to write
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	static void write(DataOutputStream out, AttributeColumn column)
+	throws IOException {
+		LayerSnapshot.writeString(out, column.getType().name());
+		column.write(out);
+	}
+	
+	/**
+	 * reads a frozen column of a snapshot, which was written by {@link #write(DataOutputStream, AttributeColumn)}
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @return the read column
+	 *
+	 * @since 0.4.0
+	 */
+	static AttributeColumn read(ByteBuffer buffer) {
+		FieldType type = FieldType.valueOf(LayerSnapshot.readString(buffer));
+		
+		return NumberColumn.isSupported(type) ? NumberColumn.read(buffer, type) : DictionaryColumn.read(buffer);
+	}
+	
+	/**
+	 * adds the cell of the next row
+	 *
+	 * @param value the cell to add or {@code null}, if it is missing
+	 * @since 0.4.0
+	 */
+	abstract void add(String value);
+	
+	/**
+	 * appends all rows of another column of the same type<br>
+	 * The result is the same as adding all cells one by one.
+	 *
+	 * @param other the column to append, which mustn't be frozen
+	 * @since 0.4.0
+	 */
+	abstract void append(AttributeColumn other);
+	
+	/**
+	 * creates a copy of a frozen column, to add further rows to it<br>
+	 * If the arrays are shared, the copy appends its rows behind the rows of this column,
+	 * so only one copy of a frozen column may share them (see {@link LayerData.Builder#Builder(LayerData)}).
+	 *
+	 * @param share share the arrays and the dictionaries of this column instead of copying them?
+	 * @return the copy, which isn't frozen
+	 *
+	 * @since 0.4.0
+	 */
+	abstract AttributeColumn copy(boolean share);
+	
+	/**
+	 * writes the values of a frozen column to a snapshot
+	 *
+	 * @param out the {@link DataOutputStream} to write to
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	abstract void write(DataOutputStream out)
+	throws IOException;
+	
+	/**
+	 * finishes the creation and releases the memory, which is only needed to add values
+	 *
+	 * @param trim release the unused capacity? Otherwise the capacity and the dictionaries are kept for a copy, which shares them.
+	 * @since 0.4.0
+	 */
+	abstract void freeze(boolean trim);
+	
+	/**
+	 * gives the number of rows
+	 *
+	 * @return the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	public abstract int size();
+	
+	/**
+	 * gives the {@link FieldType} of the values
+	 *
+	 * @return the {@link FieldType}
+	 *
+	 * @since 0.4.0
+	 */
+	public abstract FieldType getType();
+	
+	/**
+	 * gives the value of a row as text
+	 *
+	 * @param row the index of the row
+	 * @return the value as text or {@code null}, if it is missing
+	 *
+	 * @since 0.4.0
+	 */
+	public abstract String get(int row);
+	
+	/**
+	 * gives the value of a row in the form of its {@link FieldType} (see {@link de.conterra.babelfish.csv.parser.ValueParser#parse(FieldType, String)})
+	 *
+	 * @param row the index of the row
+	 * @return the value or {@code null}, if it is missing
+	 *
+	 * @since 0.4.0
+	 */
+	public abstract Object getValue(int row);
+	
+	/**
+	 * estimates the number of bytes, which are retained by a frozen column on the heap
+	 *
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	public abstract long getHeapSize();
+}
@@ -0,0 +1,93 @@
+package de.conterra.babelfish.csv.data;
+
+import java.util.Arrays;
+
+/**
+ * defines helper methods for the set rows of a column, which are stored as bits in an array of {@code long} words<br>
+ * Unlike a {@link java.util.BitSet} the words could be shared with a {@link LayerData}, which appends rows to them (see {@link LayerData.Builder#Builder(LayerData)}),
+ * because setting the bit of an appended row never changes the bits of the previous rows.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+final class Bits {
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private Bits() {
+	}
+	
+	/**
+	 * gives the number of words, which hold the bits of a number of rows
+	 *
+	 * @param rows the number of rows
+	 * @return the number of words
+	 *
+	 * @since 0.4.0
+	 */
+	static int words(int rows) {
+		return (rows + 63) >>> 6;
+	}
+	
+	/**
+	 * checks, if the bit of a row is set
+	 *
+	 * @param words the words of the bits
+	 * @param row   the index of the row
+	 * @return {@code true}, if the bit is set
+	 *
+	 * @since 0.4.0
+	 */
+	static boolean get(long[] words, int row) {
+		int word = row >>> 6;
+		
+		return word < words.length && (words[word] & (1L << row)) != 0L;
+	}
+	
+	/**
+	 * sets the bit of a row
+	 *
+	 * @param words the words of the bits
+	 * @param row   the index of the row
+	 * @return {@code words} or a grown copy of them, if they couldn't hold the bit
+	 *
+	 * @since 0.4.0
+	 */
+	static long[] set(long[] words, int row) {
+		int word = row >>> 6;
+		
+		if (word >= words.length) {
+			words = Arrays.copyOf(words, Math.max(word + 1, 2 * words.length));
+		}
+		
+		words[word] |= 1L << row;
+		
+		return words;
+	}
+	
+	/**
+	 * copies the bits of the first rows<br>
+	 * The bits of the following rows are cleared, because they could be set by another {@link LayerData.Builder}, which shares the words.
+	 *
+	 * @param words    the words of the bits
+	 * @param rows     the number of rows to copy
+	 * @param capacity the number of rows, which could be held by the copy
+	 * @return the copied words
+	 *
+	 * @since 0.4.0
+	 */
+	static long[] copyOf(long[] words, int rows, int capacity) {
+		long[] result = new long[Bits.words(Math.max(rows, capacity))];
+		int    length = Math.min(Bits.words(rows), words.length);
+		
+		System.arraycopy(words, 0, result, 0, length);
+		if ((rows & 63) != 0 && (rows >>> 6) < length) {
+			result[rows >>> 6] &= (1L << rows) - 1L;
+		}
+		
+		return result;
+	}
+}
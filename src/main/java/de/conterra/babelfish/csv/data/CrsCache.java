@@ -0,0 +1,253 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.util.GeoUtils;
+import org.opengis.referencing.FactoryException;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * defines a bounded cache of decoded {@link CoordinateReferenceSystem}s, which is shared by all CSV layers<br>
+ * Decoding a {@link CoordinateReferenceSystem} with {@link GeoUtils#decodeCrs(String)} is expensive,
+ * but most files use only one or a few codes, so each code is decoded only once.
+ * If more codes are used, the least recently used ones are removed.
+ * A code is decoded only once, even if it is requested by many threads at the same time,
+ * so all of them get the same instance of the {@link CoordinateReferenceSystem}.
+ * Codes, which couldn't be decoded, are cached separately with the same bound, so they never remove a decoded code.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class CrsCache {
+	/**
+	 * defines the decoder of a code of a {@link CoordinateReferenceSystem}
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public interface Decoder {
+		/**
+		 * decodes a code
+		 *
+		 * @param code the code of the {@link CoordinateReferenceSystem} (e.g. an EPSG code)
+		 * @return the decoded {@link CoordinateReferenceSystem}
+		 *
+		 * @throws FactoryException if the code couldn't be decoded
+		 * @since 0.4.0
+		 */
+		CoordinateReferenceSystem decode(String code)
+		throws FactoryException;
+	}
+	
+	/**
+	 * the instance, which is shared by all CSV layers
+	 *
+	 * @since 0.4.0
+	 */
+	public static final CrsCache INSTANCE = new CrsCache(1024);
+	
+	/**
+	 * the {@link Decoder} of the codes, which are not cached
+	 *
+	 * @since 0.4.0
+	 */
+	private final Decoder                                decoder;
+	/**
+	 * the decoded {@link CoordinateReferenceSystem}s by their codes in the order of their last usage
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<String, CoordinateReferenceSystem> entries;
+	/**
+	 * the codes of the decoded {@link CoordinateReferenceSystem}s of {@link #entries}
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<CoordinateReferenceSystem, String> codes  = new IdentityHashMap<>();
+	/**
+	 * the {@link FactoryException}s of the codes, which couldn't be decoded, in the order of their last usage
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<String, FactoryException>          failures;
+	/**
+	 * the number of codes, which were found in the cache
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong                             hits   = new AtomicLong();
+	/**
+	 * the number of codes, which had to be decoded
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong                             misses = new AtomicLong();
+	
+	/**
+	 * constructor, with given maximum size, which decodes the codes with {@link GeoUtils#decodeCrs(String)}
+	 *
+	 * @param maximumSize the maximum number of cached codes
+	 * @since 0.4.0
+	 */
+	public CrsCache(int maximumSize) {
+		this(maximumSize, GeoUtils::decodeCrs);
+	}
+	
+	/**
+	 * constructor, with given maximum size and {@link Decoder}
+	 *
+	 * @param maximumSize the maximum number of cached codes and the maximum number of cached codes, which couldn't be decoded
+	 * @param decoder     the {@link Decoder} of the codes, which are not cached
+	 * @since 0.4.0
+	 */
+	public CrsCache(int maximumSize, Decoder decoder) {
+		this.decoder = decoder;
+		this.entries = new LinkedHashMap<String, CoordinateReferenceSystem>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CoordinateReferenceSystem> eldest) {
+				if (this.size() > maximumSize) {
+					CrsCache.this.codes.remove(eldest.getValue(), eldest.getKey());
+					return true;
+				}
+				
+				return false;
+			}
+		};
+		this.failures = new LinkedHashMap<String, FactoryException>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, FactoryException> eldest) {
+				return this.size() > maximumSize;
+			}
+		};
+	}
+	
+	/**
+	 * gives the {@link CoordinateReferenceSystem} of a code and decodes it, if it isn't cached yet
+	 *
+	 * @param code the code of the {@link CoordinateReferenceSystem} (e.g. an EPSG code)
+	 * @return the decoded {@link CoordinateReferenceSystem}
+	 *
+	 * @throws FactoryException if the code couldn't be decoded
+	 * @since 0.4.0
+	 */
+	public CoordinateReferenceSystem decode(String code)
+	throws FactoryException {
+		return this.decode(code, null);
+	}
+	
+	/**
+	 * gives the {@link CoordinateReferenceSystem} of a code and decodes it, if it isn't cached yet<br>
+	 * A decode is also counted by the given counter, so a CSV layer could count the decodes, which it caused itself.
+	 *
+	 * @param code    the code of the {@link CoordinateReferenceSystem} (e.g. an EPSG code)
+	 * @param decodes the counter of the caller, which is incremented, if the code had to be decoded, or {@code null}
+	 * @return the decoded {@link CoordinateReferenceSystem}
+	 *
+	 * @throws FactoryException if the code couldn't be decoded
+	 * @since 0.4.0
+	 */
+	public CoordinateReferenceSystem decode(String code, AtomicLong decodes)
+	throws FactoryException {
+		synchronized (this.entries) {
+			CoordinateReferenceSystem crs = this.entries.get(code);
+			
+			if (crs != null) {
+				this.hits.incrementAndGet();
+				return crs;
+			}
+			
+			FactoryException failure = this.failures.get(code);
+			
+			if (failure != null) {
+				this.hits.incrementAndGet();
+				throw failure;
+			}
+			
+			this.misses.incrementAndGet();
+			if (decodes != null) {
+				decodes.incrementAndGet();
+			}
+			
+			try {
+				crs = this.decoder.decode(code);
+			} catch (FactoryException e) {
+				this.failures.put(code, e);
+				throw e;
+			}
+			
+			if (crs != null) {
+				this.entries.put(code, crs);
+				this.codes.put(crs, code);
+			}
+			
+			return crs;
+		}
+	}
+	
+	/**
+	 * gives the code, of which a {@link CoordinateReferenceSystem} was decoded
+	 *
+	 * @param crs the decoded {@link CoordinateReferenceSystem}
+	 * @return the code or {@code null}, if {@code crs} wasn't decoded by this {@link CrsCache} or was already removed
+	 *
+	 * @since 0.4.0
+	 */
+	public String encode(CoordinateReferenceSystem crs) {
+		synchronized (this.entries) {
+			return this.codes.get(crs);
+		}
+	}
+	
+	/**
+	 * removes all cached codes
+	 *
+	 * @since 0.4.0
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.codes.clear();
+			this.failures.clear();
+		}
+	}
+	
+	/**
+	 * gives the number of cached codes, which were decoded
+	 *
+	 * @return the number of cached codes
+	 *
+	 * @since 0.4.0
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+	
+	/**
+	 * gives the number of codes, which were found in the cache
+	 *
+	 * @return the number of cache hits
+	 *
+	 * @since 0.4.0
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+	
+	/**
+	 * gives the number of codes, which had to be decoded
+	 *
+	 * @return the number of cache misses
+	 *
+	 * @since 0.4.0
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+}
@@ -0,0 +1,581 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * defines an adaptive dictionary-encoded column of {@link FieldType#String} values<br>
+ * Every distinct value is stored only once in the dictionary and every row holds the code of its value.
+ * After the creation the codes are narrowed to {@code byte}s or {@code char}s, if the dictionary is small enough
+ * and no further rows are appended (see {@link #freeze(boolean)}).
+ * If most of the values, which are added after the first rows, are new distinct values (e.g. names or free text),
+ * the dictionary would only cost memory, so the column switches to store the values of the rows directly.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class DictionaryColumn
+		extends AttributeColumn {
+	/**
+	 * the code of a missing value
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int NULL = -1;
+	
+	/**
+	 * the number of rows, after which the cardinality of the added values is checked again
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int CHECK_ROWS    = 4096;
+	/**
+	 * the maximum ratio of new distinct values to added rows, up to which the values are dictionary-encoded
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int MAX_DISTINCT  = 2;
+	/**
+	 * the estimated number of bytes of an object header
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int OBJECT_HEADER = 16;
+	/**
+	 * the estimated number of bytes of a {@link String} without its characters
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int STRING_HEADER = 40;
+	
+	/**
+	 * the distinct values, indexed by their code, which is empty, if the values are stored directly
+	 *
+	 * @since 0.4.0
+	 */
+	private String[]             dictionary    = new String[16];
+	/**
+	 * the number of distinct values in {@link #dictionary}
+	 *
+	 * @since 0.4.0
+	 */
+	private int                  distinct      = 0;
+	/**
+	 * the codes of the distinct values, which is only needed during the creation
+	 *
+	 * @since 0.4.0
+	 */
+	private Map<String, Integer> lookup        = new HashMap<>();
+	/**
+	 * the codes of the rows or {@code null}, if they are narrowed or the values are stored directly
+	 *
+	 * @since 0.4.0
+	 */
+	private int[]                codes         = new int[64];
+	/**
+	 * the codes plus one of the rows, if the dictionary contains less than 255 values
+	 *
+	 * @since 0.4.0
+	 */
+	private byte[]               bytes         = null;
+	/**
+	 * the codes plus one of the rows, if the dictionary contains less than 65535 values
+	 *
+	 * @since 0.4.0
+	 */
+	private char[]               chars         = null;
+	/**
+	 * the values of the rows or {@code null}, if they are dictionary-encoded
+	 *
+	 * @since 0.4.0
+	 */
+	private String[]             values        = null;
+	/**
+	 * the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	private int                  size          = 0;
+	/**
+	 * the number of rows at the last check of the cardinality
+	 *
+	 * @since 0.4.0
+	 */
+	private int                  checkedRows   = 0;
+	/**
+	 * the number of distinct values at the last check of the cardinality
+	 *
+	 * @since 0.4.0
+	 */
+	private int                  checkedValues = 0;
+	
+	/**
+	 * standard constructor
+	 *
+	 * @since 0.4.0
+	 */
+	DictionaryColumn() {
+	}
+	
+	/**
+	 * copy constructor, to add further rows to the values of a frozen {@link DictionaryColumn}<br>
+	 * Narrowed codes are widened again, so the first copy of a narrowed column costs time linear in the number of its rows.
+	 *
+	 * @param other the {@link DictionaryColumn} to copy
+	 * @param share share the arrays and the dictionary of {@code other}, so the added rows are stored behind its rows, instead of copying them?
+	 * @since 0.4.0
+	 */
+	DictionaryColumn(DictionaryColumn other, boolean share) {
+		int capacity = Math.max(64, other.size + (other.size >> 3));
+		
+		this.size = other.size;
+		
+		if (!(other.isEncoded())) {
+			this.dictionary = other.dictionary;
+			this.lookup = null;
+			this.codes = null;
+			this.values = share ? other.values : Arrays.copyOf(other.values, capacity);
+			return;
+		}
+		
+		this.dictionary = share ? other.dictionary : Arrays.copyOf(other.dictionary, Math.max(16, other.distinct));
+		this.distinct = other.distinct;
+		
+		if (share && other.lookup != null) {
+			this.lookup = other.lookup;
+		} else {
+			for (int code = 0; code < this.distinct; code++) {
+				this.lookup.put(this.dictionary[code], code);
+			}
+		}
+		
+		if (share && other.codes != null) {
+			this.codes = other.codes;
+		} else {
+			this.codes = new int[capacity];
+			for (int row = 0; row < other.size; row++) {
+				this.codes[row] = other.getCode(row);
+			}
+		}
+		
+		this.checkedRows = other.checkedRows;
+		this.checkedValues = other.checkedValues;
+	}
+	
+	/**
+	 * adds the value of the next row
+	 *
+	 * @param value the value to add or {@code null}, if it is missing
+	 * @since 0.4.0
+	 */
+	@Override
+	void add(String value) {
+		if (this.values != null) {
+			if (this.size >= this.values.length) {
+				this.values = Arrays.copyOf(this.values, Math.max(64, 2 * this.values.length));
+			}
+			
+			this.values[this.size++] = value;
+			return;
+		}
+		
+		if (this.size >= this.codes.length) {
+			this.codes = Arrays.copyOf(this.codes, Math.max(64, 2 * this.codes.length));
+		}
+		
+		int code = DictionaryColumn.NULL;
+		if (value != null) {
+			Integer known = this.lookup.get(value);
+			
+			code = known != null ? known : this.addDistinct(value);
+		}
+		
+		this.codes[this.size++] = code;
+		
+		if (this.size - this.checkedRows >= DictionaryColumn.CHECK_ROWS) {
+			this.checkCardinality();
+		}
+	}
+	
+	/**
+	 * appends all rows of another {@link DictionaryColumn}<br>
+	 * The new values of {@code other} get their codes in the order of their first occurrence,
+	 * so the result is the same as adding all values one by one.
+	 *
+	 * @param other the {@link DictionaryColumn} to append, which mustn't be frozen
+	 * @since 0.4.0
+	 */
+	void append(DictionaryColumn other) {
+		if (this.values != null || other.values != null) {
+			this.storeDirectly();
+			
+			if (this.size + other.size > this.values.length) {
+				this.values = Arrays.copyOf(this.values, Math.max(this.size + other.size, 2 * this.values.length));
+			}
+			
+			for (int row = 0; row < other.size; row++) {
+				this.values[this.size++] = other.get(row);
+			}
+			
+			return;
+		}
+		
+		int[] codes = new int[other.distinct];
+		for (int code = 0; code < codes.length; code++) {
+			String  value = other.dictionary[code];
+			Integer known = this.lookup.get(value);
+			
+			codes[code] = known != null ? known : this.addDistinct(value);
+		}
+		
+		if (this.size + other.size > this.codes.length) {
+			this.codes = Arrays.copyOf(this.codes, Math.max(this.size + other.size, 2 * this.codes.length));
+		}
+		
+		for (int row = 0; row < other.size; row++) {
+			int code = other.codes[row];
+			
+			this.codes[this.size++] = code != DictionaryColumn.NULL ? codes[code] : DictionaryColumn.NULL;
+		}
+		
+		if (this.size - this.checkedRows >= DictionaryColumn.CHECK_ROWS) {
+			this.checkCardinality();
+		}
+	}
+	
+	@Override
+	void append(AttributeColumn other) {
+		this.append((DictionaryColumn) other);
+	}
+	
+	/**
+	 * adds a new distinct value to the dictionary
+	 *
+	 * @param value the value, which isn't contained in the dictionary yet
+	 * @return the code of the value
+	 *
+	 * @since 0.4.0
+	 */
+	private int addDistinct(String value) {
+		int code = this.distinct++;
+		
+		if (code >= this.dictionary.length) {
+			this.dictionary = Arrays.copyOf(this.dictionary, Math.max(16, 2 * this.dictionary.length));
+		}
+		
+		this.dictionary[code] = value;
+		this.lookup.put(value, code);
+		
+		return code;
+	}
+	
+	@Override
+	AttributeColumn copy(boolean share) {
+		return new DictionaryColumn(this, share);
+	}
+	
+	/**
+	 * switches the column to store the values directly, if most of the rows since the last check added new distinct values<br>
+	 * The rows before the first check are ignored, because every value is new at the beginning.
+	 *
+	 * @since 0.4.0
+	 */
+	private void checkCardinality() {
+		int rows   = this.size - this.checkedRows;
+		int values = this.distinct - this.checkedValues;
+		
+		if (this.checkedRows > 0 && DictionaryColumn.MAX_DISTINCT * values > rows) {
+			this.storeDirectly();
+		} else {
+			this.checkedRows = this.size;
+			this.checkedValues = this.distinct;
+		}
+	}
+	
+	/**
+	 * decodes the values of all rows and releases the dictionary, so further values are stored directly<br>
+	 * The arrays are replaced instead of cleared, because they could be shared with a frozen {@link DictionaryColumn}.
+	 *
+	 * @since 0.4.0
+	 */
+	private void storeDirectly() {
+		if (this.values != null) {
+			return;
+		}
+		
+		String[] values = new String[Math.max(64, this.codes.length)];
+		for (int row = 0; row < this.size; row++) {
+			values[row] = this.get(row);
+		}
+		
+		this.values = values;
+		this.codes = null;
+		this.lookup = null;
+		this.dictionary = new String[0];
+		this.distinct = 0;
+	}
+	
+	/**
+	 * writes the values and codes of a frozen {@link DictionaryColumn} to a snapshot
+	 *
+	 * @param out the {@link DataOutputStream} to write to
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	@Override
+	void write(DataOutputStream out)
+	throws IOException {
+		out.writeBoolean(this.isEncoded());
+		
+		if (!(this.isEncoded())) {
+			out.writeInt(this.size);
+			for (int row = 0; row < this.size; row++) {
+				String value = this.values[row];
+				
+				out.writeBoolean(value != null);
+				if (value != null) {
+					LayerSnapshot.writeString(out, value);
+				}
+			}
+			
+			return;
+		}
+		
+		out.writeInt(this.distinct);
+		for (int code = 0; code < this.distinct; code++) {
+			LayerSnapshot.writeString(out, this.dictionary[code]);
+		}
+		
+		out.writeInt(this.size);
+		for (int row = 0; row < this.size; row++) {
+			out.writeInt(this.getCode(row));
+		}
+	}
+	
+	/**
+	 * reads a frozen {@link DictionaryColumn} of a snapshot
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @return the read {@link DictionaryColumn}
+	 *
+	 * @since 0.4.0
+	 */
+	static DictionaryColumn read(ByteBuffer buffer) {
+		DictionaryColumn column = new DictionaryColumn();
+		column.lookup = null;
+		
+		if (buffer.get() == 0) {
+			column.size = buffer.getInt();
+			column.dictionary = new String[0];
+			column.codes = null;
+			column.values = new String[column.size];
+			
+			for (int row = 0; row < column.size; row++) {
+				column.values[row] = buffer.get() != 0 ? LayerSnapshot.readString(buffer) : null;
+			}
+			
+			return column;
+		}
+		
+		column.distinct = buffer.getInt();
+		column.dictionary = new String[column.distinct];
+		for (int code = 0; code < column.distinct; code++) {
+			column.dictionary[code] = LayerSnapshot.readString(buffer);
+		}
+		
+		column.size = buffer.getInt();
+		column.codes = LayerSnapshot.readInts(buffer, column.size);
+		column.narrow();
+		
+		return column;
+	}
+	
+	/**
+	 * finishes the creation and releases the memory, which is only needed to add values<br>
+	 * If the capacity isn't trimmed, the codes are not narrowed and the lookup of the codes is kept,
+	 * so a copy, which shares them, could append rows without decoding the previous ones again.
+	 *
+	 * @param trim release the unused capacity and narrow the codes?
+	 * @since 0.4.0
+	 */
+	@Override
+	void freeze(boolean trim) {
+		if (!(trim)) {
+			return;
+		}
+		
+		this.lookup = null;
+		
+		if (this.values != null) {
+			this.values = Arrays.copyOf(this.values, this.size);
+			return;
+		}
+		
+		this.codes = Arrays.copyOf(this.codes, this.size);
+		this.dictionary = Arrays.copyOf(this.dictionary, this.distinct);
+		this.narrow();
+	}
+	
+	/**
+	 * replaces {@link #codes} by {@code byte}s or {@code char}s, if the dictionary is small enough
+	 *
+	 * @since 0.4.0
+	 */
+	private void narrow() {
+		int count = this.distinct;
+		
+		if (count < 0xFF) {
+			this.bytes = new byte[this.size];
+			for (int row = 0; row < this.size; row++) {
+				this.bytes[row] = (byte) (this.codes[row] + 1);
+			}
+			
+			this.codes = null;
+		} else if (count < 0xFFFF) {
+			this.chars = new char[this.size];
+			for (int row = 0; row < this.size; row++) {
+				this.chars[row] = (char) (this.codes[row] + 1);
+			}
+			
+			this.codes = null;
+		}
+	}
+	
+	/**
+	 * gives the number of rows
+	 *
+	 * @return the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	@Override
+	public int size() {
+		return this.size;
+	}
+	
+	@Override
+	public FieldType getType() {
+		return FieldType.String;
+	}
+	
+	/**
+	 * checks, if the values are dictionary-encoded or stored directly, because most of them are distinct
+	 *
+	 * @return {@code true}, if the rows hold the codes of their values
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isEncoded() {
+		return this.values == null;
+	}
+	
+	/**
+	 * gives the code of the value of a row
+	 *
+	 * @param row the index of the row
+	 * @return the code of the value or {@link #NULL}, if the value is missing
+	 *
+	 * @throws IllegalStateException if the values are not dictionary-encoded (see {@link #isEncoded()})
+	 * @since 0.4.0
+	 */
+	public int getCode(int row)
+	throws IllegalStateException {
+		if (this.bytes != null) {
+			return (this.bytes[row] & 0xFF) - 1;
+		}
+		if (this.chars != null) {
+			return this.chars[row] - 1;
+		}
+		if (this.codes != null) {
+			return this.codes[row];
+		}
+		
+		throw new IllegalStateException("The values of the column are not dictionary-encoded!");
+	}
+	
+	/**
+	 * gives the value of a row
+	 *
+	 * @param row the index of the row
+	 * @return the value or {@code null}, if it is missing
+	 *
+	 * @since 0.4.0
+	 */
+	@Override
+	public String get(int row) {
+		if (this.values != null) {
+			return this.values[row];
+		}
+		
+		int code = this.getCode(row);
+		
+		return code != DictionaryColumn.NULL ? this.dictionary[code] : null;
+	}
+	
+	@Override
+	public Object getValue(int row) {
+		return this.get(row);
+	}
+	
+	/**
+	 * gives the distinct values, indexed by their code
+	 *
+	 * @return an unmodifiable {@link List} of the distinct values, which is empty, if the values are not dictionary-encoded
+	 *
+	 * @since 0.4.0
+	 */
+	public List<String> getDictionary() {
+		return Collections.unmodifiableList(Arrays.asList(this.dictionary).subList(0, this.distinct));
+	}
+	
+	/**
+	 * estimates the number of bytes, which are retained by a frozen {@link DictionaryColumn} on the heap
+	 *
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	@Override
+	public long getHeapSize() {
+		long result = DictionaryColumn.OBJECT_HEADER + 4L * this.dictionary.length;
+		
+		for (int code = 0; code < this.distinct; code++) {
+			result += DictionaryColumn.estimate(this.dictionary[code]);
+		}
+		
+		if (this.values != null) {
+			result += DictionaryColumn.OBJECT_HEADER + 4L * this.values.length;
+			
+			for (String value : this.values) {
+				result += DictionaryColumn.estimate(value);
+			}
+		}
+		
+		result += this.bytes != null ? DictionaryColumn.OBJECT_HEADER + this.bytes.length : 0L;
+		result += this.chars != null ? DictionaryColumn.OBJECT_HEADER + 2L * this.chars.length : 0L;
+		result += this.codes != null ? DictionaryColumn.OBJECT_HEADER + 4L * this.codes.length : 0L;
+		
+		return result;
+	}
+	
+	/**
+	 * estimates the number of bytes of a {@link String} on the heap
+	 *
+	 * @param value the {@link String} or {@code null}
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	static long estimate(String value) {
+		return value != null ? DictionaryColumn.STRING_HEADER + 2L * value.length() : 0L;
+	}
+}
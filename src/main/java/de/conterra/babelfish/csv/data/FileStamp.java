@@ -0,0 +1,157 @@
+package de.conterra.babelfish.csv.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * defines an immutable snapshot of the identity, the last modification time and the size of a {@link File}<br>
+ * Two stamps of the same {@link File} are equal, as long as the {@link File} wasn't changed in between.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class FileStamp {
+	/**
+	 * the canonical path of the {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	private final String path;
+	/**
+	 * the file system key of the {@link File} (e.g. device and inode) or {@code null}, if not supported by the file system
+	 *
+	 * @since 0.4.0
+	 */
+	private final Object key;
+	/**
+	 * the last modification time in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	private final long   lastModified;
+	/**
+	 * the size in bytes
+	 *
+	 * @since 0.4.0
+	 */
+	private final long   size;
+	
+	/**
+	 * constructor, with all necessary attributes
+	 *
+	 * @param path         the canonical path of the {@link File}
+	 * @param key          the file system key of the {@link File}
+	 * @param lastModified the last modification time in milliseconds
+	 * @param size         the size in bytes
+	 * @since 0.4.0
+	 */
+	private FileStamp(String path, Object key, long lastModified, long size) {
+		this.path = path;
+		this.key = key;
+		this.lastModified = lastModified;
+		this.size = size;
+	}
+	
+	/**
+	 * reads the current {@link FileStamp} of a {@link File}
+	 *
+	 * @param file the {@link File} to get the {@link FileStamp} of
+	 * @return the current {@link FileStamp} of {@code file}
+	 *
+	 * @throws IOException if the attributes of {@code file} couldn't be read
+	 * @since 0.4.0
+	 */
+	public static FileStamp of(File file)
+	throws IOException {
+		Path                path       = file.toPath();
+		BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		
+		return new FileStamp(file.getCanonicalPath(), attributes.fileKey(), attributes.lastModifiedTime().toMillis(), attributes.size());
+	}
+	
+	/**
+	 * gives the canonical path of the {@link File}
+	 *
+	 * @return the canonical path of the {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	public String getPath() {
+		return this.path;
+	}
+	
+	/**
+	 * gives the last modification time
+	 *
+	 * @return the last modification time in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	public long getLastModified() {
+		return this.lastModified;
+	}
+	
+	/**
+	 * gives the size
+	 *
+	 * @return the size in bytes
+	 *
+	 * @since 0.4.0
+	 */
+	public long getSize() {
+		return this.size;
+	}
+	
+	/**
+	 * checks, if this {@link FileStamp} could be the result of appending data to the {@link File} of another {@link FileStamp}<br>
+	 * This is the case, if both belong to the same {@link File} and it only grew since {@code previous}.
+	 * The content of the {@link File} isn't compared, so an in-place rewrite with a larger size couldn't be detected.
+	 *
+	 * @param previous the {@link FileStamp}, which was read before
+	 * @return {@code true}, if the {@link File} was possibly only appended
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isAppendOf(FileStamp previous) {
+		return this.size > previous.size
+		       && this.lastModified >= previous.lastModified
+		       && this.path.equals(previous.path)
+		       && (this.key == null ? previous.key == null : this.key.equals(previous.key));
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		
+		if (!(obj instanceof FileStamp)) {
+			return false;
+		}
+		
+		FileStamp other = (FileStamp) obj;
+		return this.lastModified == other.lastModified
+		       && this.size == other.size
+		       && this.path.equals(other.path)
+		       && (this.key == null ? other.key == null : this.key.equals(other.key));
+	}
+	
+	@Override
+	public int hashCode() {
+		int result = this.path.hashCode();
+		result = 31 * result + (this.key != null ? this.key.hashCode() : 0);
+		result = 31 * result + (int) (this.lastModified ^ (this.lastModified >>> 32));
+		result = 31 * result + (int) (this.size ^ (this.size >>> 32));
+		
+		return result;
+	}
+	
+	@Override
+	public String toString() {
+		return this.path + " (" + this.size + " bytes, modified " + this.lastModified + ")";
+	}
+}
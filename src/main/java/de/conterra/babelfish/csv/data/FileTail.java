@@ -0,0 +1,178 @@
+package de.conterra.babelfish.csv.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.zip.CRC32;
+
+/**
+ * defines the immutable end of the part of a CSV {@link File}, which was already parsed<br>
+ * It holds a checksum of the last bytes before the end, so an in-place rewrite of the {@link File} could be distinguished from an append.
+ * If the last parsed row wasn't terminated by a line break, it could have been written only partially, so the {@link File} must be parsed again completely.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class FileTail {
+	/**
+	 * the maximum number of bytes before the end, which are included in the checksum
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int LENGTH = 4096;
+	
+	/**
+	 * the position in the {@link File} after the last parsed row
+	 *
+	 * @since 0.4.0
+	 */
+	private final long    offset;
+	/**
+	 * the number of the last parsed row
+	 *
+	 * @since 0.4.0
+	 */
+	private final long    recordNumber;
+	/**
+	 * the checksum of the last bytes before {@link #offset}
+	 *
+	 * @since 0.4.0
+	 */
+	private final long    checksum;
+	/**
+	 * is the last parsed row terminated by a line break?
+	 *
+	 * @since 0.4.0
+	 */
+	private final boolean complete;
+	
+	/**
+	 * constructor, with all necessary attributes
+	 *
+	 * @param offset       the position in the {@link File} after the last parsed row
+	 * @param recordNumber the number of the last parsed row
+	 * @param bytes        the last bytes before {@code offset}
+	 * @since 0.4.0
+	 */
+	private FileTail(long offset, long recordNumber, byte[] bytes) {
+		this.offset = offset;
+		this.recordNumber = recordNumber;
+		this.checksum = FileTail.checksum(bytes);
+		this.complete = bytes.length == 0 || bytes[bytes.length - 1] == '\n';
+	}
+	
+	/**
+	 * reads the {@link FileTail} of the parsed part of a {@link File}
+	 *
+	 * @param file         the parsed {@link File}
+	 * @param offset       the position in the {@link File} after the last parsed row
+	 * @param recordNumber the number of the last parsed row
+	 * @return the {@link FileTail} of the parsed part
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public static FileTail of(File file, long offset, long recordNumber)
+	throws IOException {
+		byte[] bytes = FileTail.read(file, offset);
+		
+		if (bytes == null) {
+			throw new IOException("The file " + file.getName() + " is shorter than " + offset + " bytes!");
+		}
+		
+		return new FileTail(offset, recordNumber, bytes);
+	}
+	
+	/**
+	 * reads the last bytes before a position in a {@link File}
+	 *
+	 * @param file   the {@link File} to read
+	 * @param offset the position in the {@link File}
+	 * @return the read bytes or {@code null}, if the {@link File} is shorter than {@code offset}
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	private static byte[] read(File file, long offset)
+	throws IOException {
+		RandomAccessFile access = new RandomAccessFile(file, "r");
+		try {
+			if (access.length() < offset) {
+				return null;
+			}
+			
+			byte[] bytes = new byte[(int) Math.min(FileTail.LENGTH, offset)];
+			access.seek(offset - bytes.length);
+			access.readFully(bytes);
+			
+			return bytes;
+		} finally {
+			access.close();
+		}
+	}
+	
+	/**
+	 * calculates the checksum of bytes
+	 *
+	 * @param bytes the bytes to calculate the checksum of
+	 * @return the checksum
+	 *
+	 * @since 0.4.0
+	 */
+	private static long checksum(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		
+		return crc.getValue();
+	}
+	
+	/**
+	 * gives the position in the {@link File} after the last parsed row
+	 *
+	 * @return the position after the last parsed row
+	 *
+	 * @since 0.4.0
+	 */
+	public long getOffset() {
+		return this.offset;
+	}
+	
+	/**
+	 * gives the number of the last parsed row
+	 *
+	 * @return the number of the last parsed row
+	 *
+	 * @since 0.4.0
+	 */
+	public long getRecordNumber() {
+		return this.recordNumber;
+	}
+	
+	/**
+	 * checks, if the last parsed row is terminated by a line break, so appended bytes start a new row
+	 *
+	 * @return {@code true}, if the last parsed row is complete
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isComplete() {
+		return this.complete;
+	}
+	
+	/**
+	 * checks, if the parsed part of a {@link File} is still unchanged, so only new rows were appended since
+	 *
+	 * @param file the {@link File} to check
+	 * @return {@code true}, if the {@link File} still starts with the parsed part
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public boolean isContainedIn(File file)
+	throws IOException {
+		byte[] bytes = FileTail.read(file, this.offset);
+		
+		return bytes != null && FileTail.checksum(bytes) == this.checksum;
+	}
+}
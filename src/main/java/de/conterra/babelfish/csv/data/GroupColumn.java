@@ -0,0 +1,481 @@
+package de.conterra.babelfish.csv.data;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * defines a column of group IDs, which are assigned to the rows by the values of one or more group columns<br>
+ * The values of every group column are encoded as codes of a dictionary
+ * and the codes of a row are hashed as composite key into an open addressing table, so no {@link String} key is built.
+ * The IDs are given in the order of the first occurrence of a group, starting with {@code 0}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class GroupColumn {
+	/**
+	 * the number of group columns
+	 *
+	 * @since 0.4.0
+	 */
+	private final int width;
+	/**
+	 * the dictionaries of the group columns, which are only needed during the creation
+	 *
+	 * @since 0.4.0
+	 */
+	private List<Map<String, Integer>> dictionaries = new ArrayList<>();
+	/**
+	 * the distinct values of the group columns, indexed by their code
+	 *
+	 * @since 0.4.0
+	 */
+	private String[][]                 values;
+	/**
+	 * the numbers of distinct values in {@link #values}
+	 *
+	 * @since 0.4.0
+	 */
+	private int[]                      counts;
+	/**
+	 * the composite keys of the groups, indexed by {@code ID * width}
+	 *
+	 * @since 0.4.0
+	 */
+	private int[]                      keys;
+	/**
+	 * the open addressing table, which contains the group ID plus one of every used slot, which is only needed during the creation
+	 *
+	 * @since 0.4.0
+	 */
+	private int[]                      table        = new int[64];
+	/**
+	 * the reused composite key of the added row
+	 *
+	 * @since 0.4.0
+	 */
+	private int[]                      key;
+	/**
+	 * the group IDs of the rows
+	 *
+	 * @since 0.4.0
+	 */
+	private int[]                      ids          = new int[64];
+	/**
+	 * the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	private int                        size         = 0;
+	/**
+	 * the number of groups
+	 *
+	 * @since 0.4.0
+	 */
+	private int                        groupCount   = 0;
+	
+	/**
+	 * constructor, with given number of group columns
+	 *
+	 * @param width the number of group columns
+	 * @since 0.4.0
+	 */
+	GroupColumn(int width) {
+		this.width = width;
+		this.keys = new int[16 * width];
+		this.key = new int[width];
+		this.values = new String[width][];
+		this.counts = new int[width];
+		
+		for (int i = 0; i < width; i++) {
+			this.dictionaries.add(new HashMap<>());
+			this.values[i] = new String[16];
+		}
+	}
+	
+	/**
+	 * copy constructor, to add further rows to the groups of a frozen {@link GroupColumn}<br>
+	 * The IDs of the existing groups are kept.
+	 * If the arrays are shared, the dictionaries and the table of {@code other} are reused, if they were kept on freezing (see {@link #freeze(boolean)}),
+	 * so the copy costs time linear in the number of groups only, if {@code other} was trimmed.
+	 *
+	 * @param other the {@link GroupColumn} to copy
+	 * @param share share the arrays of {@code other}, so the added rows and groups are stored behind its ones, instead of copying them?
+	 * @since 0.4.0
+	 */
+	GroupColumn(GroupColumn other, boolean share) {
+		this.width = other.width;
+		this.key = new int[this.width];
+		this.values = new String[this.width][];
+		this.counts = other.counts.clone();
+		
+		for (int i = 0; i < this.width; i++) {
+			this.values[i] = share ? other.values[i] : Arrays.copyOf(other.values[i], Math.max(16, this.counts[i]));
+		}
+		
+		if (share && other.dictionaries != null) {
+			this.dictionaries = other.dictionaries;
+		} else {
+			for (int i = 0; i < this.width; i++) {
+				Map<String, Integer> dictionary = new HashMap<>();
+				for (int code = 0; code < this.counts[i]; code++) {
+					dictionary.put(this.values[i][code], code);
+				}
+				
+				this.dictionaries.add(dictionary);
+			}
+		}
+		
+		this.groupCount = other.groupCount;
+		this.keys = share ? other.keys : Arrays.copyOf(other.keys, Math.max(16, 2 * this.groupCount) * this.width);
+		this.ids = share ? other.ids : Arrays.copyOf(other.ids, Math.max(this.ids.length, other.size + (other.size >> 3)));
+		this.size = other.size;
+		
+		if (share && other.table != null) {
+			this.table = other.table;
+		} else {
+			int capacity = this.table.length;
+			while (2 * this.groupCount > capacity) {
+				capacity *= 2;
+			}
+			this.rehash(capacity);
+		}
+	}
+	
+	/**
+	 * adds the values of the group columns of the next row
+	 *
+	 * @param values the values of the group columns ({@code null} for missing cells)
+	 * @since 0.4.0
+	 */
+	void add(String[] values) {
+		if (this.size >= this.ids.length) {
+			this.ids = Arrays.copyOf(this.ids, Math.max(64, 2 * this.ids.length));
+		}
+		
+		int hash = 1;
+		for (int i = 0; i < this.width; i++) {
+			int code = DictionaryColumn.NULL;
+			
+			if (values[i] != null) {
+				Map<String, Integer> dictionary = this.dictionaries.get(i);
+				Integer              known      = dictionary.get(values[i]);
+				
+				code = known != null ? known : this.addValue(i, values[i]);
+			}
+			
+			this.key[i] = code;
+			hash = 31 * hash + code;
+		}
+		
+		this.ids[this.size++] = this.find(hash);
+	}
+	
+	/**
+	 * finds the group ID of {@link #key} and adds a new group, if the key wasn't added before
+	 *
+	 * @param hash the hash code of {@link #key}
+	 * @return the group ID
+	 *
+	 * @since 0.4.0
+	 */
+	private int find(int hash) {
+		int mask = this.table.length - 1;
+		int slot = GroupColumn.mix(hash) & mask;
+		
+		while (this.table[slot] != 0) {
+			int id = this.table[slot] - 1;
+			
+			if (this.matches(id)) {
+				return id;
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		int id = this.groupCount++;
+		
+		if (this.keys.length < this.groupCount * this.width) {
+			this.keys = Arrays.copyOf(this.keys, Math.max(16 * this.width, 2 * this.keys.length));
+		}
+		System.arraycopy(this.key, 0, this.keys, id * this.width, this.width);
+		
+		this.table[slot] = id + 1;
+		
+		if (2 * this.groupCount > this.table.length) {
+			this.rehash(2 * this.table.length);
+		}
+		
+		return id;
+	}
+	
+	/**
+	 * adds a new distinct value of a group column to its dictionary
+	 *
+	 * @param column the index of the group column
+	 * @param value  the value, which isn't contained in the dictionary yet
+	 * @return the code of the value
+	 *
+	 * @since 0.4.0
+	 */
+	private int addValue(int column, String value) {
+		int code = this.counts[column]++;
+		
+		if (code >= this.values[column].length) {
+			this.values[column] = Arrays.copyOf(this.values[column], Math.max(16, 2 * this.values[column].length));
+		}
+		
+		this.values[column][code] = value;
+		this.dictionaries.get(column).put(value, code);
+		
+		return code;
+	}
+	
+	/**
+	 * checks, if the composite key of a group equals {@link #key}
+	 *
+	 * @param id the ID of the group
+	 * @return {@code true}, if the keys are equal
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean matches(int id) {
+		int offset = id * this.width;
+		
+		for (int i = 0; i < this.width; i++) {
+			if (this.keys[offset + i] != this.key[i]) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * creates a new {@link #table} and inserts all groups again
+	 *
+	 * @param capacity the size of the new table, which must be a power of two
+	 * @since 0.4.0
+	 */
+	private void rehash(int capacity) {
+		int[] table = new int[capacity];
+		int   mask  = table.length - 1;
+		
+		for (int id = 0; id < this.groupCount; id++) {
+			int offset = id * this.width;
+			int hash   = 1;
+			
+			for (int i = 0; i < this.width; i++) {
+				hash = 31 * hash + this.keys[offset + i];
+			}
+			
+			int slot = GroupColumn.mix(hash) & mask;
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			
+			table[slot] = id + 1;
+		}
+		
+		this.table = table;
+	}
+	
+	/**
+	 * spreads the bits of a hash code, so the lower bits could be used as index of a slot
+	 *
+	 * @param hash the hash code to spread
+	 * @return the spread hash code
+	 *
+	 * @since 0.4.0
+	 */
+	private static int mix(int hash) {
+		hash *= 0x9E3779B9;
+		
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * appends all rows of another {@link GroupColumn} with the same number of group columns<br>
+	 * The new groups of {@code other} get their IDs in the order of their first occurrence,
+	 * so the result is the same as adding all values one by one.
+	 *
+	 * @param other the {@link GroupColumn} to append, which mustn't be frozen
+	 * @since 0.4.0
+	 */
+	void append(GroupColumn other) {
+		int[][] codes = new int[this.width][];
+		for (int i = 0; i < this.width; i++) {
+			Map<String, Integer> dictionary = this.dictionaries.get(i);
+			
+			codes[i] = new int[other.counts[i]];
+			for (int code = 0; code < codes[i].length; code++) {
+				String  value = other.values[i][code];
+				Integer known = dictionary.get(value);
+				
+				codes[i][code] = known != null ? known : this.addValue(i, value);
+			}
+		}
+		
+		int[] ids = new int[other.groupCount];
+		for (int id = 0; id < ids.length; id++) {
+			int offset = id * this.width;
+			int hash   = 1;
+			
+			for (int i = 0; i < this.width; i++) {
+				int code = other.keys[offset + i];
+				
+				this.key[i] = code != DictionaryColumn.NULL ? codes[i][code] : DictionaryColumn.NULL;
+				hash = 31 * hash + this.key[i];
+			}
+			
+			ids[id] = this.find(hash);
+		}
+		
+		if (this.size + other.size > this.ids.length) {
+			this.ids = Arrays.copyOf(this.ids, Math.max(this.size + other.size, 2 * this.ids.length));
+		}
+		
+		for (int row = 0; row < other.size; row++) {
+			this.ids[this.size++] = ids[other.ids[row]];
+		}
+	}
+	
+	/**
+	 * writes the values, keys and group IDs of a frozen {@link GroupColumn} to a snapshot
+	 *
+	 * @param out the {@link DataOutputStream} to write to
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	void write(DataOutputStream out)
+	throws IOException {
+		out.writeInt(this.width);
+		for (int i = 0; i < this.width; i++) {
+			out.writeInt(this.counts[i]);
+			for (int code = 0; code < this.counts[i]; code++) {
+				LayerSnapshot.writeString(out, this.values[i][code]);
+			}
+		}
+		
+		out.writeInt(this.groupCount);
+		LayerSnapshot.writeInts(out, this.keys, this.groupCount * this.width);
+		
+		out.writeInt(this.size);
+		LayerSnapshot.writeInts(out, this.ids, this.size);
+	}
+	
+	/**
+	 * reads a frozen {@link GroupColumn} of a snapshot
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @return the read {@link GroupColumn}
+	 *
+	 * @since 0.4.0
+	 */
+	static GroupColumn read(ByteBuffer buffer) {
+		GroupColumn column = new GroupColumn(buffer.getInt());
+		
+		for (int i = 0; i < column.width; i++) {
+			column.counts[i] = buffer.getInt();
+			column.values[i] = new String[column.counts[i]];
+			
+			for (int code = 0; code < column.counts[i]; code++) {
+				column.values[i][code] = LayerSnapshot.readString(buffer);
+			}
+		}
+		
+		column.groupCount = buffer.getInt();
+		column.keys = LayerSnapshot.readInts(buffer, column.groupCount * column.width);
+		column.size = buffer.getInt();
+		column.ids = LayerSnapshot.readInts(buffer, column.size);
+		column.dictionaries = null;
+		column.table = null;
+		column.key = null;
+		
+		return column;
+	}
+	
+	/**
+	 * finishes the creation and releases the memory, which is only needed to add values
+	 *
+	 * @param trim release the unused capacity? Otherwise the capacity, the dictionaries and the table are kept for a copy, which shares them.
+	 * @since 0.4.0
+	 */
+	void freeze(boolean trim) {
+		if (!(trim)) {
+			return;
+		}
+		
+		this.dictionaries = null;
+		this.table = null;
+		this.key = null;
+		this.keys = Arrays.copyOf(this.keys, this.groupCount * this.width);
+		this.ids = Arrays.copyOf(this.ids, this.size);
+		
+		for (int i = 0; i < this.width; i++) {
+			this.values[i] = Arrays.copyOf(this.values[i], this.counts[i]);
+		}
+	}
+	
+	/**
+	 * gives the number of rows
+	 *
+	 * @return the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * gives the number of groups
+	 *
+	 * @return the number of groups
+	 *
+	 * @since 0.4.0
+	 */
+	public int getGroupCount() {
+		return this.groupCount;
+	}
+	
+	/**
+	 * gives the group ID of a row
+	 *
+	 * @param row the index of the row
+	 * @return the ID of the group, between {@code 0} and {@link #getGroupCount()} (exclusive)
+	 *
+	 * @since 0.4.0
+	 */
+	public int getGroup(int row) {
+		return this.ids[row];
+	}
+	
+	/**
+	 * estimates the number of bytes, which are retained by a frozen {@link GroupColumn} on the heap
+	 *
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	public long getHeapSize() {
+		long result = 16L + 4L * this.keys.length + 16L + 4L * this.ids.length;
+		
+		for (int i = 0; i < this.width; i++) {
+			result += 16L + 4L * this.values[i].length;
+			
+			for (int code = 0; code < this.counts[i]; code++) {
+				result += DictionaryColumn.estimate(this.values[i][code]);
+			}
+		}
+		
+		return result;
+	}
+}
@@ -0,0 +1,223 @@
+package de.conterra.babelfish.csv.data;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * defines a cache of a value, which is loaded from a {@link File}<br>
+ * The value is only loaded again, if the {@link FileStamp} of the {@link File} changed since the last load.
+ * If the {@link File} was only appended, the {@link Loader} could update the cached value instead (see {@link Loader#update(Object)}).
+ * Reading a valid value is lock-free, so it could be used by many request threads at once.
+ *
+ * @param <T> the type of the cached value
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@Slf4j
+public class LayerCache<T> {
+	/**
+	 * defines the loader of a cached value
+	 *
+	 * @param <T> the type of the loaded value
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public interface Loader<T> {
+		/**
+		 * loads the value
+		 *
+		 * @return the loaded value
+		 *
+		 * @throws IOException if the value couldn't be loaded
+		 * @since 0.4.0
+		 */
+		T load()
+		throws IOException;
+		
+		/**
+		 * updates a value after the {@link File} was possibly only appended (see {@link FileStamp#isAppendOf(FileStamp)})<br>
+		 * By default the value is loaded again.
+		 *
+		 * @param previous the value, which was loaded before the {@link File} grew
+		 * @return the updated value
+		 *
+		 * @throws IOException if the value couldn't be updated
+		 * @since 0.4.0
+		 */
+		default T update(T previous)
+		throws IOException {
+			return this.load();
+		}
+	}
+	
+	/**
+	 * defines a loaded value together with the {@link FileStamp} of the {@link File} it was loaded from
+	 *
+	 * @param <T> the type of the value
+	 * @since 0.4.0
+	 */
+	private static final class Entry<T> {
+		/**
+		 * the {@link FileStamp} of the {@link File}, before the value was loaded
+		 *
+		 * @since 0.4.0
+		 */
+		private final FileStamp stamp;
+		/**
+		 * the loaded value
+		 *
+		 * @since 0.4.0
+		 */
+		private final T         value;
+		
+		/**
+		 * constructor, with given {@link FileStamp} and value
+		 *
+		 * @param stamp the {@link FileStamp} of the {@link File}, before the value was loaded
+		 * @param value the loaded value
+		 * @since 0.4.0
+		 */
+		private Entry(FileStamp stamp, T value) {
+			this.stamp = stamp;
+			this.value = value;
+		}
+	}
+	
+	/**
+	 * the {@link File} to load the value from
+	 *
+	 * @since 0.4.0
+	 */
+	private final File       file;
+	/**
+	 * the {@link Loader} of the value
+	 *
+	 * @since 0.4.0
+	 */
+	private final Loader<T>  loader;
+	/**
+	 * the lock, which serializes the loading of the value
+	 *
+	 * @since 0.4.0
+	 */
+	private final Object     lock   = new Object();
+	/**
+	 * the number of requests, which could be answered from the cache
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong hits   = new AtomicLong();
+	/**
+	 * the number of requests, which needed to load the value
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong misses = new AtomicLong();
+	/**
+	 * the current {@link Entry} or {@code null}, if nothing was loaded yet
+	 *
+	 * @since 0.4.0
+	 */
+	private volatile Entry<T> entry;
+	
+	/**
+	 * constructor, with given {@link File} and {@link Loader}
+	 *
+	 * @param file   the {@link File} to load the value from
+	 * @param loader the {@link Loader} of the value
+	 * @since 0.4.0
+	 */
+	public LayerCache(File file, Loader<T> loader) {
+		this.file = file;
+		this.loader = loader;
+	}
+	
+	/**
+	 * gives the cached value and loads it again, if the {@link File} changed
+	 *
+	 * @return the value, which is up to date with the {@link File}
+	 *
+	 * @throws IOException if the value had to be loaded, but an error occurred on loading
+	 * @since 0.4.0
+	 */
+	public T get()
+	throws IOException {
+		FileStamp stamp   = FileStamp.of(this.file);
+		Entry<T>  current = this.entry;
+		
+		if (current != null && current.stamp.equals(stamp)) {
+			this.hits.incrementAndGet();
+			return current.value;
+		}
+		
+		synchronized (this.lock) {
+			current = this.entry;
+			if (current != null && current.stamp.equals(stamp)) {
+				this.hits.incrementAndGet();
+				return current.value;
+			}
+			
+			this.misses.incrementAndGet();
+			
+			long    start  = System.nanoTime();
+			boolean append = current != null && stamp.isAppendOf(current.stamp);
+			T       value  = append ? this.loader.update(current.value) : this.loader.load();
+			
+			this.entry = new Entry<>(stamp, value);
+			log.debug((append ? "Updated " : "Loaded ") + stamp + " in " + ((System.nanoTime() - start) / 1000000L) + " ms (cache hits: " + this.getHits() + ", misses: " + this.getMisses() + ").");
+			
+			return value;
+		}
+	}
+	
+	/**
+	 * discards the cached value, so the next call of {@link LayerCache#get()} loads it again
+	 *
+	 * @since 0.4.0
+	 */
+	public void invalidate() {
+		synchronized (this.lock) {
+			this.entry = null;
+		}
+	}
+	
+	/**
+	 * gives the {@link FileStamp} of the currently cached value
+	 *
+	 * @return the {@link FileStamp} of the currently cached value or {@code null}, if nothing was loaded yet
+	 *
+	 * @since 0.4.0
+	 */
+	public FileStamp getStamp() {
+		Entry<T> current = this.entry;
+		
+		return current != null ? current.stamp : null;
+	}
+	
+	/**
+	 * gives the number of requests, which could be answered from the cache
+	 *
+	 * @return the number of cache hits
+	 *
+	 * @since 0.4.0
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+	
+	/**
+	 * gives the number of requests, which needed to load the value
+	 *
+	 * @return the number of cache misses
+	 *
+	 * @since 0.4.0
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+}
@@ -0,0 +1,1051 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * defines the parsed content of a CSV {@link File}<br>
+ * The content is stored column by column in primitive arrays and typed attribute columns (see {@link AttributeColumn}),
+ * so features have to be created of a row only, if they are requested.
+ * The rows of an instance are never changed after its creation, so it could be shared between many request threads,
+ * even while a {@link Builder} appends further rows behind them (see {@link Builder#Builder(LayerData)}).
+ * Values, which are derived from the content (e.g. the features of a layer), could be stored with
+ * {@link LayerData#derive(Key, Function)}, so they are discarded together with the content.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class LayerData {
+	/**
+	 * defines the key of a value, which is derived from the {@link LayerData}<br>
+	 * Only the values of inheritable keys are inherited by the {@link LayerData}, which appends rows to it (see {@link Builder#Builder(LayerData)}).
+	 * All other values are discarded together with their {@link LayerData}, so they couldn't keep a previous {@link LayerData} alive.
+	 *
+	 * @param <T> the type of the derived value
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public static final class Key<T> {
+		/**
+		 * the name of the key
+		 *
+		 * @since 0.4.0
+		 */
+		private final String  name;
+		/**
+		 * is the derived value inherited by the {@link LayerData}, which appends rows to it?
+		 *
+		 * @since 0.4.0
+		 */
+		private final boolean inheritable;
+		
+		/**
+		 * constructor, with given name of a key, which value isn't inherited
+		 *
+		 * @param name the name of the key
+		 * @since 0.4.0
+		 */
+		public Key(String name) {
+			this(name, false);
+		}
+		
+		/**
+		 * constructor, with given name
+		 *
+		 * @param name        the name of the key
+		 * @param inheritable is the derived value inherited by the {@link LayerData}, which appends rows to it?
+		 *                    It mustn't reference the {@link LayerData}, it was derived from.
+		 * @since 0.4.0
+		 */
+		public Key(String name, boolean inheritable) {
+			this.name = name;
+			this.inheritable = inheritable;
+		}
+		
+		/**
+		 * checks, if the derived value is inherited by the {@link LayerData}, which appends rows to it
+		 *
+		 * @return {@code true}, if the derived value is inherited
+		 *
+		 * @since 0.4.0
+		 */
+		public boolean isInheritable() {
+			return this.inheritable;
+		}
+		
+		@Override
+		public String toString() {
+			return this.name;
+		}
+	}
+	
+	/**
+	 * defines a builder of {@link LayerData}, to which the parsed rows are added one by one
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public static class Builder {
+		/**
+		 * the indices of the columns, which are stored as attributes
+		 *
+		 * @since 0.4.0
+		 */
+		private final int[]                                   attributeColumns;
+		/**
+		 * the attribute columns, in the order of {@link #attributeColumns}
+		 *
+		 * @since 0.4.0
+		 */
+		private final AttributeColumn[]                       attributes;
+		/**
+		 * the column of the group IDs or {@code null}, if the rows are not grouped
+		 *
+		 * @since 0.4.0
+		 */
+		private final GroupColumn                             groups;
+		/**
+		 * the distinct {@link CoordinateReferenceSystem}s, indexed by their code
+		 *
+		 * @since 0.4.0
+		 */
+		private final List<CoordinateReferenceSystem>         crsTable       = new ArrayList<>();
+		/**
+		 * the identifiers (e.g. EPSG codes), of which the {@link CoordinateReferenceSystem}s of {@link #crsTable} were decoded
+		 *
+		 * @since 0.4.0
+		 */
+		private final List<String>                            crsIdentifiers = new ArrayList<>();
+		/**
+		 * the codes of the distinct {@link CoordinateReferenceSystem}s by their identifiers
+		 *
+		 * @since 0.4.0
+		 */
+		private final Map<String, Integer>                    crsLookup      = new HashMap<>();
+		/**
+		 * the values of the first ordinate (latitude column)
+		 *
+		 * @since 0.4.0
+		 */
+		private double[] latitudes;
+		/**
+		 * the values of the second ordinate (longitude column)
+		 *
+		 * @since 0.4.0
+		 */
+		private double[] longitudes;
+		/**
+		 * the values of the third ordinate (elevation column) or {@code null}, if no elevation is available
+		 *
+		 * @since 0.4.0
+		 */
+		private double[] elevations;
+		/**
+		 * the codes of the {@link CoordinateReferenceSystem}s
+		 *
+		 * @since 0.4.0
+		 */
+		private int[]    crsCodes;
+		/**
+		 * the object IDs or {@code null}, if no object ID column is available
+		 *
+		 * @since 0.4.0
+		 */
+		private int[]    objectIds;
+		/**
+		 * the rows, which contain a valid object ID, as words of bits (see {@link Bits})
+		 *
+		 * @since 0.4.0
+		 */
+		private long[]   objectIdSet;
+		/**
+		 * the number of added rows
+		 *
+		 * @since 0.4.0
+		 */
+		private int      size    = 0;
+		/**
+		 * the number of skipped rows
+		 *
+		 * @since 0.4.0
+		 */
+		private int      skipped = 0;
+		/**
+		 * the end of the parsed part of the CSV {@link File} or {@code null}, if it isn't followed
+		 *
+		 * @since 0.4.0
+		 */
+		private FileTail tail    = null;
+		
+		/**
+		 * the derived values of the {@link LayerData}, which rows are the first rows of this {@link Builder}
+		 *
+		 * @since 0.4.0
+		 */
+		private final Map<Key<?>, Object> inherited;
+		/**
+		 * the number of rows of the {@link LayerData}, which derived values are inherited
+		 *
+		 * @since 0.4.0
+		 */
+		private final int                 inheritedSize;
+		
+		/**
+		 * constructor, with given columns, which are all stored as {@link FieldType#String}s
+		 *
+		 * @param attributeColumns the indices of the columns, which are stored as attributes
+		 * @param elevation        is an elevation available?
+		 * @param objectId         is an object ID column available?
+		 * @param groupColumns     the number of group columns or {@code 0}, if the rows are not grouped
+		 * @since 0.4.0
+		 */
+		public Builder(int[] attributeColumns, boolean elevation, boolean objectId, int groupColumns) {
+			this(attributeColumns, null, elevation, objectId, groupColumns);
+		}
+		
+		/**
+		 * constructor, with given columns and {@link FieldType}s of the attributes
+		 *
+		 * @param attributeColumns the indices of the columns, which are stored as attributes
+		 * @param attributeTypes   the {@link FieldType}s of the attribute columns or {@code null}, if all are stored as {@link FieldType#String}s
+		 * @param elevation        is an elevation available?
+		 * @param objectId         is an object ID column available?
+		 * @param groupColumns     the number of group columns or {@code 0}, if the rows are not grouped
+		 * @since 0.4.0
+		 */
+		public Builder(int[] attributeColumns, FieldType[] attributeTypes, boolean elevation, boolean objectId, int groupColumns) {
+			int capacity = 64;
+			
+			this.attributeColumns = attributeColumns.clone();
+			this.attributes = new AttributeColumn[attributeColumns.length];
+			for (int i = 0; i < this.attributes.length; i++) {
+				this.attributes[i] = AttributeColumn.create(attributeTypes != null ? attributeTypes[i] : FieldType.String);
+			}
+			
+			this.groups = groupColumns > 0 ? new GroupColumn(groupColumns) : null;
+			this.objectIdSet = objectId ? new long[1] : null;
+			this.latitudes = new double[capacity];
+			this.longitudes = new double[capacity];
+			this.elevations = elevation ? new double[capacity] : null;
+			this.crsCodes = new int[capacity];
+			this.objectIds = objectId ? new int[capacity] : null;
+			this.inherited = Collections.emptyMap();
+			this.inheritedSize = 0;
+		}
+		
+		/**
+		 * constructor, with already frozen columns, which are read from a snapshot<br>
+		 * The other columns and the size must be set, before the {@link LayerData} is created.
+		 *
+		 * @param attributeColumns the indices of the columns, which are stored as attributes
+		 * @param attributes       the attribute columns, in the order of {@code attributeColumns}
+		 * @param groups           the column of the group IDs or {@code null}, if the rows are not grouped
+		 * @param objectIdSet      the rows, which contain a valid object ID, as words of bits or {@code null}, if no object ID column is available
+		 * @since 0.4.0
+		 */
+		private Builder(int[] attributeColumns, AttributeColumn[] attributes, GroupColumn groups, long[] objectIdSet) {
+			this.attributeColumns = attributeColumns;
+			this.attributes = attributes;
+			this.groups = groups;
+			this.objectIdSet = objectIdSet;
+			this.inherited = Collections.emptyMap();
+			this.inheritedSize = 0;
+		}
+		
+		/**
+		 * constructor, which starts with all rows of already created {@link LayerData}, to append further rows to them<br>
+		 * The created {@link LayerData} inherits the derived values of {@code data}, which {@link Key}s are inheritable,
+		 * so they could be updated with the appended rows only (see {@link LayerData#getInherited(Key)}).
+		 * The first {@link Builder} of {@code data} shares its columns and stores the appended rows behind its rows in their unused capacity,
+		 * which grows geometrically, so an update costs time and memory linear in the number of appended rows only.
+		 * The rows of {@code data} are never changed, so it stays valid, even if the update fails.
+		 * Every further {@link Builder} of {@code data} copies the columns, because the unused capacity is already claimed.
+		 *
+		 * @param data the {@link LayerData} to start with
+		 * @since 0.4.0
+		 */
+		public Builder(LayerData data) {
+			int     size     = data.size;
+			int     capacity = Math.max(64, size + (size >> 3));
+			boolean share    = data.shared.compareAndSet(false, true);
+			
+			this.attributeColumns = new int[data.attributes.size()];
+			this.attributes = new AttributeColumn[this.attributeColumns.length];
+			
+			int i = 0;
+			for (Map.Entry<Integer, AttributeColumn> column : data.attributes.entrySet()) {
+				this.attributeColumns[i] = column.getKey();
+				this.attributes[i] = column.getValue().copy(share);
+				i++;
+			}
+			
+			this.groups = data.groups != null ? new GroupColumn(data.groups, share) : null;
+			
+			if (share) {
+				this.latitudes = data.latitudes;
+				this.longitudes = data.longitudes;
+				this.elevations = data.elevations;
+				this.crsCodes = data.crsCodes;
+				this.objectIds = data.objectIds;
+				this.objectIdSet = data.objectIdSet;
+			} else {
+				this.latitudes = Arrays.copyOf(data.latitudes, capacity);
+				this.longitudes = Arrays.copyOf(data.longitudes, capacity);
+				this.elevations = data.elevations != null ? Arrays.copyOf(data.elevations, capacity) : null;
+				this.crsCodes = Arrays.copyOf(data.crsCodes, capacity);
+				this.objectIds = data.objectIds != null ? Arrays.copyOf(data.objectIds, capacity) : null;
+				this.objectIdSet = data.objectIdSet != null ? Bits.copyOf(data.objectIdSet, size, capacity) : null;
+			}
+			
+			for (int code = 0; code < data.crsTable.size(); code++) {
+				this.getCrsCode(data.crsIdentifiers.get(code), data.crsTable.get(code));
+			}
+			
+			this.size = size;
+			this.skipped = data.skipped;
+			this.tail = data.tail;
+			this.inherited = new HashMap<>();
+			
+			for (Map.Entry<Key<?>, Object> derived : data.derived.entrySet()) {
+				if (derived.getKey().isInheritable()) {
+					this.inherited.put(derived.getKey(), derived.getValue());
+				}
+			}
+			this.inheritedSize = size;
+		}
+		
+		/**
+		 * adds a row
+		 *
+		 * @param identifier the identifier (e.g. an EPSG code), of which {@code crs} was decoded
+		 * @param crs        the {@link CoordinateReferenceSystem} of the position
+		 * @param latitude   the value of the first ordinate (latitude column)
+		 * @param longitude  the value of the second ordinate (longitude column)
+		 * @param elevation  the value of the third ordinate (elevation column), which is ignored, if no elevation is available
+		 * @param objectId   the object ID or {@code null}, if the row contains no valid object ID
+		 * @param attributes the values of the attribute columns in the order of the columns given to the constructor ({@code null} for missing cells)
+		 * @param groups     the values of the group columns ({@code null} for missing cells), which are ignored, if the rows are not grouped
+		 * @return this {@link Builder}
+		 *
+		 * @since 0.4.0
+		 */
+		public Builder add(String identifier, CoordinateReferenceSystem crs, double latitude, double longitude, double elevation, Integer objectId, String[] attributes, String[] groups) {
+			int row = this.size;
+			
+			this.ensureCapacity(row + 1);
+			
+			this.latitudes[row] = latitude;
+			this.longitudes[row] = longitude;
+			this.crsCodes[row] = this.getCrsCode(identifier, crs);
+			
+			if (this.elevations != null) {
+				this.elevations[row] = elevation;
+			}
+			
+			if (this.objectIds != null && objectId != null) {
+				this.objectIds[row] = objectId;
+				this.objectIdSet = Bits.set(this.objectIdSet, row);
+			}
+			
+			for (int i = 0; i < this.attributes.length; i++) {
+				this.attributes[i].add(attributes[i]);
+			}
+			
+			if (this.groups != null) {
+				this.groups.add(groups);
+			}
+			
+			this.size++;
+			
+			return this;
+		}
+		
+		/**
+		 * appends all rows of another {@link Builder} with the same columns<br>
+		 * The result is the same as adding the rows of {@code other} one by one, so the {@link Builder}s of consecutive parts of a file
+		 * could be merged in the order of the file.
+		 *
+		 * @param other the {@link Builder} to append, which mustn't be used afterwards
+		 * @return this {@link Builder}
+		 *
+		 * @since 0.4.0
+		 */
+		public Builder append(Builder other) {
+			int offset = this.size;
+			int size   = other.size;
+			
+			this.ensureCapacity(offset + size);
+			
+			System.arraycopy(other.latitudes, 0, this.latitudes, offset, size);
+			System.arraycopy(other.longitudes, 0, this.longitudes, offset, size);
+			
+			if (this.elevations != null) {
+				System.arraycopy(other.elevations, 0, this.elevations, offset, size);
+			}
+			
+			int[] crsCodes = new int[other.crsTable.size()];
+			for (int code = 0; code < crsCodes.length; code++) {
+				crsCodes[code] = this.getCrsCode(other.crsIdentifiers.get(code), other.crsTable.get(code));
+			}
+			for (int row = 0; row < size; row++) {
+				this.crsCodes[offset + row] = crsCodes[other.crsCodes[row]];
+			}
+			
+			if (this.objectIds != null) {
+				System.arraycopy(other.objectIds, 0, this.objectIds, offset, size);
+				
+				for (int row = 0; row < size; row++) {
+					if (Bits.get(other.objectIdSet, row)) {
+						this.objectIdSet = Bits.set(this.objectIdSet, offset + row);
+					}
+				}
+			}
+			
+			for (int i = 0; i < this.attributes.length; i++) {
+				this.attributes[i].append(other.attributes[i]);
+			}
+			
+			if (this.groups != null) {
+				this.groups.append(other.groups);
+			}
+			
+			this.size += size;
+			this.skipped += other.skipped;
+			
+			if (other.tail != null) {
+				this.tail = other.tail;
+			}
+			
+			return this;
+		}
+		
+		/**
+		 * sets the end of the parsed part of the CSV {@link File}, so it could be followed by parsing only the appended rows
+		 *
+		 * @param tail the end of the parsed part or {@code null}, if the CSV {@link File} isn't followed
+		 * @return this {@link Builder}
+		 *
+		 * @since 0.4.0
+		 */
+		public Builder setTail(FileTail tail) {
+			this.tail = tail;
+			
+			return this;
+		}
+		
+		/**
+		 * ensures, that the columns could hold a number of rows
+		 *
+		 * @param capacity the number of rows
+		 * @since 0.4.0
+		 */
+		private void ensureCapacity(int capacity) {
+			if (capacity > this.latitudes.length) {
+				capacity = Math.max(capacity, 2 * this.latitudes.length);
+				
+				this.latitudes = Arrays.copyOf(this.latitudes, capacity);
+				this.longitudes = Arrays.copyOf(this.longitudes, capacity);
+				this.crsCodes = Arrays.copyOf(this.crsCodes, capacity);
+				
+				if (this.elevations != null) {
+					this.elevations = Arrays.copyOf(this.elevations, capacity);
+				}
+				if (this.objectIds != null) {
+					this.objectIds = Arrays.copyOf(this.objectIds, capacity);
+				}
+			}
+		}
+		
+		/**
+		 * gives the code of a {@link CoordinateReferenceSystem} and adds it to {@link #crsTable}, if its identifier is unknown
+		 *
+		 * @param identifier the identifier, of which {@code crs} was decoded
+		 * @param crs        the {@link CoordinateReferenceSystem}
+		 * @return the code of the {@link CoordinateReferenceSystem}
+		 *
+		 * @since 0.4.0
+		 */
+		private int getCrsCode(String identifier, CoordinateReferenceSystem crs) {
+			Integer code = this.crsLookup.get(identifier);
+			
+			if (code == null) {
+				code = this.crsTable.size();
+				this.crsTable.add(crs);
+				this.crsIdentifiers.add(identifier);
+				this.crsLookup.put(identifier, code);
+			}
+			
+			return code;
+		}
+		
+		/**
+		 * counts a row, which is skipped, because it contains malformed coordinates
+		 *
+		 * @return this {@link Builder}
+		 *
+		 * @since 0.4.0
+		 */
+		public Builder skip() {
+			this.skipped++;
+			
+			return this;
+		}
+		
+		/**
+		 * creates the {@link LayerData} of all added rows<br>
+		 * If the CSV {@link File} is followed, the unused capacity of the columns is kept, so the next {@link Builder} could append rows to them.
+		 * The {@link Builder} mustn't be used afterwards.
+		 *
+		 * @return the created {@link LayerData}
+		 *
+		 * @since 0.4.0
+		 */
+		public LayerData build() {
+			boolean trim = this.tail == null;
+			
+			for (AttributeColumn column : this.attributes) {
+				column.freeze(trim);
+			}
+			
+			if (this.groups != null) {
+				this.groups.freeze(trim);
+			}
+			
+			return new LayerData(this);
+		}
+	}
+	
+	/**
+	 * the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	private final int                             size;
+	/**
+	 * the number of rows, which are skipped because of malformed coordinates
+	 *
+	 * @since 0.4.0
+	 */
+	private final int                             skipped;
+	/**
+	 * the values of the first ordinate (latitude column)
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]                        latitudes;
+	/**
+	 * the values of the second ordinate (longitude column)
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]                        longitudes;
+	/**
+	 * the values of the third ordinate (elevation column) or {@code null}, if no elevation is available
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]                        elevations;
+	/**
+	 * the codes of the {@link CoordinateReferenceSystem}s in {@link #crsTable}
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[]                           crsCodes;
+	/**
+	 * the distinct {@link CoordinateReferenceSystem}s, indexed by their code
+	 *
+	 * @since 0.4.0
+	 */
+	private final List<CoordinateReferenceSystem> crsTable;
+	/**
+	 * the identifiers (e.g. EPSG codes), of which the {@link CoordinateReferenceSystem}s of {@link #crsTable} were decoded
+	 *
+	 * @since 0.4.0
+	 */
+	private final List<String>                    crsIdentifiers;
+	/**
+	 * the object IDs or {@code null}, if no object ID column is available
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[]                           objectIds;
+	/**
+	 * the rows, which contain a valid object ID, as words of bits (see {@link Bits}) or {@code null}, if no object ID column is available
+	 *
+	 * @since 0.4.0
+	 */
+	private final long[]                          objectIdSet;
+	/**
+	 * the typed attribute columns, mapped by their column index in ascending order
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<Integer, AttributeColumn>   attributes;
+	/**
+	 * the group IDs of the rows or {@code null}, if the rows are not grouped
+	 *
+	 * @since 0.4.0
+	 */
+	private final GroupColumn                     groups;
+	/**
+	 * the values, which are derived from this {@link LayerData}
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<Key<?>, Object>             derived   = new ConcurrentHashMap<>();
+	/**
+	 * the derived values of the {@link LayerData}, which rows are the first rows of this one, which are not derived again yet
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<Key<?>, Object>             inherited = new ConcurrentHashMap<>();
+	/**
+	 * the number of rows of the {@link LayerData}, which derived values are inherited
+	 *
+	 * @since 0.4.0
+	 */
+	private final int                             inheritedSize;
+	/**
+	 * the end of the parsed part of the CSV {@link File} or {@code null}, if it isn't followed
+	 *
+	 * @since 0.4.0
+	 */
+	private final FileTail                        tail;
+	/**
+	 * is the unused capacity of the columns already claimed by a {@link Builder}, which appends rows to them?
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicBoolean                   shared    = new AtomicBoolean();
+	
+	/**
+	 * constructor, with the rows of a {@link Builder}, which columns are already frozen<br>
+	 * The columns are trimmed to the number of rows, if the CSV {@link File} isn't followed.
+	 *
+	 * @param builder the {@link Builder} with the added rows
+	 * @since 0.4.0
+	 */
+	private LayerData(Builder builder) {
+		int     size = builder.size;
+		boolean trim = builder.tail == null;
+		
+		Map<Integer, AttributeColumn> attributes = new LinkedHashMap<>();
+		for (int i = 0; i < builder.attributes.length; i++) {
+			attributes.put(builder.attributeColumns[i], builder.attributes[i]);
+		}
+		
+		this.size = size;
+		this.skipped = builder.skipped;
+		this.latitudes = trim ? Arrays.copyOf(builder.latitudes, size) : builder.latitudes;
+		this.longitudes = trim ? Arrays.copyOf(builder.longitudes, size) : builder.longitudes;
+		this.elevations = trim && builder.elevations != null ? Arrays.copyOf(builder.elevations, size) : builder.elevations;
+		this.crsCodes = trim ? Arrays.copyOf(builder.crsCodes, size) : builder.crsCodes;
+		this.crsTable = Collections.unmodifiableList(new ArrayList<>(builder.crsTable));
+		this.crsIdentifiers = Collections.unmodifiableList(new ArrayList<>(builder.crsIdentifiers));
+		this.objectIds = trim && builder.objectIds != null ? Arrays.copyOf(builder.objectIds, size) : builder.objectIds;
+		this.objectIdSet = builder.objectIdSet;
+		this.attributes = Collections.unmodifiableMap(attributes);
+		this.groups = builder.groups;
+		this.tail = builder.tail;
+		this.inherited.putAll(builder.inherited);
+		this.inheritedSize = builder.inheritedSize;
+	}
+	
+	/**
+	 * writes all columns to a snapshot, except the identifiers of {@link #getCrsIdentifiers()} and the {@link FileTail}
+	 *
+	 * @param out the {@link DataOutputStream} to write to
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	void write(DataOutputStream out)
+	throws IOException {
+		out.writeInt(this.size);
+		out.writeInt(this.skipped);
+		LayerSnapshot.writeDoubles(out, this.latitudes, this.size);
+		LayerSnapshot.writeDoubles(out, this.longitudes, this.size);
+		LayerSnapshot.writeInts(out, this.crsCodes, this.size);
+		
+		out.writeBoolean(this.elevations != null);
+		if (this.elevations != null) {
+			LayerSnapshot.writeDoubles(out, this.elevations, this.size);
+		}
+		
+		out.writeBoolean(this.objectIds != null);
+		if (this.objectIds != null) {
+			LayerSnapshot.writeInts(out, this.objectIds, this.size);
+			LayerSnapshot.writeLongs(out, Bits.copyOf(this.objectIdSet, this.size, this.size));
+		}
+		
+		out.writeInt(this.attributes.size());
+		for (Map.Entry<Integer, AttributeColumn> column : this.attributes.entrySet()) {
+			out.writeInt(column.getKey());
+			AttributeColumn.write(out, column.getValue());
+		}
+		
+		out.writeBoolean(this.groups != null);
+		if (this.groups != null) {
+			this.groups.write(out);
+		}
+	}
+	
+	/**
+	 * reads the columns of a snapshot, which were written by {@link #write(DataOutputStream)}
+	 *
+	 * @param buffer         the {@link ByteBuffer} to read from
+	 * @param crsTable       the distinct {@link CoordinateReferenceSystem}s, indexed by their code
+	 * @param crsIdentifiers the identifiers, of which the {@link CoordinateReferenceSystem}s of {@code crsTable} were decoded
+	 * @param tail           the end of the parsed part of the CSV {@link File} or {@code null}, if it isn't followed
+	 * @return the read {@link LayerData}
+	 *
+	 * @since 0.4.0
+	 */
+	static LayerData read(ByteBuffer buffer, List<CoordinateReferenceSystem> crsTable, List<String> crsIdentifiers, FileTail tail) {
+		int      size       = buffer.getInt();
+		int      skipped    = buffer.getInt();
+		double[] latitudes  = LayerSnapshot.readDoubles(buffer, size);
+		double[] longitudes = LayerSnapshot.readDoubles(buffer, size);
+		int[]    crsCodes   = LayerSnapshot.readInts(buffer, size);
+		double[] elevations = buffer.get() != 0 ? LayerSnapshot.readDoubles(buffer, size) : null;
+		int[]    objectIds  = null;
+		long[]   idSet      = null;
+		
+		if (buffer.get() != 0) {
+			objectIds = LayerSnapshot.readInts(buffer, size);
+			idSet = LayerSnapshot.readLongs(buffer);
+		}
+		
+		int[]             attributeColumns = new int[buffer.getInt()];
+		AttributeColumn[] attributes       = new AttributeColumn[attributeColumns.length];
+		for (int i = 0; i < attributeColumns.length; i++) {
+			attributeColumns[i] = buffer.getInt();
+			attributes[i] = AttributeColumn.read(buffer);
+		}
+		
+		GroupColumn groups = buffer.get() != 0 ? GroupColumn.read(buffer) : null;
+		
+		Builder builder = new Builder(attributeColumns, attributes, groups, idSet);
+		builder.crsTable.addAll(crsTable);
+		builder.crsIdentifiers.addAll(crsIdentifiers);
+		builder.latitudes = latitudes;
+		builder.longitudes = longitudes;
+		builder.elevations = elevations;
+		builder.crsCodes = crsCodes;
+		builder.objectIds = objectIds;
+		builder.size = size;
+		builder.skipped = skipped;
+		builder.tail = tail;
+		
+		return new LayerData(builder);
+	}
+	
+	/**
+	 * creates an empty {@link LayerData}
+	 *
+	 * @return an empty {@link LayerData}
+	 *
+	 * @since 0.4.0
+	 */
+	public static LayerData empty() {
+		return new Builder(new int[0], false, false, 0).build();
+	}
+	
+	/**
+	 * gives the number of rows
+	 *
+	 * @return the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * gives the number of rows, which are skipped because of malformed coordinates
+	 *
+	 * @return the number of skipped rows
+	 *
+	 * @since 0.4.0
+	 */
+	public int getSkippedRows() {
+		return this.skipped;
+	}
+	
+	/**
+	 * gives the value of the first ordinate (latitude column) of a row
+	 *
+	 * @param row the index of the row
+	 * @return the value of the first ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double getLatitude(int row) {
+		return this.latitudes[row];
+	}
+	
+	/**
+	 * gives the value of the second ordinate (longitude column) of a row
+	 *
+	 * @param row the index of the row
+	 * @return the value of the second ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double getLongitude(int row) {
+		return this.longitudes[row];
+	}
+	
+	/**
+	 * is an elevation available?
+	 *
+	 * @return {@code true}, if the rows have a third ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean hasElevation() {
+		return this.elevations != null;
+	}
+	
+	/**
+	 * gives the value of the third ordinate (elevation column) of a row
+	 *
+	 * @param row the index of the row
+	 * @return the value of the third ordinate or {@link Double#NaN}, if no elevation is available
+	 *
+	 * @since 0.4.0
+	 */
+	public double getElevation(int row) {
+		return this.elevations != null ? this.elevations[row] : Double.NaN;
+	}
+	
+	/**
+	 * gives the values of the first ordinate (latitude column) of all rows<br>
+	 * The returned array is shared and mustn't be changed. It could be longer than the number of rows, if the CSV {@link File} is followed.
+	 *
+	 * @return the values of the first ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double[] getLatitudes() {
+		return this.latitudes;
+	}
+	
+	/**
+	 * gives the values of the second ordinate (longitude column) of all rows<br>
+	 * The returned array is shared and mustn't be changed. It could be longer than the number of rows, if the CSV {@link File} is followed.
+	 *
+	 * @return the values of the second ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double[] getLongitudes() {
+		return this.longitudes;
+	}
+	
+	/**
+	 * gives the {@link CoordinateReferenceSystem} of a row
+	 *
+	 * @param row the index of the row
+	 * @return the {@link CoordinateReferenceSystem}
+	 *
+	 * @since 0.4.0
+	 */
+	public CoordinateReferenceSystem getCrs(int row) {
+		return this.crsTable.get(this.crsCodes[row]);
+	}
+	
+	/**
+	 * gives the distinct {@link CoordinateReferenceSystem}s of all rows
+	 *
+	 * @return an unmodifiable {@link List} of the distinct {@link CoordinateReferenceSystem}s
+	 *
+	 * @since 0.4.0
+	 */
+	public List<CoordinateReferenceSystem> getCrsTable() {
+		return this.crsTable;
+	}
+	
+	/**
+	 * gives the identifiers (e.g. EPSG codes), of which the distinct {@link CoordinateReferenceSystem}s of {@link #getCrsTable()} were decoded
+	 *
+	 * @return an unmodifiable {@link List} of the identifiers in the order of {@link #getCrsTable()}
+	 *
+	 * @since 0.4.0
+	 */
+	public List<String> getCrsIdentifiers() {
+		return this.crsIdentifiers;
+	}
+	
+	/**
+	 * checks, if a row contains a valid object ID
+	 *
+	 * @param row the index of the row
+	 * @return {@code true}, if the row contains a valid object ID
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean hasObjectId(int row) {
+		return this.objectIdSet != null && Bits.get(this.objectIdSet, row);
+	}
+	
+	/**
+	 * gives the object ID of a row
+	 *
+	 * @param row the index of the row
+	 * @return the object ID
+	 *
+	 * @throws IllegalStateException if the row contains no valid object ID
+	 * @since 0.4.0
+	 */
+	public int getObjectId(int row)
+	throws IllegalStateException {
+		if (!(this.hasObjectId(row))) {
+			throw new IllegalStateException("The row " + row + " contains no valid object ID!");
+		}
+		
+		return this.objectIds[row];
+	}
+	
+	/**
+	 * gives the typed attribute columns
+	 *
+	 * @return an unmodifiable {@link Map} of the attribute columns, mapped by their column index in ascending order
+	 *
+	 * @since 0.4.0
+	 */
+	public Map<Integer, AttributeColumn> getAttributes() {
+		return this.attributes;
+	}
+	
+	/**
+	 * gives the group IDs of the rows
+	 *
+	 * @return the group IDs or {@code null}, if the rows are not grouped
+	 *
+	 * @since 0.4.0
+	 */
+	public GroupColumn getGroups() {
+		return this.groups;
+	}
+	
+	/**
+	 * estimates the number of bytes, which are retained by the columns on the heap
+	 *
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	public long getHeapSize() {
+		long result = 16L + 8L * this.latitudes.length + 16L + 8L * this.longitudes.length + 16L + 4L * this.crsCodes.length;
+		
+		result += this.elevations != null ? 16L + 8L * this.elevations.length : 0L;
+		result += this.objectIds != null ? 16L + 4L * this.objectIds.length + 16L + 8L * this.objectIdSet.length : 0L;
+		result += this.getAttributeHeapSize();
+		result += this.groups != null ? this.groups.getHeapSize() : 0L;
+		
+		return result;
+	}
+	
+	/**
+	 * estimates the number of bytes, which are retained by the attribute columns on the heap
+	 *
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	public long getAttributeHeapSize() {
+		long result = 0L;
+		
+		for (AttributeColumn column : this.attributes.values()) {
+			result += column.getHeapSize();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * gives the end of the parsed part of the CSV {@link File}
+	 *
+	 * @return the end of the parsed part or {@code null}, if the CSV {@link File} isn't followed
+	 *
+	 * @since 0.4.0
+	 */
+	public FileTail getTail() {
+		return this.tail;
+	}
+	
+	/**
+	 * gives a value, which was derived from the {@link LayerData}, which rows are the first rows of this one (see {@link Builder#Builder(LayerData)})<br>
+	 * A factory of {@link #derive(Key, Function)} could use it to update the value with the rows after {@link #getInheritedSize()} only.
+	 *
+	 * @param <T> the type of the derived value
+	 * @param key the {@link Key} of the derived value
+	 * @return the inherited value or {@code null}, if no value was inherited
+	 *
+	 * @since 0.4.0
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getInherited(Key<T> key) {
+		return (T) this.inherited.get(key);
+	}
+	
+	/**
+	 * gives the number of rows of the {@link LayerData}, which derived values are inherited
+	 *
+	 * @return the number of inherited rows or {@code 0}, if nothing was inherited
+	 *
+	 * @since 0.4.0
+	 */
+	public int getInheritedSize() {
+		return this.inheritedSize;
+	}
+	
+	/**
+	 * gives a value, which is derived from this {@link LayerData}<br>
+	 * The value is created only once with the given factory and reused on following calls with the same {@link Key}.
+	 *
+	 * @param <T>     the type of the derived value
+	 * @param key     the {@link Key} of the derived value
+	 * @param factory the factory to create the value, if it wasn't created yet
+	 * @return the derived value
+	 *
+	 * @since 0.4.0
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T derive(Key<T> key, Function<? super LayerData, ? extends T> factory) {
+		T value = (T) this.derived.get(key);
+		
+		if (value == null) {
+			synchronized (this.derived) {
+				value = (T) this.derived.get(key);
+				
+				if (value == null) {
+					value = factory.apply(this);
+					this.derived.put(key, value);
+					this.inherited.remove(key);
+				}
+			}
+		}
+		
+		return value;
+	}
+}
@@ -0,0 +1,460 @@
+package de.conterra.babelfish.csv.data;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opengis.referencing.FactoryException;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * defines the binary snapshot of parsed {@link LayerData}, which is stored next to the CSV {@link File} or in a cache folder<br>
+ * A snapshot is tagged with the size, the last modification time and a checksum of the first and the last bytes of the CSV {@link File}
+ * and with a checksum of its configuration {@link File}, so an outdated snapshot is never used.
+ * The checksum covers at most {@link #SAMPLE_SIZE} bytes at both ends, so the CSV {@link File} isn't read completely to validate a snapshot.
+ * It is read by a memory-mapped read, of which the columns are copied in bulk, so no row has to be parsed again.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@Slf4j
+public final class LayerSnapshot {
+	/**
+	 * the extension of a snapshot {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	public static final String EXTENSION = ".snapshot";
+	
+	/**
+	 * the first bytes of every snapshot {@link File} ("BFCS")
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int MAGIC   = 0x42464353;
+	/**
+	 * the version of the format, which must be increased on every change
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int VERSION = 5;
+	
+	/**
+	 * the number of bytes at the beginning and at the end of a CSV {@link File}, which are covered by its checksum
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int SAMPLE_SIZE = 1 << 16;
+	
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private LayerSnapshot() {
+	}
+	
+	/**
+	 * checks, if a {@link File} is a snapshot {@link File} and no CSV data {@link File}
+	 *
+	 * @param file the {@link File} to check
+	 * @return {@code true}, if {@code file} is a snapshot {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	public static boolean isSnapshotFile(File file) {
+		return file.getName().endsWith(LayerSnapshot.EXTENSION);
+	}
+	
+	/**
+	 * calculates the checksum of the content of a {@link File}
+	 *
+	 * @param file the {@link File} to calculate the checksum of
+	 * @return the checksum or {@code 0}, if the {@link File} doesn't exist
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public static long hash(File file)
+	throws IOException {
+		if (!(file.isFile())) {
+			return 0L;
+		}
+		
+		CRC32 crc = new CRC32();
+		
+		try (FileChannel channel = new FileInputStream(file).getChannel()) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+			
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				crc.update(buffer);
+				buffer.clear();
+			}
+		}
+		
+		return crc.getValue();
+	}
+	
+	/**
+	 * calculates the checksum of the first and the last {@link #SAMPLE_SIZE} bytes of a {@link File}<br>
+	 * Together with the size and the last modification time, it detects a {@link File}, which was replaced by one with other content,
+	 * without reading the whole {@link File}.
+	 *
+	 * @param file the {@link File} to calculate the checksum of
+	 * @param size the size of the {@link File}, of which the checksum is calculated
+	 * @return the checksum
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public static long sample(File file, long size)
+	throws IOException {
+		CRC32 crc = new CRC32();
+		
+		try (FileChannel channel = new FileInputStream(file).getChannel()) {
+			ByteBuffer buffer = ByteBuffer.allocate(LayerSnapshot.SAMPLE_SIZE);
+			long       end    = Math.min(size, LayerSnapshot.SAMPLE_SIZE);
+			
+			LayerSnapshot.update(crc, channel, buffer, 0L, end);
+			LayerSnapshot.update(crc, channel, buffer, Math.max(end, size - LayerSnapshot.SAMPLE_SIZE), size);
+		}
+		
+		return crc.getValue();
+	}
+	
+	/**
+	 * updates a checksum with a part of a {@link FileChannel}
+	 *
+	 * @param crc     the checksum to update
+	 * @param channel the {@link FileChannel} to read
+	 * @param buffer  the {@link ByteBuffer} to read with, which could hold the whole part
+	 * @param start   the position of the first byte of the part
+	 * @param end     the position after the last byte of the part
+	 * @throws IOException if the {@link FileChannel} couldn't be read
+	 * @since 0.4.0
+	 */
+	private static void update(CRC32 crc, FileChannel channel, ByteBuffer buffer, long start, long end)
+	throws IOException {
+		buffer.clear();
+		buffer.limit((int) Math.max(0L, end - start));
+		
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, start + buffer.position()) < 0) {
+				throw new EOFException("The file ended before position " + end + "!");
+			}
+		}
+		
+		buffer.flip();
+		crc.update(buffer);
+	}
+	
+	/**
+	 * reads the {@link LayerData} of a snapshot {@link File}, if it is up to date with the CSV {@link File}
+	 *
+	 * @param snapshot   the snapshot {@link File} to read
+	 * @param file       the CSV {@link File}, of which the snapshot was written
+	 * @param configHash the checksum of the current configuration {@link File}
+	 * @param crsDecodes the counter of the CSV layer, which is incremented for every {@link CoordinateReferenceSystem}, which had to be decoded
+	 * @return the read {@link LayerData} or {@code null}, if the snapshot doesn't exist or is outdated
+	 *
+	 * @throws IOException if the snapshot {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public static LayerData read(File snapshot, File file, long configHash, AtomicLong crsDecodes)
+	throws IOException {
+		return LayerSnapshot.read(snapshot, file, configHash, CrsCache.INSTANCE, crsDecodes);
+	}
+	
+	/**
+	 * reads the {@link LayerData} of a snapshot {@link File}, if it is up to date with the CSV {@link File}
+	 *
+	 * @param snapshot   the snapshot {@link File} to read
+	 * @param file       the CSV {@link File}, of which the snapshot was written
+	 * @param configHash the checksum of the current configuration {@link File}
+	 * @param crsCache   the {@link CrsCache} to decode the identifiers of the {@link CoordinateReferenceSystem}s with
+	 * @return the read {@link LayerData} or {@code null}, if the snapshot doesn't exist or is outdated
+	 *
+	 * @throws IOException if the snapshot {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	static LayerData read(File snapshot, File file, long configHash, CrsCache crsCache)
+	throws IOException {
+		return LayerSnapshot.read(snapshot, file, configHash, crsCache, null);
+	}
+	
+	/**
+	 * reads the {@link LayerData} of a snapshot {@link File}, if it is up to date with the CSV {@link File}
+	 *
+	 * @param snapshot   the snapshot {@link File} to read
+	 * @param file       the CSV {@link File}, of which the snapshot was written
+	 * @param configHash the checksum of the current configuration {@link File}
+	 * @param crsCache   the {@link CrsCache} to decode the identifiers of the {@link CoordinateReferenceSystem}s with
+	 * @param crsDecodes the counter, which is incremented for every {@link CoordinateReferenceSystem}, which had to be decoded, or {@code null}
+	 * @return the read {@link LayerData} or {@code null}, if the snapshot doesn't exist or is outdated
+	 *
+	 * @throws IOException if the snapshot {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	private static LayerData read(File snapshot, File file, long configHash, CrsCache crsCache, AtomicLong crsDecodes)
+	throws IOException {
+		if (!(snapshot.isFile())) {
+			return null;
+		}
+		
+		ByteBuffer buffer;
+		try (FileChannel channel = new FileInputStream(snapshot).getChannel()) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				log.debug("The snapshot " + snapshot.getName() + " is too large to be mapped.");
+				return null;
+			}
+			
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		
+		if (buffer.remaining() < 48 || buffer.getInt() != LayerSnapshot.MAGIC || buffer.getInt() != LayerSnapshot.VERSION) {
+			log.debug("The snapshot " + snapshot.getName() + " has an unknown format.");
+			return null;
+		}
+		
+		FileStamp stamp = FileStamp.of(file);
+		if (buffer.getLong() != stamp.getSize() || buffer.getLong() != stamp.getLastModified() || buffer.getLong() != configHash) {
+			log.debug("The snapshot " + snapshot.getName() + " is outdated.");
+			return null;
+		}
+		
+		if (buffer.getLong() != LayerSnapshot.sample(file, stamp.getSize())) {
+			log.debug("The snapshot " + snapshot.getName() + " doesn't match the content of " + file.getName() + ".");
+			return null;
+		}
+		
+		FileTail tail = null;
+		if (buffer.get() != 0) {
+			long offset       = buffer.getLong();
+			long recordNumber = buffer.getLong();
+			
+			tail = FileTail.of(file, offset, recordNumber);
+		}
+		
+		List<CoordinateReferenceSystem> crsTable = new ArrayList<>();
+		List<String>                    codes    = new ArrayList<>();
+		for (int i = buffer.getInt(); i > 0; i--) {
+			String code = LayerSnapshot.readString(buffer);
+			
+			try {
+				crsTable.add(crsCache.decode(code, crsDecodes));
+				codes.add(code);
+			} catch (FactoryException e) {
+				log.warn("The CRS " + code + " of the snapshot " + snapshot.getName() + " couldn't be decoded!", e);
+				return null;
+			}
+		}
+		
+		return LayerData.read(buffer, crsTable, codes, tail);
+	}
+	
+	/**
+	 * writes the {@link LayerData} of a CSV {@link File} to a snapshot {@link File}<br>
+	 * The snapshot is written to a temporary {@link File} first, which is moved to {@code snapshot} afterwards,
+	 * so a partially written snapshot is never read.
+	 *
+	 * @param snapshot   the snapshot {@link File} to write
+	 * @param file       the CSV {@link File}, of which {@code data} was parsed
+	 * @param stamp      the {@link FileStamp} of the CSV {@link File}, before {@code data} was parsed
+	 * @param configHash the checksum of the configuration {@link File}, with which {@code data} was parsed
+	 * @param data       the parsed {@link LayerData}
+	 * @return {@code true}, if the snapshot was written, or {@code false}, if the CSV {@link File} changed in between
+	 *
+	 * @throws IOException if the snapshot {@link File} couldn't be written
+	 * @since 0.4.0
+	 */
+	public static boolean write(File snapshot, File file, FileStamp stamp, long configHash, LayerData data)
+	throws IOException {
+		if (!(stamp.equals(FileStamp.of(file)))) {
+			return false;
+		}
+		
+		long         hash  = LayerSnapshot.sample(file, stamp.getSize());
+		List<String> codes = data.getCrsIdentifiers();
+		
+		File folder = snapshot.getAbsoluteFile().getParentFile();
+		File temp   = File.createTempFile(snapshot.getName(), LayerSnapshot.EXTENSION, folder);
+		
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath()), 1 << 16))) {
+				out.writeInt(LayerSnapshot.MAGIC);
+				out.writeInt(LayerSnapshot.VERSION);
+				out.writeLong(stamp.getSize());
+				out.writeLong(stamp.getLastModified());
+				out.writeLong(configHash);
+				out.writeLong(hash);
+				
+				FileTail tail = data.getTail();
+				out.writeBoolean(tail != null);
+				if (tail != null) {
+					out.writeLong(tail.getOffset());
+					out.writeLong(tail.getRecordNumber());
+				}
+				
+				out.writeInt(codes.size());
+				for (String code : codes) {
+					LayerSnapshot.writeString(out, code);
+				}
+				
+				data.write(out);
+			}
+			
+			Files.move(temp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp.toPath());
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * writes a {@link String} as length-prefixed UTF-8 bytes
+	 *
+	 * @param out   the {@link DataOutputStream} to write to
+	 * @param value the {@link String} to write
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	static void writeString(DataOutputStream out, String value)
+	throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * reads a {@link String} of length-prefixed UTF-8 bytes
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @return the read {@link String}
+	 *
+	 * @since 0.4.0
+	 */
+	static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * writes the first values of an array of {@code int}s
+	 *
+	 * @param out    the {@link DataOutputStream} to write to
+	 * @param values the values to write
+	 * @param length the number of values to write
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	static void writeInts(DataOutputStream out, int[] values, int length)
+	throws IOException {
+		for (int i = 0; i < length; i++) {
+			out.writeInt(values[i]);
+		}
+	}
+	
+	/**
+	 * reads an array of {@code int}s in bulk
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @param length the number of values to read
+	 * @return the read values
+	 *
+	 * @since 0.4.0
+	 */
+	static int[] readInts(ByteBuffer buffer, int length) {
+		int[] values = new int[length];
+		
+		buffer.asIntBuffer().get(values);
+		buffer.position(buffer.position() + 4 * length);
+		
+		return values;
+	}
+	
+	/**
+	 * writes the first values of an array of {@code double}s
+	 *
+	 * @param out    the {@link DataOutputStream} to write to
+	 * @param values the values to write
+	 * @param length the number of values to write
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	static void writeDoubles(DataOutputStream out, double[] values, int length)
+	throws IOException {
+		for (int i = 0; i < length; i++) {
+			out.writeDouble(values[i]);
+		}
+	}
+	
+	/**
+	 * reads an array of {@code double}s in bulk
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @param length the number of values to read
+	 * @return the read values
+	 *
+	 * @since 0.4.0
+	 */
+	static double[] readDoubles(ByteBuffer buffer, int length) {
+		double[] values = new double[length];
+		
+		buffer.asDoubleBuffer().get(values);
+		buffer.position(buffer.position() + 8 * length);
+		
+		return values;
+	}
+	
+	/**
+	 * writes an array of {@code long}s together with its length
+	 *
+	 * @param out    the {@link DataOutputStream} to write to
+	 * @param values the values to write
+	 * @throws IOException if an error occurred on writing
+	 * @since 0.4.0
+	 */
+	static void writeLongs(DataOutputStream out, long[] values)
+	throws IOException {
+		out.writeInt(values.length);
+		for (long value : values) {
+			out.writeLong(value);
+		}
+	}
+	
+	/**
+	 * reads an array of {@code long}s, which was written together with its length
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @return the read values
+	 *
+	 * @since 0.4.0
+	 */
+	static long[] readLongs(ByteBuffer buffer) {
+		long[] values = new long[buffer.getInt()];
+		
+		buffer.asLongBuffer().get(values);
+		buffer.position(buffer.position() + 8 * values.length);
+		
+		return values;
+	}
+}
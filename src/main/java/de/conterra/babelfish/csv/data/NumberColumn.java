@@ -0,0 +1,389 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.csv.parser.ValueParser;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * defines a column of numbers or dates, which are stored in a primitive array<br>
+ * Integers are stored as {@code int}s, decimals as {@code double}s and dates as milliseconds since the epoch in {@code long}s.
+ * Cells, which couldn't be parsed, are stored as missing values and counted (see {@link #getInvalidCount()}).
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class NumberColumn
+		extends AttributeColumn {
+	/**
+	 * the {@link FieldType} of the values
+	 *
+	 * @since 0.4.0
+	 */
+	private final FieldType type;
+	/**
+	 * the rows, which contain a value, as words of bits (see {@link Bits})
+	 *
+	 * @since 0.4.0
+	 */
+	private long[]          present;
+	/**
+	 * the values of an {@link FieldType#Integer} column
+	 *
+	 * @since 0.4.0
+	 */
+	private int[]           ints    = null;
+	/**
+	 * the values of a {@link FieldType#Double} column
+	 *
+	 * @since 0.4.0
+	 */
+	private double[]        doubles = null;
+	/**
+	 * the milliseconds of a {@link FieldType#Date} column
+	 *
+	 * @since 0.4.0
+	 */
+	private long[]          longs   = null;
+	/**
+	 * the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	private int             size    = 0;
+	/**
+	 * the number of cells, which couldn't be parsed
+	 *
+	 * @since 0.4.0
+	 */
+	private int             invalid = 0;
+	
+	/**
+	 * constructor, with given {@link FieldType}
+	 *
+	 * @param type the {@link FieldType} of the values, which must be supported (see {@link #isSupported(FieldType)})
+	 * @throws IllegalArgumentException if the {@link FieldType} isn't supported
+	 * @since 0.4.0
+	 */
+	NumberColumn(FieldType type)
+	throws IllegalArgumentException {
+		this(type, 64, new long[1]);
+	}
+	
+	/**
+	 * constructor, with given {@link FieldType}, capacity and present rows
+	 *
+	 * @param type     the {@link FieldType} of the values
+	 * @param capacity the initial number of rows, which could be held
+	 * @param present  the rows, which contain a value, as words of bits
+	 * @throws IllegalArgumentException if the {@link FieldType} isn't supported
+	 * @since 0.4.0
+	 */
+	private NumberColumn(FieldType type, int capacity, long[] present)
+	throws IllegalArgumentException {
+		this.type = type;
+		this.present = present;
+		
+		switch (type) {
+			case Integer:
+				this.ints = new int[capacity];
+				break;
+			case Double:
+				this.doubles = new double[capacity];
+				break;
+			case Date:
+				this.longs = new long[capacity];
+				break;
+			default:
+				throw new IllegalArgumentException("The field type " + type + " isn't supported by a number column!");
+		}
+	}
+	
+	/**
+	 * copy constructor, to add further rows to the values of a frozen {@link NumberColumn}
+	 *
+	 * @param other the {@link NumberColumn} to copy
+	 * @param share share the arrays of {@code other}, so the added rows are stored behind its rows, instead of copying them?
+	 * @since 0.4.0
+	 */
+	NumberColumn(NumberColumn other, boolean share) {
+		this(other.type, 0, share ? other.present : Bits.copyOf(other.present, other.size, other.size));
+		
+		if (share) {
+			this.ints = other.ints;
+			this.doubles = other.doubles;
+			this.longs = other.longs;
+		} else {
+			int capacity = Math.max(64, other.size + (other.size >> 3));
+			
+			this.ints = other.ints != null ? Arrays.copyOf(other.ints, capacity) : null;
+			this.doubles = other.doubles != null ? Arrays.copyOf(other.doubles, capacity) : null;
+			this.longs = other.longs != null ? Arrays.copyOf(other.longs, capacity) : null;
+		}
+		
+		this.size = other.size;
+		this.invalid = other.invalid;
+	}
+	
+	/**
+	 * checks, if the values of a {@link FieldType} could be stored in a {@link NumberColumn}
+	 *
+	 * @param type the {@link FieldType} to check
+	 * @return {@code true}, if {@code type} is {@link FieldType#Integer}, {@link FieldType#Double} or {@link FieldType#Date}
+	 *
+	 * @since 0.4.0
+	 */
+	public static boolean isSupported(FieldType type) {
+		return type == FieldType.Integer || type == FieldType.Double || type == FieldType.Date;
+	}
+	
+	@Override
+	void add(String value) {
+		this.ensureCapacity(this.size + 1);
+		
+		int row = this.size++;
+		
+		if (value == null || value.trim().isEmpty()) {
+			return;
+		}
+		
+		boolean valid;
+		if (this.ints != null) {
+			Integer number = ValueParser.parseInteger(value);
+			
+			valid = number != null;
+			this.ints[row] = valid ? number : 0;
+		} else if (this.doubles != null) {
+			double number = ValueParser.parseDouble(value);
+			
+			valid = !(Double.isNaN(number));
+			this.doubles[row] = number;
+		} else {
+			Long millis = ValueParser.parseDate(value);
+			
+			valid = millis != null;
+			this.longs[row] = valid ? millis : 0L;
+		}
+		
+		if (valid) {
+			this.present = Bits.set(this.present, row);
+		} else {
+			this.invalid++;
+		}
+	}
+	
+	@Override
+	void append(AttributeColumn other) {
+		NumberColumn column = (NumberColumn) other;
+		int          offset = this.size;
+		
+		this.ensureCapacity(offset + column.size);
+		
+		if (this.ints != null) {
+			System.arraycopy(column.ints, 0, this.ints, offset, column.size);
+		} else if (this.doubles != null) {
+			System.arraycopy(column.doubles, 0, this.doubles, offset, column.size);
+		} else {
+			System.arraycopy(column.longs, 0, this.longs, offset, column.size);
+		}
+		
+		for (int row = 0; row < column.size; row++) {
+			if (Bits.get(column.present, row)) {
+				this.present = Bits.set(this.present, offset + row);
+			}
+		}
+		
+		this.size += column.size;
+		this.invalid += column.invalid;
+	}
+	
+	/**
+	 * ensures, that the column could hold a number of rows
+	 *
+	 * @param capacity the number of rows
+	 * @since 0.4.0
+	 */
+	private void ensureCapacity(int capacity) {
+		int length = this.ints != null ? this.ints.length : this.doubles != null ? this.doubles.length : this.longs.length;
+		
+		if (capacity > length) {
+			this.resize(Math.max(capacity, 2 * length));
+		}
+	}
+	
+	/**
+	 * resizes the array of the values
+	 *
+	 * @param capacity the new length of the array
+	 * @since 0.4.0
+	 */
+	private void resize(int capacity) {
+		if (this.ints != null) {
+			this.ints = Arrays.copyOf(this.ints, capacity);
+		} else if (this.doubles != null) {
+			this.doubles = Arrays.copyOf(this.doubles, capacity);
+		} else {
+			this.longs = Arrays.copyOf(this.longs, capacity);
+		}
+	}
+	
+	@Override
+	AttributeColumn copy(boolean share) {
+		return new NumberColumn(this, share);
+	}
+	
+	@Override
+	void write(DataOutputStream out)
+	throws IOException {
+		out.writeInt(this.size);
+		out.writeInt(this.invalid);
+		
+		if (this.ints != null) {
+			LayerSnapshot.writeInts(out, this.ints, this.size);
+		} else if (this.doubles != null) {
+			LayerSnapshot.writeDoubles(out, this.doubles, this.size);
+		} else {
+			LayerSnapshot.writeLongs(out, Arrays.copyOf(this.longs, this.size));
+		}
+		
+		LayerSnapshot.writeLongs(out, Bits.copyOf(this.present, this.size, this.size));
+	}
+	
+	/**
+	 * reads a frozen {@link NumberColumn} of a snapshot
+	 *
+	 * @param buffer the {@link ByteBuffer} to read from
+	 * @param type   the {@link FieldType} of the values
+	 * @return the read {@link NumberColumn}
+	 *
+	 * @since 0.4.0
+	 */
+	static NumberColumn read(ByteBuffer buffer, FieldType type) {
+		NumberColumn column = new NumberColumn(type, 0, null);
+		
+		column.size = buffer.getInt();
+		column.invalid = buffer.getInt();
+		
+		if (column.ints != null) {
+			column.ints = LayerSnapshot.readInts(buffer, column.size);
+		} else if (column.doubles != null) {
+			column.doubles = LayerSnapshot.readDoubles(buffer, column.size);
+		} else {
+			column.longs = LayerSnapshot.readLongs(buffer);
+		}
+		
+		column.present = LayerSnapshot.readLongs(buffer);
+		
+		return column;
+	}
+	
+	@Override
+	void freeze(boolean trim) {
+		if (trim) {
+			this.resize(this.size);
+		}
+	}
+	
+	@Override
+	public int size() {
+		return this.size;
+	}
+	
+	@Override
+	public FieldType getType() {
+		return this.type;
+	}
+	
+	/**
+	 * checks, if a row contains a value
+	 *
+	 * @param row the index of the row
+	 * @return {@code true}, if the cell of the row was a valid number or date
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean hasValue(int row) {
+		return Bits.get(this.present, row);
+	}
+	
+	/**
+	 * gives the value of a row as {@code double}
+	 *
+	 * @param row the index of the row
+	 * @return the value, the milliseconds of a date or {@link Double#NaN}, if the value is missing
+	 *
+	 * @since 0.4.0
+	 */
+	public double getDouble(int row) {
+		if (!(Bits.get(this.present, row))) {
+			return Double.NaN;
+		}
+		
+		if (this.ints != null) {
+			return this.ints[row];
+		}
+		if (this.doubles != null) {
+			return this.doubles[row];
+		}
+		
+		return this.longs[row];
+	}
+	
+	@Override
+	public String get(int row) {
+		if (!(Bits.get(this.present, row))) {
+			return null;
+		}
+		
+		if (this.ints != null) {
+			return Integer.toString(this.ints[row]);
+		}
+		if (this.doubles != null) {
+			return Double.toString(this.doubles[row]);
+		}
+		
+		return ValueParser.formatDate(this.longs[row]);
+	}
+	
+	@Override
+	public Object getValue(int row) {
+		if (!(Bits.get(this.present, row))) {
+			return null;
+		}
+		
+		if (this.ints != null) {
+			return this.ints[row];
+		}
+		if (this.doubles != null) {
+			return this.doubles[row];
+		}
+		
+		return this.longs[row];
+	}
+	
+	/**
+	 * gives the number of cells, which couldn't be parsed and are stored as missing values
+	 *
+	 * @return the number of invalid cells
+	 *
+	 * @since 0.4.0
+	 */
+	public int getInvalidCount() {
+		return this.invalid;
+	}
+	
+	@Override
+	public long getHeapSize() {
+		long result = 16L + 8L * this.present.length;
+		
+		result += this.ints != null ? 16L + 4L * this.ints.length : 0L;
+		result += this.doubles != null ? 16L + 8L * this.doubles.length : 0L;
+		result += this.longs != null ? 16L + 8L * this.longs.length : 0L;
+		
+		return result;
+	}
+}
@@ -0,0 +1,330 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.csv.parser.RowReader;
+import de.conterra.babelfish.util.DataUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * defines a {@link Set}, which parses its elements lazily from the {@link CsvRow}s of a CSV file<br>
+ * Every {@link Iterator} reads the file once from the beginning and creates only one element at a time,
+ * so the memory usage doesn't depend on the file size. The file is closed, if the {@link Iterator} reached the end
+ * or is closed. {@link Iterator}s, which were abandoned before, are closed, if they were garbage collected.
+ * The duration of every pass, which reached the end or was closed, could be reported to a listener (e.g. to record the latency of a request).
+ *
+ * @param <T> the type of the elements
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class StreamingSet<T>
+		extends AbstractSet<T> {
+	/**
+	 * defines the source of the {@link RowReader}s
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public interface Source {
+		/**
+		 * opens a new {@link RowReader}, which starts at the first row to read
+		 *
+		 * @return the opened {@link RowReader}
+		 *
+		 * @throws IOException if the file couldn't be opened
+		 * @since 0.4.0
+		 */
+		RowReader open()
+		throws IOException;
+	}
+	
+	/**
+	 * defines a {@link PhantomReference} to an {@link Iterator}, which holds the {@link RowReader} to close
+	 *
+	 * @since 0.4.0
+	 */
+	private static final class ReaderReference
+			extends PhantomReference<Object> {
+		/**
+		 * the {@link RowReader} of the referenced {@link Iterator}
+		 *
+		 * @since 0.4.0
+		 */
+		private final RowReader reader;
+		
+		/**
+		 * constructor, with given {@link Iterator} and {@link RowReader}
+		 *
+		 * @param iterator the {@link Iterator} to reference
+		 * @param reader   the {@link RowReader} of the {@link Iterator}
+		 * @since 0.4.0
+		 */
+		private ReaderReference(Object iterator, RowReader reader) {
+			super(iterator, StreamingSet.ABANDONED);
+			
+			this.reader = reader;
+		}
+	}
+	
+	/**
+	 * the queue of garbage collected {@link Iterator}s
+	 *
+	 * @since 0.4.0
+	 */
+	private static final ReferenceQueue<Object> ABANDONED = new ReferenceQueue<>();
+	/**
+	 * the references to all open {@link Iterator}s
+	 *
+	 * @since 0.4.0
+	 */
+	private static final Set<ReaderReference>   OPEN      = Collections.newSetFromMap(new ConcurrentHashMap<ReaderReference, Boolean>());
+	
+	/**
+	 * the {@link Source} of the {@link RowReader}s
+	 *
+	 * @since 0.4.0
+	 */
+	private final Source              source;
+	/**
+	 * the function to create an element of a {@link CsvRow}, which returns {@code null} to skip a {@link CsvRow}
+	 *
+	 * @since 0.4.0
+	 */
+	private final Function<CsvRow, T> mapper;
+	/**
+	 * the listener of the durations of the passes in nanoseconds or {@code null}
+	 *
+	 * @since 0.4.0
+	 */
+	private final LongConsumer        listener;
+	
+	/**
+	 * constructor, with given {@link Source} and mapping function
+	 *
+	 * @param source the {@link Source} of the {@link RowReader}s
+	 * @param mapper the function to create an element of a {@link CsvRow}, which returns {@code null} to skip a {@link CsvRow}<br>
+	 *               The {@link CsvRow} must not be used after the function returned, because it may be reused.
+	 * @since 0.4.0
+	 */
+	public StreamingSet(Source source, Function<CsvRow, T> mapper) {
+		this(source, mapper, null);
+	}
+	
+	/**
+	 * constructor, with given {@link Source}, mapping function and listener of the passes
+	 *
+	 * @param source   the {@link Source} of the {@link RowReader}s
+	 * @param mapper   the function to create an element of a {@link CsvRow}, which returns {@code null} to skip a {@link CsvRow}<br>
+	 *                 The {@link CsvRow} must not be used after the function returned, because it may be reused.
+	 * @param listener the listener, which gets the duration of every pass in nanoseconds from the opening of the file until the {@link Iterator}
+	 *                 reached the end or was closed, or {@code null}<br>
+	 *                 {@link Iterator}s, which are closed after they were garbage collected, aren't reported.
+	 * @since 0.4.0
+	 */
+	public StreamingSet(Source source, Function<CsvRow, T> mapper, LongConsumer listener) {
+		this.source = source;
+		this.mapper = mapper;
+		this.listener = listener;
+	}
+	
+	/**
+	 * closes the {@link RowReader}s of all {@link Iterator}s, which were garbage collected without reaching the end
+	 *
+	 * @since 0.4.0
+	 */
+	private static void closeAbandoned() {
+		Reference<?> reference;
+		while ((reference = StreamingSet.ABANDONED.poll()) != null) {
+			ReaderReference readerReference = (ReaderReference) reference;
+			
+			StreamingSet.OPEN.remove(readerReference);
+			DataUtils.closeStream(readerReference.reader);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The returned {@link Iterator} is also {@link Closeable}, to release the file before reaching the end.
+	 *
+	 * @throws UncheckedIOException if the file couldn't be opened
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		StreamingSet.closeAbandoned();
+		
+		long start = System.nanoTime();
+		
+		try {
+			return new RecordIterator(this.source.open(), start);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The file is read completely to count the elements.
+	 */
+	@Override
+	public int size() {
+		int result = 0;
+		
+		RecordIterator iterator = (RecordIterator) this.iterator();
+		try {
+			while (iterator.hasNext()) {
+				iterator.next();
+				result++;
+			}
+		} finally {
+			iterator.close();
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		RecordIterator iterator = (RecordIterator) this.iterator();
+		try {
+			return !(iterator.hasNext());
+		} finally {
+			iterator.close();
+		}
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		RecordIterator iterator = (RecordIterator) this.iterator();
+		try {
+			while (iterator.hasNext()) {
+				if (iterator.next().equals(o)) {
+					return true;
+				}
+			}
+		} finally {
+			iterator.close();
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * defines an {@link Iterator}, which creates the elements of the {@link CsvRow}s of one {@link RowReader}
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private final class RecordIterator
+			implements Iterator<T>, Closeable {
+		/**
+		 * the reference to this {@link Iterator}, which holds the {@link RowReader} to create the elements of
+		 *
+		 * @since 0.4.0
+		 */
+		private final ReaderReference reference;
+		/**
+		 * the start of the pass in nanoseconds
+		 *
+		 * @since 0.4.0
+		 */
+		private final long            start;
+		/**
+		 * the next element or {@code null}, if it wasn't created yet
+		 *
+		 * @since 0.4.0
+		 */
+		private T       next;
+		/**
+		 * is the {@link RowReader} already closed?
+		 *
+		 * @since 0.4.0
+		 */
+		private boolean closed = false;
+		
+		/**
+		 * constructor, with given {@link RowReader} and start of the pass
+		 *
+		 * @param reader the {@link RowReader} to read the {@link CsvRow}s from
+		 * @param start  the start of the pass in nanoseconds
+		 * @since 0.4.0
+		 */
+		private RecordIterator(RowReader reader, long start) {
+			this.reference = new ReaderReference(this, reader);
+			this.start = start;
+			
+			StreamingSet.OPEN.add(this.reference);
+		}
+		
+		@Override
+		public boolean hasNext() {
+			while (this.next == null && !(this.closed)) {
+				CsvRow row;
+				
+				try {
+					row = this.reference.reader.next();
+				} catch (IOException e) {
+					this.close();
+					throw new UncheckedIOException(e);
+				}
+				
+				if (row != null) {
+					this.next = StreamingSet.this.mapper.apply(row);
+				} else {
+					this.close();
+				}
+			}
+			
+			return this.next != null;
+		}
+		
+		@Override
+		public T next() {
+			if (!(this.hasNext())) {
+				throw new NoSuchElementException();
+			}
+			
+			T result = this.next;
+			this.next = null;
+			
+			return result;
+		}
+		
+		@Override
+		public void close() {
+			if (!(this.closed)) {
+				this.closed = true;
+				
+				StreamingSet.OPEN.remove(this.reference);
+				this.reference.clear();
+				DataUtils.closeStream(this.reference.reader);
+				
+				if (StreamingSet.this.listener != null) {
+					StreamingSet.this.listener.accept(System.nanoTime() - this.start);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * package of the parsed in-memory representation of CSV files and its caches
+ *
+ * @version 0.4.0
+ * @author ChrissW-R1
+ * @since 0.4.0
+ */
+package de.conterra.babelfish.csv.data;
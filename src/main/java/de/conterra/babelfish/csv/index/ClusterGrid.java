@@ -0,0 +1,322 @@
+package de.conterra.babelfish.csv.index;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * defines an immutable aggregation of points into the cells of a regular grid<br>
+ * The grid is aligned to the origin, so the cells of a cell size don't depend on the requested extent.
+ * Every non-empty cell holds the number of its points, their bounding box and the point, which is nearest to their centroid, as representative.
+ * The cells are found by an open-addressing hash table of the primitive {@code long} column and row indices of the cells,
+ * so the points are aggregated in linear time without boxing.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class ClusterGrid {
+	/**
+	 * the cell of an empty slot of the hash table
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int EMPTY = -1;
+	
+	/**
+	 * the size of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private final double   size;
+	/**
+	 * the numbers of points of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[]    counts;
+	/**
+	 * the indices of the representative points of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[]    rows;
+	/**
+	 * the minimum first ordinates of the points of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[] minFirst;
+	/**
+	 * the minimum second ordinates of the points of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[] minSecond;
+	/**
+	 * the maximum first ordinates of the points of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[] maxFirst;
+	/**
+	 * the maximum second ordinates of the points of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[] maxSecond;
+	
+	/**
+	 * constructor, with given cells
+	 *
+	 * @param size      the size of the cells
+	 * @param counts    the numbers of points of the cells
+	 * @param rows      the indices of the representative points of the cells
+	 * @param minFirst  the minimum first ordinates of the points of the cells
+	 * @param minSecond the minimum second ordinates of the points of the cells
+	 * @param maxFirst  the maximum first ordinates of the points of the cells
+	 * @param maxSecond the maximum second ordinates of the points of the cells
+	 * @since 0.4.0
+	 */
+	private ClusterGrid(double size, int[] counts, int[] rows, double[] minFirst, double[] minSecond, double[] maxFirst, double[] maxSecond) {
+		this.size = size;
+		this.counts = counts;
+		this.rows = rows;
+		this.minFirst = minFirst;
+		this.minSecond = minSecond;
+		this.maxFirst = maxFirst;
+		this.maxSecond = maxSecond;
+	}
+	
+	/**
+	 * aggregates points into the cells of a grid
+	 *
+	 * @param first  the first ordinates of the points
+	 * @param second the second ordinates of the points
+	 * @param count  the number of points
+	 * @param size   the size of the cells
+	 * @return the created {@link ClusterGrid}, which cells are ordered by the first occurrence of their points
+	 *
+	 * @throws IllegalArgumentException if the size isn't positive
+	 * @since 0.4.0
+	 */
+	public static ClusterGrid of(double[] first, double[] second, int count, double size)
+	throws IllegalArgumentException {
+		if (!(size > 0.0)) {
+			throw new IllegalArgumentException("The size of the cells must be positive, but is " + size + "!");
+		}
+		
+		int    capacity = Integer.highestOneBit(Math.max(2 * count - 1, 1)) << 1;
+		long[] columns  = new long[capacity];
+		long[] lines    = new long[capacity];
+		int[]  slots    = new int[capacity];
+		int[]  cellOf   = new int[count];
+		int    cells    = 0;
+		
+		int[]    counts    = new int[16];
+		double[] sumFirst  = new double[16];
+		double[] sumSecond = new double[16];
+		double[] minFirst  = new double[16];
+		double[] minSecond = new double[16];
+		double[] maxFirst  = new double[16];
+		double[] maxSecond = new double[16];
+		
+		Arrays.fill(slots, ClusterGrid.EMPTY);
+		
+		for (int row = 0; row < count; row++) {
+			double x      = first[row];
+			double y      = second[row];
+			long   column = (long) Math.floor(x / size);
+			long   line   = (long) Math.floor(y / size);
+			int    slot   = ClusterGrid.slot(columns, lines, slots, column, line);
+			int    cell   = slots[slot];
+			
+			if (cell == ClusterGrid.EMPTY) {
+				cell = cells++;
+				columns[slot] = column;
+				lines[slot] = line;
+				slots[slot] = cell;
+				
+				if (cell == counts.length) {
+					int length = 2 * cell;
+					
+					counts = Arrays.copyOf(counts, length);
+					sumFirst = Arrays.copyOf(sumFirst, length);
+					sumSecond = Arrays.copyOf(sumSecond, length);
+					minFirst = Arrays.copyOf(minFirst, length);
+					minSecond = Arrays.copyOf(minSecond, length);
+					maxFirst = Arrays.copyOf(maxFirst, length);
+					maxSecond = Arrays.copyOf(maxSecond, length);
+				}
+				
+				minFirst[cell] = x;
+				minSecond[cell] = y;
+				maxFirst[cell] = x;
+				maxSecond[cell] = y;
+			} else {
+				minFirst[cell] = Math.min(minFirst[cell], x);
+				minSecond[cell] = Math.min(minSecond[cell], y);
+				maxFirst[cell] = Math.max(maxFirst[cell], x);
+				maxSecond[cell] = Math.max(maxSecond[cell], y);
+			}
+			
+			counts[cell]++;
+			sumFirst[cell] += x;
+			sumSecond[cell] += y;
+			cellOf[row] = cell;
+		}
+		
+		int[]    rows     = new int[cells];
+		double[] distance = new double[cells];
+		
+		Arrays.fill(distance, Double.POSITIVE_INFINITY);
+		
+		for (int row = 0; row < count; row++) {
+			int    cell    = cellOf[row];
+			double dx      = first[row] - sumFirst[cell] / counts[cell];
+			double dy      = second[row] - sumSecond[cell] / counts[cell];
+			double current = dx * dx + dy * dy;
+			
+			if (current < distance[cell]) {
+				distance[cell] = current;
+				rows[cell] = row;
+			}
+		}
+		
+		return new ClusterGrid(size, Arrays.copyOf(counts, cells), rows, Arrays.copyOf(minFirst, cells), Arrays.copyOf(minSecond, cells), Arrays.copyOf(maxFirst, cells), Arrays.copyOf(maxSecond, cells));
+	}
+	
+	/**
+	 * searches the slot of a cell in a hash table with linear probing<br>
+	 * Both indices are compared in full, so cells, which are far apart, never share a slot.
+	 *
+	 * @param columns the column indices of the cells in the hash table
+	 * @param lines   the row indices of the cells in the hash table
+	 * @param slots   the cells of the hash table, where {@link #EMPTY} marks an empty slot
+	 * @param column  the column index of the cell to search
+	 * @param line    the row index of the cell to search
+	 * @return the slot, which contains the cell, or the empty slot, at which the search ended
+	 *
+	 * @since 0.4.0
+	 */
+	private static int slot(long[] columns, long[] lines, int[] slots, long column, long line) {
+		int  mask = slots.length - 1;
+		long hash = (column * 0x9E3779B97F4A7C15L) ^ (line * 0xC2B2AE3D27D4EB4FL);
+		int  slot = (int) (hash ^ (hash >>> 32)) & mask;
+		
+		while (slots[slot] != ClusterGrid.EMPTY && (columns[slot] != column || lines[slot] != line)) {
+			slot = (slot + 1) & mask;
+		}
+		
+		return slot;
+	}
+	
+	/**
+	 * creates a {@link FeatureIndex} of the cells, which uses the bounding boxes of their points
+	 *
+	 * @param <T>     the type of the features
+	 * @param factory the factory, which gives the feature of a cell with a given index
+	 * @param locator the function, which gives the index of the cell, at which an object could be contained, or a negative number, if it's no feature
+	 * @return the created {@link FeatureIndex} of all cells
+	 *
+	 * @see FeatureIndex#FeatureIndex(int, IntFunction, ToIntFunction, double[], double[], double[], double[])
+	 * @since 0.4.0
+	 */
+	public <T> FeatureIndex<T> toFeatureIndex(IntFunction<? extends T> factory, ToIntFunction<Object> locator) {
+		return new FeatureIndex<>(this.counts.length, factory, locator, this.minFirst, this.minSecond, this.maxFirst, this.maxSecond);
+	}
+	
+	/**
+	 * gives the size of the cells
+	 *
+	 * @return the size of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	public double getCellSize() {
+		return this.size;
+	}
+	
+	/**
+	 * gives the number of non-empty cells
+	 *
+	 * @return the number of non-empty cells
+	 *
+	 * @since 0.4.0
+	 */
+	public int size() {
+		return this.counts.length;
+	}
+	
+	/**
+	 * gives the number of points of a cell
+	 *
+	 * @param cell the index of the cell
+	 * @return the number of points of the cell
+	 *
+	 * @since 0.4.0
+	 */
+	public int getCount(int cell) {
+		return this.counts[cell];
+	}
+	
+	/**
+	 * gives the representative point of a cell
+	 *
+	 * @param cell the index of the cell
+	 * @return the index of the point of the cell, which is nearest to the centroid of its points
+	 *
+	 * @since 0.4.0
+	 */
+	public int getRow(int cell) {
+		return this.rows[cell];
+	}
+	
+	/**
+	 * gives the minimum first ordinate of the points of a cell
+	 *
+	 * @param cell the index of the cell
+	 * @return the minimum first ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double getMinFirst(int cell) {
+		return this.minFirst[cell];
+	}
+	
+	/**
+	 * gives the minimum second ordinate of the points of a cell
+	 *
+	 * @param cell the index of the cell
+	 * @return the minimum second ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double getMinSecond(int cell) {
+		return this.minSecond[cell];
+	}
+	
+	/**
+	 * gives the maximum first ordinate of the points of a cell
+	 *
+	 * @param cell the index of the cell
+	 * @return the maximum first ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double getMaxFirst(int cell) {
+		return this.maxFirst[cell];
+	}
+	
+	/**
+	 * gives the maximum second ordinate of the points of a cell
+	 *
+	 * @param cell the index of the cell
+	 * @return the maximum second ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	public double getMaxSecond(int cell) {
+		return this.maxSecond[cell];
+	}
+}
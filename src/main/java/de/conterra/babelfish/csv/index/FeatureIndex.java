@@ -0,0 +1,506 @@
+package de.conterra.babelfish.csv.index;
+
+import org.opengis.geometry.DirectPosition;
+import org.opengis.geometry.coordinate.Position;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * defines an immutable collection of features in file order together with a {@link SpatialIndex} of their bounding boxes<br>
+ * The {@link SpatialIndex} is created lazily on the first spatial query.
+ * The features could be created on demand, so only the bounding boxes have to be held in memory.
+ * In that case they must be equal to the features, which were created for the same index before (see {@link Set#contains(Object)}).
+ *
+ * @param <T> the type of the features
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class FeatureIndex<T> {
+	/**
+	 * defines a builder of a {@link FeatureIndex}
+	 *
+	 * @param <T> the type of the features
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public static class Builder<T> {
+		/**
+		 * the added features
+		 *
+		 * @since 0.4.0
+		 */
+		private final List<T> features = new ArrayList<>();
+		/**
+		 * the bounding boxes of the added features (minimum x, minimum y, maximum x and maximum y of each feature)
+		 *
+		 * @since 0.4.0
+		 */
+		private double[]      boxes    = new double[64];
+		
+		/**
+		 * adds a feature with a given bounding box
+		 *
+		 * @param feature the feature to add
+		 * @param minX    the minimum x coordinate
+		 * @param minY    the minimum y coordinate
+		 * @param maxX    the maximum x coordinate
+		 * @param maxY    the maximum y coordinate
+		 * @return this {@link Builder}
+		 *
+		 * @since 0.4.0
+		 */
+		public Builder<T> add(T feature, double minX, double minY, double maxX, double maxY) {
+			int i = this.features.size();
+			if (4 * i + 4 > this.boxes.length) {
+				this.boxes = Arrays.copyOf(this.boxes, 2 * this.boxes.length);
+			}
+			
+			this.features.add(feature);
+			this.boxes[4 * i] = minX;
+			this.boxes[4 * i + 1] = minY;
+			this.boxes[4 * i + 2] = maxX;
+			this.boxes[4 * i + 3] = maxY;
+			
+			return this;
+		}
+		
+		/**
+		 * adds a feature with the bounding box of all given {@link Position}s
+		 *
+		 * @param feature   the feature to add
+		 * @param positions the {@link Position}s of the feature geometry
+		 * @return this {@link Builder}
+		 *
+		 * @since 0.4.0
+		 */
+		public Builder<T> add(T feature, Iterable<? extends Position> positions) {
+			double minX = Double.NaN;
+			double minY = Double.NaN;
+			double maxX = Double.NaN;
+			double maxY = Double.NaN;
+			
+			for (Position position : positions) {
+				DirectPosition direct = position.getDirectPosition();
+				double         x      = direct.getOrdinate(0);
+				double         y      = direct.getOrdinate(1);
+				
+				if (Double.isNaN(minX)) {
+					minX = maxX = x;
+					minY = maxY = y;
+				} else {
+					minX = Math.min(minX, x);
+					minY = Math.min(minY, y);
+					maxX = Math.max(maxX, x);
+					maxY = Math.max(maxY, y);
+				}
+			}
+			
+			return this.add(feature, minX, minY, maxX, maxY);
+		}
+		
+		/**
+		 * creates the {@link FeatureIndex} of all added features
+		 *
+		 * @return the created {@link FeatureIndex}
+		 *
+		 * @since 0.4.0
+		 */
+		public FeatureIndex<T> build() {
+			List<T>  features = Collections.unmodifiableList(new ArrayList<>(this.features));
+			int      count    = features.size();
+			double[] minX     = new double[count];
+			double[] minY     = new double[count];
+			double[] maxX     = new double[count];
+			double[] maxY     = new double[count];
+			
+			for (int i = 0; i < count; i++) {
+				minX[i] = this.boxes[4 * i];
+				minY[i] = this.boxes[4 * i + 1];
+				maxX[i] = this.boxes[4 * i + 2];
+				maxY[i] = this.boxes[4 * i + 3];
+			}
+			
+			Map<T, Integer> indices = new HashMap<>();
+			for (int i = 0; i < count; i++) {
+				indices.putIfAbsent(features.get(i), i);
+			}
+			
+			return new FeatureIndex<>(count, features::get, feature -> indices.getOrDefault(feature, -1), minX, minY, maxX, maxY);
+		}
+	}
+	
+	/**
+	 * the number of features
+	 *
+	 * @since 0.4.0
+	 */
+	private final int                      size;
+	/**
+	 * the factory, which gives the feature with a given index
+	 *
+	 * @since 0.4.0
+	 */
+	private final IntFunction<? extends T> factory;
+	/**
+	 * the function, which gives the index, at which an object could be contained, or {@code null}, if the features have to be iterated to find it
+	 *
+	 * @since 0.4.0
+	 */
+	private final ToIntFunction<Object>    locator;
+	/**
+	 * the minimum x coordinates of the bounding boxes
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]                 minX;
+	/**
+	 * the minimum y coordinates of the bounding boxes
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]                 minY;
+	/**
+	 * the maximum x coordinates of the bounding boxes
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]                 maxX;
+	/**
+	 * the maximum y coordinates of the bounding boxes
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]                 maxY;
+	/**
+	 * an unmodifiable {@link Set} of all features in file order
+	 *
+	 * @since 0.4.0
+	 */
+	private final Set<T>                   featureSet;
+	/**
+	 * the {@link SpatialIndex} of the bounding boxes or {@code null}, if it wasn't created yet
+	 *
+	 * @since 0.4.0
+	 */
+	private volatile SpatialIndex index;
+	
+	/**
+	 * constructor, with given features and their bounding boxes<br>
+	 * The features are requested from the factory every time they are iterated, so it could create them of a compact representation on demand.
+	 * The arrays are not copied and their first {@code size} values mustn't be changed afterwards.
+	 *
+	 * @param size    the number of features
+	 * @param factory the factory, which gives the feature with a given index in file order
+	 * @param minX    the minimum x coordinates of the bounding boxes
+	 * @param minY    the minimum y coordinates of the bounding boxes
+	 * @param maxX    the maximum x coordinates of the bounding boxes
+	 * @param maxY    the maximum y coordinates of the bounding boxes
+	 * @since 0.4.0
+	 */
+	public FeatureIndex(int size, IntFunction<? extends T> factory, double[] minX, double[] minY, double[] maxX, double[] maxY) {
+		this(size, factory, null, minX, minY, maxX, maxY);
+	}
+	
+	/**
+	 * constructor, with given features, their locator and their bounding boxes<br>
+	 * The locator lets the {@link Set}s of the features check, if they contain an object, by creating only the feature at its index.
+	 * The arrays are not copied and their first {@code size} values mustn't be changed afterwards.
+	 *
+	 * @param size    the number of features
+	 * @param factory the factory, which gives the feature with a given index in file order
+	 * @param locator the function, which gives the index, at which an object could be contained, or a negative number, if it's no feature
+	 * @param minX    the minimum x coordinates of the bounding boxes
+	 * @param minY    the minimum y coordinates of the bounding boxes
+	 * @param maxX    the maximum x coordinates of the bounding boxes
+	 * @param maxY    the maximum y coordinates of the bounding boxes
+	 * @since 0.4.0
+	 */
+	public FeatureIndex(int size, IntFunction<? extends T> factory, ToIntFunction<Object> locator, double[] minX, double[] minY, double[] maxX, double[] maxY) {
+		this.size = size;
+		this.factory = factory;
+		this.locator = locator;
+		this.minX = minX;
+		this.minY = minY;
+		this.maxX = maxX;
+		this.maxY = maxY;
+		this.featureSet = new IndexSet(null, 0, size);
+	}
+	
+	/**
+	 * gives all features
+	 *
+	 * @return an unmodifiable {@link Set} of all features in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<T> getFeatures() {
+		return this.featureSet;
+	}
+	
+	/**
+	 * gives all features, which bounding box intersects a given bounding box
+	 *
+	 * @param minX the minimum x coordinate of the search box
+	 * @param minY the minimum y coordinate of the search box
+	 * @param maxX the maximum x coordinate of the search box
+	 * @param maxY the maximum y coordinate of the search box
+	 * @return an unmodifiable {@link Set} of all found features in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<T> getFeatures(double minX, double minY, double maxX, double maxY) {
+		return new IndexSet(this.getIndex().query(minX, minY, maxX, maxY), 0, 0);
+	}
+	
+	/**
+	 * gives all features, which indices are accepted by a filter<br>
+	 * The filter is evaluated once for every feature, when this method is called.
+	 *
+	 * @param filter the filter of the indices of the features in file order
+	 * @return an unmodifiable {@link Set} of all accepted features in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<T> getFeatures(IntPredicate filter) {
+		return new IndexSet(this.getIndices(filter), 0, 0);
+	}
+	
+	/**
+	 * gives the indices of all features, which are accepted by a filter, without creating the features
+	 *
+	 * @param filter the filter of the indices of the features in file order
+	 * @return the ascending sorted indices of all accepted features
+	 *
+	 * @since 0.4.0
+	 */
+	public int[] getIndices(IntPredicate filter) {
+		int[] ids   = new int[this.size];
+		int   count = 0;
+		
+		for (int i = 0; i < this.size; i++) {
+			if (filter.test(i)) {
+				ids[count++] = i;
+			}
+		}
+		
+		return Arrays.copyOf(ids, count);
+	}
+	
+	/**
+	 * gives all features, which bounding box intersects a given bounding box and which indices are accepted by a filter<br>
+	 * The filter is only evaluated for the features, which were found by the {@link SpatialIndex}.
+	 *
+	 * @param minX   the minimum x coordinate of the search box
+	 * @param minY   the minimum y coordinate of the search box
+	 * @param maxX   the maximum x coordinate of the search box
+	 * @param maxY   the maximum y coordinate of the search box
+	 * @param filter the filter of the indices of the features in file order
+	 * @return an unmodifiable {@link Set} of all found and accepted features in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<T> getFeatures(double minX, double minY, double maxX, double maxY, IntPredicate filter) {
+		int[] found = this.getIndex().query(minX, minY, maxX, maxY);
+		int   count = 0;
+		
+		for (int id : found) {
+			if (filter.test(id)) {
+				found[count++] = id;
+			}
+		}
+		
+		return new IndexSet(Arrays.copyOf(found, count), 0, 0);
+	}
+	
+	/**
+	 * gives the features with given indices
+	 *
+	 * @param indices the ascending sorted indices of the features in file order without duplicates
+	 * @return an unmodifiable {@link Set} of the features in file order
+	 *
+	 * @throws IndexOutOfBoundsException if there is no feature with one of the indices
+	 * @since 0.4.0
+	 */
+	public Set<T> getFeatures(int[] indices)
+	throws IndexOutOfBoundsException {
+		for (int index : indices) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException("There is no feature with the index " + index + "!");
+			}
+		}
+		
+		return new IndexSet(indices.clone(), 0, 0);
+	}
+	
+	/**
+	 * gives a page of the features
+	 *
+	 * @param offset the index of the first feature of the page in file order
+	 * @param count  the maximum number of features of the page
+	 * @return an unmodifiable {@link Set} of the features of the page in file order, which is empty, if {@code offset} is behind the last feature
+	 *
+	 * @throws IllegalArgumentException if the offset or the count is negative
+	 * @since 0.4.0
+	 */
+	public Set<T> getPage(int offset, int count)
+	throws IllegalArgumentException {
+		if (offset < 0 || count < 0) {
+			throw new IllegalArgumentException("The offset and count of a page mustn't be negative, but are " + offset + " and " + count + "!");
+		}
+		
+		int first = Math.min(offset, this.size);
+		
+		return new IndexSet(null, first, (int) Math.min((long) count, this.size - first));
+	}
+	
+	/**
+	 * gives the feature with a given index
+	 *
+	 * @param index the index of the feature in file order
+	 * @return the feature
+	 *
+	 * @throws IndexOutOfBoundsException if there is no feature with the given index
+	 * @since 0.4.0
+	 */
+	public T get(int index)
+	throws IndexOutOfBoundsException {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("There is no feature with the index " + index + "!");
+		}
+		
+		return this.factory.apply(index);
+	}
+	
+	/**
+	 * gives the {@link SpatialIndex} of the features and creates it, if necessary
+	 *
+	 * @return the {@link SpatialIndex} of the features
+	 *
+	 * @since 0.4.0
+	 */
+	private SpatialIndex getIndex() {
+		SpatialIndex result = this.index;
+		
+		if (result == null) {
+			synchronized (this) {
+				result = this.index;
+				
+				if (result == null) {
+					result = new SpatialIndex(this.size, this.minX, this.minY, this.maxX, this.maxY);
+					this.index = result;
+				}
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * defines an unmodifiable {@link Set} of features, which are given by the factory on iteration<br>
+	 * It holds the contract of a {@link Set}, as long as a feature equals the features, which were created for the same index before.
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private final class IndexSet
+			extends AbstractSet<T> {
+		/**
+		 * the ascending indices of the features or {@code null}, if a range of features is contained
+		 *
+		 * @since 0.4.0
+		 */
+		private final int[] ids;
+		/**
+		 * the index of the first feature of the range, if {@link #ids} is {@code null}
+		 *
+		 * @since 0.4.0
+		 */
+		private final int   first;
+		/**
+		 * the number of features of the range, if {@link #ids} is {@code null}
+		 *
+		 * @since 0.4.0
+		 */
+		private final int   length;
+		
+		/**
+		 * constructor, with given indices or range
+		 *
+		 * @param ids    the ascending indices of the features or {@code null}, if a range of features is contained
+		 * @param first  the index of the first feature of the range, if {@code ids} is {@code null}
+		 * @param length the number of features of the range, if {@code ids} is {@code null}
+		 * @since 0.4.0
+		 */
+		private IndexSet(int[] ids, int first, int length) {
+			this.ids = ids;
+			this.first = first;
+			this.length = length;
+		}
+		
+		@Override
+		public int size() {
+			return this.ids != null ? this.ids.length : this.length;
+		}
+		
+		/**
+		 * {@inheritDoc}<br>
+		 * If the {@link FeatureIndex} has a locator, only the feature at the located index is created and compared.
+		 */
+		@Override
+		public boolean contains(Object o) {
+			if (FeatureIndex.this.locator == null) {
+				return super.contains(o);
+			}
+			
+			int index = FeatureIndex.this.locator.applyAsInt(o);
+			
+			if (index < 0 || index >= FeatureIndex.this.size) {
+				return false;
+			}
+			
+			if (this.ids != null ? Arrays.binarySearch(this.ids, index) < 0 : index < this.first || index - this.first >= this.length) {
+				return false;
+			}
+			
+			return FeatureIndex.this.factory.apply(index).equals(o);
+		}
+		
+		@Override
+		public Iterator<T> iterator() {
+			return new Iterator<T>() {
+				private int next = 0;
+				
+				@Override
+				public boolean hasNext() {
+					return this.next < IndexSet.this.size();
+				}
+				
+				@Override
+				public T next() {
+					if (!(this.hasNext())) {
+						throw new NoSuchElementException();
+					}
+					
+					int i = this.next++;
+					
+					return FeatureIndex.this.factory.apply(IndexSet.this.ids != null ? IndexSet.this.ids[i] : IndexSet.this.first + i);
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,363 @@
+package de.conterra.babelfish.csv.index;
+
+import de.conterra.babelfish.csv.Group;
+import org.opengis.geometry.DirectPosition;
+import org.opengis.geometry.primitive.Point;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+import org.opengis.referencing.crs.GeographicCRS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * defines the precomputed generalization of the {@link Point}s of {@link Group}s by the Douglas-Peucker algorithm<br>
+ * Every vertex gets the tolerance, up to which it is kept (its significance),
+ * so the generalized {@link Point}s of any tolerance are selected in a single pass without running the algorithm again.
+ * The significance of a vertex never exceeds the significance of the vertex, which split its segment before,
+ * so the selected {@link Point}s are exactly the result of the Douglas-Peucker algorithm with the same tolerance.
+ * The first and the last vertex of a line and three vertices of a ring are always kept.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class Generalization {
+	/**
+	 * the number of metres of a pixel at a scale of {@code 1:1} with a resolution of 96 dpi
+	 *
+	 * @since 0.4.0
+	 */
+	public static final double         METRES_PER_PIXEL  = 0.0254 / 96.0;
+	/**
+	 * the number of metres of a degree at the equator
+	 *
+	 * @since 0.4.0
+	 */
+	public static final double         METRES_PER_DEGREE = 6378137.0 * Math.PI / 180.0;
+	/**
+	 * the {@link Generalization}, which omits no vertex, of geometries, which shouldn't be generalized
+	 *
+	 * @since 0.4.0
+	 */
+	public static final Generalization NONE              = new Generalization(Collections.<Point[]>emptyList(), Collections.<float[]>emptyList(), Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+	
+	/**
+	 * the {@link Point}s of the {@link Group}s in their order
+	 *
+	 * @since 0.4.0
+	 */
+	private final List<Point[]> points;
+	/**
+	 * the significances of the {@link Point}s of the {@link Group}s
+	 *
+	 * @since 0.4.0
+	 */
+	private final List<float[]> significances;
+	/**
+	 * the lowest significance of a vertex, which could be omitted
+	 *
+	 * @since 0.4.0
+	 */
+	private final double        min;
+	/**
+	 * the highest significance of a vertex, which could be omitted
+	 *
+	 * @since 0.4.0
+	 */
+	private final double        max;
+	
+	/**
+	 * constructor, with given {@link Point}s and significances
+	 *
+	 * @param points        the {@link Point}s of the {@link Group}s in their order
+	 * @param significances the significances of the {@link Point}s of the {@link Group}s
+	 * @param min           the lowest significance of a vertex, which could be omitted
+	 * @param max           the highest significance of a vertex, which could be omitted
+	 * @since 0.4.0
+	 */
+	private Generalization(List<Point[]> points, List<float[]> significances, double min, double max) {
+		this.points = points;
+		this.significances = significances;
+		this.min = min;
+		this.max = max;
+	}
+	
+	/**
+	 * computes the {@link Generalization} of {@link Group}s
+	 *
+	 * @param groups the {@link Group}s to generalize
+	 * @param closed are the {@link Point}s of a {@link Group} the vertices of a ring ({@code true}) or of a line ({@code false})?
+	 * @return the computed {@link Generalization}, which addresses the {@link Group}s by their position in {@code groups}
+	 *
+	 * @since 0.4.0
+	 */
+	public static Generalization of(Collection<? extends Group> groups, boolean closed) {
+		List<Point[]> points        = new ArrayList<>(groups.size());
+		List<float[]> significances = new ArrayList<>(groups.size());
+		double        min           = Double.POSITIVE_INFINITY;
+		double        max           = 0.0;
+		
+		for (Group group : groups) {
+			Point[]  vertices = group.getPoints().toArray(new Point[0]);
+			double[] x        = new double[vertices.length];
+			double[] y        = new double[vertices.length];
+			
+			for (int i = 0; i < vertices.length; i++) {
+				DirectPosition position = vertices[i].getDirectPosition();
+				
+				x[i] = position.getOrdinate(0);
+				y[i] = position.getOrdinate(1);
+			}
+			
+			float[] significance = closed ? Generalization.ring(x, y) : Generalization.line(x, y);
+			
+			for (float value : significance) {
+				if (!(Float.isInfinite(value))) {
+					min = Math.min(min, value);
+					max = Math.max(max, value);
+				}
+			}
+			
+			points.add(vertices);
+			significances.add(significance);
+		}
+		
+		return new Generalization(points, significances, min, Math.max(min, max));
+	}
+	
+	/**
+	 * computes the significances of the vertices of a line
+	 *
+	 * @param x the first ordinates of the vertices
+	 * @param y the second ordinates of the vertices
+	 * @return the significances of the vertices
+	 *
+	 * @since 0.4.0
+	 */
+	private static float[] line(double[] x, double[] y) {
+		float[] result = new float[x.length];
+		
+		if (x.length > 0) {
+			result[0] = Float.POSITIVE_INFINITY;
+			result[x.length - 1] = Float.POSITIVE_INFINITY;
+			
+			Generalization.split(x, y, result, 0, x.length - 1);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * computes the significances of the vertices of a ring, which isn't closed by a repeated first vertex<br>
+	 * The ring is split at its first vertex and the vertex, which is farthest from it.
+	 * The vertex with the highest significance of both halves is kept too, so the ring never degenerates to a line.
+	 *
+	 * @param x the first ordinates of the vertices
+	 * @param y the second ordinates of the vertices
+	 * @return the significances of the vertices
+	 *
+	 * @since 0.4.0
+	 */
+	private static float[] ring(double[] x, double[] y) {
+		int     count  = x.length;
+		float[] result = new float[count];
+		
+		if (count <= 3) {
+			Arrays.fill(result, Float.POSITIVE_INFINITY);
+			
+			return result;
+		}
+		
+		int    farthest = 1;
+		double distance = 0.0;
+		for (int i = 1; i < count; i++) {
+			double dx = x[i] - x[0];
+			double dy = y[i] - y[0];
+			
+			if (dx * dx + dy * dy > distance) {
+				distance = dx * dx + dy * dy;
+				farthest = i;
+			}
+		}
+		
+		double[] closedX = Arrays.copyOf(x, count + 1);
+		double[] closedY = Arrays.copyOf(y, count + 1);
+		float[]  closed  = new float[count + 1];
+		
+		closedX[count] = x[0];
+		closedY[count] = y[0];
+		closed[0] = Float.POSITIVE_INFINITY;
+		closed[farthest] = Float.POSITIVE_INFINITY;
+		closed[count] = Float.POSITIVE_INFINITY;
+		
+		Generalization.split(closedX, closedY, closed, 0, farthest);
+		Generalization.split(closedX, closedY, closed, farthest, count);
+		
+		System.arraycopy(closed, 0, result, 0, count);
+		
+		int third = -1;
+		for (int i = 1; i < count; i++) {
+			if (!(Float.isInfinite(result[i])) && (third < 0 || result[i] > result[third])) {
+				third = i;
+			}
+		}
+		
+		result[third] = Float.POSITIVE_INFINITY;
+		
+		return result;
+	}
+	
+	/**
+	 * computes the significances of the inner vertices of a segment by the Douglas-Peucker algorithm<br>
+	 * The segments are split iteratively with an explicit stack, so long lines couldn't overflow the call stack.
+	 *
+	 * @param x            the first ordinates of the vertices
+	 * @param y            the second ordinates of the vertices
+	 * @param significance the significances to compute, which already contain the significances of the ends of the segment
+	 * @param first        the index of the first vertex of the segment
+	 * @param last         the index of the last vertex of the segment
+	 * @since 0.4.0
+	 */
+	private static void split(double[] x, double[] y, float[] significance, int first, int last) {
+		int[] stack = new int[64];
+		int   size  = 0;
+		
+		stack[size++] = first;
+		stack[size++] = last;
+		
+		while (size > 0) {
+			int end   = stack[--size];
+			int start = stack[--size];
+			
+			if (end - start < 2) {
+				continue;
+			}
+			
+			int    index    = start + 1;
+			double distance = -1.0;
+			for (int i = start + 1; i < end; i++) {
+				double current = Generalization.distance(x[i], y[i], x[start], y[start], x[end], y[end]);
+				
+				if (current > distance) {
+					distance = current;
+					index = i;
+				}
+			}
+			
+			significance[index] = Math.min((float) distance, Math.min(significance[start], significance[end]));
+			
+			if (size + 4 > stack.length) {
+				stack = Arrays.copyOf(stack, 2 * stack.length);
+			}
+			
+			stack[size++] = start;
+			stack[size++] = index;
+			stack[size++] = index;
+			stack[size++] = end;
+		}
+	}
+	
+	/**
+	 * computes the distance of a vertex to a segment
+	 *
+	 * @param x      the first ordinate of the vertex
+	 * @param y      the second ordinate of the vertex
+	 * @param startX the first ordinate of the start of the segment
+	 * @param startY the second ordinate of the start of the segment
+	 * @param endX   the first ordinate of the end of the segment
+	 * @param endY   the second ordinate of the end of the segment
+	 * @return the distance of the vertex to the nearest position of the segment
+	 *
+	 * @since 0.4.0
+	 */
+	private static double distance(double x, double y, double startX, double startY, double endX, double endY) {
+		double dx     = endX - startX;
+		double dy     = endY - startY;
+		double length = dx * dx + dy * dy;
+		double factor = length > 0.0 ? Math.max(0.0, Math.min(1.0, ((x - startX) * dx + (y - startY) * dy) / length)) : 0.0;
+		
+		return Math.hypot(x - startX - factor * dx, y - startY - factor * dy);
+	}
+	
+	/**
+	 * gives the resolution of a scale in the units of a {@link CoordinateReferenceSystem}<br>
+	 * The scale is converted with a resolution of 96 dpi.
+	 * The units of a {@link GeographicCRS} are assumed to be degrees at the equator and the units of all others to be metres.
+	 *
+	 * @param scale the denominator of the scale
+	 * @param crs   the {@link CoordinateReferenceSystem} or {@code null}, if it is unknown
+	 * @return the size of a pixel in the units of {@code crs}
+	 *
+	 * @since 0.4.0
+	 */
+	public static double getResolution(double scale, CoordinateReferenceSystem crs) {
+		double result = scale * Generalization.METRES_PER_PIXEL;
+		
+		if (crs instanceof GeographicCRS) {
+			result /= Generalization.METRES_PER_DEGREE;
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * gives the generalized {@link Point}s of a {@link Group}
+	 *
+	 * @param group     the position of the {@link Group} in the generalized {@link Group}s
+	 * @param tolerance the maximum distance of an omitted vertex to the generalized geometry
+	 * @return the {@link Point}s, which are kept with the tolerance, in their order
+	 *
+	 * @throws IndexOutOfBoundsException if no {@link Group} was generalized at the given position
+	 * @since 0.4.0
+	 */
+	public List<Point> getPoints(int group, double tolerance)
+	throws IndexOutOfBoundsException {
+		Point[]     vertices     = this.points.get(group);
+		float[]     significance = this.significances.get(group);
+		List<Point> result       = new ArrayList<>(vertices.length);
+		
+		for (int i = 0; i < vertices.length; i++) {
+			if (significance[i] > tolerance) {
+				result.add(vertices[i]);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * gives the number of generalized {@link Group}s
+	 *
+	 * @return the number of generalized {@link Group}s
+	 *
+	 * @since 0.4.0
+	 */
+	public int size() {
+		return this.points.size();
+	}
+	
+	/**
+	 * gives the lowest tolerance, which omits at least one vertex
+	 *
+	 * @return the lowest significance of a vertex, which could be omitted, or {@link Double#POSITIVE_INFINITY}, if no vertex could be omitted
+	 *
+	 * @since 0.4.0
+	 */
+	public double getMinTolerance() {
+		return this.min;
+	}
+	
+	/**
+	 * gives the lowest tolerance, which omits all vertices, which could be omitted
+	 *
+	 * @return the highest significance of a vertex, which could be omitted, or {@link Double#POSITIVE_INFINITY}, if no vertex could be omitted
+	 *
+	 * @since 0.4.0
+	 */
+	public double getMaxTolerance() {
+		return this.max;
+	}
+}
@@ -0,0 +1,98 @@
+package de.conterra.babelfish.csv.index;
+
+/**
+ * defines a sort of index arrays by primitive keys, without boxing the indices
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+final class IndexSort {
+	/**
+	 * the size of ranges, which are sorted by insertion sort
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int INSERTION_THRESHOLD = 16;
+	
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private IndexSort() {
+	}
+	
+	/**
+	 * sorts a range of indices ascending by their keys
+	 *
+	 * @param indices the indices to sort
+	 * @param keys    the keys of the indices
+	 * @param from    the first position to sort (inclusive)
+	 * @param to      the last position to sort (exclusive)
+	 * @since 0.4.0
+	 */
+	static void sort(int[] indices, double[] keys, int from, int to) {
+		while (to - from > IndexSort.INSERTION_THRESHOLD) {
+			int    mid   = (from + to) >>> 1;
+			double pivot = IndexSort.median(keys[indices[from]], keys[indices[mid]], keys[indices[to - 1]]);
+			
+			int i = from;
+			int j = to - 1;
+			while (i <= j) {
+				while (keys[indices[i]] < pivot) {
+					i++;
+				}
+				while (keys[indices[j]] > pivot) {
+					j--;
+				}
+				
+				if (i <= j) {
+					int tmp = indices[i];
+					indices[i] = indices[j];
+					indices[j] = tmp;
+					i++;
+					j--;
+				}
+			}
+			
+			if (j - from < to - i) {
+				IndexSort.sort(indices, keys, from, j + 1);
+				from = i;
+			} else {
+				IndexSort.sort(indices, keys, i, to);
+				to = j + 1;
+			}
+		}
+		
+		for (int i = from + 1; i < to; i++) {
+			int    index = indices[i];
+			double key   = keys[index];
+			
+			int j = i - 1;
+			while (j >= from && keys[indices[j]] > key) {
+				indices[j + 1] = indices[j];
+				j--;
+			}
+			indices[j + 1] = index;
+		}
+	}
+	
+	/**
+	 * gives the median of three values
+	 *
+	 * @param a the first value
+	 * @param b the second value
+	 * @param c the third value
+	 * @return the median of the values
+	 *
+	 * @since 0.4.0
+	 */
+	private static double median(double a, double b, double c) {
+		if (a < b) {
+			return b < c ? b : (a < c ? c : a);
+		}
+		
+		return a < c ? a : (b < c ? c : b);
+	}
+}
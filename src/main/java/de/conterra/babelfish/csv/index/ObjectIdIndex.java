@@ -0,0 +1,244 @@
+package de.conterra.babelfish.csv.index;
+
+import de.conterra.babelfish.csv.data.LayerData;
+
+import java.util.Arrays;
+
+/**
+ * defines an immutable primary index from the object IDs of parsed CSV data to the indices of their rows<br>
+ * If the object IDs ascend in file order (e.g. synthetic IDs or a sequence), they are held in a sorted array and found by a binary search.
+ * Otherwise they are held in an open-addressing hash table of primitive {@code int}s, which finds them in constant time.
+ * If an object ID occurs more than once, the first row is indexed.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class ObjectIdIndex {
+	/**
+	 * the row of an object ID, which isn't indexed
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int MISSING = -1;
+	
+	/**
+	 * the ascending object IDs or the keys of the hash table
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[]   ids;
+	/**
+	 * the rows of the ascending object IDs ({@code null}, if every row has its index as position) or the values of the hash table
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[]   rows;
+	/**
+	 * are the object IDs held in a sorted array?
+	 *
+	 * @since 0.4.0
+	 */
+	private final boolean sorted;
+	/**
+	 * the number of indexed object IDs
+	 *
+	 * @since 0.4.0
+	 */
+	private final int     size;
+	/**
+	 * the number of rows, which object ID occurred before
+	 *
+	 * @since 0.4.0
+	 */
+	private final int     duplicates;
+	
+	/**
+	 * constructor, with given arrays
+	 *
+	 * @param ids        the ascending object IDs or the keys of the hash table
+	 * @param rows       the rows of the ascending object IDs or the values of the hash table
+	 * @param sorted     are the object IDs held in a sorted array?
+	 * @param size       the number of indexed object IDs
+	 * @param duplicates the number of rows, which object ID occurred before
+	 * @since 0.4.0
+	 */
+	private ObjectIdIndex(int[] ids, int[] rows, boolean sorted, int size, int duplicates) {
+		this.ids = ids;
+		this.rows = rows;
+		this.sorted = sorted;
+		this.size = size;
+		this.duplicates = duplicates;
+	}
+	
+	/**
+	 * creates the {@link ObjectIdIndex} of parsed CSV data
+	 *
+	 * @param data the parsed CSV data
+	 * @return the created {@link ObjectIdIndex} of all rows, which contain a valid object ID
+	 *
+	 * @since 0.4.0
+	 */
+	public static ObjectIdIndex of(LayerData data) {
+		int     size      = data.size();
+		int[]   ids       = new int[size];
+		int[]   rows      = new int[size];
+		int     count     = 0;
+		boolean ascending = true;
+		
+		for (int row = 0; row < size; row++) {
+			if (data.hasObjectId(row)) {
+				int id = data.getObjectId(row);
+				
+				ascending &= count == 0 || id > ids[count - 1];
+				ids[count] = id;
+				rows[count] = row;
+				count++;
+			}
+		}
+		
+		if (ascending) {
+			return new ObjectIdIndex(Arrays.copyOf(ids, count), count == size ? null : Arrays.copyOf(rows, count), true, count, 0);
+		}
+		
+		int   capacity   = Integer.highestOneBit(Math.max(2 * count - 1, 1)) << 1;
+		int[] keys       = new int[capacity];
+		int[] values     = new int[capacity];
+		int   duplicates = 0;
+		
+		Arrays.fill(values, ObjectIdIndex.MISSING);
+		
+		for (int i = 0; i < count; i++) {
+			int slot = ObjectIdIndex.slot(keys, values, ids[i]);
+			
+			if (values[slot] == ObjectIdIndex.MISSING) {
+				keys[slot] = ids[i];
+				values[slot] = rows[i];
+			} else {
+				duplicates++;
+			}
+		}
+		
+		return new ObjectIdIndex(keys, values, false, count - duplicates, duplicates);
+	}
+	
+	/**
+	 * searches the slot of an object ID in a hash table with linear probing
+	 *
+	 * @param keys   the keys of the hash table
+	 * @param values the values of the hash table, where {@link #MISSING} marks an empty slot
+	 * @param id     the object ID to search
+	 * @return the slot, which contains the object ID, or the empty slot, at which the search ended
+	 *
+	 * @since 0.4.0
+	 */
+	private static int slot(int[] keys, int[] values, int id) {
+		int mask = keys.length - 1;
+		int hash = id * 0x9E3779B9;
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		
+		while (values[slot] != ObjectIdIndex.MISSING && keys[slot] != id) {
+			slot = (slot + 1) & mask;
+		}
+		
+		return slot;
+	}
+	
+	/**
+	 * gives the row of an object ID
+	 *
+	 * @param id the object ID
+	 * @return the index of the row or {@link #MISSING}, if no row contains the object ID
+	 *
+	 * @since 0.4.0
+	 */
+	public int getRow(int id) {
+		if (this.sorted) {
+			int index = Arrays.binarySearch(this.ids, id);
+			
+			if (index < 0) {
+				return ObjectIdIndex.MISSING;
+			}
+			
+			return this.rows != null ? this.rows[index] : index;
+		}
+		
+		return this.rows[ObjectIdIndex.slot(this.ids, this.rows, id)];
+	}
+	
+	/**
+	 * gives the rows of a batch of object IDs
+	 *
+	 * @param ids the object IDs
+	 * @return the ascending sorted indices of the rows, which contain one of the object IDs, without duplicates
+	 *
+	 * @since 0.4.0
+	 */
+	public int[] getRows(int... ids) {
+		int[] result = new int[ids.length];
+		int   count  = 0;
+		
+		for (int id : ids) {
+			int row = this.getRow(id);
+			
+			if (row != ObjectIdIndex.MISSING) {
+				result[count++] = row;
+			}
+		}
+		
+		Arrays.sort(result, 0, count);
+		
+		int distinct = 0;
+		for (int i = 0; i < count; i++) {
+			if (distinct == 0 || result[i] != result[distinct - 1]) {
+				result[distinct++] = result[i];
+			}
+		}
+		
+		return Arrays.copyOf(result, distinct);
+	}
+	
+	/**
+	 * gives the number of indexed object IDs
+	 *
+	 * @return the number of indexed object IDs
+	 *
+	 * @since 0.4.0
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * gives the number of rows, which object ID occurred in a previous row and which couldn't be found by their object ID
+	 *
+	 * @return the number of duplicated object IDs
+	 *
+	 * @since 0.4.0
+	 */
+	public int getDuplicateCount() {
+		return this.duplicates;
+	}
+	
+	/**
+	 * checks, if the object IDs are held in a sorted array, because they ascend in file order
+	 *
+	 * @return {@code true}, if the object IDs are found by a binary search, {@code false}, if they are held in a hash table
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isSorted() {
+		return this.sorted;
+	}
+	
+	/**
+	 * estimates the number of bytes, which are retained by the {@link ObjectIdIndex} on the heap
+	 *
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	public long getHeapSize() {
+		return 32L + 16L + 4L * this.ids.length + (this.rows != null ? 16L + 4L * this.rows.length : 0L);
+	}
+}
@@ -0,0 +1,303 @@
+package de.conterra.babelfish.csv.index;
+
+import java.util.Arrays;
+
+/**
+ * defines a static R-tree of bounding boxes, which is packed with the Sort-Tile-Recursive (STR) algorithm<br>
+ * The tree is stored in flat primitive arrays and never changed after its creation,
+ * so it could be queried by many threads at once.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class SpatialIndex {
+	/**
+	 * the maximum number of children of a node
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int NODE_CAPACITY = 16;
+	
+	/**
+	 * the bounding boxes of all nodes per level (minimum x, minimum y, maximum x and maximum y of each node),
+	 * the first level contains the indexed items and the last level the root
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[][] boxes;
+	/**
+	 * the index of the first child (inclusive) of each node per level
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[][]    starts;
+	/**
+	 * the index of the last child (exclusive) of each node per level
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[][]    ends;
+	/**
+	 * the identifiers of the indexed items in the order of the first level
+	 *
+	 * @since 0.4.0
+	 */
+	private final int[]      items;
+	
+	/**
+	 * constructor, with the bounding boxes of all items<br>
+	 * The identifier of an item is its index in the given arrays. Items with a {@link Double#NaN} coordinate are not indexed.
+	 *
+	 * @param minX the minimum x coordinates
+	 * @param minY the minimum y coordinates
+	 * @param maxX the maximum x coordinates
+	 * @param maxY the maximum y coordinates
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 * @since 0.4.0
+	 */
+	public SpatialIndex(double[] minX, double[] minY, double[] maxX, double[] maxY)
+	throws IllegalArgumentException {
+		this(minX.length, minX, minY, maxX, maxY);
+		
+		if (minY.length != minX.length || maxX.length != minX.length || maxY.length != minX.length) {
+			throw new IllegalArgumentException("All coordinate arrays must have the same length!");
+		}
+	}
+	
+	/**
+	 * constructor, with the bounding boxes of the first items of the given arrays<br>
+	 * The arrays could be longer than the number of items (e.g. the shared columns of a {@link de.conterra.babelfish.csv.data.LayerData}).
+	 *
+	 * @param count the number of items
+	 * @param minX  the minimum x coordinates
+	 * @param minY  the minimum y coordinates
+	 * @param maxX  the maximum x coordinates
+	 * @param maxY  the maximum y coordinates
+	 * @throws IllegalArgumentException if an array is shorter than the number of items
+	 * @since 0.4.0
+	 */
+	public SpatialIndex(int count, double[] minX, double[] minY, double[] maxX, double[] maxY)
+	throws IllegalArgumentException {
+		if (minX.length < count || minY.length < count || maxX.length < count || maxY.length < count) {
+			throw new IllegalArgumentException("All coordinate arrays must hold " + count + " items!");
+		}
+		
+		int[] ids = new int[count];
+		int   n   = 0;
+		for (int i = 0; i < count; i++) {
+			if (!(Double.isNaN(minX[i]) || Double.isNaN(minY[i]) || Double.isNaN(maxX[i]) || Double.isNaN(maxY[i]))) {
+				ids[n++] = i;
+			}
+		}
+		
+		double[] level = new double[4 * n];
+		for (int i = 0; i < n; i++) {
+			int id = ids[i];
+			level[4 * i] = minX[id];
+			level[4 * i + 1] = minY[id];
+			level[4 * i + 2] = maxX[id];
+			level[4 * i + 3] = maxY[id];
+		}
+		
+		int levels = 1;
+		for (int nodes = n; nodes > 1; nodes = (nodes + SpatialIndex.NODE_CAPACITY - 1) / SpatialIndex.NODE_CAPACITY) {
+			levels++;
+		}
+		
+		this.boxes = new double[levels][];
+		this.starts = new int[levels][];
+		this.ends = new int[levels][];
+		
+		int[] order = SpatialIndex.pack(level, n);
+		this.boxes[0] = SpatialIndex.reorder(level, order, 4);
+		this.items = SpatialIndex.reorder(Arrays.copyOf(ids, n), order);
+		
+		for (int l = 1; l < levels; l++) {
+			double[] children = this.boxes[l - 1];
+			int      nodes   = children.length / 4;
+			int      parents  = (nodes + SpatialIndex.NODE_CAPACITY - 1) / SpatialIndex.NODE_CAPACITY;
+			
+			double[] parentBoxes = new double[4 * parents];
+			int[]    start       = new int[parents];
+			int[]    end         = new int[parents];
+			
+			for (int p = 0; p < parents; p++) {
+				start[p] = p * SpatialIndex.NODE_CAPACITY;
+				end[p] = Math.min(nodes, start[p] + SpatialIndex.NODE_CAPACITY);
+				
+				double x1 = Double.POSITIVE_INFINITY;
+				double y1 = Double.POSITIVE_INFINITY;
+				double x2 = Double.NEGATIVE_INFINITY;
+				double y2 = Double.NEGATIVE_INFINITY;
+				for (int c = start[p]; c < end[p]; c++) {
+					x1 = Math.min(x1, children[4 * c]);
+					y1 = Math.min(y1, children[4 * c + 1]);
+					x2 = Math.max(x2, children[4 * c + 2]);
+					y2 = Math.max(y2, children[4 * c + 3]);
+				}
+				
+				parentBoxes[4 * p] = x1;
+				parentBoxes[4 * p + 1] = y1;
+				parentBoxes[4 * p + 2] = x2;
+				parentBoxes[4 * p + 3] = y2;
+			}
+			
+			order = SpatialIndex.pack(parentBoxes, parents);
+			this.boxes[l] = SpatialIndex.reorder(parentBoxes, order, 4);
+			this.starts[l] = SpatialIndex.reorder(start, order);
+			this.ends[l] = SpatialIndex.reorder(end, order);
+		}
+	}
+	
+	/**
+	 * gives the number of indexed items
+	 *
+	 * @return the number of indexed items
+	 *
+	 * @since 0.4.0
+	 */
+	public int size() {
+		return this.items.length;
+	}
+	
+	/**
+	 * searches all items, which bounding box intersects a given bounding box
+	 *
+	 * @param minX the minimum x coordinate of the search box
+	 * @param minY the minimum y coordinate of the search box
+	 * @param maxX the maximum x coordinate of the search box
+	 * @param maxY the maximum y coordinate of the search box
+	 * @return the ascending sorted identifiers of all found items
+	 *
+	 * @since 0.4.0
+	 */
+	public int[] query(double minX, double minY, double maxX, double maxY) {
+		if (this.items.length == 0) {
+			return new int[0];
+		}
+		
+		int[] result = new int[16];
+		int   count  = 0;
+		int   root   = this.boxes.length - 1;
+		
+		double[] rootBoxes   = this.boxes[root];
+		int[]    stackLevels = new int[Math.max(16, rootBoxes.length / 4)];
+		int[]    stackNodes  = new int[stackLevels.length];
+		int      top         = 0;
+		
+		for (int i = 0; i < rootBoxes.length / 4; i++) {
+			stackLevels[top] = root;
+			stackNodes[top] = i;
+			top++;
+		}
+		
+		while (top > 0) {
+			top--;
+			int level = stackLevels[top];
+			int node  = stackNodes[top];
+			
+			double[] levelBoxes = this.boxes[level];
+			if (levelBoxes[4 * node] > maxX || levelBoxes[4 * node + 1] > maxY || levelBoxes[4 * node + 2] < minX || levelBoxes[4 * node + 3] < minY) {
+				continue;
+			}
+			
+			if (level == 0) {
+				if (count == result.length) {
+					result = Arrays.copyOf(result, 2 * count);
+				}
+				result[count++] = this.items[node];
+			} else {
+				int start = this.starts[level][node];
+				int end   = this.ends[level][node];
+				
+				if (top + end - start > stackNodes.length) {
+					stackLevels = Arrays.copyOf(stackLevels, 2 * (top + end - start));
+					stackNodes = Arrays.copyOf(stackNodes, stackLevels.length);
+				}
+				
+				for (int child = start; child < end; child++) {
+					stackLevels[top] = level - 1;
+					stackNodes[top] = child;
+					top++;
+				}
+			}
+		}
+		
+		result = Arrays.copyOf(result, count);
+		Arrays.sort(result);
+		
+		return result;
+	}
+	
+	/**
+	 * computes the Sort-Tile-Recursive order of bounding boxes
+	 *
+	 * @param boxes the bounding boxes (minimum x, minimum y, maximum x and maximum y of each box)
+	 * @param count the number of bounding boxes
+	 * @return the indices of the bounding boxes in packed order
+	 *
+	 * @since 0.4.0
+	 */
+	private static int[] pack(double[] boxes, int count) {
+		int[]    order   = new int[count];
+		double[] centerX = new double[count];
+		double[] centerY = new double[count];
+		
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+			centerX[i] = (boxes[4 * i] + boxes[4 * i + 2]) / 2;
+			centerY[i] = (boxes[4 * i + 1] + boxes[4 * i + 3]) / 2;
+		}
+		
+		int nodes     = (count + SpatialIndex.NODE_CAPACITY - 1) / SpatialIndex.NODE_CAPACITY;
+		int slices    = (int) Math.ceil(Math.sqrt(nodes));
+		int sliceSize = slices * SpatialIndex.NODE_CAPACITY;
+		
+		IndexSort.sort(order, centerX, 0, count);
+		for (int start = 0; start < count; start += sliceSize) {
+			IndexSort.sort(order, centerY, start, Math.min(count, start + sliceSize));
+		}
+		
+		return order;
+	}
+	
+	/**
+	 * reorders an array of tuples
+	 *
+	 * @param values the array to reorder
+	 * @param order  the new order of the tuples
+	 * @param width  the number of values per tuple
+	 * @return a new array with the reordered tuples
+	 *
+	 * @since 0.4.0
+	 */
+	private static double[] reorder(double[] values, int[] order, int width) {
+		double[] result = new double[order.length * width];
+		
+		for (int i = 0; i < order.length; i++) {
+			System.arraycopy(values, width * order[i], result, width * i, width);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * reorders an array
+	 *
+	 * @param values the array to reorder
+	 * @param order  the new order of the values
+	 * @return a new array with the reordered values
+	 *
+	 * @since 0.4.0
+	 */
+	private static int[] reorder(int[] values, int[] order) {
+		int[] result = new int[order.length];
+		
+		for (int i = 0; i < order.length; i++) {
+			result[i] = values[order[i]];
+		}
+		
+		return result;
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * package of indices over the parsed content of CSV files
+ *
+ * @version 0.4.0
+ * @author ChrissW-R1
+ * @since 0.4.0
+ */
+package de.conterra.babelfish.csv.index;
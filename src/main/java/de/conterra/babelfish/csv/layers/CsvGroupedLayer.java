@@ -1,171 +1,558 @@
-package de.conterra.babelfish.csv.layers;
-
-import de.conterra.babelfish.csv.CsvConfig;
-import de.conterra.babelfish.csv.Group;
-import de.conterra.babelfish.plugin.v10_02.feature.Field;
-import de.conterra.babelfish.plugin.v10_02.object.feature.FeatureObject;
-import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
-import de.conterra.babelfish.plugin.v10_02.object.geometry.GeometryObject;
-import de.conterra.babelfish.plugin.v10_02.object.geometry.Point;
-import de.conterra.babelfish.util.DataUtils;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVRecord;
-import org.geotools.geometry.iso.primitive.PointImpl;
-import org.opengis.referencing.FactoryException;
-import org.opengis.referencing.crs.CoordinateReferenceSystem;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.Reader;
-import java.util.*;
-
-/**
- * defines a {@link CsvLayer}, which grouped all features by the {@link CsvConfig#getGroupColumn()}s
- *
- * @param <G> the geometry type
- * @param <F> the {@link FeatureObject} type
- * @author ChrissW-R1
- * @version 0.4.0
- * @since 0.1.0
- */
-@Slf4j
-public abstract class CsvGroupedLayer<G extends GeometryObject, F extends GeometryFeatureObject<G>>
-		extends CsvLayer<G, F> {
-	/**
-	 * constructor, with given id and {@link File}
-	 *
-	 * @param id   the unique identifier
-	 * @param file the {@link File} to parse the CSV data from
-	 * @throws IOException              if no {@link CsvConfig} could loaded
-	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
-	 * @since 0.1.0
-	 */
-	public CsvGroupedLayer(int id, File file)
-	throws IOException, IllegalArgumentException {
-		super(id, file);
-	}
-	
-	/**
-	 * gives a {@link Set} of all {@link Group}s in a {@link CsvGroupedLayer}
-	 *
-	 * @return a {@link Set} of all {@link Group}s in the given {@link CsvGroupedLayer}
-	 *
-	 * @since 0.1.0
-	 */
-	public Set<? extends Group> getGroups() {
-		Set<Group> result = new LinkedHashSet<>();
-		
-		Map<String, Set<GeometryFeatureObject<Point>>> groups   = new HashMap<>();
-		File                                           file     = this.getFile();
-		String                                         fileName = file.getName();
-		CsvConfig                                      config   = this.getConfig();
-		
-		Reader reader = null;
-		try {
-			reader = new FileReader(file);
-			Iterator<CSVRecord> records = CSVFormat.EXCEL.parse(reader).iterator();
-			
-			if (config.isIgnoreFirstRow() && records.hasNext()) {
-				records.next();
-			}
-			
-			while (records.hasNext()) {
-				CSVRecord record = records.next();
-				String    group  = "";
-				
-				for (int col : config.getGroupColumn()) {
-					group += record.get(col) + ",";
-				}
-				
-				while (group.endsWith(",")) {
-					group = group.substring(0, group.length() - 1);
-				}
-				
-				Set<GeometryFeatureObject<Point>> groupSet;
-				if (groups.containsKey(group)) {
-					groupSet = groups.get(group);
-				} else {
-					groupSet = new LinkedHashSet<>();
-				}
-				
-				try {
-					groupSet.add(this.addAttributes(new GeometryFeatureObject<Point>(new Point(new PointImpl(this.getPositionFromRecord(record)))), record));
-					
-					groups.put(group, groupSet);
-					
-					log.debug("Added new feature to group " + group + ".");
-				} catch (FactoryException e) {
-					log.warn("Couldn't create CRS by decoding given string!", e);
-				}
-			}
-		} catch (IOException e) {
-			log.error("An error occurred on reading the CSV file " + fileName + "!", e);
-		}
-		
-		DataUtils.closeStream(reader);
-		
-		for (String group : groups.keySet()) {
-			Set<org.opengis.geometry.primitive.Point> points     = new LinkedHashSet<>();
-			Map<Field, Set<String>>                   attributes = new HashMap<>();
-			CoordinateReferenceSystem                 crs        = null;
-			
-			for (GeometryFeatureObject<Point> feature : groups.get(group)) {
-				Point point = feature.getGeometry();
-				points.add(point);
-				
-				Map<? extends Field, ?> attrs = feature.getAttributes();
-				for (Field field : attrs.keySet()) {
-					Object obj = attrs.get(field);
-					if (obj != null && obj instanceof String) {
-						String attr = (String) obj;
-						
-						if (!(attr.isEmpty())) {
-							Set<String> set;
-							
-							if (attributes.containsKey(field)) {
-								set = attributes.get(field);
-							} else {
-								set = new LinkedHashSet<>();
-							}
-							
-							set.add(attr);
-							
-							attributes.put(field, set);
-						}
-					}
-				}
-				
-				if (crs == null) {
-					CoordinateReferenceSystem pointCrs = point.getCoordinateReferenceSystem();
-					if (pointCrs != null) {
-						crs = pointCrs;
-					}
-				}
-			}
-			
-			Map<Field, String> attrMap = new HashMap<>();
-			for (Field field : attributes.keySet()) {
-				String attrValue = "";
-				for (String attr : attributes.get(field)) {
-					attrValue += attr + Group.DELIMITER;
-				}
-				
-				while (attrValue.endsWith(Group.DELIMITER)) {
-					attrValue = attrValue.substring(0, attrValue.length() - Group.DELIMITER.length());
-				}
-				
-				attrMap.put(field, attrValue);
-			}
-			
-			if (crs != null) {
-				result.add(new Group(points, attrMap, crs));
-			} else {
-				log.warn("Couldn't create group, because no valid CRS was found!");
-			}
-		}
-		
-		return result;
-	}
-}
+package de.conterra.babelfish.csv.layers;
+
+import de.conterra.babelfish.csv.CsvConfig;
+import de.conterra.babelfish.csv.CsvDescriptor;
+import de.conterra.babelfish.csv.Group;
+import de.conterra.babelfish.csv.data.AttributeColumn;
+import de.conterra.babelfish.csv.data.GroupColumn;
+import de.conterra.babelfish.csv.data.LayerData;
+import de.conterra.babelfish.csv.index.FeatureIndex;
+import de.conterra.babelfish.csv.index.Generalization;
+import de.conterra.babelfish.csv.index.ObjectIdIndex;
+import de.conterra.babelfish.plugin.v10_02.feature.Feature;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.wrapper.LayerWrapper;
+import de.conterra.babelfish.plugin.v10_02.object.feature.FeatureObject;
+import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.GeometryObject;
+import lombok.extern.slf4j.Slf4j;
+import org.opengis.geometry.primitive.Point;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * defines a {@link CsvLayer}, which grouped all features by the {@link CsvConfig#getGroupColumn()}s
+ *
+ * @param <G> the geometry type
+ * @param <F> the {@link FeatureObject} type
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+@Slf4j
+public abstract class CsvGroupedLayer<G extends GeometryObject, F extends GeometryFeatureObject<G>>
+		extends CsvLayer<G, F> {
+	/**
+	 * the {@link LayerData.Key} of the {@link Group}s, which are derived from the parsed CSV data
+	 *
+	 * @since 0.4.0
+	 */
+	private static final LayerData.Key<Set<Group>>     GROUPS         = new LayerData.Key<>("groups", true);
+	/**
+	 * the {@link LayerData.Key} of the {@link Generalization} of the {@link Group}s
+	 *
+	 * @since 0.4.0
+	 */
+	private static final LayerData.Key<Generalization> GENERALIZATION = new LayerData.Key<>("generalization");
+	/**
+	 * the {@link LayerData.Key} of the {@link FeatureRows}, which map the {@link Feature}s to the first rows of their {@link Group}s
+	 *
+	 * @since 0.4.0
+	 */
+	private static final LayerData.Key<FeatureRows>    FEATURE_ROWS   = new LayerData.Key<>("featureRows");
+	
+	/**
+	 * the {@link LayerData.Key} of the {@link FeatureIndex}es of the generalized {@link Feature}s, mapped by the binary exponent of their tolerance
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerData.Key<Map<Integer, FeatureIndex<Feature<F>>>> generalizedIndexKey = new LayerData.Key<>("generalizedIndex");
+	
+	/**
+	 * constructor, with given id and {@link File}
+	 *
+	 * @param id   the unique identifier
+	 * @param file the {@link File} to parse the CSV data from
+	 * @throws IOException              if no {@link CsvConfig} could loaded
+	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
+	 * @since 0.1.0
+	 */
+	public CsvGroupedLayer(int id, File file)
+	throws IOException, IllegalArgumentException {
+		this(id, CsvDescriptor.load(file));
+	}
+	
+	/**
+	 * constructor, with given id and already loaded {@link CsvDescriptor}
+	 *
+	 * @param id         the unique identifier
+	 * @param descriptor the description of the CSV {@link File} to parse the data from
+	 * @since 0.4.0
+	 */
+	public CsvGroupedLayer(int id, CsvDescriptor descriptor) {
+		super(id, descriptor);
+	}
+	
+	@Override
+	protected int[] getGroupColumns() {
+		return this.getConfig().getGroupColumn();
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The object ID of a {@link Group} is the object ID of its first row.
+	 */
+	@Override
+	public Field getObjectIdField() {
+		return LayerWrapper.DEFAULT_OBJECT_ID_FIELD;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * Only the first row of a {@link Group} identifies its {@link Feature}.
+	 */
+	@Override
+	protected int getFeatureOfRow(LayerData data, int row) {
+		FeatureRows features = this.getFeatureRows(data);
+		int         group    = data.getGroups() != null ? data.getGroups().getGroup(row) : 0;
+		
+		return features.firstRows[group] == row ? features.features[group] : ObjectIdIndex.MISSING;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The row of a {@link Feature} is the first row of its {@link Group}.
+	 */
+	@Override
+	protected int getRowOfFeature(LayerData data, int feature) {
+		return this.getFeatureRows(data).rows[feature];
+	}
+	
+	/**
+	 * gives the minimum number of {@link Point}s of a {@link Group}, which is needed to create its {@link Feature}
+	 *
+	 * @return the minimum number of {@link Point}s
+	 *
+	 * @since 0.4.0
+	 */
+	protected int getMinPoints() {
+		return 1;
+	}
+	
+	/**
+	 * adds the object ID of a {@link Group} to its feature, which is the object ID of its first row
+	 *
+	 * @param data    the parsed CSV data
+	 * @param group   the position of the {@link Group} in {@link #getGroups(LayerData)}
+	 * @param feature the feature of the {@link Group}
+	 * @since 0.4.0
+	 */
+	protected void addObjectId(LayerData data, int group, FeatureObject feature) {
+		int row = this.getFeatureRows(data).firstRows[group];
+		
+		if (data.hasObjectId(row)) {
+			feature.addAttribute(LayerWrapper.DEFAULT_OBJECT_ID_FIELD, data.getObjectId(row));
+		}
+	}
+	
+	/**
+	 * gives a {@link Set} of all {@link Group}s in a {@link CsvGroupedLayer}
+	 *
+	 * @return a {@link Set} of all {@link Group}s in the given {@link CsvGroupedLayer}
+	 *
+	 * @since 0.1.0
+	 */
+	public Set<? extends Group> getGroups() {
+		return this.getGroups(this.getData());
+	}
+	
+	/**
+	 * gives a {@link Set} of all {@link Group}s of already parsed CSV data
+	 *
+	 * @param data the parsed CSV data
+	 * @return a {@link Set} of all {@link Group}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	protected Set<? extends Group> getGroups(LayerData data) {
+		return data.derive(CsvGroupedLayer.GROUPS, this::createGroups);
+	}
+	
+	/**
+	 * gives the {@link FeatureRows} of already parsed CSV data<br>
+	 * They are created on the first call and held until the CSV data is parsed again.
+	 *
+	 * @param data the parsed CSV data
+	 * @return the {@link FeatureRows} of the {@link Group}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	private FeatureRows getFeatureRows(LayerData data) {
+		return data.derive(CsvGroupedLayer.FEATURE_ROWS, this::createFeatureRows);
+	}
+	
+	/**
+	 * creates the {@link FeatureRows} of the {@link Group}s of parsed CSV data in a single pass over the group IDs<br>
+	 * The {@link Group}s with less than {@link #getMinPoints()} {@link Point}s are skipped, like they are by {@link #createFeatureIndex(LayerData)}.
+	 *
+	 * @param data the parsed CSV data
+	 * @return the created {@link FeatureRows}
+	 *
+	 * @since 0.4.0
+	 */
+	private FeatureRows createFeatureRows(LayerData data) {
+		GroupColumn          groupIds = data.getGroups();
+		Set<? extends Group> groups   = this.getGroups(data);
+		int[]                first    = new int[groups.size()];
+		int[]                features = new int[groups.size()];
+		int[]                rows     = new int[groups.size()];
+		int                  count    = 0;
+		
+		Arrays.fill(first, ObjectIdIndex.MISSING);
+		for (int row = 0; row < data.size(); row++) {
+			int id = groupIds != null ? groupIds.getGroup(row) : 0;
+			
+			if (first[id] == ObjectIdIndex.MISSING) {
+				first[id] = row;
+			}
+		}
+		
+		int id = 0;
+		for (Group group : groups) {
+			if (group.getPoints().size() >= this.getMinPoints()) {
+				features[id] = count;
+				rows[count++] = first[id];
+			} else {
+				features[id] = ObjectIdIndex.MISSING;
+			}
+			id++;
+		}
+		
+		return new FeatureRows(first, features, Arrays.copyOf(rows, count));
+	}
+	
+	/**
+	 * gives all {@link Feature}s with geometries, which are generalized for a resolution<br>
+	 * A vertex is omitted, if it deviates less than {@link CsvConfig#getGeneralization()} pixels from the generalized geometry.
+	 *
+	 * @param resolution the size of a pixel in the units of the CSV data (see {@link #getResolution(double)})
+	 * @return a {@link Set} of all generalized {@link Feature}s in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getGeneralizedFeatures(double resolution) {
+		long start = this.getMetrics().start();
+		try {
+			return this.getFeatureIndex(this.getData(), resolution).getFeatures();
+		} finally {
+			this.getMetrics().stop(start);
+		}
+	}
+	
+	/**
+	 * gives all {@link Feature}s with geometries, which are generalized for a resolution and which bounding box intersects a given bounding box
+	 *
+	 * @param resolution the size of a pixel in the units of the CSV data (see {@link #getResolution(double)})
+	 * @param minFirst   the minimum of the first axis
+	 * @param minSecond  the minimum of the second axis
+	 * @param maxFirst   the maximum of the first axis
+	 * @param maxSecond  the maximum of the second axis
+	 * @return a {@link Set} of all found generalized {@link Feature}s in file order
+	 *
+	 * @see #getFeatures(double, double, double, double)
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getGeneralizedFeatures(double resolution, double minFirst, double minSecond, double maxFirst, double maxSecond) {
+		long start = this.getMetrics().start();
+		try {
+			return this.getFeatureIndex(this.getData(), resolution).getFeatures(minFirst, minSecond, maxFirst, maxSecond);
+		} finally {
+			this.getMetrics().stop(start);
+		}
+	}
+	
+	/**
+	 * gives the {@link FeatureIndex} of the generalized {@link Feature}s of already parsed CSV data<br>
+	 * The tolerance is rounded down to a power of two, so all resolutions of a level share one {@link FeatureIndex},
+	 * which is created on the first call and held until the CSV data is parsed again.
+	 * If the tolerance omits no vertex, the {@link FeatureIndex} of the original {@link Feature}s is given.
+	 *
+	 * @param data       the parsed CSV data
+	 * @param resolution the size of a pixel in the units of the CSV data
+	 * @return the {@link FeatureIndex} of all generalized {@link Feature}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	protected FeatureIndex<Feature<F>> getFeatureIndex(LayerData data, double resolution) {
+		double tolerance = resolution * this.getConfig().getGeneralization();
+		
+		if (!(tolerance > 0.0)) {
+			return this.getFeatureIndex(data);
+		}
+		
+		Generalization generalization = this.getGeneralization(data);
+		int            level          = Math.min(Math.getExponent(tolerance), Math.getExponent(generalization.getMaxTolerance()) + 1);
+		
+		if (Math.scalb(1.0, level) < generalization.getMinTolerance()) {
+			return this.getFeatureIndex(data);
+		}
+		
+		return data.derive(this.generalizedIndexKey, parsed -> new ConcurrentHashMap<>()).computeIfAbsent(level, key -> {
+			FeatureIndex<Feature<F>> index = this.createFeatureIndex(data, Math.scalb(1.0, key));
+			
+			log.debug("Generalized " + this.getGroups(data).size() + " groups of " + this.getFile().getName() + " with a tolerance of " + Math.scalb(1.0, key) + ".");
+			
+			return index;
+		});
+	}
+	
+	/**
+	 * gives the {@link Generalization} of the {@link Group}s of already parsed CSV data<br>
+	 * It is created on the first call and held until the CSV data is parsed again.
+	 *
+	 * @param data the parsed CSV data
+	 * @return the {@link Generalization} of the {@link Group}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	protected Generalization getGeneralization(LayerData data) {
+		return data.derive(CsvGroupedLayer.GENERALIZATION, this::createGeneralization);
+	}
+	
+	/**
+	 * creates the {@link Generalization} of the {@link Group}s of parsed CSV data<br>
+	 * The geometries of a {@link CsvGroupedLayer} aren't generalized by default.
+	 *
+	 * @param data the parsed CSV data
+	 * @return the {@link Generalization} of the {@link Group}s in {@code data} or {@link Generalization#NONE}, if they shouldn't be generalized
+	 *
+	 * @since 0.4.0
+	 */
+	protected Generalization createGeneralization(LayerData data) {
+		return Generalization.NONE;
+	}
+	
+	/**
+	 * creates the generalized {@link Feature}s of parsed CSV data together with their bounding boxes<br>
+	 * The {@link Feature}s of a {@link CsvGroupedLayer} aren't generalized by default.
+	 *
+	 * @param data      the parsed CSV data
+	 * @param tolerance the maximum distance of an omitted vertex to the generalized geometry in the units of the CSV data
+	 * @return the {@link FeatureIndex} of all generalized {@link Feature}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	protected FeatureIndex<Feature<F>> createFeatureIndex(LayerData data, double tolerance) {
+		return this.getFeatureIndex(data);
+	}
+	
+	/**
+	 * gives the generalized {@link Point}s of a {@link Group} of parsed CSV data
+	 *
+	 * @param data      the parsed CSV data
+	 * @param group     the {@link Group}
+	 * @param index     the position of the {@link Group} in {@link #getGroups(LayerData)}
+	 * @param tolerance the maximum distance of an omitted vertex to the generalized geometry or {@code 0}, if no vertex should be omitted
+	 * @return the {@link Point}s of the generalized geometry in their order
+	 *
+	 * @since 0.4.0
+	 */
+	protected List<Point> getPoints(LayerData data, Group group, int index, double tolerance) {
+		if (tolerance > 0.0) {
+			return this.getGeneralization(data).getPoints(index, tolerance);
+		}
+		
+		return new ArrayList<>(group.getPoints());
+	}
+	
+	/**
+	 * creates the {@link Group}s of the parsed records in a single pass<br>
+	 * The points and the distinct attribute values are collected by one {@link GroupBuilder} per group ID of {@link LayerData#getGroups()}.
+	 * If the {@link Group}s of the first rows are inherited (see {@link LayerData#getInherited(LayerData.Key)}),
+	 * only the {@link Group}s with appended rows are created again.
+	 *
+	 * @param data the parsed CSV data
+	 * @return an unmodifiable {@link Set} of all {@link Group}s in the order of their first occurrence
+	 *
+	 * @since 0.4.0
+	 */
+	private Set<Group> createGroups(LayerData data) {
+		GroupColumn           groupIds = data.getGroups();
+		Map<Integer, Field>   headers  = this.getHeaders();
+		List<Field>           fields   = new ArrayList<>();
+		List<AttributeColumn> columns  = new ArrayList<>();
+		
+		for (Map.Entry<Integer, AttributeColumn> column : data.getAttributes().entrySet()) {
+			fields.add(headers.get(column.getKey()));
+			columns.add(column.getValue());
+		}
+		
+		int            groupCount = groupIds != null ? groupIds.getGroupCount() : Math.min(data.size(), 1);
+		GroupBuilder[] builders   = new GroupBuilder[groupCount];
+		
+		Set<Group>  inherited = groupIds != null ? data.getInherited(CsvGroupedLayer.GROUPS) : null;
+		List<Group> previous  = inherited != null ? new ArrayList<>(inherited) : Collections.<Group>emptyList();
+		BitSet      changed   = new BitSet(groupCount);
+		
+		if (inherited != null) {
+			changed.set(previous.size(), groupCount);
+			
+			for (int row = data.getInheritedSize(); row < data.size(); row++) {
+				changed.set(groupIds.getGroup(row));
+			}
+		} else {
+			changed.set(0, groupCount);
+		}
+		
+		for (int row = 0; row < data.size(); row++) {
+			int id = groupIds != null ? groupIds.getGroup(row) : 0;
+			
+			if (!(changed.get(id))) {
+				continue;
+			}
+			
+			GroupBuilder builder = builders[id];
+			
+			if (builder == null) {
+				builder = new GroupBuilder(data.getCrs(row), columns.size());
+				builders[id] = builder;
+			}
+			
+			builder.points.add(this.createPoint(data, row));
+			
+			for (int i = 0; i < columns.size(); i++) {
+				String attr = columns.get(i).get(row);
+				
+				if (attr != null && !(attr.isEmpty())) {
+					builder.addAttribute(i, attr);
+				}
+			}
+		}
+		
+		Set<Group> result = new LinkedHashSet<>();
+		for (int id = 0; id < groupCount; id++) {
+			result.add(changed.get(id) ? builders[id].build(fields) : previous.get(id));
+		}
+		
+		log.debug("Created " + changed.cardinality() + " of " + result.size() + " groups of " + data.size() + " rows.");
+		
+		return Collections.unmodifiableSet(result);
+	}
+	
+	/**
+	 * defines the mapping between the {@link Feature}s of the {@link Group}s and the first rows of the {@link Group}s,
+	 * which object IDs identify the {@link Feature}s
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private static final class FeatureRows {
+		/**
+		 * the first rows of the {@link Group}s by their group IDs
+		 *
+		 * @since 0.4.0
+		 */
+		private final int[] firstRows;
+		/**
+		 * the indices of the {@link Feature}s by the group IDs or {@link ObjectIdIndex#MISSING}, if a {@link Group} has no {@link Feature}
+		 *
+		 * @since 0.4.0
+		 */
+		private final int[] features;
+		/**
+		 * the first rows of the {@link Group}s by the indices of their {@link Feature}s
+		 *
+		 * @since 0.4.0
+		 */
+		private final int[] rows;
+		
+		/**
+		 * constructor, with given arrays
+		 *
+		 * @param firstRows the first rows of the {@link Group}s by their group IDs
+		 * @param features  the indices of the {@link Feature}s by the group IDs
+		 * @param rows      the first rows of the {@link Group}s by the indices of their {@link Feature}s
+		 * @since 0.4.0
+		 */
+		private FeatureRows(int[] firstRows, int[] features, int[] rows) {
+			this.firstRows = firstRows;
+			this.features = features;
+			this.rows = rows;
+		}
+	}
+	
+	/**
+	 * defines a builder of a {@link Group}, which collects the points and the distinct attribute values of its rows
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private static final class GroupBuilder {
+		/**
+		 * the points of the {@link Group}
+		 *
+		 * @since 0.4.0
+		 */
+		private final Set<Point>                points = new LinkedHashSet<>();
+		/**
+		 * the {@link CoordinateReferenceSystem} of the first row of the {@link Group}
+		 *
+		 * @since 0.4.0
+		 */
+		private final CoordinateReferenceSystem crs;
+		/**
+		 * the distinct values of the attribute columns, which are created on the first value of a column
+		 *
+		 * @since 0.4.0
+		 */
+		private final List<Set<String>>         values;
+		
+		/**
+		 * constructor, with given {@link CoordinateReferenceSystem} and number of attribute columns
+		 *
+		 * @param crs     the {@link CoordinateReferenceSystem} of the first row of the {@link Group}
+		 * @param columns the number of attribute columns
+		 * @since 0.4.0
+		 */
+		private GroupBuilder(CoordinateReferenceSystem crs, int columns) {
+			this.crs = crs;
+			this.values = new ArrayList<>(Collections.nCopies(columns, null));
+		}
+		
+		/**
+		 * adds a value of an attribute column
+		 *
+		 * @param column the index of the attribute column
+		 * @param value  the value to add
+		 * @since 0.4.0
+		 */
+		private void addAttribute(int column, String value) {
+			Set<String> set = this.values.get(column);
+			
+			if (set == null) {
+				set = new LinkedHashSet<>();
+				this.values.set(column, set);
+			}
+			
+			set.add(value);
+		}
+		
+		/**
+		 * creates the {@link Group} of all added rows
+		 *
+		 * @param fields the {@link Field}s of the attribute columns
+		 * @return the created {@link Group}
+		 *
+		 * @since 0.4.0
+		 */
+		private Group build(List<Field> fields) {
+			Map<Field, String> attributes = new HashMap<>();
+			
+			for (int i = 0; i < fields.size(); i++) {
+				Set<String> set = this.values.get(i);
+				
+				if (set != null) {
+					attributes.put(fields.get(i), String.join(Group.DELIMITER, set));
+				}
+			}
+			
+			return new Group(this.points, attributes, this.crs);
+		}
+	}
+}
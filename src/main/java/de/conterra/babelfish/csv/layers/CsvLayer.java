@@ -1,285 +1,1523 @@
-package de.conterra.babelfish.csv.layers;
-
-import de.conterra.babelfish.csv.CsvConfig;
-import de.conterra.babelfish.csv.SimpleField;
-import de.conterra.babelfish.plugin.ServiceContainer;
-import de.conterra.babelfish.plugin.v10_02.feature.*;
-import de.conterra.babelfish.plugin.v10_02.feature.wrapper.LayerWrapper;
-import de.conterra.babelfish.plugin.v10_02.object.feature.FeatureObject;
-import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
-import de.conterra.babelfish.plugin.v10_02.object.geometry.GeometryObject;
-import de.conterra.babelfish.plugin.v10_02.object.labeling.LabelingInfo;
-import de.conterra.babelfish.util.DataUtils;
-import de.conterra.babelfish.util.GeoUtils;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVRecord;
-import org.geotools.geometry.GeneralDirectPosition;
-import org.opengis.referencing.FactoryException;
-
-import java.awt.*;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.Reader;
-import java.util.*;
-
-/**
- * defines {@link FeatureLayer} with represents the content of a CSV {@link File}
- *
- * @param <G> the geometry type
- * @param <F> the {@link FeatureObject} type
- * @author ChrissW-R1
- * @version 0.4.0
- * @since 0.1.0
- */
-@Slf4j
-public abstract class CsvLayer<G extends GeometryObject, F extends GeometryFeatureObject<G>>
-		implements FeatureLayer<G, F> {
-	/**
-	 * the unique identifier
-	 *
-	 * @since 0.1.0
-	 */
-	private final int       id;
-	/**
-	 * the {@link File} to get the CSV data from
-	 *
-	 * @since 0.1.0
-	 */
-	private final File      file;
-	/**
-	 * the configuration (loaded from configuration file)
-	 *
-	 * @since 0.1.0
-	 */
-	private final CsvConfig config;
-	/**
-	 * header fields (from column headers)
-	 *
-	 * @since 0.1.0
-	 */
-	private final Map<Integer, Field> headers = new HashMap<>();
-	
-	/**
-	 * constructor, with given id and {@link File}
-	 *
-	 * @param file the {@link File} to parse the CSV data from
-	 * @param id   the unique identifier
-	 * @throws IOException              if no configuration could loaded
-	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
-	 * @since 0.1.0
-	 */
-	public CsvLayer(int id, File file)
-	throws IOException, IllegalArgumentException {
-		this.id = id;
-		this.file = file;
-		this.config = CsvConfig.getConfig(file);
-		
-		if (this.config.isIgnoreFirstRow()) {
-			Reader reader = null;
-			
-			try {
-				reader = new FileReader(this.file);
-				Iterator<CSVRecord> records = CSVFormat.EXCEL.parse(reader).iterator();
-				
-				if (records.hasNext()) {
-					CSVRecord record = records.next();
-					
-					int i = 0;
-					for (String header : record) {
-						if (i != this.config.getLongColumn()
-						    && i != this.config.getLatColumn()
-						    && i != this.config.getEleColumn()
-						    && i != this.config.getCrsColumn()) {
-							this.headers.put(i, new SimpleField(header, FieldType.String, "", false, 32767, null));
-						}
-						
-						i++;
-					}
-				}
-			} catch (IOException e) {
-			}
-			
-			DataUtils.closeStream(reader);
-		}
-	}
-	
-	@Override
-	public int getId() {
-		return this.id;
-	}
-	
-	@Override
-	public String getName() {
-		return ServiceContainer.toUrlSaveString(this.file.getName());
-	}
-	
-	@Override
-	public String getDescription() {
-		return this.getConfig().getDescription();
-	}
-	
-	@Override
-	public String getCopyrightText() {
-		return this.getConfig().getCopyright();
-	}
-	
-	@Override
-	public PopupType getPopupType() {
-		return PopupType.HtmlText;
-	}
-	
-	@Override
-	public Field getObjectIdField() {
-		return null;
-	}
-	
-	@Override
-	public Field getGlobalIdField() {
-		return null;
-	}
-	
-	@Override
-	public Field getDisplayField() {
-		return SimpleField.DISPLAY_FIELD;
-	}
-	
-	@Override
-	public Field getTypeIdField() {
-		return SimpleField.REQ_TYPE_FIELD;
-	}
-	
-	@Override
-	public Set<? extends Type<F>> getSubTypes() {
-		return new HashSet<>();
-	}
-	
-	@Override
-	public Set<? extends Template<F>> getTemplates() {
-		return new HashSet<>();
-	}
-	
-	@Override
-	public Query<F> getQuery() {
-		return null;
-	}
-	
-	@Override
-	public Map<? extends String, ? extends Image> getImages() {
-		return new HashMap<>();
-	}
-	
-	@Override
-	public int getMinScale() {
-		return 0;
-	}
-	
-	@Override
-	public int getMaxScale() {
-		return 0;
-	}
-	
-	@Override
-	public int getTranparency() {
-		return 0;
-	}
-	
-	@Override
-	public LabelingInfo getLabelingInfo() {
-		return null;
-	}
-	
-	/**
-	 * gives the {@link File} to get the CSV data from
-	 *
-	 * @return the {@link File} to get the CSV data from
-	 *
-	 * @since 0.1.0
-	 */
-	public File getFile() {
-		return this.file;
-	}
-	
-	/**
-	 * gives the configuration
-	 *
-	 * @return the configuration
-	 *
-	 * @since 0.1.0
-	 */
-	public CsvConfig getConfig() {
-		return this.config;
-	}
-	
-	/**
-	 * gives a {@link Map} of header fields (from column headers)
-	 *
-	 * @return a {@link Map} of header fields (from column headers)
-	 *
-	 * @since 0.1.0
-	 */
-	public Map<Integer, Field> getHeaders() {
-		return this.headers;
-	}
-	
-	/**
-	 * extracts a {@link GeneralDirectPosition} from a given {@link CSVRecord}
-	 *
-	 * @param record the {@link CSVRecord} to get the {@link GeneralDirectPosition} from
-	 * @return the extracted {@link GeneralDirectPosition}
-	 *
-	 * @throws FactoryException if the CRS could decoded from the {@link CSVRecord}
-	 * @since 0.1.0
-	 */
-	public GeneralDirectPosition getPositionFromRecord(CSVRecord record)
-	throws FactoryException {
-		CsvConfig config = this.getConfig();
-		
-		GeneralDirectPosition position = new GeneralDirectPosition(GeoUtils.decodeCrs(record.get(config.getCrsColumn())));
-		position.setOrdinate(0, Double.parseDouble(record.get(config.getLatColumn())));
-		position.setOrdinate(1, Double.parseDouble(record.get(config.getLongColumn())));
-		
-		int z = config.getEleColumn();
-		if (z >= 0) {
-			position.setOrdinate(2, Double.parseDouble(record.get(z)));
-		}
-		
-		return position;
-	}
-	
-	/**
-	 * adds all meta attributes to a {@link GeometryFeatureObject}
-	 *
-	 * @param <T>     the geometry type
-	 * @param feature the {@link GeometryFeatureObject} to add the attributes to
-	 * @param record  the {@link CSVRecord} to get the attribute values from
-	 * @return the same {@link GeometryFeatureObject} with the added attributes
-	 *
-	 * @since 0.1.0
-	 */
-	public <T extends GeometryObject> GeometryFeatureObject<T> addAttributes(GeometryFeatureObject<T> feature, CSVRecord record) {
-		int idColumn = this.getConfig().getIdColumn();
-		
-		int i = 0;
-		for (String cell : record) {
-			if (idColumn != i) {
-				Field field = this.getHeaders().get(i);
-				
-				if (field != null) {
-					feature.addAttribute(field, cell);
-				}
-			} else {
-				try {
-					feature.addAttribute(LayerWrapper.DEFAULT_OBJECT_ID_FIELD, Integer.parseInt(cell));
-				} catch (NumberFormatException e) {
-					log.warn("Found a not valid object ID (" + cell + ") in column: " + idColumn, e);
-				}
-			}
-			
-			i++;
-		}
-		
-		return feature;
-	}
-}
+package de.conterra.babelfish.csv.layers;
+
+import de.conterra.babelfish.csv.CsvConfig;
+import de.conterra.babelfish.csv.CsvDescriptor;
+import de.conterra.babelfish.csv.PopupTemplate;
+import de.conterra.babelfish.csv.SimpleField;
+import de.conterra.babelfish.csv.data.AttributeColumn;
+import de.conterra.babelfish.csv.data.CrsCache;
+import de.conterra.babelfish.csv.data.DictionaryColumn;
+import de.conterra.babelfish.csv.data.FileStamp;
+import de.conterra.babelfish.csv.data.FileTail;
+import de.conterra.babelfish.csv.data.LayerCache;
+import de.conterra.babelfish.csv.data.LayerData;
+import de.conterra.babelfish.csv.data.LayerSnapshot;
+import de.conterra.babelfish.csv.data.NumberColumn;
+import de.conterra.babelfish.csv.index.FeatureIndex;
+import de.conterra.babelfish.csv.index.Generalization;
+import de.conterra.babelfish.csv.index.ObjectIdIndex;
+import de.conterra.babelfish.csv.metrics.LayerMetrics;
+import de.conterra.babelfish.csv.parser.Compression;
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.csv.parser.FileRange;
+import de.conterra.babelfish.csv.parser.MappedRowReader;
+import de.conterra.babelfish.csv.parser.ParserType;
+import de.conterra.babelfish.csv.parser.RecordRow;
+import de.conterra.babelfish.csv.parser.RowOffsetIndex;
+import de.conterra.babelfish.csv.parser.RowReader;
+import de.conterra.babelfish.csv.parser.ValueParser;
+import de.conterra.babelfish.csv.query.WhereClause;
+import de.conterra.babelfish.plugin.ServiceContainer;
+import de.conterra.babelfish.plugin.v10_02.feature.*;
+import de.conterra.babelfish.plugin.v10_02.feature.wrapper.LayerWrapper;
+import de.conterra.babelfish.plugin.v10_02.object.feature.FeatureObject;
+import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.GeometryObject;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.Point;
+import de.conterra.babelfish.plugin.v10_02.object.labeling.LabelingInfo;
+import de.conterra.babelfish.util.DataUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVRecord;
+import org.geotools.geometry.GeneralDirectPosition;
+import org.geotools.geometry.iso.primitive.PointImpl;
+import org.opengis.geometry.Envelope;
+import org.opengis.referencing.FactoryException;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.awt.*;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntPredicate;
+
+/**
+ * defines {@link FeatureLayer} with represents the content of a CSV {@link File}
+ *
+ * @param <G> the geometry type
+ * @param <F> the {@link FeatureObject} type
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+@Slf4j
+public abstract class CsvLayer<G extends GeometryObject, F extends GeometryFeatureObject<G>>
+		implements FeatureLayer<G, F> {
+	/**
+	 * the minimum size of a chunk in bytes, which is parsed on its own thread
+	 *
+	 * @since 0.4.0
+	 */
+	private static final long CHUNK_SIZE = 1L << 24;
+	
+	/**
+	 * the unique identifier
+	 *
+	 * @since 0.1.0
+	 */
+	private final int                                     id;
+	/**
+	 * the description of the CSV {@link File} with its configuration and header fields
+	 *
+	 * @since 0.4.0
+	 */
+	private final CsvDescriptor                           descriptor;
+	/**
+	 * the cache of the parsed CSV data
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerCache<LayerData>                   cache;
+	/**
+	 * the {@link LayerMetrics} of the layer
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerMetrics                            metrics;
+	/**
+	 * the {@link LayerData.Key} of the {@link FeatureIndex}, which is derived from the parsed CSV data
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerData.Key<FeatureIndex<Feature<F>>> featureIndexKey  = new LayerData.Key<>("featureIndex");
+	/**
+	 * the {@link LayerData.Key} of the {@link PopupTemplate}, which caches the contents of the popups of the parsed CSV data
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerData.Key<PopupTemplate>            popupTemplateKey = new LayerData.Key<>("popupTemplate");
+	/**
+	 * the key of the derived {@link ObjectIdIndex}
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerData.Key<ObjectIdIndex>            objectIdIndexKey = new LayerData.Key<>("objectIdIndex");
+	/**
+	 * the {@link RowOffsetIndex} of the CSV {@link File} or {@code null}, if it wasn't created yet
+	 *
+	 * @since 0.4.0
+	 */
+	private RowOffsetIndex                                rowOffsetIndex   = null;
+	/**
+	 * the {@link FileStamp} of the CSV {@link File}, of which the {@link #rowOffsetIndex} was created
+	 *
+	 * @since 0.4.0
+	 */
+	private FileStamp                                     rowOffsetStamp   = null;
+	
+	/**
+	 * constructor, with given id and {@link File}
+	 *
+	 * @param file the {@link File} to parse the CSV data from
+	 * @param id   the unique identifier
+	 * @throws IOException              if no configuration could loaded
+	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
+	 * @since 0.1.0
+	 */
+	public CsvLayer(int id, File file)
+	throws IOException, IllegalArgumentException {
+		this(id, CsvDescriptor.load(file));
+	}
+	
+	/**
+	 * constructor, with given id and already loaded {@link CsvDescriptor}
+	 *
+	 * @param id         the unique identifier
+	 * @param descriptor the description of the CSV {@link File} to parse the data from
+	 * @since 0.4.0
+	 */
+	public CsvLayer(int id, CsvDescriptor descriptor) {
+		this.id = id;
+		this.descriptor = descriptor;
+		this.cache = new LayerCache<>(descriptor.getFile(), new LayerCache.Loader<LayerData>() {
+			@Override
+			public LayerData load()
+			throws IOException {
+				return CsvLayer.this.parse();
+			}
+			
+			@Override
+			public LayerData update(LayerData previous)
+			throws IOException {
+				return CsvLayer.this.update(previous);
+			}
+		});
+		this.metrics = new LayerMetrics(descriptor.getFile().getName(), this.cache);
+	}
+	
+	@Override
+	public int getId() {
+		return this.id;
+	}
+	
+	@Override
+	public String getName() {
+		return ServiceContainer.toUrlSaveString(this.getFile().getName());
+	}
+	
+	@Override
+	public String getDescription() {
+		return this.getConfig().getDescription();
+	}
+	
+	@Override
+	public String getCopyrightText() {
+		return this.getConfig().getCopyright();
+	}
+	
+	@Override
+	public PopupType getPopupType() {
+		return PopupType.HtmlText;
+	}
+	
+	@Override
+	public Field getObjectIdField() {
+		return null;
+	}
+	
+	@Override
+	public Field getGlobalIdField() {
+		return null;
+	}
+	
+	@Override
+	public Field getDisplayField() {
+		return SimpleField.DISPLAY_FIELD;
+	}
+	
+	@Override
+	public Field getTypeIdField() {
+		return SimpleField.REQ_TYPE_FIELD;
+	}
+	
+	@Override
+	public Set<? extends Type<F>> getSubTypes() {
+		return new HashSet<>();
+	}
+	
+	@Override
+	public Set<? extends Template<F>> getTemplates() {
+		return new HashSet<>();
+	}
+	
+	@Override
+	public Query<F> getQuery() {
+		return null;
+	}
+	
+	@Override
+	public Set<? extends Feature<F>> getFeatures() {
+		long start = this.metrics.start();
+		try {
+			return this.getFeatureIndex(this.getData()).getFeatures();
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	/**
+	 * gives all {@link Feature}s, which bounding box intersects a given {@link Envelope}<br>
+	 * The {@link Envelope} must use the same {@link CoordinateReferenceSystem} and axis order as the CSV data.
+	 *
+	 * @param extent the {@link Envelope} to search in
+	 * @return a {@link Set} of all found {@link Feature}s in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getFeatures(Envelope extent) {
+		return this.getFeatures(extent.getMinimum(0), extent.getMinimum(1), extent.getMaximum(0), extent.getMaximum(1));
+	}
+	
+	/**
+	 * gives all {@link Feature}s, which bounding box intersects a given bounding box<br>
+	 * The first axis is the first ordinate of the parsed positions (the latitude column) and the second axis the second ordinate (the longitude column).
+	 *
+	 * @param minFirst  the minimum of the first axis
+	 * @param minSecond the minimum of the second axis
+	 * @param maxFirst  the maximum of the first axis
+	 * @param maxSecond the maximum of the second axis
+	 * @return a {@link Set} of all found {@link Feature}s in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getFeatures(double minFirst, double minSecond, double maxFirst, double maxSecond) {
+		long start = this.metrics.start();
+		try {
+			return this.getFeatureIndex(this.getData()).getFeatures(minFirst, minSecond, maxFirst, maxSecond);
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	/**
+	 * gives the size of a pixel at a scale in the units of the CSV data
+	 *
+	 * @param scale the denominator of the scale
+	 * @return the resolution of the scale
+	 *
+	 * @see Generalization#getResolution(double, CoordinateReferenceSystem)
+	 * @since 0.4.0
+	 */
+	public double getResolution(double scale) {
+		List<CoordinateReferenceSystem> crsTable = this.getData().getCrsTable();
+		
+		return Generalization.getResolution(scale, crsTable.isEmpty() ? null : crsTable.get(0));
+	}
+	
+	/**
+	 * gives a page of all {@link Feature}s<br>
+	 * The {@link Feature}s are counted in file order, so consecutive pages don't overlap, until the CSV data is parsed again.
+	 *
+	 * @param offset the index of the first {@link Feature} of the page
+	 * @param count  the maximum number of {@link Feature}s of the page
+	 * @return a {@link Set} of the {@link Feature}s of the page in file order, which is empty, if {@code offset} is behind the last {@link Feature}
+	 *
+	 * @throws IllegalArgumentException if the offset or the count is negative
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getPage(long offset, int count)
+	throws IllegalArgumentException {
+		long start = this.metrics.start();
+		try {
+			if (offset < 0 || count < 0) {
+				throw new IllegalArgumentException("The offset and count of a page mustn't be negative, but are " + offset + " and " + count + "!");
+			}
+			
+			if (offset > Integer.MAX_VALUE) {
+				return Collections.emptySet();
+			}
+			
+			return this.getFeatureIndex(this.getData()).getPage((int) offset, count);
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	/**
+	 * gives the {@link Feature} with an object ID<br>
+	 * The {@link Iterator} of the found {@link Feature}s is closed, if it is {@link Closeable} (e.g. in streaming mode).
+	 *
+	 * @param objectId the object ID
+	 * @return the found {@link Feature} or {@code null}, if no {@link Feature} has the object ID
+	 *
+	 * @see #getFeatures(int...)
+	 * @since 0.4.0
+	 */
+	public Feature<F> getFeature(int objectId) {
+		Iterator<? extends Feature<F>> features = this.getFeatures(new int[] {objectId}).iterator();
+		
+		try {
+			return features.hasNext() ? features.next() : null;
+		} finally {
+			if (features instanceof Closeable) {
+				DataUtils.closeStream((Closeable) features);
+			}
+		}
+	}
+	
+	/**
+	 * gives the {@link Feature}s with given object IDs<br>
+	 * The rows of the object IDs are looked up in the {@link ObjectIdIndex} and only the {@link Feature}s of them are built (see {@link #getFeatureOfRow(LayerData, int)}).
+	 * If an object ID occurs in more than one row, only the {@link Feature} of its first row in file order is found.
+	 *
+	 * @param objectIds the object IDs
+	 * @return a {@link Set} of the found {@link Feature}s in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getFeatures(int... objectIds) {
+		long start = this.metrics.start();
+		try {
+			LayerData data     = this.getData();
+			int[]     features = this.getObjectIdIndex(data).getRows(objectIds);
+			int       count    = 0;
+			
+			for (int row : features) {
+				int feature = this.getFeatureOfRow(data, row);
+				
+				if (feature != ObjectIdIndex.MISSING) {
+					features[count++] = feature;
+				}
+			}
+			
+			return this.getFeatureIndex(data).getFeatures(Arrays.copyOf(features, count));
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	/**
+	 * compiles a where-clause against the header {@link Field}s
+	 *
+	 * @param where the where-clause to compile or {@code null}, if all {@link Feature}s should be accepted
+	 * @return the compiled {@link WhereClause}
+	 *
+	 * @throws IllegalArgumentException if the where-clause is invalid or references an unknown field
+	 * @see WhereClause#compile(String, Map, int)
+	 * @since 0.4.0
+	 */
+	public WhereClause compile(String where)
+	throws IllegalArgumentException {
+		return WhereClause.compile(where, this.getHeaders(), this.getConfig().getIdColumn());
+	}
+	
+	/**
+	 * gives all {@link Feature}s, which are accepted by a {@link WhereClause}
+	 *
+	 * @param where the {@link WhereClause} to filter by
+	 * @return a {@link Set} of all accepted {@link Feature}s in file order
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getFeatures(WhereClause where) {
+		if (where.isAll()) {
+			return this.getFeatures();
+		}
+		
+		long start = this.metrics.start();
+		try {
+			LayerData                data  = this.getData();
+			FeatureIndex<Feature<F>> index = this.getFeatureIndex(data);
+			
+			return index.getFeatures(this.createFilter(data, index, where));
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	/**
+	 * gives all {@link Feature}s, which bounding box intersects a given bounding box and which are accepted by a {@link WhereClause}
+	 *
+	 * @param where     the {@link WhereClause} to filter by
+	 * @param minFirst  the minimum of the first axis
+	 * @param minSecond the minimum of the second axis
+	 * @param maxFirst  the maximum of the first axis
+	 * @param maxSecond the maximum of the second axis
+	 * @return a {@link Set} of all found and accepted {@link Feature}s in file order
+	 *
+	 * @see #getFeatures(double, double, double, double)
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<F>> getFeatures(WhereClause where, double minFirst, double minSecond, double maxFirst, double maxSecond) {
+		if (where.isAll()) {
+			return this.getFeatures(minFirst, minSecond, maxFirst, maxSecond);
+		}
+		
+		long start = this.metrics.start();
+		try {
+			LayerData                data  = this.getData();
+			FeatureIndex<Feature<F>> index = this.getFeatureIndex(data);
+			
+			return index.getFeatures(minFirst, minSecond, maxFirst, maxSecond, this.createFilter(data, index, where));
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	/**
+	 * counts all {@link Feature}s, which are accepted by a {@link WhereClause}
+	 *
+	 * @param where the {@link WhereClause} to filter by
+	 * @return the number of accepted {@link Feature}s
+	 *
+	 * @since 0.4.0
+	 */
+	public int count(WhereClause where) {
+		long start = this.metrics.start();
+		try {
+			return this.getFeatures(where).size();
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	/**
+	 * gives the object IDs of all {@link Feature}s, which are accepted by a {@link WhereClause}<br>
+	 * The object ID of a {@link Feature} is taken of its row in the parsed CSV data (see {@link #getRowOfFeature(LayerData, int)}).
+	 *
+	 * @param where the {@link WhereClause} to filter by
+	 * @return the object IDs in file order, without the {@link Feature}s, which have no valid object ID
+	 *
+	 * @since 0.4.0
+	 */
+	public int[] getObjectIds(WhereClause where) {
+		long start = this.metrics.start();
+		try {
+			LayerData                data   = this.getData();
+			FeatureIndex<Feature<F>> index  = this.getFeatureIndex(data);
+			int[]                    result = index.getIndices(where.isAll() ? i -> true : this.createFilter(data, index, where));
+			int                      count  = 0;
+			
+			for (int feature : result) {
+				int row = this.getRowOfFeature(data, feature);
+				
+				if (data.hasObjectId(row)) {
+					result[count++] = data.getObjectId(row);
+				}
+			}
+			
+			return Arrays.copyOf(result, count);
+		} finally {
+			this.metrics.stop(start);
+		}
+	}
+	
+	@Override
+	public Map<? extends String, ? extends Image> getImages() {
+		return new HashMap<>();
+	}
+	
+	@Override
+	public int getMinScale() {
+		return this.getConfig().getMinScale();
+	}
+	
+	@Override
+	public int getMaxScale() {
+		return this.getConfig().getMaxScale();
+	}
+	
+	@Override
+	public int getTranparency() {
+		return 0;
+	}
+	
+	@Override
+	public LabelingInfo getLabelingInfo() {
+		return null;
+	}
+	
+	/**
+	 * gives the {@link File} to get the CSV data from
+	 *
+	 * @return the {@link File} to get the CSV data from
+	 *
+	 * @since 0.1.0
+	 */
+	public File getFile() {
+		return this.descriptor.getFile();
+	}
+	
+	/**
+	 * gives the configuration
+	 *
+	 * @return the configuration
+	 *
+	 * @since 0.1.0
+	 */
+	public CsvConfig getConfig() {
+		return this.descriptor.getConfig();
+	}
+	
+	/**
+	 * gives the description of the CSV {@link File}
+	 *
+	 * @return the description of the CSV {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	public CsvDescriptor getDescriptor() {
+		return this.descriptor;
+	}
+	
+	/**
+	 * gives a {@link Map} of header fields (from column headers)
+	 *
+	 * @return an unmodifiable {@link Map} of header fields (from column headers)
+	 *
+	 * @since 0.1.0
+	 */
+	public Map<Integer, Field> getHeaders() {
+		return this.descriptor.getHeaders();
+	}
+	
+	/**
+	 * gives the cache of the parsed CSV data
+	 *
+	 * @return the cache of the parsed CSV data
+	 *
+	 * @since 0.4.0
+	 */
+	public LayerCache<LayerData> getCache() {
+		return this.cache;
+	}
+	
+	/**
+	 * gives the {@link LayerMetrics} of the layer, which record the loads of the CSV data and the latencies of the requests
+	 *
+	 * @return the {@link LayerMetrics} of the layer
+	 *
+	 * @since 0.4.0
+	 */
+	public LayerMetrics getMetrics() {
+		return this.metrics;
+	}
+	
+	/**
+	 * gives the parsed CSV data<br>
+	 * The {@link File} is only parsed again, if it was changed since the last call.
+	 *
+	 * @return the parsed CSV data or an empty {@link LayerData}, if the {@link File} couldn't be read
+	 *
+	 * @since 0.4.0
+	 */
+	public LayerData getData() {
+		try {
+			return this.cache.get();
+		} catch (IOException e) {
+			log.error("An error occurred on reading the CSV file " + this.getFile().getName() + "!", e);
+		}
+		
+		return LayerData.empty();
+	}
+	
+	/**
+	 * gives the {@link FeatureIndex} of already parsed CSV data
+	 *
+	 * @param data the parsed CSV data
+	 * @return the {@link FeatureIndex} of all {@link Feature}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	protected FeatureIndex<Feature<F>> getFeatureIndex(LayerData data) {
+		return data.derive(this.featureIndexKey, this::createFeatureIndex);
+	}
+	
+	/**
+	 * gives the {@link ObjectIdIndex} of already parsed CSV data<br>
+	 * It is created on the first call and held until the CSV data is parsed again.
+	 *
+	 * @param data the parsed CSV data
+	 * @return the {@link ObjectIdIndex} of all rows in {@code data}, which contain a valid object ID
+	 *
+	 * @since 0.4.0
+	 */
+	public ObjectIdIndex getObjectIdIndex(LayerData data) {
+		return data.derive(this.objectIdIndexKey, parsed -> {
+			ObjectIdIndex index = ObjectIdIndex.of(parsed);
+			
+			if (index.getDuplicateCount() > 0) {
+				log.warn(index.getDuplicateCount() + " rows of " + this.getFile().getName() + " contain an object ID of a previous row, so they couldn't be found by their object ID.");
+			}
+			
+			return index;
+		});
+	}
+	
+	/**
+	 * gives the {@link Feature}, which is identified by the object ID of a row<br>
+	 * By default every row is a {@link Feature} at the same index.
+	 *
+	 * @param data the parsed CSV data
+	 * @param row  the index of the row
+	 * @return the index of the {@link Feature} in {@link #getFeatureIndex(LayerData)} or {@link ObjectIdIndex#MISSING}, if the object ID of the row identifies no {@link Feature}
+	 *
+	 * @see #getRowOfFeature(LayerData, int)
+	 * @since 0.4.0
+	 */
+	protected int getFeatureOfRow(LayerData data, int row) {
+		return row;
+	}
+	
+	/**
+	 * gives the row, which object ID identifies a {@link Feature}<br>
+	 * By default every row is a {@link Feature} at the same index.
+	 * The rows of the {@link Feature}s must ascend with their indices.
+	 *
+	 * @param data    the parsed CSV data
+	 * @param feature the index of the {@link Feature} in {@link #getFeatureIndex(LayerData)}
+	 * @return the index of the row
+	 *
+	 * @see #getFeatureOfRow(LayerData, int)
+	 * @since 0.4.0
+	 */
+	protected int getRowOfFeature(LayerData data, int feature) {
+		return feature;
+	}
+	
+	/**
+	 * gives the {@link PopupTemplate} of already parsed CSV data, which is built of the header {@link Field}s<br>
+	 * The contents of the popups are cached by it up to the size of {@link CsvConfig#getPopupCache()},
+	 * until the CSV data is parsed again.
+	 *
+	 * @param data the parsed CSV data
+	 * @return the {@link PopupTemplate} of the {@link Feature}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	protected PopupTemplate getPopupTemplate(LayerData data) {
+		return data.derive(this.popupTemplateKey, parsed -> new PopupTemplate(this.getHeaders().values(), 512L * this.getConfig().getPopupCache()));
+	}
+	
+	/**
+	 * creates the {@link Feature}s of parsed CSV data together with their bounding boxes
+	 *
+	 * @param data the parsed CSV data
+	 * @return the {@link FeatureIndex} of all {@link Feature}s in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	protected abstract FeatureIndex<Feature<F>> createFeatureIndex(LayerData data);
+	
+	/**
+	 * creates the filter of the {@link Feature}s in a {@link FeatureIndex}, which are accepted by a {@link WhereClause}<br>
+	 * By default every {@link Feature} is built and the {@link WhereClause} is evaluated on its attributes.
+	 *
+	 * @param data  the parsed CSV data
+	 * @param index the {@link FeatureIndex} of all {@link Feature}s in {@code data}
+	 * @param where the {@link WhereClause} to filter by
+	 * @return an {@link IntPredicate}, which accepts the indices of the accepted {@link Feature}s in {@code index}
+	 *
+	 * @since 0.4.0
+	 */
+	protected IntPredicate createFilter(LayerData data, FeatureIndex<Feature<F>> index, WhereClause where) {
+		return i -> where.test(index.get(i).getFeature().getAttributes());
+	}
+	
+	/**
+	 * gives the columns to group the records by
+	 *
+	 * @return the columns to group the records by or an empty array, if the records should not be grouped
+	 *
+	 * @since 0.4.0
+	 */
+	protected int[] getGroupColumns() {
+		return new int[0];
+	}
+	
+	/**
+	 * opens the CSV {@link File} with the configured {@link ParserType} to read its rows<br>
+	 * If the first row should be ignored, it is already skipped.
+	 *
+	 * @return the opened {@link RowReader}, which must be closed by the caller
+	 *
+	 * @throws IOException if the CSV {@link File} couldn't be opened
+	 * @since 0.4.0
+	 */
+	public RowReader openRows()
+	throws IOException {
+		RowReader reader = this.getConfig().getParser().open(this.getFile());
+		
+		try {
+			if (this.getConfig().isIgnoreFirstRow()) {
+				reader.next();
+			}
+			
+			return reader;
+		} catch (IOException | RuntimeException e) {
+			DataUtils.closeStream(reader);
+			throw e;
+		}
+	}
+	
+	/**
+	 * opens the CSV {@link File} to read a page of its rows<br>
+	 * If the default charset is supported by the {@link MappedRowReader}, the reader seeks to the page by the {@link #getRowOffsetIndex()},
+	 * which seeks to the nearest compressed block of a compressed {@link File}.
+	 * Otherwise all rows before the page are read and skipped.
+	 *
+	 * @param offset the index of the first row of the page, where {@code 0} is the first row without the headers
+	 * @param count  the maximum number of rows of the page
+	 * @return the opened {@link RowReader}, which must be closed by the caller
+	 *
+	 * @throws IOException              if the CSV {@link File} couldn't be read
+	 * @throws IllegalArgumentException if the offset or the count is negative
+	 * @since 0.4.0
+	 */
+	public RowReader openRows(long offset, int count)
+	throws IOException, IllegalArgumentException {
+		if (offset < 0 || count < 0) {
+			throw new IllegalArgumentException("The offset and count of a page mustn't be negative, but are " + offset + " and " + count + "!");
+		}
+		
+		if (MappedRowReader.isSupported(Charset.defaultCharset())) {
+			return this.getRowOffsetIndex().open(this.getFile(), offset, count);
+		}
+		
+		RowReader reader = this.openRows();
+		
+		try {
+			long skipped = 0;
+			while (skipped < offset && reader.next() != null) {
+				skipped++;
+			}
+			
+			return new RowOffsetIndex.PageReader(reader, count);
+		} catch (IOException | RuntimeException e) {
+			DataUtils.closeStream(reader);
+			throw e;
+		}
+	}
+	
+	/**
+	 * gives the {@link RowOffsetIndex} of the CSV {@link File}<br>
+	 * It is created by a single scan of the row boundaries on the first call and created again, if the {@link FileStamp} of the {@link File} changed.
+	 *
+	 * @return the {@link RowOffsetIndex} of the current content of the CSV {@link File}
+	 *
+	 * @throws IOException if the CSV {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public synchronized RowOffsetIndex getRowOffsetIndex()
+	throws IOException {
+		File      file  = this.getFile();
+		FileStamp stamp = FileStamp.of(file);
+		
+		if (this.rowOffsetIndex == null || !(stamp.equals(this.rowOffsetStamp))) {
+			long start = System.nanoTime();
+			
+			this.rowOffsetIndex = RowOffsetIndex.of(file, this.getConfig().isIgnoreFirstRow());
+			this.rowOffsetStamp = stamp;
+			
+			log.debug("Indexed the positions of " + this.rowOffsetIndex.size() + " rows of " + file.getName() + " in " + ((System.nanoTime() - start) / 1000000L) + " ms.");
+		}
+		
+		return this.rowOffsetIndex;
+	}
+	
+	/**
+	 * creates a {@link Point} feature with all attributes of a {@link CsvRow}
+	 *
+	 * @param row the {@link CsvRow} to create the feature of
+	 * @return the created feature or {@code null}, if the {@link CsvRow} contains malformed coordinates or the CRS couldn't be decoded
+	 *
+	 * @since 0.4.0
+	 */
+	public GeometryFeatureObject<Point> createPointFeature(CsvRow row) {
+		try {
+			GeneralDirectPosition position = this.getPositionFromRecord(row);
+			
+			if (position == null) {
+				log.debug("Skipped the row " + row.getRecordNumber() + " of " + this.getFile().getName() + ", because it contains malformed coordinates.");
+				return null;
+			}
+			
+			return this.addAttributes(new GeometryFeatureObject<Point>(new Point(new PointImpl(position))), row);
+		} catch (FactoryException e) {
+			log.warn("Couldn't create a point, because the CRS couldn't be decoded!", e);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * creates a {@link Point} feature with all attributes of a row of already parsed CSV data
+	 *
+	 * @param data the parsed CSV data
+	 * @param row  the index of the row
+	 * @return the created feature
+	 *
+	 * @since 0.4.0
+	 */
+	public GeometryFeatureObject<Point> createPointFeature(LayerData data, int row) {
+		return this.createPointFeature(data, row, true);
+	}
+	
+	/**
+	 * creates a {@link Point} feature with the attributes of a row of already parsed CSV data
+	 *
+	 * @param data     the parsed CSV data
+	 * @param row      the index of the row
+	 * @param objectId should the object ID of the row be added?
+	 * @return the created feature
+	 *
+	 * @since 0.4.0
+	 */
+	protected GeometryFeatureObject<Point> createPointFeature(LayerData data, int row, boolean objectId) {
+		GeometryFeatureObject<Point> feature  = new GeometryFeatureObject<>(this.createPoint(data, row));
+		Map<Integer, Field>          headers  = this.getHeaders();
+		int                          idColumn = this.getConfig().getIdColumn();
+		boolean                      idAdded  = !(objectId && data.hasObjectId(row));
+		
+		for (Map.Entry<Integer, AttributeColumn> attribute : data.getAttributes().entrySet()) {
+			int column = attribute.getKey();
+			
+			if (!(idAdded) && idColumn < column) {
+				feature.addAttribute(LayerWrapper.DEFAULT_OBJECT_ID_FIELD, data.getObjectId(row));
+				idAdded = true;
+			}
+			
+			Object value = attribute.getValue().getValue(row);
+			if (value != null) {
+				feature.addAttribute(headers.get(column), value);
+			}
+		}
+		
+		if (!(idAdded)) {
+			feature.addAttribute(LayerWrapper.DEFAULT_OBJECT_ID_FIELD, data.getObjectId(row));
+		}
+		
+		return feature;
+	}
+	
+	/**
+	 * creates the {@link Point} of a row of already parsed CSV data
+	 *
+	 * @param data the parsed CSV data
+	 * @param row  the index of the row
+	 * @return the created {@link Point}
+	 *
+	 * @since 0.4.0
+	 */
+	public Point createPoint(LayerData data, int row) {
+		GeneralDirectPosition position = new GeneralDirectPosition(data.getCrs(row));
+		position.setOrdinate(0, data.getLatitude(row));
+		position.setOrdinate(1, data.getLongitude(row));
+		
+		if (data.hasElevation()) {
+			position.setOrdinate(2, data.getElevation(row));
+		}
+		
+		return new Point(new PointImpl(position));
+	}
+	
+	/**
+	 * gives the columns, which are stored as attributes of the features<br>
+	 * These are all columns with a header field except the object ID column.
+	 *
+	 * @return the indices of the attribute columns in ascending order
+	 *
+	 * @since 0.4.0
+	 */
+	protected int[] getAttributeColumns() {
+		int          idColumn = this.getConfig().getIdColumn();
+		List<Integer> columns  = new ArrayList<>(this.getHeaders().keySet());
+		Collections.sort(columns);
+		columns.remove(Integer.valueOf(idColumn));
+		
+		int[] result = new int[columns.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = columns.get(i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * gives the {@link FieldType}s of the header fields of attribute columns
+	 *
+	 * @param attributeColumns the indices of the attribute columns (see {@link #getAttributeColumns()})
+	 * @return the {@link FieldType}s in the order of {@code attributeColumns}
+	 *
+	 * @since 0.4.0
+	 */
+	protected FieldType[] getAttributeTypes(int[] attributeColumns) {
+		Map<Integer, Field> headers = this.getHeaders();
+		FieldType[]         result  = new FieldType[attributeColumns.length];
+		
+		for (int i = 0; i < result.length; i++) {
+			result[i] = headers.get(attributeColumns[i]).getType();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * parses all rows of the CSV {@link File} into columns<br>
+	 * If {@link CsvConfig#isParallel()} is set, a large {@link File} is split into chunks, which are parsed in parallel.
+	 * If {@link CsvConfig#isFollow()} is set, the {@link FileTail} of the parsed rows of a not compressed {@link File} is stored,
+	 * so appended rows could be parsed on their own.
+	 * If {@link CsvConfig#isSnapshot()} is set, an up to date {@link LayerSnapshot} is read instead and a new one is written after parsing.
+	 *
+	 * @return the parsed CSV data
+	 *
+	 * @throws IOException if an error occurred on reading the CSV {@link File}
+	 * @since 0.4.0
+	 */
+	protected LayerData parse()
+	throws IOException {
+		long      start      = System.nanoTime();
+		File      file       = this.getFile();
+		FileStamp stamp      = FileStamp.of(file);
+		boolean   snapshot   = this.getConfig().isSnapshot();
+		long      configHash = snapshot ? LayerSnapshot.hash(CsvConfig.getConfigFile(file)) : 0L;
+		
+		if (snapshot) {
+			LayerData data = this.readSnapshot(configHash);
+			
+			if (data != null) {
+				this.metrics.recordLoad(data, 0L, System.nanoTime() - start);
+				return data;
+			}
+		}
+		
+		List<Callable<LayerData.Builder>> chunks = this.getConfig().isParallel() ? this.split() : Collections.<Callable<LayerData.Builder>>emptyList();
+		LayerData.Builder                 builder;
+		
+		if (chunks.size() > 1) {
+			builder = this.parse(chunks);
+		} else if (this.isFollowed()) {
+			builder = this.parse(null, this.getConfig().isIgnoreFirstRow());
+		} else {
+			RowReader reader = this.openRows();
+			try {
+				builder = this.parse(reader);
+			} finally {
+				DataUtils.closeStream(reader);
+			}
+		}
+		
+		LayerData data = builder.build();
+		
+		this.metrics.recordLoad(data, data.size() + data.getSkippedRows(), System.nanoTime() - start);
+		this.logStats(data);
+		
+		if (data.getSkippedRows() > 0) {
+			log.warn("Skipped " + data.getSkippedRows() + " rows of " + file.getName() + ", because they contain malformed coordinates.");
+		}
+		
+		if (snapshot) {
+			this.writeSnapshot(stamp, configHash, data);
+		}
+		
+		return data;
+	}
+	
+	/**
+	 * logs the estimated heap size of parsed CSV data, how the attribute columns are stored
+	 * and how many cells of typed attribute columns couldn't be parsed
+	 *
+	 * @param data the parsed CSV data
+	 * @since 0.4.0
+	 */
+	private void logStats(LayerData data) {
+		Map<Integer, Field> headers = this.getHeaders();
+		int                 encoded = 0;
+		int                 numbers = 0;
+		
+		for (Map.Entry<Integer, AttributeColumn> attribute : data.getAttributes().entrySet()) {
+			AttributeColumn column = attribute.getValue();
+			
+			if (column instanceof DictionaryColumn && ((DictionaryColumn) column).isEncoded()) {
+				encoded++;
+			} else if (column instanceof NumberColumn) {
+				numbers++;
+				
+				int invalid = ((NumberColumn) column).getInvalidCount();
+				if (invalid > 0) {
+					log.warn(invalid + " cells of the column " + headers.get(attribute.getKey()).getName() + " of " + this.getFile().getName() + " couldn't be parsed as " + column.getType()
+					         + ", so they are missing. Configure the type of the field, if the inferred one is wrong.");
+				}
+			}
+		}
+		
+		log.info("The " + data.size() + " rows of " + this.getFile().getName() + " retain about " + (data.getHeapSize() / 1024L) + " KB on the heap ("
+		         + (data.getAttributeHeapSize() / 1024L) + " KB of attributes in " + encoded + " dictionary-encoded, " + numbers + " numeric and "
+		         + (data.getAttributes().size() - encoded - numbers) + " plain columns).");
+	}
+	
+	/**
+	 * gives the {@link File} of the {@link LayerSnapshot}
+	 *
+	 * @return the {@link File} of the {@link LayerSnapshot} in {@link CsvConfig#getSnapshotFolder()} or next to the CSV {@link File}
+	 *
+	 * @since 0.4.0
+	 */
+	public File getSnapshotFile() {
+		File file   = this.getFile().getAbsoluteFile();
+		File folder = this.getConfig().getSnapshotFolder();
+		
+		return new File(folder != null ? folder : file.getParentFile(), file.getName() + LayerSnapshot.EXTENSION);
+	}
+	
+	/**
+	 * reads the {@link LayerSnapshot} of the CSV {@link File}
+	 *
+	 * @param configHash the checksum of the current configuration {@link File}
+	 * @return the read CSV data or {@code null}, if no up to date {@link LayerSnapshot} could be read
+	 *
+	 * @since 0.4.0
+	 */
+	private LayerData readSnapshot(long configHash) {
+		File snapshot = this.getSnapshotFile();
+		long start    = System.nanoTime();
+		
+		try {
+			LayerData data = LayerSnapshot.read(snapshot, this.getFile(), configHash, this.metrics.getCrsDecodeCounter());
+			
+			if (data != null) {
+				log.info("Read " + data.size() + " rows of " + this.getFile().getName() + " from the snapshot " + snapshot + " in " + ((System.nanoTime() - start) / 1000000L) + " ms.");
+				this.logStats(data);
+			}
+			
+			return data;
+		} catch (IOException | RuntimeException e) {
+			log.warn("The snapshot " + snapshot + " couldn't be read, so " + this.getFile().getName() + " is parsed again!", e);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * writes the {@link LayerSnapshot} of the parsed CSV data<br>
+	 * An error is only logged, because the CSV data is still valid.
+	 *
+	 * @param stamp      the {@link FileStamp} of the CSV {@link File}, before it was parsed
+	 * @param configHash the checksum of the configuration {@link File}, with which the CSV {@link File} was parsed
+	 * @param data       the parsed CSV data
+	 * @since 0.4.0
+	 */
+	private void writeSnapshot(FileStamp stamp, long configHash, LayerData data) {
+		File snapshot = this.getSnapshotFile();
+		
+		try {
+			if (LayerSnapshot.write(snapshot, this.getFile(), stamp, configHash, data)) {
+				log.debug("Wrote the snapshot " + snapshot + ".");
+			} else {
+				log.debug("Didn't write the snapshot " + snapshot + ", because " + this.getFile().getName() + " changed while parsing.");
+			}
+		} catch (IOException e) {
+			log.warn("The snapshot " + snapshot + " couldn't be written!", e);
+		}
+	}
+	
+	/**
+	 * updates already parsed CSV data after the CSV {@link File} grew<br>
+	 * If only rows were appended after the {@link FileTail} of {@code previous}, only these rows are parsed and appended to a copy of the columns of {@code previous}.
+	 * Otherwise the CSV {@link File} is parsed again completely.
+	 *
+	 * @param previous the CSV data, which was parsed before the CSV {@link File} grew
+	 * @return the updated CSV data
+	 *
+	 * @throws IOException if an error occurred on reading the CSV {@link File}
+	 * @since 0.4.0
+	 */
+	protected LayerData update(LayerData previous)
+	throws IOException {
+		File     file = this.getFile();
+		FileTail tail = previous.getTail();
+		
+		if (tail == null || !(this.isFollowed())) {
+			return this.parse();
+		}
+		
+		if (!(tail.isComplete()) || !(tail.isContainedIn(file))) {
+			log.info("The parsed rows of " + file.getName() + " were changed, so it is parsed again completely.");
+			return this.parse();
+		}
+		
+		long              start    = System.nanoTime();
+		LayerData.Builder appended = this.parse(new FileRange(tail.getOffset(), Long.MAX_VALUE, tail.getRecordNumber()), false);
+		LayerData         data     = new LayerData.Builder(previous).append(appended).build();
+		
+		this.metrics.recordLoad(data, data.size() - previous.size() + data.getSkippedRows() - previous.getSkippedRows(), System.nanoTime() - start);
+		log.debug("Appended " + (data.size() - previous.size()) + " rows of " + file.getName() + ".");
+		if (data.getSkippedRows() > previous.getSkippedRows()) {
+			log.warn("Skipped " + (data.getSkippedRows() - previous.getSkippedRows()) + " appended rows of " + file.getName() + ", because they contain malformed coordinates.");
+		}
+		
+		return data;
+	}
+	
+	/**
+	 * checks, if the CSV {@link File} should be followed and could be read by a {@link MappedRowReader}<br>
+	 * A compressed {@link File} isn't followed, because appended bytes couldn't be decompressed on their own, so it is parsed again on every change.
+	 *
+	 * @return {@code true}, if the {@link FileTail} of the parsed rows should be stored
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean isFollowed() {
+		return this.getConfig().isFollow() && MappedRowReader.isSupported(Charset.defaultCharset()) && Compression.of(this.getFile()) == Compression.NONE;
+	}
+	
+	/**
+	 * splits the CSV {@link File} into chunks, which could be parsed in parallel<br>
+	 * Every chunk has at least a size of {@link #CHUNK_SIZE} and there are not more chunks than threads of the {@link ForkJoinPool#commonPool()}.
+	 * A not compressed {@link File} is split into {@link FileRange}s.
+	 * A compressed {@link File} is split into pages of rows by its {@link RowOffsetIndex}, if it consists of several compressed blocks (e.g. written by {@code bgzip}),
+	 * so every page is decompressed from its nearest block and not from the start of the {@link File}.
+	 *
+	 * @return the chunks or an empty {@link List}, if the {@link File} should be parsed on a single thread
+	 *
+	 * @throws IOException if the CSV {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	private List<Callable<LayerData.Builder>> split()
+	throws IOException {
+		File file  = this.getFile();
+		long count = Math.min(ForkJoinPool.commonPool().getParallelism(), file.length() / CsvLayer.CHUNK_SIZE);
+		
+		if (count < 2) {
+			return Collections.emptyList();
+		}
+		
+		if (!(MappedRowReader.isSupported(Charset.defaultCharset()))) {
+			log.debug("The default charset " + Charset.defaultCharset() + " isn't supported by the mapped parser, so " + file.getName() + " is parsed on a single thread.");
+			return Collections.emptyList();
+		}
+		
+		List<Callable<LayerData.Builder>> result = new ArrayList<>();
+		
+		if (Compression.of(file) == Compression.NONE) {
+			for (FileRange range : MappedRowReader.split(file, this.getConfig().isIgnoreFirstRow(), (int) count)) {
+				result.add(() -> this.parse(range, false));
+			}
+			
+			return result;
+		}
+		
+		RowOffsetIndex index = this.getRowOffsetIndex();
+		
+		if (index.getBlockCount() < 2) {
+			log.debug(file.getName() + " is compressed in a single block, so it is parsed on a single thread.");
+			return result;
+		}
+		
+		long size = index.size();
+		long rows = (size / Math.min(count, index.getBlockCount()) / RowOffsetIndex.INTERVAL + 1) * RowOffsetIndex.INTERVAL;
+		
+		for (long offset = 0; offset < size; offset += rows) {
+			long first = offset;
+			int  limit = (int) Math.min(rows, Integer.MAX_VALUE);
+			
+			result.add(() -> {
+				RowReader reader = index.open(file, first, limit);
+				
+				try {
+					return this.parse(reader);
+				} finally {
+					DataUtils.closeStream(reader);
+				}
+			});
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * parses chunks of the CSV {@link File} in parallel on the {@link ForkJoinPool#commonPool()}<br>
+	 * The partial results are merged in the order of the {@link File}, so the result is the same as parsing the {@link File} on a single thread.
+	 *
+	 * @param chunks the chunks to parse in the order of the {@link File}
+	 * @return the {@link LayerData.Builder} with all parsed rows
+	 *
+	 * @throws IOException if an error occurred on reading the CSV {@link File}
+	 * @since 0.4.0
+	 */
+	private LayerData.Builder parse(List<Callable<LayerData.Builder>> chunks)
+	throws IOException {
+		long start = System.nanoTime();
+		File file  = this.getFile();
+		
+		List<ForkJoinTask<LayerData.Builder>> tasks = new ArrayList<>();
+		for (Callable<LayerData.Builder> chunk : chunks) {
+			tasks.add(ForkJoinPool.commonPool().submit(chunk));
+		}
+		
+		LayerData.Builder result = null;
+		try {
+			for (ForkJoinTask<LayerData.Builder> task : tasks) {
+				LayerData.Builder builder = task.get();
+				
+				result = result != null ? result.append(builder) : builder;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("The parsing of " + file.getName() + " was interrupted!");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			
+			throw new IOException("Couldn't parse the CSV file: " + file.getName(), cause);
+		} finally {
+			for (ForkJoinTask<LayerData.Builder> task : tasks) {
+				task.cancel(true);
+			}
+		}
+		
+		log.debug("Parsed " + file.getName() + " in " + chunks.size() + " chunks in " + ((System.nanoTime() - start) / 1000000L) + " ms.");
+		
+		return result;
+	}
+	
+	/**
+	 * parses the rows of a {@link FileRange} of the CSV {@link File} by a {@link MappedRowReader}<br>
+	 * If {@link CsvConfig#isFollow()} is set, the {@link FileTail} after the last row is stored in the {@link LayerData.Builder}.
+	 *
+	 * @param range        the {@link FileRange} to parse or {@code null} to parse the whole {@link File}
+	 * @param skipFirstRow should the first row of {@code range} be skipped?
+	 * @return the {@link LayerData.Builder} with the parsed rows
+	 *
+	 * @throws IOException if an error occurred on reading the CSV {@link File}
+	 * @since 0.4.0
+	 */
+	private LayerData.Builder parse(FileRange range, boolean skipFirstRow)
+	throws IOException {
+		File            file   = this.getFile();
+		MappedRowReader reader = new MappedRowReader(file, range);
+		
+		try {
+			if (skipFirstRow) {
+				reader.next();
+			}
+			
+			LayerData.Builder builder = this.parse(reader);
+			
+			if (this.getConfig().isFollow()) {
+				builder.setTail(FileTail.of(file, reader.getPosition(), reader.getRecordNumber()));
+			}
+			
+			return builder;
+		} finally {
+			DataUtils.closeStream(reader);
+		}
+	}
+	
+	/**
+	 * parses all rows of a {@link RowReader} into a new {@link LayerData.Builder}<br>
+	 * Rows with malformed coordinates or a CRS, which couldn't be decoded, are skipped and counted (see {@link LayerData.Builder#skip()}).
+	 * A CRS, which couldn't be decoded, is only logged once per {@link RowReader}.
+	 *
+	 * @param reader the {@link RowReader} to read the rows from
+	 * @return the {@link LayerData.Builder} with the parsed rows
+	 *
+	 * @throws IOException if an error occurred on reading the rows
+	 * @since 0.4.0
+	 */
+	private LayerData.Builder parse(RowReader reader)
+	throws IOException {
+		CsvConfig config           = this.getConfig();
+		int       latColumn        = config.getLatColumn();
+		int       longColumn       = config.getLongColumn();
+		int       eleColumn        = config.getEleColumn();
+		int       crsColumn        = config.getCrsColumn();
+		int[]     groupColumns     = this.getGroupColumns();
+		int[]     attributeColumns = this.getAttributeColumns();
+		String[]  values           = new String[attributeColumns.length];
+		String[]  groups           = new String[groupColumns.length];
+		
+		Set<String>               failedCodes = new HashSet<>();
+		String                    lastCode    = null;
+		CoordinateReferenceSystem lastCrs     = null;
+		LayerData.Builder         builder     = new LayerData.Builder(attributeColumns, this.getAttributeTypes(attributeColumns), eleColumn >= 0, true, groupColumns.length);
+		
+		CsvRow row;
+		while ((row = reader.next()) != null) {
+			double latitude  = row.getDouble(latColumn);
+			double longitude = row.getDouble(longColumn);
+			double elevation = eleColumn >= 0 ? row.getDouble(eleColumn) : 0.0;
+			
+			if (Double.isNaN(latitude) || Double.isNaN(longitude) || Double.isNaN(elevation) || crsColumn >= row.size()) {
+				log.debug("Skipped the row " + row.getRecordNumber() + " of " + this.getFile().getName() + ", because it contains malformed coordinates.");
+				builder.skip();
+				continue;
+			}
+			
+			String code = row.get(crsColumn);
+			
+			if (!(code.equals(lastCode))) {
+				try {
+					lastCrs = CrsCache.INSTANCE.decode(code, this.metrics.getCrsDecodeCounter());
+					lastCode = code;
+				} catch (FactoryException e) {
+					if (failedCodes.add(code)) {
+						log.warn("Skipped all rows of " + this.getFile().getName() + " with the CRS " + code + ", because it couldn't be decoded: " + e.getMessage());
+					}
+					log.debug("Skipped the row " + row.getRecordNumber() + " of " + this.getFile().getName() + ", because its CRS couldn't be decoded.");
+					builder.skip();
+					continue;
+				}
+			}
+			
+			Integer objectId = this.getObjectId(row);
+			
+			for (int i = 0; i < attributeColumns.length; i++) {
+				int column = attributeColumns[i];
+				
+				values[i] = column < row.size() ? row.get(column) : null;
+			}
+			
+			for (int i = 0; i < groupColumns.length; i++) {
+				int column = groupColumns[i];
+				
+				groups[i] = column < row.size() ? row.get(column) : null;
+			}
+			
+			builder.add(lastCode, lastCrs, latitude, longitude, elevation, objectId, values, groups);
+		}
+		
+		return builder;
+	}
+	
+	/**
+	 * extracts a {@link GeneralDirectPosition} from a given {@link CSVRecord}
+	 *
+	 * @param record the {@link CSVRecord} to get the {@link GeneralDirectPosition} from
+	 * @return the extracted {@link GeneralDirectPosition} or {@code null}, if the {@link CSVRecord} contains malformed coordinates
+	 *
+	 * @throws FactoryException if the CRS could decoded from the {@link CSVRecord}
+	 * @since 0.1.0
+	 */
+	public GeneralDirectPosition getPositionFromRecord(CSVRecord record)
+	throws FactoryException {
+		return this.getPositionFromRecord(new RecordRow(record));
+	}
+	
+	/**
+	 * extracts a {@link GeneralDirectPosition} from a given {@link CsvRow}
+	 *
+	 * @param row the {@link CsvRow} to get the {@link GeneralDirectPosition} from
+	 * @return the extracted {@link GeneralDirectPosition} or {@code null}, if the {@link CsvRow} contains malformed coordinates
+	 *
+	 * @throws FactoryException if the CRS could decoded from the {@link CsvRow}
+	 * @since 0.4.0
+	 */
+	public GeneralDirectPosition getPositionFromRecord(CsvRow row)
+	throws FactoryException {
+		CsvConfig config    = this.getConfig();
+		int       z         = config.getEleColumn();
+		int       crsColumn = config.getCrsColumn();
+		double    latitude  = row.getDouble(config.getLatColumn());
+		double    longitude = row.getDouble(config.getLongColumn());
+		double    elevation = z >= 0 ? row.getDouble(z) : 0.0;
+		
+		if (Double.isNaN(latitude) || Double.isNaN(longitude) || Double.isNaN(elevation) || crsColumn >= row.size()) {
+			return null;
+		}
+		
+		GeneralDirectPosition position = new GeneralDirectPosition(CrsCache.INSTANCE.decode(row.get(crsColumn), this.metrics.getCrsDecodeCounter()));
+		position.setOrdinate(0, latitude);
+		position.setOrdinate(1, longitude);
+		
+		if (z >= 0) {
+			position.setOrdinate(2, elevation);
+		}
+		
+		return position;
+	}
+	
+	/**
+	 * adds all meta attributes to a {@link GeometryFeatureObject}
+	 *
+	 * @param <T>     the geometry type
+	 * @param feature the {@link GeometryFeatureObject} to add the attributes to
+	 * @param record  the {@link CSVRecord} to get the attribute values from
+	 * @return the same {@link GeometryFeatureObject} with the added attributes
+	 *
+	 * @since 0.1.0
+	 */
+	public <T extends GeometryObject> GeometryFeatureObject<T> addAttributes(GeometryFeatureObject<T> feature, CSVRecord record) {
+		return this.addAttributes(feature, new RecordRow(record));
+	}
+	
+	/**
+	 * adds all meta attributes to a {@link GeometryFeatureObject}<br>
+	 * Only the cells of the header fields and the object ID are read from the {@link CsvRow}.
+	 * The cells are converted to the {@link FieldType}s of their header fields and omitted, if they are empty or malformed numbers or dates.
+	 * If no object ID column is configured, the synthetic object ID of the {@link CsvRow} is added (see {@link #getObjectId(CsvRow)}).
+	 *
+	 * @param <T>     the geometry type
+	 * @param feature the {@link GeometryFeatureObject} to add the attributes to
+	 * @param row     the {@link CsvRow} to get the attribute values from
+	 * @return the same {@link GeometryFeatureObject} with the added attributes
+	 *
+	 * @since 0.4.0
+	 */
+	public <T extends GeometryObject> GeometryFeatureObject<T> addAttributes(GeometryFeatureObject<T> feature, CsvRow row) {
+		Map<Integer, Field> headers  = this.getHeaders();
+		int                 idColumn = this.getConfig().getIdColumn();
+		
+		if (idColumn < 0) {
+			this.addObjectId(feature, row);
+		}
+		
+		for (int i = 0; i < row.size(); i++) {
+			if (idColumn != i) {
+				Field field = headers.get(i);
+				
+				if (field != null) {
+					Object value = ValueParser.parse(field.getType(), row.get(i));
+					
+					if (value != null) {
+						feature.addAttribute(field, value);
+					}
+				}
+			} else {
+				this.addObjectId(feature, row);
+			}
+		}
+		
+		return feature;
+	}
+	
+	/**
+	 * adds the object ID of a {@link CsvRow} to a {@link GeometryFeatureObject}, if it is valid
+	 *
+	 * @param feature the {@link GeometryFeatureObject} to add the object ID to
+	 * @param row     the {@link CsvRow} to get the object ID from
+	 * @since 0.4.0
+	 */
+	private void addObjectId(GeometryFeatureObject<?> feature, CsvRow row) {
+		Integer objectId = this.getObjectId(row);
+		
+		if (objectId != null) {
+			feature.addAttribute(LayerWrapper.DEFAULT_OBJECT_ID_FIELD, objectId);
+		}
+	}
+	
+	/**
+	 * gives the object ID of a {@link CsvRow}<br>
+	 * If no object ID column is configured, the number of the {@link CsvRow} in the CSV {@link File} is used as synthetic object ID,
+	 * which is the same for parsed and streamed rows and doesn't change, if rows are appended.
+	 *
+	 * @param row the {@link CsvRow} to get the object ID of
+	 * @return the object ID or {@code null}, if the cell of the object ID column is missing or no valid integer
+	 *
+	 * @since 0.4.0
+	 */
+	public Integer getObjectId(CsvRow row) {
+		int idColumn = this.getConfig().getIdColumn();
+		
+		if (idColumn < 0) {
+			long recordNumber = row.getRecordNumber();
+			
+			return recordNumber <= Integer.MAX_VALUE ? (int) recordNumber : null;
+		}
+		
+		if (idColumn >= row.size()) {
+			return null;
+		}
+		
+		String cell = row.get(idColumn);
+		try {
+			return Integer.parseInt(cell);
+		} catch (NumberFormatException e) {
+			log.warn("Found a not valid object ID (" + cell + ") in column: " + idColumn, e);
+		}
+		
+		return null;
+	}
+}
@@ -1,80 +1,99 @@
-package de.conterra.babelfish.csv.layers;
-
-import de.conterra.babelfish.csv.CsvConfig;
-import de.conterra.babelfish.csv.Group;
-import de.conterra.babelfish.csv.SimpleFeature;
-import de.conterra.babelfish.plugin.v10_02.feature.Feature;
-import de.conterra.babelfish.plugin.v10_02.feature.Field;
-import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
-import de.conterra.babelfish.plugin.v10_02.object.geometry.Multipoint;
-import de.conterra.babelfish.plugin.v10_02.object.renderer.RendererObject;
-import de.conterra.babelfish.plugin.v10_02.object.renderer.SimpleRenderer;
-import de.conterra.babelfish.plugin.v10_02.object.symbol.PictureMarkerSymbol;
-import org.geotools.geometry.iso.aggregate.MultiPointImpl;
-
-import java.io.File;
-import java.io.IOException;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Set;
-
-/**
- * defines a {@link CsvLayer} of {@link Multipoint}s
- *
- * @author ChrissW-R1
- * @version 0.1.0
- * @since 0.1.0
- */
-public class CsvMultiPointLayer
-		extends CsvGroupedLayer<Multipoint, GeometryFeatureObject<Multipoint>> {
-	/**
-	 * the {@link RendererObject}
-	 *
-	 * @since 0.1.0
-	 */
-	private final SimpleRenderer renderer;
-	
-	/**
-	 * constructor, with given id and {@link File}
-	 *
-	 * @param id   the unique identifier
-	 * @param file the {@link File} to parse the CSV data from
-	 * @throws IOException              if no {@link CsvConfig} could loaded
-	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
-	 * @see CsvLayer#CsvLayer(int, File)
-	 * @since 0.1.0
-	 */
-	public CsvMultiPointLayer(int id, File file)
-			throws IOException, IllegalArgumentException {
-		super(id, file);
-		
-		this.renderer = new SimpleRenderer(new PictureMarkerSymbol(this.getConfig().getPointImage()), "Content of " + this.getName());
-	}
-	
-	@Override
-	public Class<Multipoint> getGeometryType() {
-		return Multipoint.class;
-	}
-	
-	@Override
-	public RendererObject getRenderer() {
-		return this.renderer;
-	}
-	
-	@Override
-	public Set<? extends Feature<GeometryFeatureObject<Multipoint>>> getFeatures() {
-		Set<Feature<GeometryFeatureObject<Multipoint>>> result = new LinkedHashSet<>();
-		
-		for (Group group : this.getGroups()) {
-			GeometryFeatureObject<Multipoint> multiPoint = new GeometryFeatureObject<>(new Multipoint(new MultiPointImpl(group.getCrs(), new LinkedHashSet<>(group.getPoints()))));
-			
-			Map<? extends Field, ? extends String> attributes = group.getAttributes();
-			for (Field field : attributes.keySet())
-				multiPoint.addAttribute(field, attributes.get(field));
-			
-			result.add(new SimpleFeature<>(multiPoint));
-		}
-		
-		return result;
-	}
+package de.conterra.babelfish.csv.layers;
+
+import de.conterra.babelfish.csv.CsvConfig;
+import de.conterra.babelfish.csv.CsvDescriptor;
+import de.conterra.babelfish.csv.Group;
+import de.conterra.babelfish.csv.PopupTemplate;
+import de.conterra.babelfish.csv.SimpleFeature;
+import de.conterra.babelfish.csv.data.LayerData;
+import de.conterra.babelfish.csv.index.FeatureIndex;
+import de.conterra.babelfish.plugin.v10_02.feature.Feature;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.Multipoint;
+import de.conterra.babelfish.plugin.v10_02.object.renderer.RendererObject;
+import de.conterra.babelfish.plugin.v10_02.object.renderer.SimpleRenderer;
+import de.conterra.babelfish.plugin.v10_02.object.symbol.PictureMarkerSymbol;
+import org.geotools.geometry.iso.aggregate.MultiPointImpl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * defines a {@link CsvLayer} of {@link Multipoint}s
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+public class CsvMultiPointLayer
+		extends CsvGroupedLayer<Multipoint, GeometryFeatureObject<Multipoint>> {
+	/**
+	 * the {@link RendererObject}
+	 *
+	 * @since 0.1.0
+	 */
+	private final SimpleRenderer renderer;
+	
+	/**
+	 * constructor, with given id and {@link File}
+	 *
+	 * @param id   the unique identifier
+	 * @param file the {@link File} to parse the CSV data from
+	 * @throws IOException              if no {@link CsvConfig} could loaded
+	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
+	 * @see CsvLayer#CsvLayer(int, File)
+	 * @since 0.1.0
+	 */
+	public CsvMultiPointLayer(int id, File file)
+			throws IOException, IllegalArgumentException {
+		this(id, CsvDescriptor.load(file));
+	}
+	
+	/**
+	 * constructor, with given id and already loaded {@link CsvDescriptor}
+	 *
+	 * @param id         the unique identifier
+	 * @param descriptor the description of the CSV {@link File} to parse the data from
+	 * @see CsvLayer#CsvLayer(int, CsvDescriptor)
+	 * @since 0.4.0
+	 */
+	public CsvMultiPointLayer(int id, CsvDescriptor descriptor) {
+		super(id, descriptor);
+		
+		this.renderer = new SimpleRenderer(new PictureMarkerSymbol(this.getConfig().getPointImage()), "Content of " + this.getName());
+	}
+	
+	@Override
+	public Class<Multipoint> getGeometryType() {
+		return Multipoint.class;
+	}
+	
+	@Override
+	public RendererObject getRenderer() {
+		return this.renderer;
+	}
+	
+	@Override
+	protected FeatureIndex<Feature<GeometryFeatureObject<Multipoint>>> createFeatureIndex(LayerData data) {
+		FeatureIndex.Builder<Feature<GeometryFeatureObject<Multipoint>>> result = new FeatureIndex.Builder<>();
+		
+		PopupTemplate template = this.getPopupTemplate(data);
+		
+		int index = 0;
+		for (Group group : this.getGroups(data)) {
+			GeometryFeatureObject<Multipoint> multiPoint = new GeometryFeatureObject<>(new Multipoint(new MultiPointImpl(group.getCrs(), new LinkedHashSet<>(group.getPoints()))));
+			
+			Map<? extends Field, ? extends String> attributes = group.getAttributes();
+			for (Field field : attributes.keySet())
+				multiPoint.addAttribute(field, attributes.get(field));
+			
+			this.addObjectId(data, index++, multiPoint);
+			result.add(new SimpleFeature<>(multiPoint, template, group), group.getPoints());
+		}
+		
+		return result.build();
+	}
 }
\ No newline at end of file
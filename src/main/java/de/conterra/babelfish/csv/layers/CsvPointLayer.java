@@ -1,103 +1,470 @@
-package de.conterra.babelfish.csv.layers;
-
-import de.conterra.babelfish.csv.CsvConfig;
-import de.conterra.babelfish.csv.SimpleFeature;
-import de.conterra.babelfish.plugin.v10_02.feature.Feature;
-import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
-import de.conterra.babelfish.plugin.v10_02.object.geometry.Point;
-import de.conterra.babelfish.plugin.v10_02.object.renderer.RendererObject;
-import de.conterra.babelfish.plugin.v10_02.object.renderer.SimpleRenderer;
-import de.conterra.babelfish.plugin.v10_02.object.symbol.PictureMarkerSymbol;
-import de.conterra.babelfish.util.DataUtils;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVRecord;
-import org.geotools.geometry.iso.primitive.PointImpl;
-import org.opengis.referencing.FactoryException;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.Reader;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.Set;
-
-/**
- * defines {@link CsvLayer} of {@link Point}s
- *
- * @author ChrissW-R1
- * @version 0.4.0
- * @since 0.1.0
- */
-@Slf4j
-public class CsvPointLayer
-		extends CsvLayer<Point, GeometryFeatureObject<Point>> {
-	/**
-	 * the {@link RendererObject}
-	 *
-	 * @since 0.1.0
-	 */
-	private final SimpleRenderer renderer;
-	
-	/**
-	 * constructor, with given id and {@link File}
-	 *
-	 * @param id   the unique identifier
-	 * @param file the {@link File} to parse the CSV data from
-	 * @throws IOException              if no {@link CsvConfig} could loaded
-	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
-	 * @see CsvLayer#CsvLayer(int, File)
-	 * @since 0.1.0
-	 */
-	public CsvPointLayer(int id, File file)
-	throws IOException, IllegalArgumentException {
-		super(id, file);
-		
-		this.renderer = new SimpleRenderer(new PictureMarkerSymbol(this.getConfig().getPointImage()), "Content of " + this.getName());
-	}
-	
-	@Override
-	public Class<Point> getGeometryType() {
-		return Point.class;
-	}
-	
-	@Override
-	public RendererObject getRenderer() {
-		return this.renderer;
-	}
-	
-	@Override
-	public Set<? extends Feature<GeometryFeatureObject<Point>>> getFeatures() {
-		Set<Feature<GeometryFeatureObject<Point>>> result = new LinkedHashSet<>();
-		
-		File   file     = this.getFile();
-		String fileName = file.getName();
-		
-		Reader reader = null;
-		try {
-			reader = new FileReader(file);
-			Iterator<CSVRecord> records = CSVFormat.EXCEL.parse(reader).iterator();
-			
-			if (this.getConfig().isIgnoreFirstRow() && records.hasNext()) {
-				records.next();
-			}
-			
-			while (records.hasNext()) {
-				CSVRecord record = records.next();
-				
-				try {
-					result.add(new SimpleFeature<GeometryFeatureObject<Point>>(this.addAttributes(new GeometryFeatureObject<Point>(new Point(new PointImpl(this.getPositionFromRecord(record)))), record)));
-				} catch (FactoryException e) {
-					log.warn("Couldn't create a point, because the CRS couldn't be decoded!", e);
-				}
-			}
-		} catch (IOException e) {
-			log.error("An error occurred on reading the CSV file " + fileName + "!", e);
-		}
-		
-		DataUtils.closeStream(reader);
-		
-		return result;
-	}
-}
+package de.conterra.babelfish.csv.layers;
+
+import de.conterra.babelfish.csv.CsvConfig;
+import de.conterra.babelfish.csv.CsvDescriptor;
+import de.conterra.babelfish.csv.PopupTemplate;
+import de.conterra.babelfish.csv.SimpleFeature;
+import de.conterra.babelfish.csv.SimpleField;
+import de.conterra.babelfish.csv.SimplePopup;
+import de.conterra.babelfish.csv.data.LayerData;
+import de.conterra.babelfish.csv.data.StreamingSet;
+import de.conterra.babelfish.csv.index.ClusterGrid;
+import de.conterra.babelfish.csv.index.FeatureIndex;
+import de.conterra.babelfish.csv.index.ObjectIdIndex;
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.csv.query.WhereClause;
+import de.conterra.babelfish.plugin.v10_02.feature.Feature;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.wrapper.LayerWrapper;
+import de.conterra.babelfish.plugin.v10_02.object.feature.GeometryFeatureObject;
+import de.conterra.babelfish.plugin.v10_02.object.geometry.Point;
+import de.conterra.babelfish.plugin.v10_02.object.renderer.RendererObject;
+import de.conterra.babelfish.plugin.v10_02.object.renderer.SimpleRenderer;
+import de.conterra.babelfish.plugin.v10_02.object.symbol.PictureMarkerSymbol;
+import lombok.extern.slf4j.Slf4j;
+import org.opengis.geometry.DirectPosition;
+import org.opengis.referencing.FactoryException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * defines {@link CsvLayer} of {@link Point}s
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.1.0
+ */
+@Slf4j
+public class CsvPointLayer
+		extends CsvLayer<Point, GeometryFeatureObject<Point>> {
+	/**
+	 * the {@link RendererObject}
+	 *
+	 * @since 0.1.0
+	 */
+	private final SimpleRenderer                                                                    renderer;
+	/**
+	 * the {@link LayerData.Key} of the {@link FeatureIndex}es of the clusters, mapped by the binary exponent of their cell size
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerData.Key<Map<Integer, FeatureIndex<Feature<GeometryFeatureObject<Point>>>>> clusterIndexKey = new LayerData.Key<>("clusterIndex");
+	
+	/**
+	 * constructor, with given id and {@link File}
+	 *
+	 * @param id   the unique identifier
+	 * @param file the {@link File} to parse the CSV data from
+	 * @throws IOException              if no {@link CsvConfig} could loaded
+	 * @throws IllegalArgumentException if the given {@link File} is a configuration {@link File} and no data {@link File}
+	 * @see CsvLayer#CsvLayer(int, File)
+	 * @since 0.1.0
+	 */
+	public CsvPointLayer(int id, File file)
+	throws IOException, IllegalArgumentException {
+		this(id, CsvDescriptor.load(file));
+	}
+	
+	/**
+	 * constructor, with given id and already loaded {@link CsvDescriptor}
+	 *
+	 * @param id         the unique identifier
+	 * @param descriptor the description of the CSV {@link File} to parse the data from
+	 * @see CsvLayer#CsvLayer(int, CsvDescriptor)
+	 * @since 0.4.0
+	 */
+	public CsvPointLayer(int id, CsvDescriptor descriptor) {
+		super(id, descriptor);
+		
+		this.renderer = new SimpleRenderer(new PictureMarkerSymbol(this.getConfig().getPointImage()), "Content of " + this.getName());
+	}
+	
+	@Override
+	public Class<Point> getGeometryType() {
+		return Point.class;
+	}
+	
+	@Override
+	public RendererObject getRenderer() {
+		return this.renderer;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * If {@link CsvConfig#isStreaming()} is set, the returned {@link Set} parses the {@link Feature}s one by one on each iteration,
+	 * instead of holding all of them in memory.
+	 */
+	@Override
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getFeatures() {
+		if (this.getConfig().isStreaming()) {
+			return this.stream(this::openRows, this::createFeature);
+		}
+		
+		return super.getFeatures();
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * If {@link CsvConfig#isStreaming()} is set, the returned {@link Set} parses the {@link Feature}s one by one on each iteration
+	 * and filters them by their position, instead of using the spatial index.
+	 */
+	@Override
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getFeatures(double minFirst, double minSecond, double maxFirst, double maxSecond) {
+		if (this.getConfig().isStreaming()) {
+			return this.stream(this::openRows, row -> this.createFeature(row, minFirst, minSecond, maxFirst, maxSecond));
+		}
+		
+		return super.getFeatures(minFirst, minSecond, maxFirst, maxSecond);
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * If {@link CsvConfig#isStreaming()} is set, the returned {@link Set} seeks to the first row of the page by the {@link #getRowOffsetIndex()}
+	 * and parses the {@link Feature}s of the page on each iteration. Then the rows are counted instead of the {@link Feature}s,
+	 * so a page contains less {@link Feature}s, if some of its rows contain malformed coordinates.
+	 */
+	@Override
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getPage(long offset, int count)
+	throws IllegalArgumentException {
+		if (this.getConfig().isStreaming()) {
+			if (offset < 0 || count < 0) {
+				throw new IllegalArgumentException("The offset and count of a page mustn't be negative, but are " + offset + " and " + count + "!");
+			}
+			
+			return this.stream(() -> this.openRows(offset, count), this::createFeature);
+		}
+		
+		return super.getPage(offset, count);
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * If {@link CsvConfig#isStreaming()} is set, the {@link WhereClause} is evaluated on the raw {@link CsvRow}s,
+	 * so only the {@link Feature}s of the accepted {@link CsvRow}s are built.
+	 */
+	@Override
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getFeatures(WhereClause where) {
+		if (this.getConfig().isStreaming() && !(where.isAll())) {
+			return this.stream(this::openRows, row -> where.test(row) ? this.createFeature(row) : null);
+		}
+		
+		return super.getFeatures(where);
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * If {@link CsvConfig#isStreaming()} is set, the {@link WhereClause} is evaluated on the raw {@link CsvRow}s,
+	 * so only the {@link Feature}s of the accepted {@link CsvRow}s are built and filtered by their position.
+	 */
+	@Override
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getFeatures(WhereClause where, double minFirst, double minSecond, double maxFirst, double maxSecond) {
+		if (this.getConfig().isStreaming() && !(where.isAll())) {
+			return this.stream(this::openRows, row -> where.test(row) ? this.createFeature(row, minFirst, minSecond, maxFirst, maxSecond) : null);
+		}
+		
+		return super.getFeatures(where, minFirst, minSecond, maxFirst, maxSecond);
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * No {@link Feature} is built. If {@link CsvConfig#isStreaming()} is set, only the coordinates of the accepted {@link CsvRow}s are parsed.
+	 */
+	@Override
+	public int count(WhereClause where) {
+		long start = this.getMetrics().start();
+		try {
+			if (this.getConfig().isStreaming()) {
+				return new StreamingSet<>(this::openRows, row -> where.test(row) && this.hasPosition(row) ? Boolean.TRUE : null).size();
+			}
+			
+			return super.count(where);
+		} finally {
+			this.getMetrics().stop(start);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * No {@link Feature} is built. If {@link CsvConfig#isStreaming()} is set, only the coordinates and object IDs of the accepted {@link CsvRow}s are parsed.
+	 */
+	@Override
+	public int[] getObjectIds(WhereClause where) {
+		long start = this.getMetrics().start();
+		try {
+			if (this.getConfig().isStreaming()) {
+				Set<Integer> objectIds = new StreamingSet<>(this::openRows, row -> where.test(row) && this.hasPosition(row) ? this.getObjectId(row) : null);
+				int[]        result    = new int[16];
+				int          count     = 0;
+				
+				for (int objectId : objectIds) {
+					if (count == result.length) {
+						result = Arrays.copyOf(result, 2 * count);
+					}
+					result[count++] = objectId;
+				}
+				
+				return Arrays.copyOf(result, count);
+			}
+			
+			LayerData    data   = this.getData();
+			IntPredicate filter = where.bind(data);
+			int[]        result = new int[data.size()];
+			int          count  = 0;
+			
+			for (int row = 0; row < data.size(); row++) {
+				if (data.hasObjectId(row) && filter.test(row)) {
+					result[count++] = data.getObjectId(row);
+				}
+			}
+			
+			return Arrays.copyOf(result, count);
+		} finally {
+			this.getMetrics().stop(start);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The rows of the object IDs are looked up in the {@link ObjectIdIndex}, so only the found {@link Feature}s are built.
+	 * If {@link CsvConfig#isStreaming()} is set, the object IDs are compared on the raw {@link CsvRow}s instead.
+	 */
+	@Override
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getFeatures(int... objectIds) {
+		if (this.getConfig().isStreaming()) {
+			int[] sorted = objectIds.clone();
+			Arrays.sort(sorted);
+			
+			return this.stream(this::openRows, row -> {
+				Integer objectId = this.getObjectId(row);
+				
+				return objectId != null && Arrays.binarySearch(sorted, objectId) >= 0 ? this.createFeature(row) : null;
+			});
+		}
+		
+		return super.getFeatures(objectIds);
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The object IDs are taken of the object ID column or are the synthetic IDs of the rows, if no object ID column is configured.
+	 */
+	@Override
+	public Field getObjectIdField() {
+		return LayerWrapper.DEFAULT_OBJECT_ID_FIELD;
+	}
+	
+	/**
+	 * gives all clusters of the {@link Point}s at a resolution<br>
+	 * The {@link Point}s are aggregated into the cells of a grid, which are {@link CsvConfig#getClusterSize()} pixels wide.
+	 * Every non-empty cell is represented by the {@link Feature} of its {@link Point}, which is nearest to the centroid of its {@link Point}s,
+	 * extended by the number and the bounding box of its {@link Point}s (see {@link SimpleField#CLUSTER_COUNT_FIELD}).
+	 *
+	 * @param resolution the size of a pixel in the units of the CSV data (see {@link #getResolution(double)})
+	 * @return a {@link Set} of all clusters in the order of their first {@link Point}
+	 *
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getClusters(double resolution) {
+		long start = this.getMetrics().start();
+		try {
+			return this.getClusterIndex(this.getData(), resolution).getFeatures();
+		} finally {
+			this.getMetrics().stop(start);
+		}
+	}
+	
+	/**
+	 * gives all clusters of the {@link Point}s at a resolution, which bounding box intersects a given bounding box
+	 *
+	 * @param resolution the size of a pixel in the units of the CSV data (see {@link #getResolution(double)})
+	 * @param minFirst   the minimum of the first axis
+	 * @param minSecond  the minimum of the second axis
+	 * @param maxFirst   the maximum of the first axis
+	 * @param maxSecond  the maximum of the second axis
+	 * @return a {@link Set} of all found clusters in the order of their first {@link Point}
+	 *
+	 * @see #getClusters(double)
+	 * @since 0.4.0
+	 */
+	public Set<? extends Feature<GeometryFeatureObject<Point>>> getClusters(double resolution, double minFirst, double minSecond, double maxFirst, double maxSecond) {
+		long start = this.getMetrics().start();
+		try {
+			return this.getClusterIndex(this.getData(), resolution).getFeatures(minFirst, minSecond, maxFirst, maxSecond);
+		} finally {
+			this.getMetrics().stop(start);
+		}
+	}
+	
+	/**
+	 * gives the {@link FeatureIndex} of the clusters of already parsed CSV data<br>
+	 * The size of the cells is rounded down to a power of two, so all resolutions of a zoom level share one {@link FeatureIndex},
+	 * which is created on the first call and held until the CSV data is parsed again.
+	 * The clusters are aggregated of the parsed CSV data, even if {@link CsvConfig#isStreaming()} is set.
+	 * The contents of their {@link SimplePopup}s aren't cached, so they couldn't collide with the ones of the {@link Feature}s of their representative rows.
+	 * A cluster is identified by the binary exponent of its cell size in the upper and its cell in the lower 32 bits of a {@code long}.
+	 *
+	 * @param data       the parsed CSV data
+	 * @param resolution the size of a pixel in the units of the CSV data
+	 * @return the {@link FeatureIndex} of all clusters in {@code data}
+	 * or the {@link FeatureIndex} of all {@link Feature}s, if {@link CsvConfig#getClusterSize()} is {@code 0}
+	 *
+	 * @since 0.4.0
+	 */
+	protected FeatureIndex<Feature<GeometryFeatureObject<Point>>> getClusterIndex(LayerData data, double resolution) {
+		double size = resolution * this.getConfig().getClusterSize();
+		
+		if (!(size > 0.0)) {
+			return this.getFeatureIndex(data);
+		}
+		
+		return data.derive(this.clusterIndexKey, parsed -> new ConcurrentHashMap<>()).computeIfAbsent(Math.getExponent(size), level -> {
+			ClusterGrid   grid     = ClusterGrid.of(data.getLatitudes(), data.getLongitudes(), data.size(), Math.scalb(1.0, level));
+			PopupTemplate template = this.getPopupTemplate(data);
+			
+			log.debug("Aggregated " + data.size() + " points of " + this.getFile().getName() + " into " + grid.size() + " clusters with a cell size of " + grid.getCellSize() + ".");
+			
+			return grid.toFeatureIndex(cell -> new SimpleFeature<>(this.createClusterFeature(data, grid, cell), template, null, ((long) level << 32) | cell), CsvPointLayer::locate);
+		});
+	}
+	
+	/**
+	 * creates the representative {@link GeometryFeatureObject} of a cell
+	 *
+	 * @param data the parsed CSV data
+	 * @param grid the {@link ClusterGrid} of {@code data}
+	 * @param cell the index of the cell
+	 * @return the {@link GeometryFeatureObject} of the representative row of the cell with the number and the bounding box of its {@link Point}s,
+	 * but without an object ID, so it couldn't be mistaken for the {@link Feature} of the representative row
+	 *
+	 * @since 0.4.0
+	 */
+	private GeometryFeatureObject<Point> createClusterFeature(LayerData data, ClusterGrid grid, int cell) {
+		GeometryFeatureObject<Point> feature = this.createPointFeature(data, grid.getRow(cell), false);
+		
+		feature.addAttribute(SimpleField.CLUSTER_COUNT_FIELD, grid.getCount(cell));
+		feature.addAttribute(SimpleField.CLUSTER_MIN_LAT_FIELD, grid.getMinFirst(cell));
+		feature.addAttribute(SimpleField.CLUSTER_MIN_LON_FIELD, grid.getMinSecond(cell));
+		feature.addAttribute(SimpleField.CLUSTER_MAX_LAT_FIELD, grid.getMaxFirst(cell));
+		feature.addAttribute(SimpleField.CLUSTER_MAX_LON_FIELD, grid.getMaxSecond(cell));
+		
+		return feature;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The {@link WhereClause} is evaluated on the columns of the parsed CSV data, so the {@link Feature}s are only built, if they are accepted.
+	 */
+	@Override
+	protected IntPredicate createFilter(LayerData data, FeatureIndex<Feature<GeometryFeatureObject<Point>>> index, WhereClause where) {
+		return where.bind(data);
+	}
+	
+	/**
+	 * checks, if a {@link CsvRow} contains valid coordinates, of which a {@link Feature} could be created
+	 *
+	 * @param row the {@link CsvRow} to check
+	 * @return {@code true}, if the coordinates and the CRS of the {@link CsvRow} are valid
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean hasPosition(CsvRow row) {
+		try {
+			return this.getPositionFromRecord(row) != null;
+		} catch (FactoryException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * creates a {@link Feature} of a {@link CsvRow}, if its position is inside a given bounding box
+	 *
+	 * @param row       the {@link CsvRow} to create the {@link Feature} of
+	 * @param minFirst  the minimum of the first axis
+	 * @param minSecond the minimum of the second axis
+	 * @param maxFirst  the maximum of the first axis
+	 * @param maxSecond the maximum of the second axis
+	 * @return the created {@link Feature} or {@code null}, if the position is outside of the bounding box or the {@link CsvRow} is malformed
+	 *
+	 * @since 0.4.0
+	 */
+	private Feature<GeometryFeatureObject<Point>> createFeature(CsvRow row, double minFirst, double minSecond, double maxFirst, double maxSecond) {
+		Feature<GeometryFeatureObject<Point>> feature = this.createFeature(row);
+		
+		if (feature != null) {
+			DirectPosition position = feature.getFeature().getGeometry().getDirectPosition();
+			double         first    = position.getOrdinate(0);
+			double         second   = position.getOrdinate(1);
+			
+			if (first >= minFirst && first <= maxFirst && second >= minSecond && second <= maxSecond) {
+				return feature;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * creates a {@link Feature} of a {@link CsvRow}
+	 *
+	 * @param row the {@link CsvRow} to create the {@link Feature} of
+	 * @return the created {@link Feature} or {@code null}, if the {@link CsvRow} contains malformed coordinates or the CRS couldn't be decoded
+	 *
+	 * @since 0.4.0
+	 */
+	private Feature<GeometryFeatureObject<Point>> createFeature(CsvRow row) {
+		GeometryFeatureObject<Point> feature = this.createPointFeature(row);
+		
+		return feature != null ? new SimpleFeature<>(feature) : null;
+	}
+	
+	/**
+	 * creates a {@link StreamingSet}, which records the latency of every pass over it in the {@link #getMetrics()},
+	 * because the {@link Feature}s are only parsed, while the returned {@link Set} is iterated
+	 *
+	 * @param <T>    the type of the elements
+	 * @param source the {@link StreamingSet.Source} of the {@link CsvRow}s
+	 * @param mapper the function to create an element of a {@link CsvRow}, which returns {@code null} to skip a {@link CsvRow}
+	 * @return the created {@link StreamingSet}
+	 *
+	 * @since 0.4.0
+	 */
+	private <T> StreamingSet<T> stream(StreamingSet.Source source, Function<CsvRow, T> mapper) {
+		return new StreamingSet<>(source, mapper, this.getMetrics()::record);
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The {@link Feature}s are created of the columns of the parsed CSV data on every iteration, so they aren't held in memory.
+	 */
+	@Override
+	protected FeatureIndex<Feature<GeometryFeatureObject<Point>>> createFeatureIndex(LayerData data) {
+		double[]      latitudes  = data.getLatitudes();
+		double[]      longitudes = data.getLongitudes();
+		PopupTemplate template   = this.getPopupTemplate(data);
+		
+		return new FeatureIndex<>(data.size(), row -> new SimpleFeature<>(this.createPointFeature(data, row), template, row), CsvPointLayer::locate, latitudes, longitudes, latitudes, longitudes);
+	}
+	
+	/**
+	 * gives the index, at which a {@link Feature} could be contained in the {@link FeatureIndex} of the rows or of the clusters
+	 *
+	 * @param feature the object to locate
+	 * @return the lower 32 bits of the numeric identifier of a {@link SimpleFeature} (see {@link SimpleFeature#getId()}) or {@code -1}, if it has none
+	 *
+	 * @since 0.4.0
+	 */
+	private static int locate(Object feature) {
+		if (feature instanceof SimpleFeature && ((SimpleFeature<?>) feature).getId() instanceof Number) {
+			return (int) ((Number) ((SimpleFeature<?>) feature).getId()).longValue();
+		}
+		
+		return -1;
+	}
+}
@@ -1,8 +1,8 @@
-/**
- * package of all {@link de.conterra.babelfish.plugin.v10_02.feature.FeatureLayer}s, with different geometry types
- *
- * @version 0.1.0
- * @author ChrissW-R1
- * @since 0.1.0
- */
+/**
+ * package of all {@link de.conterra.babelfish.plugin.v10_02.feature.FeatureLayer}s, with different geometry types
+ *
+ * @version 0.1.0
+ * @author ChrissW-R1
+ * @since 0.1.0
+ */
 package de.conterra.babelfish.csv.layers;
\ No newline at end of file
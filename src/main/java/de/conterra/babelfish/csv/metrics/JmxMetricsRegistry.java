@@ -0,0 +1,103 @@
+package de.conterra.babelfish.csv.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * defines a {@link MetricsRegistry}, which registers the {@link LayerMetrics} as MBeans at the platform {@link MBeanServer}<br>
+ * The MBean of a CSV layer is named {@code de.conterra.babelfish.csv:type=CsvLayer,name=<name of the CSV file>}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@Slf4j
+public class JmxMetricsRegistry
+		implements MetricsRegistry {
+	/**
+	 * the domain of the names of the MBeans
+	 *
+	 * @since 0.4.0
+	 */
+	public static final String             DOMAIN   = "de.conterra.babelfish.csv";
+	/**
+	 * the instance, which registers at the platform {@link MBeanServer}
+	 *
+	 * @since 0.4.0
+	 */
+	public static final JmxMetricsRegistry INSTANCE = new JmxMetricsRegistry();
+	
+	/**
+	 * the registered {@link LayerMetrics} by the names of their MBeans
+	 *
+	 * @since 0.4.0
+	 */
+	private final ConcurrentMap<ObjectName, LayerMetrics> registered = new ConcurrentHashMap<>();
+	
+	/**
+	 * private standard constructor, to get a singleton
+	 *
+	 * @since 0.4.0
+	 */
+	private JmxMetricsRegistry() {
+	}
+	
+	/**
+	 * gives the name of the MBean of {@link LayerMetrics}
+	 *
+	 * @param metrics the {@link LayerMetrics}
+	 * @return the {@link ObjectName} of the MBean
+	 *
+	 * @throws JMException if the name of the CSV layer couldn't be used in an {@link ObjectName}
+	 * @since 0.4.0
+	 */
+	public static ObjectName getObjectName(LayerMetrics metrics)
+	throws JMException {
+		return new ObjectName(JmxMetricsRegistry.DOMAIN + ":type=CsvLayer,name=" + ObjectName.quote(metrics.getName()));
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * A previously registered MBean with the same name (e.g. of a CSV file with the same name in another folder) is replaced.
+	 */
+	@Override
+	public void register(LayerMetrics metrics) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName  name   = JmxMetricsRegistry.getObjectName(metrics);
+			
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			
+			server.registerMBean(metrics, name);
+			this.registered.put(name, metrics);
+		} catch (JMException | SecurityException e) {
+			log.warn("The metrics of the CSV layer " + metrics.getName() + " couldn't be registered at JMX!", e);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The MBean is only removed, if it is still the registered one of the name.
+	 */
+	@Override
+	public void unregister(LayerMetrics metrics) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName  name   = JmxMetricsRegistry.getObjectName(metrics);
+			
+			if (this.registered.remove(name, metrics) && server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException | SecurityException e) {
+			log.warn("The metrics of the CSV layer " + metrics.getName() + " couldn't be unregistered from JMX!", e);
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package de.conterra.babelfish.csv.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * defines a lock-free histogram of latencies with logarithmic buckets<br>
+ * Every power of two is divided into {@link #SUB_BUCKETS} linear buckets, so a percentile is given with a relative error of at most 12.5 %.
+ * Recording a latency is a single atomic increment of a fixed array, so the histogram could be updated by every request.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class LatencyHistogram {
+	/**
+	 * the number of bits, which select the linear bucket of a power of two
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int SUB_BITS    = 3;
+	/**
+	 * the number of linear buckets of a power of two
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int SUB_BUCKETS = 1 << LatencyHistogram.SUB_BITS;
+	/**
+	 * the number of buckets, which cover all positive {@code long}s
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int BUCKETS     = (63 - LatencyHistogram.SUB_BITS) * LatencyHistogram.SUB_BUCKETS + LatencyHistogram.SUB_BUCKETS;
+	
+	/**
+	 * the numbers of recorded latencies of the buckets
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+	/**
+	 * the number of recorded latencies
+	 *
+	 * @since 0.4.0
+	 */
+	private final LongAdder       count   = new LongAdder();
+	/**
+	 * the sum of the recorded latencies in nanoseconds
+	 *
+	 * @since 0.4.0
+	 */
+	private final LongAdder       sum     = new LongAdder();
+	/**
+	 * the highest recorded latency in nanoseconds
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong      max     = new AtomicLong();
+	
+	/**
+	 * gives the bucket of a latency
+	 *
+	 * @param nanos the latency in nanoseconds, which isn't negative
+	 * @return the index of the bucket
+	 *
+	 * @since 0.4.0
+	 */
+	private static int bucket(long nanos) {
+		if (nanos < 2 * LatencyHistogram.SUB_BUCKETS) {
+			return (int) nanos;
+		}
+		
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		
+		return (exponent - LatencyHistogram.SUB_BITS) * LatencyHistogram.SUB_BUCKETS + (int) (nanos >>> (exponent - LatencyHistogram.SUB_BITS));
+	}
+	
+	/**
+	 * gives the highest latency of a bucket
+	 *
+	 * @param bucket the index of the bucket
+	 * @return the highest latency in nanoseconds, which is recorded in the bucket
+	 *
+	 * @since 0.4.0
+	 */
+	private static long upperBound(int bucket) {
+		if (bucket < 2 * LatencyHistogram.SUB_BUCKETS) {
+			return bucket;
+		}
+		
+		int  shift    = bucket / LatencyHistogram.SUB_BUCKETS - 1;
+		long mantissa = bucket % LatencyHistogram.SUB_BUCKETS + LatencyHistogram.SUB_BUCKETS;
+		long next     = (mantissa + 1) << shift;
+		
+		return next > 0L ? next - 1 : Long.MAX_VALUE;
+	}
+	
+	/**
+	 * records a latency
+	 *
+	 * @param nanos the latency in nanoseconds, where negative values are recorded as {@code 0}
+	 * @since 0.4.0
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0L);
+		
+		this.buckets.incrementAndGet(LatencyHistogram.bucket(value));
+		this.count.increment();
+		this.sum.add(value);
+		
+		long current = this.max.get();
+		while (value > current && !(this.max.compareAndSet(current, value))) {
+			current = this.max.get();
+		}
+	}
+	
+	/**
+	 * gives the number of recorded latencies
+	 *
+	 * @return the number of recorded latencies
+	 *
+	 * @since 0.4.0
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+	
+	/**
+	 * gives the mean of the recorded latencies
+	 *
+	 * @return the mean latency in nanoseconds or {@code 0}, if nothing was recorded
+	 *
+	 * @since 0.4.0
+	 */
+	public double getMean() {
+		long count = this.count.sum();
+		
+		return count > 0 ? (double) this.sum.sum() / count : 0.0;
+	}
+	
+	/**
+	 * gives the highest recorded latency
+	 *
+	 * @return the highest latency in nanoseconds or {@code 0}, if nothing was recorded
+	 *
+	 * @since 0.4.0
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+	
+	/**
+	 * gives a percentile of the recorded latencies<br>
+	 * The latencies, which are recorded during the call, might be counted partially.
+	 *
+	 * @param quantile the quantile of the percentile between {@code 0} and {@code 1} (e.g. {@code 0.99} for the 99th percentile)
+	 * @return the highest latency in nanoseconds of the bucket, which contains the percentile, but not more than {@link #getMax()},
+	 * or {@code 0}, if nothing was recorded
+	 *
+	 * @throws IllegalArgumentException if the quantile isn't between {@code 0} and {@code 1}
+	 * @since 0.4.0
+	 */
+	public long getPercentile(double quantile)
+	throws IllegalArgumentException {
+		if (!(quantile >= 0.0 && quantile <= 1.0)) {
+			throw new IllegalArgumentException("The quantile must be between 0 and 1, but is " + quantile + "!");
+		}
+		
+		long[] counts = new long[LatencyHistogram.BUCKETS];
+		long   total  = 0L;
+		
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = this.buckets.get(i);
+			total += counts[i];
+		}
+		
+		long rank     = Math.max((long) Math.ceil(quantile * total), 1L);
+		long previous = 0L;
+		
+		for (int i = 0; i < counts.length; i++) {
+			previous += counts[i];
+			
+			if (previous >= rank) {
+				return Math.min(LatencyHistogram.upperBound(i), this.max.get());
+			}
+		}
+		
+		return 0L;
+	}
+	
+	/**
+	 * discards all recorded latencies<br>
+	 * The latencies, which are recorded during the call, might be kept partially.
+	 *
+	 * @since 0.4.0
+	 */
+	public void reset() {
+		for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+			this.buckets.set(i, 0L);
+		}
+		
+		this.count.reset();
+		this.sum.reset();
+		this.max.set(0L);
+	}
+}
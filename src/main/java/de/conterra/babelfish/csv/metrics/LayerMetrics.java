@@ -0,0 +1,316 @@
+package de.conterra.babelfish.csv.metrics;
+
+import de.conterra.babelfish.csv.data.LayerCache;
+import de.conterra.babelfish.csv.data.LayerData;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * defines the metrics of a CSV layer<br>
+ * The loads of the CSV data are recorded with their counters, the requests with their latencies in a {@link LatencyHistogram}.
+ * A request costs two calls of {@link System#nanoTime()} and a few atomic increments, so the metrics could stay enabled in production.
+ * Nested requests (e.g. a query, which calls another query of the same layer) are only measured once by the outermost request.
+ * A request, which returns a lazy {@link java.util.Set} (e.g. in streaming mode), isn't measured itself,
+ * but every pass over the {@link java.util.Set} is recorded by {@link #record(long)}, if it reached the end or was closed.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class LayerMetrics
+		implements LayerMetricsMBean {
+	/**
+	 * the number of nanoseconds of a millisecond
+	 *
+	 * @since 0.4.0
+	 */
+	private static final double NANOS_PER_MILLI = 1000000.0;
+	
+	/**
+	 * the name of the CSV layer
+	 *
+	 * @since 0.4.0
+	 */
+	private final String             name;
+	/**
+	 * the cache of the parsed CSV data
+	 *
+	 * @since 0.4.0
+	 */
+	private final LayerCache<?>      cache;
+	/**
+	 * the latencies of the requests
+	 *
+	 * @since 0.4.0
+	 */
+	private final LatencyHistogram   latencies  = new LatencyHistogram();
+	/**
+	 * the number of loads
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong         loads      = new AtomicLong();
+	/**
+	 * the number of rows, which were parsed by all loads
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong         rows       = new AtomicLong();
+	/**
+	 * the duration of all loads in nanoseconds
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong         nanos      = new AtomicLong();
+	/**
+	 * the number of coordinate reference systems, which had to be decoded for this CSV layer
+	 *
+	 * @since 0.4.0
+	 */
+	private final AtomicLong         crsDecodes = new AtomicLong();
+	/**
+	 * the depths of the running requests of the threads
+	 *
+	 * @since 0.4.0
+	 */
+	private final ThreadLocal<int[]> depth      = ThreadLocal.withInitial(() -> new int[1]);
+	/**
+	 * the number of rows, which were parsed by the last load
+	 *
+	 * @since 0.4.0
+	 */
+	private volatile long            lastRows   = 0L;
+	/**
+	 * the duration of the last load in nanoseconds
+	 *
+	 * @since 0.4.0
+	 */
+	private volatile long            lastNanos  = 0L;
+	/**
+	 * the time of the last load in milliseconds since the epoch or {@code 0}, if the CSV data wasn't loaded yet
+	 *
+	 * @since 0.4.0
+	 */
+	private volatile long            lastLoad   = 0L;
+	/**
+	 * the current CSV data or {@code null}, if it wasn't loaded yet
+	 *
+	 * @since 0.4.0
+	 */
+	private volatile LayerData       data       = null;
+	
+	/**
+	 * constructor, with given name and cache
+	 *
+	 * @param name  the name of the CSV layer
+	 * @param cache the cache of the parsed CSV data
+	 * @since 0.4.0
+	 */
+	public LayerMetrics(String name, LayerCache<?> cache) {
+		this.name = name;
+		this.cache = cache;
+	}
+	
+	/**
+	 * records a load of the CSV data
+	 *
+	 * @param data  the loaded CSV data
+	 * @param rows  the number of parsed rows, which is {@code 0}, if the CSV data was read from a snapshot
+	 * @param nanos the duration of the load in nanoseconds
+	 * @since 0.4.0
+	 */
+	public void recordLoad(LayerData data, long rows, long nanos) {
+		this.loads.incrementAndGet();
+		this.rows.addAndGet(rows);
+		this.nanos.addAndGet(nanos);
+		this.lastRows = rows;
+		this.lastNanos = nanos;
+		this.lastLoad = System.currentTimeMillis();
+		this.data = data;
+	}
+	
+	/**
+	 * starts the measurement of a request, which must be finished by {@link #stop(long)} in a {@code finally} block
+	 *
+	 * @return the start of the request in nanoseconds or {@code -1}, if it is nested in another request of the same thread
+	 *
+	 * @since 0.4.0
+	 */
+	public long start() {
+		return this.depth.get()[0]++ == 0 ? System.nanoTime() : -1L;
+	}
+	
+	/**
+	 * finishes the measurement of a request and records its latency, if it isn't nested
+	 *
+	 * @param start the start of the request, which was given by {@link #start()}
+	 * @since 0.4.0
+	 */
+	public void stop(long start) {
+		this.depth.get()[0]--;
+		
+		if (start >= 0L) {
+			this.latencies.record(System.nanoTime() - start);
+		}
+	}
+	
+	/**
+	 * records the latency of a request, which was measured outside of {@link #start()} and {@link #stop(long)}
+	 * (e.g. a pass over a lazy {@link java.util.Set})
+	 *
+	 * @param nanos the latency of the request in nanoseconds
+	 * @since 0.4.0
+	 */
+	public void record(long nanos) {
+		this.latencies.record(nanos);
+	}
+	
+	/**
+	 * gives the counter of the coordinate reference systems, which had to be decoded for this CSV layer,
+	 * to pass it to {@link de.conterra.babelfish.csv.data.CrsCache#decode(String, AtomicLong)}
+	 *
+	 * @return the counter of the decodes
+	 *
+	 * @since 0.4.0
+	 */
+	public AtomicLong getCrsDecodeCounter() {
+		return this.crsDecodes;
+	}
+	
+	/**
+	 * gives the {@link LatencyHistogram} of the requests
+	 *
+	 * @return the {@link LatencyHistogram} of the requests
+	 *
+	 * @since 0.4.0
+	 */
+	public LatencyHistogram getLatencies() {
+		return this.latencies;
+	}
+	
+	@Override
+	public String getName() {
+		return this.name;
+	}
+	
+	@Override
+	public long getLoadCount() {
+		return this.loads.get();
+	}
+	
+	@Override
+	public long getRowsParsed() {
+		return this.rows.get();
+	}
+	
+	@Override
+	public long getParseMillis() {
+		return this.nanos.get() / 1000000L;
+	}
+	
+	@Override
+	public long getLastParseMillis() {
+		return this.lastNanos / 1000000L;
+	}
+	
+	@Override
+	public double getRowsPerSecond() {
+		long lastNanos = this.lastNanos;
+		
+		return lastNanos > 0L ? this.lastRows * 1000000000.0 / lastNanos : 0.0;
+	}
+	
+	@Override
+	public Date getLastReload() {
+		long lastLoad = this.lastLoad;
+		
+		return lastLoad > 0L ? new Date(lastLoad) : null;
+	}
+	
+	@Override
+	public int getRowCount() {
+		LayerData data = this.data;
+		
+		return data != null ? data.size() : 0;
+	}
+	
+	@Override
+	public long getSkippedRows() {
+		LayerData data = this.data;
+		
+		return data != null ? data.getSkippedRows() : 0L;
+	}
+	
+	@Override
+	public int getCrsCount() {
+		LayerData data = this.data;
+		
+		return data != null ? data.getCrsTable().size() : 0;
+	}
+	
+	@Override
+	public long getCrsDecodes() {
+		return this.crsDecodes.get();
+	}
+	
+	@Override
+	public long getHeapSize() {
+		LayerData data = this.data;
+		
+		return data != null ? data.getHeapSize() : 0L;
+	}
+	
+	@Override
+	public long getCacheHits() {
+		return this.cache.getHits();
+	}
+	
+	@Override
+	public long getCacheMisses() {
+		return this.cache.getMisses();
+	}
+	
+	@Override
+	public double getCacheHitRatio() {
+		long hits  = this.cache.getHits();
+		long total = hits + this.cache.getMisses();
+		
+		return total > 0L ? (double) hits / total : 0.0;
+	}
+	
+	@Override
+	public long getRequestCount() {
+		return this.latencies.getCount();
+	}
+	
+	@Override
+	public double getRequestMeanMillis() {
+		return this.latencies.getMean() / LayerMetrics.NANOS_PER_MILLI;
+	}
+	
+	@Override
+	public double getRequest50thMillis() {
+		return this.latencies.getPercentile(0.5) / LayerMetrics.NANOS_PER_MILLI;
+	}
+	
+	@Override
+	public double getRequest95thMillis() {
+		return this.latencies.getPercentile(0.95) / LayerMetrics.NANOS_PER_MILLI;
+	}
+	
+	@Override
+	public double getRequest99thMillis() {
+		return this.latencies.getPercentile(0.99) / LayerMetrics.NANOS_PER_MILLI;
+	}
+	
+	@Override
+	public double getRequestMaxMillis() {
+		return this.latencies.getMax() / LayerMetrics.NANOS_PER_MILLI;
+	}
+	
+	@Override
+	public void resetRequests() {
+		this.latencies.reset();
+	}
+}
@@ -0,0 +1,208 @@
+package de.conterra.babelfish.csv.metrics;
+
+import java.util.Date;
+
+/**
+ * defines the management interface of the {@link LayerMetrics} of a CSV layer, which is exposed by the {@link JmxMetricsRegistry}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public interface LayerMetricsMBean {
+	/**
+	 * gives the name of the CSV layer
+	 *
+	 * @return the name of the CSV file of the layer
+	 *
+	 * @since 0.4.0
+	 */
+	String getName();
+	
+	/**
+	 * gives the number of loads of the CSV data, including the updates of appended rows and the reads of snapshots
+	 *
+	 * @return the number of loads
+	 *
+	 * @since 0.4.0
+	 */
+	long getLoadCount();
+	
+	/**
+	 * gives the number of rows, which were parsed by all loads
+	 *
+	 * @return the number of parsed rows, including the skipped rows
+	 *
+	 * @since 0.4.0
+	 */
+	long getRowsParsed();
+	
+	/**
+	 * gives the duration of all loads
+	 *
+	 * @return the duration in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	long getParseMillis();
+	
+	/**
+	 * gives the duration of the last load
+	 *
+	 * @return the duration in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	long getLastParseMillis();
+	
+	/**
+	 * gives the throughput of the last load
+	 *
+	 * @return the number of parsed rows per second or {@code 0}, if no row was parsed
+	 *
+	 * @since 0.4.0
+	 */
+	double getRowsPerSecond();
+	
+	/**
+	 * gives the time of the last load
+	 *
+	 * @return the time of the last load or {@code null}, if the CSV data wasn't loaded yet
+	 *
+	 * @since 0.4.0
+	 */
+	Date getLastReload();
+	
+	/**
+	 * gives the number of rows of the current CSV data
+	 *
+	 * @return the number of rows with valid coordinates
+	 *
+	 * @since 0.4.0
+	 */
+	int getRowCount();
+	
+	/**
+	 * gives the number of skipped rows of the current CSV data
+	 *
+	 * @return the number of rows with malformed coordinates
+	 *
+	 * @since 0.4.0
+	 */
+	long getSkippedRows();
+	
+	/**
+	 * gives the number of distinct coordinate reference systems of the current CSV data
+	 *
+	 * @return the number of coordinate reference systems
+	 *
+	 * @since 0.4.0
+	 */
+	int getCrsCount();
+	
+	/**
+	 * gives the number of coordinate reference systems, which had to be decoded for this CSV layer, because they weren't found in the cache, which is shared by all CSV layers
+	 *
+	 * @return the number of decoded codes
+	 *
+	 * @since 0.4.0
+	 */
+	long getCrsDecodes();
+	
+	/**
+	 * gives the estimated number of bytes, which are retained by the current CSV data on the heap
+	 *
+	 * @return the estimated heap size in bytes
+	 *
+	 * @since 0.4.0
+	 */
+	long getHeapSize();
+	
+	/**
+	 * gives the number of requests of the CSV data, which could be answered from the cache
+	 *
+	 * @return the number of cache hits
+	 *
+	 * @since 0.4.0
+	 */
+	long getCacheHits();
+	
+	/**
+	 * gives the number of requests of the CSV data, which needed to load it
+	 *
+	 * @return the number of cache misses
+	 *
+	 * @since 0.4.0
+	 */
+	long getCacheMisses();
+	
+	/**
+	 * gives the ratio of the requests of the CSV data, which could be answered from the cache
+	 *
+	 * @return the ratio between {@code 0} and {@code 1} or {@code 0}, if nothing was requested yet
+	 *
+	 * @since 0.4.0
+	 */
+	double getCacheHitRatio();
+	
+	/**
+	 * gives the number of measured feature requests and queries
+	 *
+	 * @return the number of requests
+	 *
+	 * @since 0.4.0
+	 */
+	long getRequestCount();
+	
+	/**
+	 * gives the mean latency of the measured feature requests and queries
+	 *
+	 * @return the mean latency in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	double getRequestMeanMillis();
+	
+	/**
+	 * gives the median latency of the measured feature requests and queries
+	 *
+	 * @return the 50th percentile in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	double getRequest50thMillis();
+	
+	/**
+	 * gives the 95th percentile of the latencies of the measured feature requests and queries
+	 *
+	 * @return the 95th percentile in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	double getRequest95thMillis();
+	
+	/**
+	 * gives the 99th percentile of the latencies of the measured feature requests and queries
+	 *
+	 * @return the 99th percentile in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	double getRequest99thMillis();
+	
+	/**
+	 * gives the highest latency of the measured feature requests and queries
+	 *
+	 * @return the highest latency in milliseconds
+	 *
+	 * @since 0.4.0
+	 */
+	double getRequestMaxMillis();
+	
+	/**
+	 * discards the measured latencies of the feature requests and queries
+	 *
+	 * @since 0.4.0
+	 */
+	void resetRequests();
+}
@@ -0,0 +1,101 @@
+package de.conterra.babelfish.csv.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * defines the access to all available {@link MetricsRegistry}s, which are loaded on the first access<br>
+ * An error of a single {@link MetricsRegistry} is logged and doesn't affect the others or the CSV layer.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+@Slf4j
+public final class MetricsRegistries {
+	/**
+	 * the available {@link MetricsRegistry}s
+	 *
+	 * @since 0.4.0
+	 */
+	private static final List<MetricsRegistry> REGISTRIES = MetricsRegistries.load();
+	
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private MetricsRegistries() {
+	}
+	
+	/**
+	 * loads the available {@link MetricsRegistry}s
+	 *
+	 * @return the {@link JmxMetricsRegistry} and all {@link MetricsRegistry}s, which were found by the {@link ServiceLoader}
+	 *
+	 * @since 0.4.0
+	 */
+	private static List<MetricsRegistry> load() {
+		List<MetricsRegistry> result = new ArrayList<>();
+		result.add(JmxMetricsRegistry.INSTANCE);
+		
+		try {
+			for (MetricsRegistry registry : ServiceLoader.load(MetricsRegistry.class, MetricsRegistry.class.getClassLoader())) {
+				result.add(registry);
+				log.info("Publishing the metrics of the CSV layers to " + registry.getClass().getName() + ".");
+			}
+		} catch (ServiceConfigurationError e) {
+			log.warn("The metrics registries couldn't be loaded, so the metrics are only published to JMX!", e);
+		}
+		
+		return Collections.unmodifiableList(result);
+	}
+	
+	/**
+	 * gives all available {@link MetricsRegistry}s
+	 *
+	 * @return the {@link JmxMetricsRegistry} and all {@link MetricsRegistry}s, which were found by the {@link ServiceLoader}
+	 *
+	 * @since 0.4.0
+	 */
+	public static List<MetricsRegistry> getRegistries() {
+		return MetricsRegistries.REGISTRIES;
+	}
+	
+	/**
+	 * publishes {@link LayerMetrics} to all available {@link MetricsRegistry}s
+	 *
+	 * @param metrics the {@link LayerMetrics} to publish
+	 * @since 0.4.0
+	 */
+	public static void register(LayerMetrics metrics) {
+		for (MetricsRegistry registry : MetricsRegistries.REGISTRIES) {
+			try {
+				registry.register(metrics);
+			} catch (RuntimeException e) {
+				log.warn("The metrics of the CSV layer " + metrics.getName() + " couldn't be published to " + registry.getClass().getName() + "!", e);
+			}
+		}
+	}
+	
+	/**
+	 * removes published {@link LayerMetrics} of all available {@link MetricsRegistry}s
+	 *
+	 * @param metrics the {@link LayerMetrics} to remove
+	 * @since 0.4.0
+	 */
+	public static void unregister(LayerMetrics metrics) {
+		for (MetricsRegistry registry : MetricsRegistries.REGISTRIES) {
+			try {
+				registry.unregister(metrics);
+			} catch (RuntimeException e) {
+				log.warn("The metrics of the CSV layer " + metrics.getName() + " couldn't be removed of " + registry.getClass().getName() + "!", e);
+			}
+		}
+	}
+}
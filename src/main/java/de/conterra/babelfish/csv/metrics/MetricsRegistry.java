@@ -0,0 +1,31 @@
+package de.conterra.babelfish.csv.metrics;
+
+import java.util.ServiceLoader;
+
+/**
+ * defines a registry, which publishes the {@link LayerMetrics} of the CSV layers (e.g. to JMX or a metrics library)<br>
+ * The {@link JmxMetricsRegistry} is always used (see {@link MetricsRegistries}).
+ * Further implementations are found by the {@link ServiceLoader}, so they could be added by a JAR with a
+ * {@code META-INF/services/de.conterra.babelfish.csv.metrics.MetricsRegistry} file on the class path of the plugin.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public interface MetricsRegistry {
+	/**
+	 * publishes the {@link LayerMetrics} of a CSV layer
+	 *
+	 * @param metrics the {@link LayerMetrics} to publish
+	 * @since 0.4.0
+	 */
+	void register(LayerMetrics metrics);
+	
+	/**
+	 * removes the published {@link LayerMetrics} of a CSV layer
+	 *
+	 * @param metrics the {@link LayerMetrics} to remove
+	 * @since 0.4.0
+	 */
+	void unregister(LayerMetrics metrics);
+}
@@ -0,0 +1,8 @@
+/**
+ * package of the metrics of the CSV layers and the registries, which publish them
+ *
+ * @version 0.4.0
+ * @author ChrissW-R1
+ * @since 0.4.0
+ */
+package de.conterra.babelfish.csv.metrics;
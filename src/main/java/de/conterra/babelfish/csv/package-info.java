@@ -1,8 +1,8 @@
-/**
- * defines of a {@link de.conterra.babelfish.plugin.Plugin}, which loads CSV files
- *
- * @version 0.1.0
- * @author ChrissW-R1
- * @since 0.1.0
- */
+/**
+ * defines of a {@link de.conterra.babelfish.plugin.Plugin}, which loads CSV files
+ *
+ * @version 0.1.0
+ * @author ChrissW-R1
+ * @since 0.1.0
+ */
 package de.conterra.babelfish.csv;
\ No newline at end of file
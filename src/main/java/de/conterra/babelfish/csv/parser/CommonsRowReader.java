@@ -0,0 +1,89 @@
+package de.conterra.babelfish.csv.parser;
+
+import de.conterra.babelfish.util.DataUtils;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+
+/**
+ * defines a {@link RowReader}, which uses a {@link CSVParser} with the {@link CSVFormat#EXCEL} dialect<br>
+ * A compressed file is decompressed transparently by its {@link Compression}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class CommonsRowReader
+		implements RowReader {
+	/**
+	 * the {@link CSVParser} to read the {@link CSVRecord}s from
+	 *
+	 * @since 0.4.0
+	 */
+	private final CSVParser           parser;
+	/**
+	 * the {@link Iterator} over the {@link CSVRecord}s of the {@link CSVParser}
+	 *
+	 * @since 0.4.0
+	 */
+	private final Iterator<CSVRecord> records;
+	/**
+	 * the number of the row before the first read row
+	 *
+	 * @since 0.4.0
+	 */
+	private final long                offset;
+	
+	/**
+	 * constructor, with given CSV {@link File}
+	 *
+	 * @param file the CSV {@link File} to read
+	 * @throws IOException if the {@link File} couldn't be opened
+	 * @since 0.4.0
+	 */
+	public CommonsRowReader(File file)
+	throws IOException {
+		this(Compression.of(file).openReader(file), 0L);
+	}
+	
+	/**
+	 * constructor, with given {@link Reader}, which is positioned at the start of a row
+	 *
+	 * @param reader the {@link Reader} to read, which is closed by {@link #close()}
+	 * @param offset the number of the row before the row at the position of {@code reader}
+	 * @throws IOException if the {@link Reader} couldn't be read
+	 * @since 0.4.0
+	 */
+	public CommonsRowReader(Reader reader, long offset)
+	throws IOException {
+		try {
+			this.parser = CSVFormat.EXCEL.parse(reader);
+			this.records = this.parser.iterator();
+			this.offset = offset;
+		} catch (IOException | RuntimeException e) {
+			DataUtils.closeStream(reader);
+			throw e;
+		}
+	}
+	
+	@Override
+	public CsvRow next()
+	throws IOException {
+		try {
+			return this.records.hasNext() ? new RecordRow(this.records.next(), this.offset) : null;
+		} catch (IllegalStateException e) {
+			throw new IOException(e.getMessage(), e.getCause() != null ? e.getCause() : e);
+		}
+	}
+	
+	@Override
+	public void close()
+	throws IOException {
+		this.parser.close();
+	}
+}
@@ -0,0 +1,235 @@
+package de.conterra.babelfish.csv.parser;
+
+import de.conterra.babelfish.util.DataUtils;
+
+import java.io.*;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * defines the compression of a CSV file, which is detected by the extension of its name or by the magic bytes at its start<br>
+ * A compressed file is decompressed transparently on reading, so its rows couldn't be read by a {@link MappedRowReader}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public enum Compression {
+	/**
+	 * a plain CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	NONE(new byte[0]) {
+		@Override
+		public InputStream open(File file, long position)
+		throws IOException {
+			FileInputStream in = new FileInputStream(file);
+			
+			try {
+				in.getChannel().position(position);
+				
+				return new BufferedInputStream(in, Compression.BUFFER_SIZE);
+			} catch (IOException | RuntimeException e) {
+				DataUtils.closeStream(in);
+				throw e;
+			}
+		}
+	},
+	/**
+	 * a CSV file, which is compressed by gzip<br>
+	 * A file of concatenated members (e.g. written by {@code bgzip} or appended by {@code gzip}) is read as one file,
+	 * but a reader could start at the beginning of every member.
+	 *
+	 * @since 0.4.0
+	 */
+	GZIP(new byte[]{(byte) 0x1F, (byte) 0x8B}, ".gz", ".gzip") {
+		@Override
+		public InputStream open(File file, long position)
+		throws IOException {
+			InputStream in = Compression.NONE.open(file, position);
+			
+			try {
+				return new GZIPInputStream(in, Compression.BUFFER_SIZE);
+			} catch (IOException | RuntimeException e) {
+				DataUtils.closeStream(in);
+				throw e;
+			}
+		}
+	},
+	/**
+	 * a CSV file, which is compressed by Zstandard<br>
+	 * It is decompressed by the {@code ZstdInputStream} of zstd-jni, which must be available on the class path.
+	 *
+	 * @since 0.4.0
+	 */
+	ZSTD(new byte[]{(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD}, ".zst", ".zstd") {
+		@Override
+		public InputStream open(File file, long position)
+		throws IOException {
+			InputStream in = Compression.NONE.open(file, position);
+			
+			try {
+				return (InputStream) Class.forName("com.github.luben.zstd.ZstdInputStream").getConstructor(InputStream.class).newInstance(in);
+			} catch (InvocationTargetException e) {
+				DataUtils.closeStream(in);
+				
+				if (e.getCause() instanceof IOException) {
+					throw (IOException) e.getCause();
+				}
+				
+				throw new IOException("Couldn't decompress the file " + file.getName() + "!", e.getCause());
+			} catch (ReflectiveOperationException | LinkageError e) {
+				DataUtils.closeStream(in);
+				throw new IOException("The file " + file.getName() + " is compressed by Zstandard, but zstd-jni isn't available on the class path!", e);
+			}
+		}
+	};
+	
+	/**
+	 * the size of the buffers of the opened streams
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+	
+	/**
+	 * the bytes at the start of a file, which are compressed this way
+	 *
+	 * @since 0.4.0
+	 */
+	private final byte[]   magic;
+	/**
+	 * the extensions of the names of files, which are compressed this way
+	 *
+	 * @since 0.4.0
+	 */
+	private final String[] extensions;
+	
+	/**
+	 * constructor, with given magic bytes and extensions
+	 *
+	 * @param magic      the bytes at the start of a file, which are compressed this way
+	 * @param extensions the extensions of the names of files, which are compressed this way
+	 * @since 0.4.0
+	 */
+	Compression(byte[] magic, String... extensions) {
+		this.magic = magic;
+		this.extensions = extensions;
+	}
+	
+	/**
+	 * detects the {@link Compression} of a {@link File} by the extension of its name or, if the extension is unknown, by its magic bytes
+	 *
+	 * @param file the {@link File} to detect the {@link Compression} of
+	 * @return the detected {@link Compression} or {@link #NONE}, if the {@link File} isn't compressed or couldn't be read
+	 *
+	 * @since 0.4.0
+	 */
+	public static Compression of(File file) {
+		for (Compression compression : Compression.values()) {
+			if (compression.getExtension(file) != null) {
+				return compression;
+			}
+		}
+		
+		byte[] start = new byte[4];
+		int    count = 0;
+		
+		try (InputStream in = new FileInputStream(file)) {
+			int read;
+			while (count < start.length && (read = in.read(start, count, start.length - count)) >= 0) {
+				count += read;
+			}
+		} catch (IOException e) {
+			return Compression.NONE;
+		}
+		
+		for (Compression compression : Compression.values()) {
+			int length = compression.magic.length;
+			
+			if (length > 0 && count >= length && Arrays.equals(compression.magic, Arrays.copyOf(start, length))) {
+				return compression;
+			}
+		}
+		
+		return Compression.NONE;
+	}
+	
+	/**
+	 * resolves a CSV {@link File}, which might be stored compressed<br>
+	 * If the {@link File} doesn't exist, the first existing {@link File} with the same name and the extension of a {@link Compression} is taken.
+	 *
+	 * @param file the CSV {@link File} (e.g. {@code data.csv})
+	 * @return the existing {@link File} (e.g. {@code data.csv.gz}) or {@code file}, if no compressed {@link File} exists
+	 *
+	 * @since 0.4.0
+	 */
+	public static File resolve(File file) {
+		if (file.isFile()) {
+			return file;
+		}
+		
+		for (Compression compression : Compression.values()) {
+			for (String extension : compression.extensions) {
+				File compressed = new File(file.getPath() + extension);
+				
+				if (compressed.isFile()) {
+					return compressed;
+				}
+			}
+		}
+		
+		return file;
+	}
+	
+	/**
+	 * gives the extension of the name of a {@link File}, which is compressed this way
+	 *
+	 * @param file the {@link File}
+	 * @return the extension (e.g. {@code .gz}) or {@code null}, if the name of the {@link File} hasn't an extension of this {@link Compression}
+	 *
+	 * @since 0.4.0
+	 */
+	public String getExtension(File file) {
+		String name = file.getName().toLowerCase(Locale.ROOT);
+		
+		for (String extension : this.extensions) {
+			if (name.endsWith(extension)) {
+				return extension;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * opens a {@link File} to read its decompressed bytes
+	 *
+	 * @param file     the {@link File} to open
+	 * @param position the position in the {@link File}, at which the decompression starts (the start of a gzip member or Zstandard frame)
+	 * @return the opened {@link InputStream}, which must be closed by the caller
+	 *
+	 * @throws IOException if the {@link File} couldn't be opened or isn't compressed this way
+	 * @since 0.4.0
+	 */
+	public abstract InputStream open(File file, long position)
+	throws IOException;
+	
+	/**
+	 * opens a {@link File} to read its decompressed characters in the default {@link Charset}
+	 *
+	 * @param file the {@link File} to open
+	 * @return the opened {@link Reader}, which must be closed by the caller
+	 *
+	 * @throws IOException if the {@link File} couldn't be opened or isn't compressed this way
+	 * @since 0.4.0
+	 */
+	public Reader openReader(File file)
+	throws IOException {
+		return new InputStreamReader(this.open(file, 0L), Charset.defaultCharset());
+	}
+}
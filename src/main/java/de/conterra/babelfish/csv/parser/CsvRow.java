@@ -0,0 +1,50 @@
+package de.conterra.babelfish.csv.parser;
+
+/**
+ * defines a row of a CSV file, which gives access to its cells by their column index
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public interface CsvRow {
+	/**
+	 * gives the number of this row in the CSV file, starting with {@code 1}
+	 *
+	 * @return the number of this row
+	 *
+	 * @since 0.4.0
+	 */
+	long getRecordNumber();
+	
+	/**
+	 * gives the number of cells in this row
+	 *
+	 * @return the number of cells
+	 *
+	 * @since 0.4.0
+	 */
+	int size();
+	
+	/**
+	 * gives the value of a cell
+	 *
+	 * @param column the index of the column
+	 * @return the value of the cell
+	 *
+	 * @throws IndexOutOfBoundsException if the row has no cell in the given column
+	 * @since 0.4.0
+	 */
+	String get(int column)
+	throws IndexOutOfBoundsException;
+	
+	/**
+	 * gives the value of a cell as decimal number, parsed by {@link DecimalParser} without creating a {@link String}, if possible
+	 *
+	 * @param column the index of the column
+	 * @return the parsed number or {@link Double#NaN}, if the row has no cell in the given column or the cell contains no valid decimal number
+	 *
+	 * @since 0.4.0
+	 */
+	double getDouble(int column);
+}
@@ -0,0 +1,342 @@
+package de.conterra.babelfish.csv.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * defines a parser of decimal numbers, which reads directly from ranges of characters or bytes<br>
+ * A point or a comma could be used as decimal separator and an exponent could follow the digits (e.g. {@code 1.5e3}).
+ * Leading and trailing whitespaces are ignored. Malformed numbers are returned as {@link Double#NaN} instead of throwing an {@link Exception}.
+ * Numbers with up to 15 significant digits and a small exponent are converted without any allocation and with the same result as {@link Double#parseDouble(String)}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class DecimalParser {
+	/**
+	 * the powers of ten, which could be represented exactly by a {@code double}
+	 *
+	 * @since 0.4.0
+	 */
+	private static final double[] POWERS       = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	/**
+	 * the largest mantissa, which could be represented exactly by a {@code double}
+	 *
+	 * @since 0.4.0
+	 */
+	private static final long     MAX_EXACT    = 1L << 53;
+	/**
+	 * the maximum number of significant digits, which are collected in a {@code long}
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int      MAX_DIGITS   = 18;
+	/**
+	 * the absolute value of an exponent, which leads to zero or infinity in any case
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int      MAX_EXPONENT = 400;
+	
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private DecimalParser() {
+	}
+	
+	/**
+	 * parses a decimal number
+	 *
+	 * @param text the text to parse
+	 * @return the parsed number or {@link Double#NaN}, if {@code text} is {@code null} or no valid decimal number
+	 *
+	 * @since 0.4.0
+	 */
+	public static double parse(CharSequence text) {
+		return text != null ? DecimalParser.parse(text, 0, text.length()) : Double.NaN;
+	}
+	
+	/**
+	 * parses a decimal number of a range of characters
+	 *
+	 * @param text the characters to parse
+	 * @param from the index of the first character (inclusive)
+	 * @param to   the index of the last character (exclusive)
+	 * @return the parsed number or {@link Double#NaN}, if the range contains no valid decimal number
+	 *
+	 * @since 0.4.0
+	 */
+	public static double parse(CharSequence text, int from, int to) {
+		while (from < to && text.charAt(from) <= ' ') {
+			from++;
+		}
+		while (to > from && text.charAt(to - 1) <= ' ') {
+			to--;
+		}
+		
+		if (from >= to) {
+			return Double.NaN;
+		}
+		
+		int     i        = from;
+		char    c        = text.charAt(i);
+		boolean negative = c == '-';
+		if (negative || c == '+') {
+			i++;
+		}
+		
+		long    mantissa  = 0;
+		int     digits    = 0;
+		int     exponent  = 0;
+		boolean any       = false;
+		boolean separator = false;
+		
+		for (; i < to; i++) {
+			c = text.charAt(i);
+			
+			if (c >= '0' && c <= '9') {
+				any = true;
+				
+				if (mantissa == 0 && c == '0') {
+					if (separator) {
+						exponent--;
+					}
+				} else if (digits < DecimalParser.MAX_DIGITS) {
+					mantissa = 10 * mantissa + (c - '0');
+					digits++;
+					
+					if (separator) {
+						exponent--;
+					}
+				} else {
+					return DecimalParser.parseSlow(text, from, to);
+				}
+			} else if (c == '.' || c == ',') {
+				if (separator) {
+					return Double.NaN;
+				}
+				
+				separator = true;
+			} else if (c == 'e' || c == 'E') {
+				break;
+			} else {
+				return Double.NaN;
+			}
+		}
+		
+		if (!(any)) {
+			return Double.NaN;
+		}
+		
+		if (i < to) {
+			i++;
+			
+			boolean negativeExponent = false;
+			if (i < to && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+				negativeExponent = text.charAt(i) == '-';
+				i++;
+			}
+			
+			if (i >= to) {
+				return Double.NaN;
+			}
+			
+			int value = 0;
+			for (; i < to; i++) {
+				c = text.charAt(i);
+				
+				if (c < '0' || c > '9') {
+					return Double.NaN;
+				}
+				
+				value = Math.min(10 * value + (c - '0'), DecimalParser.MAX_EXPONENT);
+			}
+			
+			exponent += negativeExponent ? -value : value;
+		}
+		
+		return DecimalParser.compose(negative, mantissa, exponent);
+	}
+	
+	/**
+	 * parses a decimal number of a range of bytes, which are encoded compatible to ASCII
+	 *
+	 * @param buffer the {@link ByteBuffer} with the bytes to parse
+	 * @param from   the absolute index of the first byte (inclusive)
+	 * @param to     the absolute index of the last byte (exclusive)
+	 * @return the parsed number or {@link Double#NaN}, if the range contains no valid decimal number
+	 *
+	 * @since 0.4.0
+	 */
+	public static double parse(ByteBuffer buffer, int from, int to) {
+		while (from < to && buffer.get(from) >= 0 && buffer.get(from) <= ' ') {
+			from++;
+		}
+		while (to > from && buffer.get(to - 1) >= 0 && buffer.get(to - 1) <= ' ') {
+			to--;
+		}
+		
+		if (from >= to) {
+			return Double.NaN;
+		}
+		
+		int     i        = from;
+		byte    c        = buffer.get(i);
+		boolean negative = c == '-';
+		if (negative || c == '+') {
+			i++;
+		}
+		
+		long    mantissa  = 0;
+		int     digits    = 0;
+		int     exponent  = 0;
+		boolean any       = false;
+		boolean separator = false;
+		
+		for (; i < to; i++) {
+			c = buffer.get(i);
+			
+			if (c >= '0' && c <= '9') {
+				any = true;
+				
+				if (mantissa == 0 && c == '0') {
+					if (separator) {
+						exponent--;
+					}
+				} else if (digits < DecimalParser.MAX_DIGITS) {
+					mantissa = 10 * mantissa + (c - '0');
+					digits++;
+					
+					if (separator) {
+						exponent--;
+					}
+				} else {
+					return DecimalParser.parseSlow(buffer, from, to);
+				}
+			} else if (c == '.' || c == ',') {
+				if (separator) {
+					return Double.NaN;
+				}
+				
+				separator = true;
+			} else if (c == 'e' || c == 'E') {
+				break;
+			} else {
+				return Double.NaN;
+			}
+		}
+		
+		if (!(any)) {
+			return Double.NaN;
+		}
+		
+		if (i < to) {
+			i++;
+			
+			boolean negativeExponent = false;
+			if (i < to && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+				negativeExponent = buffer.get(i) == '-';
+				i++;
+			}
+			
+			if (i >= to) {
+				return Double.NaN;
+			}
+			
+			int value = 0;
+			for (; i < to; i++) {
+				c = buffer.get(i);
+				
+				if (c < '0' || c > '9') {
+					return Double.NaN;
+				}
+				
+				value = Math.min(10 * value + (c - '0'), DecimalParser.MAX_EXPONENT);
+			}
+			
+			exponent += negativeExponent ? -value : value;
+		}
+		
+		return DecimalParser.compose(negative, mantissa, exponent);
+	}
+	
+	/**
+	 * composes a {@code double} of a decimal mantissa and exponent<br>
+	 * If both could be represented exactly by a {@code double}, the result is computed by a single multiplication or division, which is rounded correctly.
+	 *
+	 * @param negative is the number negative?
+	 * @param mantissa the significant digits
+	 * @param exponent the decimal exponent
+	 * @return the composed number
+	 *
+	 * @since 0.4.0
+	 */
+	private static double compose(boolean negative, long mantissa, int exponent) {
+		double result;
+		
+		if (mantissa == 0) {
+			result = 0.0;
+		} else if (mantissa <= DecimalParser.MAX_EXACT && exponent >= -22 && exponent <= 22) {
+			result = exponent >= 0 ? mantissa * DecimalParser.POWERS[exponent] : mantissa / DecimalParser.POWERS[-exponent];
+		} else {
+			result = Double.parseDouble(mantissa + "E" + exponent);
+		}
+		
+		return negative ? -result : result;
+	}
+	
+	/**
+	 * parses a decimal number with more significant digits than a {@code long} could hold by {@link Double#parseDouble(String)}
+	 *
+	 * @param text the characters to parse
+	 * @param from the index of the first character (inclusive)
+	 * @param to   the index of the last character (exclusive)
+	 * @return the parsed number or {@link Double#NaN}, if the range contains no valid decimal number
+	 *
+	 * @since 0.4.0
+	 */
+	private static double parseSlow(CharSequence text, int from, int to) {
+		StringBuilder builder = new StringBuilder(to - from);
+		
+		for (int i = from; i < to; i++) {
+			char c = text.charAt(i);
+			
+			if ((c < '0' || c > '9') && c != '.' && c != ',' && c != '-' && c != '+' && c != 'e' && c != 'E') {
+				return Double.NaN;
+			}
+			
+			builder.append(c == ',' ? '.' : c);
+		}
+		
+		try {
+			return Double.parseDouble(builder.toString());
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+	
+	/**
+	 * parses a decimal number with more significant digits than a {@code long} could hold by {@link Double#parseDouble(String)}
+	 *
+	 * @param buffer the {@link ByteBuffer} with the bytes to parse
+	 * @param from   the absolute index of the first byte (inclusive)
+	 * @param to     the absolute index of the last byte (exclusive)
+	 * @return the parsed number or {@link Double#NaN}, if the range contains no valid decimal number
+	 *
+	 * @since 0.4.0
+	 */
+	private static double parseSlow(ByteBuffer buffer, int from, int to) {
+		StringBuilder builder = new StringBuilder(to - from);
+		
+		for (int i = from; i < to; i++) {
+			builder.append((char) buffer.get(i));
+		}
+		
+		return DecimalParser.parseSlow(builder, 0, builder.length());
+	}
+}
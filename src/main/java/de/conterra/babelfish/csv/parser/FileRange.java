@@ -0,0 +1,81 @@
+package de.conterra.babelfish.csv.parser;
+
+/**
+ * defines an immutable range of bytes of a CSV file, which starts and ends on the boundaries of rows
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class FileRange {
+	/**
+	 * the position of the first byte in the file (inclusive)
+	 *
+	 * @since 0.4.0
+	 */
+	private final long start;
+	/**
+	 * the position of the last byte in the file (exclusive)
+	 *
+	 * @since 0.4.0
+	 */
+	private final long end;
+	/**
+	 * the number of the row before this range
+	 *
+	 * @since 0.4.0
+	 */
+	private final long recordNumber;
+	
+	/**
+	 * constructor, with all necessary attributes
+	 *
+	 * @param start        the position of the first byte in the file (inclusive)
+	 * @param end          the position of the last byte in the file (exclusive)
+	 * @param recordNumber the number of the row before this range
+	 * @since 0.4.0
+	 */
+	public FileRange(long start, long end, long recordNumber) {
+		this.start = start;
+		this.end = end;
+		this.recordNumber = recordNumber;
+	}
+	
+	/**
+	 * gives the position of the first byte in the file
+	 *
+	 * @return the position of the first byte (inclusive)
+	 *
+	 * @since 0.4.0
+	 */
+	public long getStart() {
+		return this.start;
+	}
+	
+	/**
+	 * gives the position of the last byte in the file
+	 *
+	 * @return the position of the last byte (exclusive)
+	 *
+	 * @since 0.4.0
+	 */
+	public long getEnd() {
+		return this.end;
+	}
+	
+	/**
+	 * gives the number of the row before this range, so the first row of this range has the number {@code recordNumber + 1}
+	 *
+	 * @return the number of the row before this range
+	 *
+	 * @since 0.4.0
+	 */
+	public long getRecordNumber() {
+		return this.recordNumber;
+	}
+	
+	@Override
+	public String toString() {
+		return "[" + this.start + ", " + this.end + ")";
+	}
+}
@@ -0,0 +1,404 @@
+package de.conterra.babelfish.csv.parser;
+
+import java.io.*;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * defines an {@link InputStream}, which decompresses a gzip file of one or more concatenated members and reports the boundaries of the members<br>
+ * A single read never returns the bytes of two members, so the bytes of a read, which increased {@link #getBlockCount()},
+ * start at {@link #getBlockOffset()} in the decompressed content and could be decompressed again starting at {@link #getBlockStart()} in the file.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class GzipBlockInputStream
+		extends InputStream {
+	/**
+	 * the flag of the header, which marks extra fields
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int FEXTRA   = 4;
+	/**
+	 * the flag of the header, which marks the original file name
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int FNAME    = 8;
+	/**
+	 * the flag of the header, which marks a comment
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int FCOMMENT = 16;
+	/**
+	 * the flag of the header, which marks the checksum of the header
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int FHCRC    = 2;
+	
+	/**
+	 * the compressed file
+	 *
+	 * @since 0.4.0
+	 */
+	private final InputStream in;
+	/**
+	 * the buffer of the compressed bytes
+	 *
+	 * @since 0.4.0
+	 */
+	private final byte[]      buffer       = new byte[1 << 16];
+	/**
+	 * the {@link Inflater} of the current member
+	 *
+	 * @since 0.4.0
+	 */
+	private final Inflater    inflater     = new Inflater(true);
+	/**
+	 * the checksum of the decompressed bytes of the current member
+	 *
+	 * @since 0.4.0
+	 */
+	private final CRC32       crc          = new CRC32();
+	/**
+	 * the position of {@link #buffer} in the file
+	 *
+	 * @since 0.4.0
+	 */
+	private long              bufferStart  = 0L;
+	/**
+	 * the number of bytes in {@link #buffer}
+	 *
+	 * @since 0.4.0
+	 */
+	private int               bufferLength = 0;
+	/**
+	 * the index of the next unused byte in {@link #buffer}
+	 *
+	 * @since 0.4.0
+	 */
+	private int               bufferPos    = 0;
+	/**
+	 * the position of the current member in the file
+	 *
+	 * @since 0.4.0
+	 */
+	private long              blockStart   = 0L;
+	/**
+	 * the position of the current member in the decompressed content
+	 *
+	 * @since 0.4.0
+	 */
+	private long              blockOffset  = 0L;
+	/**
+	 * the number of started members
+	 *
+	 * @since 0.4.0
+	 */
+	private int               blockCount   = 0;
+	/**
+	 * the number of decompressed bytes
+	 *
+	 * @since 0.4.0
+	 */
+	private long              position     = 0L;
+	/**
+	 * is the header of the current member read and its end not reached yet?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean           inBlock      = false;
+	/**
+	 * is the end of the file reached?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean           eof          = false;
+	
+	/**
+	 * constructor, with given gzip {@link File}
+	 *
+	 * @param file the gzip {@link File} to decompress
+	 * @throws IOException if the {@link File} couldn't be opened
+	 * @since 0.4.0
+	 */
+	public GzipBlockInputStream(File file)
+	throws IOException {
+		this.in = new FileInputStream(file);
+	}
+	
+	/**
+	 * gives the position of the current member in the file
+	 *
+	 * @return the position, at which a decompression of the current member could start
+	 *
+	 * @since 0.4.0
+	 */
+	public long getBlockStart() {
+		return this.blockStart;
+	}
+	
+	/**
+	 * gives the position of the current member in the decompressed content
+	 *
+	 * @return the number of decompressed bytes of all previous members
+	 *
+	 * @since 0.4.0
+	 */
+	public long getBlockOffset() {
+		return this.blockOffset;
+	}
+	
+	/**
+	 * gives the number of started members
+	 *
+	 * @return the number of started members
+	 *
+	 * @since 0.4.0
+	 */
+	public int getBlockCount() {
+		return this.blockCount;
+	}
+	
+	@Override
+	public int read()
+	throws IOException {
+		byte[] single = new byte[1];
+		
+		return this.read(single, 0, 1) > 0 ? single[0] & 0xFF : -1;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len)
+	throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		
+		while (!(this.eof)) {
+			if (!(this.inBlock)) {
+				if (!(this.readHeader())) {
+					this.eof = true;
+					break;
+				}
+				
+				continue;
+			}
+			
+			if (this.inflater.needsInput()) {
+				if (this.bufferPos >= this.bufferLength && !(this.fill())) {
+					throw new EOFException("Unexpected end of the gzip member at " + this.blockStart + "!");
+				}
+				
+				this.inflater.setInput(this.buffer, this.bufferPos, this.bufferLength - this.bufferPos);
+			}
+			
+			int count;
+			try {
+				count = this.inflater.inflate(b, off, len);
+			} catch (DataFormatException e) {
+				throw new ZipException("Invalid gzip member at " + this.blockStart + ": " + e.getMessage());
+			}
+			
+			this.bufferPos = this.bufferLength - this.inflater.getRemaining();
+			
+			if (count > 0) {
+				this.crc.update(b, off, count);
+				this.position += count;
+				
+				return count;
+			}
+			
+			if (this.inflater.finished()) {
+				this.readTrailer();
+			} else if (this.inflater.needsDictionary()) {
+				throw new ZipException("Invalid gzip member at " + this.blockStart + ": a preset dictionary is needed!");
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * reads the header of the next member
+	 *
+	 * @return {@code true}, if a member starts, {@code false}, if the end of the file or trailing garbage is reached
+	 *
+	 * @throws IOException if the header is invalid or the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private boolean readHeader()
+	throws IOException {
+		long start = this.bufferStart + this.bufferPos;
+		int  id1   = this.readByte();
+		
+		if (id1 < 0) {
+			return false;
+		}
+		if (id1 != 0x1F || this.readByte() != 0x8B) {
+			if (this.blockCount == 0) {
+				throw new ZipException("Not in gzip format!");
+			}
+			
+			return false;
+		}
+		if (this.readByte() != 8) {
+			throw new ZipException("Unsupported compression method of the gzip member at " + start + "!");
+		}
+		
+		int flags = this.readByte();
+		this.skip(6);
+		
+		if ((flags & GzipBlockInputStream.FEXTRA) != 0) {
+			this.skip(this.readByte() | this.readByte() << 8);
+		}
+		if ((flags & GzipBlockInputStream.FNAME) != 0) {
+			this.skipString();
+		}
+		if ((flags & GzipBlockInputStream.FCOMMENT) != 0) {
+			this.skipString();
+		}
+		if ((flags & GzipBlockInputStream.FHCRC) != 0) {
+			this.skip(2);
+		}
+		
+		this.inflater.reset();
+		this.crc.reset();
+		this.blockStart = start;
+		this.blockOffset = this.position;
+		this.blockCount++;
+		this.inBlock = true;
+		
+		return true;
+	}
+	
+	/**
+	 * reads the trailer of the current member and checks its checksum and size
+	 *
+	 * @throws IOException if the trailer doesn't match the decompressed bytes or the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private void readTrailer()
+	throws IOException {
+		long checksum = this.readInt();
+		long size     = this.readInt();
+		
+		if (checksum != this.crc.getValue() || size != ((this.position - this.blockOffset) & 0xFFFFFFFFL)) {
+			throw new ZipException("Corrupt gzip member at " + this.blockStart + "!");
+		}
+		
+		this.inBlock = false;
+	}
+	
+	/**
+	 * reads an unsigned little-endian 32 bit integer of the compressed bytes
+	 *
+	 * @return the read integer
+	 *
+	 * @throws IOException if the end of the file is reached or the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private long readInt()
+	throws IOException {
+		long result = 0L;
+		
+		for (int i = 0; i < 4; i++) {
+			int value = this.readByte();
+			
+			if (value < 0) {
+				throw new EOFException("Unexpected end of the gzip member at " + this.blockStart + "!");
+			}
+			
+			result |= (long) value << (8 * i);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * skips compressed bytes
+	 *
+	 * @param count the number of bytes to skip
+	 * @throws IOException if the end of the file is reached or the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private void skip(int count)
+	throws IOException {
+		for (int i = 0; i < count; i++) {
+			if (this.readByte() < 0) {
+				throw new EOFException("Unexpected end of the gzip header!");
+			}
+		}
+	}
+	
+	/**
+	 * skips a zero-terminated string of the header
+	 *
+	 * @throws IOException if the end of the file is reached or the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private void skipString()
+	throws IOException {
+		int value;
+		do {
+			value = this.readByte();
+			
+			if (value < 0) {
+				throw new EOFException("Unexpected end of the gzip header!");
+			}
+		} while (value != 0);
+	}
+	
+	/**
+	 * reads the next compressed byte
+	 *
+	 * @return the read byte or {@code -1}, if the end of the file is reached
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private int readByte()
+	throws IOException {
+		if (this.bufferPos >= this.bufferLength && !(this.fill())) {
+			return -1;
+		}
+		
+		return this.buffer[this.bufferPos++] & 0xFF;
+	}
+	
+	/**
+	 * reads the next compressed bytes into the buffer
+	 *
+	 * @return {@code true}, if at least one byte was read, {@code false}, if the end of the file is reached
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private boolean fill()
+	throws IOException {
+		int count = this.in.read(this.buffer);
+		
+		if (count <= 0) {
+			return false;
+		}
+		
+		this.bufferStart += this.bufferLength;
+		this.bufferLength = count;
+		this.bufferPos = 0;
+		
+		return true;
+	}
+	
+	@Override
+	public void close()
+	throws IOException {
+		this.inflater.end();
+		this.in.close();
+	}
+}
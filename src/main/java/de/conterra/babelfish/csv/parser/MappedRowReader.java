@@ -0,0 +1,532 @@
+package de.conterra.babelfish.csv.parser;
+
+import de.conterra.babelfish.util.DataUtils;
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * defines a {@link RowReader}, which maps the CSV file into memory and scans the delimiters and quotes directly over its bytes<br>
+ * It follows the {@link CSVFormat#EXCEL} dialect, but creates the {@link String} of a cell only, if it is requested by {@link CsvRow#get(int)}.
+ * The returned {@link CsvRow} is reused for every row.
+ * The file is decoded with the default {@link Charset} like a {@link java.io.FileReader}, which must be compatible to ASCII (see {@link #isSupported(Charset)}).
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class MappedRowReader
+		implements RowReader {
+	/**
+	 * the maximum size of a mapped part of the file
+	 *
+	 * @since 0.4.0
+	 */
+	private static final long WINDOW    = 1L << 30;
+	/**
+	 * the delimiter between two cells
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte DELIMITER = ',';
+	/**
+	 * the character to encapsulate a cell with
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte QUOTE     = '"';
+	/**
+	 * the carriage return character
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte CR        = '\r';
+	/**
+	 * the line feed character
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte LF        = '\n';
+	
+	/**
+	 * the {@link FileChannel} of the CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	private final FileChannel channel;
+	/**
+	 * the position in the file, at which the reading stops (the size of the file, if the whole file is read)
+	 *
+	 * @since 0.4.0
+	 */
+	private final long        size;
+	/**
+	 * the {@link Charset} to decode the cells with
+	 *
+	 * @since 0.4.0
+	 */
+	private final Charset     charset;
+	/**
+	 * the reused row
+	 *
+	 * @since 0.4.0
+	 */
+	private final MappedRow   row = new MappedRow();
+	/**
+	 * the currently mapped part of the file
+	 *
+	 * @since 0.4.0
+	 */
+	private MappedByteBuffer buffer;
+	/**
+	 * the position of {@link #buffer} in the file
+	 *
+	 * @since 0.4.0
+	 */
+	private long             bufferStart  = 0;
+	/**
+	 * the position of the next row in the file
+	 *
+	 * @since 0.4.0
+	 */
+	private long             position     = 0;
+	/**
+	 * the number of the last read row
+	 *
+	 * @since 0.4.0
+	 */
+	private long             recordNumber = 0;
+	
+	/**
+	 * constructor, with given CSV {@link File}
+	 *
+	 * @param file the CSV {@link File} to read
+	 * @throws IOException if the {@link File} couldn't be opened
+	 * @since 0.4.0
+	 */
+	public MappedRowReader(File file)
+	throws IOException {
+		this(file, null);
+	}
+	
+	/**
+	 * constructor, with given CSV {@link File} and {@link FileRange} to read only
+	 *
+	 * @param file  the CSV {@link File} to read
+	 * @param range the {@link FileRange} to read (e.g. created by {@link #split(File, boolean, int)}) or {@code null} to read the whole {@link File}
+	 * @throws IOException if the {@link File} couldn't be opened
+	 * @since 0.4.0
+	 */
+	public MappedRowReader(File file, FileRange range)
+	throws IOException {
+		RandomAccessFile access = new RandomAccessFile(file, "r");
+		
+		try {
+			this.channel = access.getChannel();
+			this.charset = Charset.defaultCharset();
+			
+			if (range != null) {
+				this.size = Math.min(range.getEnd(), this.channel.size());
+				this.position = range.getStart();
+				this.recordNumber = range.getRecordNumber();
+			} else {
+				this.size = this.channel.size();
+			}
+		} catch (IOException | RuntimeException e) {
+			DataUtils.closeStream(access);
+			throw e;
+		}
+	}
+	
+	/**
+	 * splits a CSV {@link File} into {@link FileRange}s of nearly the same size, which start and end on the boundaries of rows<br>
+	 * The boundaries are found by scanning the delimiters and quotes of all rows once without decoding any cell,
+	 * so line breaks in quoted cells are never taken as boundary.
+	 *
+	 * @param file           the CSV {@link File} to split
+	 * @param ignoreFirstRow should the first row be excluded from the {@link FileRange}s?
+	 * @param count          the maximum number of {@link FileRange}s
+	 * @return the {@link FileRange}s in the order of the {@link File}, which are not empty
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public static List<FileRange> split(File file, boolean ignoreFirstRow, int count)
+	throws IOException {
+		List<FileRange> result = new ArrayList<>();
+		
+		try (MappedRowReader reader = new MappedRowReader(file)) {
+			if (ignoreFirstRow) {
+				reader.next();
+			}
+			
+			long start  = reader.position;
+			long record = reader.recordNumber;
+			long length = (reader.size - start + count - 1) / Math.max(count, 1);
+			
+			while (reader.next() != null) {
+				if (reader.position - start >= length) {
+					result.add(new FileRange(start, reader.position, record));
+					
+					start = reader.position;
+					record = reader.recordNumber;
+				}
+			}
+			
+			if (start < reader.size) {
+				result.add(new FileRange(start, reader.size, record));
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * checks, if a {@link Charset} encodes the delimiters, quotes and line breaks like ASCII,
+	 * so the bytes could be scanned without decoding them
+	 *
+	 * @param charset the {@link Charset} to check
+	 * @return {@code true}, if the {@link Charset} could be used by a {@link MappedRowReader}
+	 *
+	 * @since 0.4.0
+	 */
+	public static boolean isSupported(Charset charset) {
+		byte[] expected = {MappedRowReader.DELIMITER, MappedRowReader.QUOTE, MappedRowReader.CR, MappedRowReader.LF};
+		
+		return Arrays.equals(expected, ",\"\r\n".getBytes(charset));
+	}
+	
+	/**
+	 * gives the position of the next row in the file, which is the end of all rows read so far
+	 *
+	 * @return the position of the next row
+	 *
+	 * @since 0.4.0
+	 */
+	public long getPosition() {
+		return this.position;
+	}
+	
+	/**
+	 * gives the number of the last read row
+	 *
+	 * @return the number of the last read row
+	 *
+	 * @since 0.4.0
+	 */
+	public long getRecordNumber() {
+		return this.recordNumber;
+	}
+	
+	@Override
+	public CsvRow next()
+	throws IOException {
+		if (this.position >= this.size) {
+			return null;
+		}
+		
+		long end = this.scan();
+		
+		if (end < 0) {
+			this.map(this.position);
+			end = this.scan();
+			
+			if (end < 0) {
+				throw new IOException("The row " + (this.recordNumber + 1) + " is larger than " + MappedRowReader.WINDOW + " bytes!");
+			}
+		}
+		
+		this.position = end;
+		this.row.recordNumber = ++this.recordNumber;
+		
+		return this.row;
+	}
+	
+	/**
+	 * maps a part of the file into memory
+	 *
+	 * @param start the position in the file to start the mapping at
+	 * @throws IOException if the file couldn't be mapped
+	 * @since 0.4.0
+	 */
+	private void map(long start)
+	throws IOException {
+		this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MappedRowReader.WINDOW, this.size - start));
+		this.bufferStart = start;
+		this.row.view = this.buffer.duplicate();
+	}
+	
+	/**
+	 * scans the row at {@link #position} and stores the bounds of its cells in {@link #row}
+	 *
+	 * @return the position in the file after the row or {@code -1}, if the row isn't completely mapped
+	 *
+	 * @throws IOException if the row isn't valid
+	 * @since 0.4.0
+	 */
+	private long scan()
+	throws IOException {
+		if (this.buffer == null || this.position < this.bufferStart || this.position >= this.bufferStart + this.buffer.limit()) {
+			this.map(this.position);
+		}
+		
+		MappedByteBuffer buffer = this.buffer;
+		MappedRow        row    = this.row;
+		int              limit  = buffer.limit();
+		boolean          eof    = this.bufferStart + limit >= this.size;
+		int              i      = (int) (this.position - this.bufferStart);
+		
+		row.clear();
+		
+		while (true) {
+			if (i < limit && buffer.get(i) == MappedRowReader.QUOTE) {
+				int     start   = ++i;
+				boolean escaped = false;
+				
+				while (true) {
+					if (i >= limit) {
+						if (eof) {
+							throw new IOException("(row " + (this.recordNumber + 1) + ") EOF reached before encapsulated token finished");
+						}
+						
+						return -1;
+					}
+					
+					if (buffer.get(i) == MappedRowReader.QUOTE) {
+						if (i + 1 >= limit && !(eof)) {
+							return -1;
+						}
+						
+						if (i + 1 < limit && buffer.get(i + 1) == MappedRowReader.QUOTE) {
+							escaped = true;
+							i += 2;
+						} else {
+							break;
+						}
+					} else {
+						i++;
+					}
+				}
+				
+				row.add(start, i, escaped);
+				i++;
+				
+				while (i < limit) {
+					byte b = buffer.get(i);
+					
+					if (b == MappedRowReader.DELIMITER || b == MappedRowReader.CR || b == MappedRowReader.LF) {
+						break;
+					} else if (b >= 0 && Character.isWhitespace((char) b)) {
+						i++;
+					} else {
+						throw new IOException("(row " + (this.recordNumber + 1) + ") invalid char between encapsulated token and delimiter");
+					}
+				}
+			} else {
+				int start = i;
+				
+				while (i < limit) {
+					byte b = buffer.get(i);
+					
+					if (b == MappedRowReader.DELIMITER || b == MappedRowReader.CR || b == MappedRowReader.LF) {
+						break;
+					}
+					
+					i++;
+				}
+				
+				row.add(start, i, false);
+			}
+			
+			if (i >= limit) {
+				return eof ? this.bufferStart + i : -1;
+			}
+			
+			byte b = buffer.get(i++);
+			if (b == MappedRowReader.CR) {
+				if (i >= limit && !(eof)) {
+					return -1;
+				}
+				
+				if (i < limit && buffer.get(i) == MappedRowReader.LF) {
+					i++;
+				}
+				
+				return this.bufferStart + i;
+			} else if (b == MappedRowReader.LF) {
+				return this.bufferStart + i;
+			}
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The mapped memory is released by the garbage collector.
+	 */
+	@Override
+	public void close()
+	throws IOException {
+		this.buffer = null;
+		this.row.view = null;
+		this.channel.close();
+	}
+	
+	/**
+	 * defines the reused {@link CsvRow} of a {@link MappedRowReader}, which decodes its cells on request
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private final class MappedRow
+			implements CsvRow {
+		/**
+		 * the view of the mapped part of the file, which contains the bytes of the cells
+		 *
+		 * @since 0.4.0
+		 */
+		private ByteBuffer       view;
+		/**
+		 * the number of the row
+		 *
+		 * @since 0.4.0
+		 */
+		private long             recordNumber;
+		/**
+		 * the number of cells
+		 *
+		 * @since 0.4.0
+		 */
+		private int              size     = 0;
+		/**
+		 * the start positions of the cells in {@link #view}
+		 *
+		 * @since 0.4.0
+		 */
+		private int[]            starts   = new int[16];
+		/**
+		 * the end positions of the cells in {@link #view}
+		 *
+		 * @since 0.4.0
+		 */
+		private int[]            ends     = new int[16];
+		/**
+		 * contains a cell escaped quotes?
+		 *
+		 * @since 0.4.0
+		 */
+		private boolean[]        escapes  = new boolean[16];
+		/**
+		 * the already decoded cells
+		 *
+		 * @since 0.4.0
+		 */
+		private String[]         values   = new String[16];
+		/**
+		 * the reused array to copy the bytes of a cell into
+		 *
+		 * @since 0.4.0
+		 */
+		private byte[]           bytes    = new byte[256];
+		
+		/**
+		 * removes all cells
+		 *
+		 * @since 0.4.0
+		 */
+		private void clear() {
+			Arrays.fill(this.values, 0, this.size, null);
+			this.size = 0;
+		}
+		
+		/**
+		 * adds a cell
+		 *
+		 * @param start   the start position of the cell in {@link #view}
+		 * @param end     the end position of the cell in {@link #view}
+		 * @param escaped contains the cell escaped quotes?
+		 * @since 0.4.0
+		 */
+		private void add(int start, int end, boolean escaped) {
+			if (this.size >= this.starts.length) {
+				int length = this.starts.length * 2;
+				
+				this.starts = Arrays.copyOf(this.starts, length);
+				this.ends = Arrays.copyOf(this.ends, length);
+				this.escapes = Arrays.copyOf(this.escapes, length);
+				this.values = Arrays.copyOf(this.values, length);
+			}
+			
+			this.starts[this.size] = start;
+			this.ends[this.size] = end;
+			this.escapes[this.size] = escaped;
+			this.size++;
+		}
+		
+		@Override
+		public long getRecordNumber() {
+			return this.recordNumber;
+		}
+		
+		@Override
+		public int size() {
+			return this.size;
+		}
+		
+		@Override
+		public String get(int column)
+		throws IndexOutOfBoundsException {
+			if (column < 0 || column >= this.size) {
+				throw new IndexOutOfBoundsException("Index: " + column + ", Size: " + this.size);
+			}
+			
+			String result = this.values[column];
+			
+			if (result == null) {
+				int start  = this.starts[column];
+				int length = this.ends[column] - start;
+				
+				if (length > this.bytes.length) {
+					this.bytes = new byte[Math.max(length, this.bytes.length * 2)];
+				}
+				
+				this.view.position(start);
+				this.view.get(this.bytes, 0, length);
+				
+				result = new String(this.bytes, 0, length, MappedRowReader.this.charset);
+				
+				if (this.escapes[column]) {
+					result = result.replace("\"\"", "\"");
+				}
+				
+				this.values[column] = result;
+			}
+			
+			return result;
+		}
+		
+		@Override
+		public double getDouble(int column) {
+			if (column < 0 || column >= this.size) {
+				return Double.NaN;
+			}
+			
+			if (this.values[column] != null) {
+				return DecimalParser.parse(this.values[column]);
+			} else if (this.escapes[column]) {
+				return Double.NaN;
+			}
+			
+			return DecimalParser.parse(this.view, this.starts[column], this.ends[column]);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package de.conterra.babelfish.csv.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+/**
+ * defines the available {@link RowReader}s to parse CSV files with
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public enum ParserType {
+	/**
+	 * reads the CSV file with the {@link CommonsRowReader}
+	 *
+	 * @since 0.4.0
+	 */
+	COMMONS {
+		@Override
+		public RowReader open(File file)
+		throws IOException {
+			return new CommonsRowReader(file);
+		}
+	},
+	/**
+	 * reads the CSV file with the {@link MappedRowReader}<br>
+	 * The {@link CommonsRowReader} is used instead, if the default {@link Charset} isn't supported by the {@link MappedRowReader}
+	 * or the file is compressed.
+	 *
+	 * @since 0.4.0
+	 */
+	MAPPED {
+		@Override
+		public RowReader open(File file)
+		throws IOException {
+			if (MappedRowReader.isSupported(Charset.defaultCharset()) && Compression.of(file) == Compression.NONE) {
+				return new MappedRowReader(file);
+			}
+			
+			return new CommonsRowReader(file);
+		}
+	};
+	
+	/**
+	 * opens a CSV {@link File}
+	 *
+	 * @param file the CSV {@link File} to open
+	 * @return the opened {@link RowReader}, which must be closed by the caller
+	 *
+	 * @throws IOException if the {@link File} couldn't be opened
+	 * @since 0.4.0
+	 */
+	public abstract RowReader open(File file)
+	throws IOException;
+	
+	/**
+	 * gives the {@link ParserType} with a given name
+	 *
+	 * @param name the name of the {@link ParserType} (case insensitive)
+	 * @return the {@link ParserType} with the given name or {@code null}, if no one exists
+	 *
+	 * @since 0.4.0
+	 */
+	public static ParserType fromName(String name) {
+		for (ParserType type : ParserType.values()) {
+			if (type.name().equalsIgnoreCase(name.trim())) {
+				return type;
+			}
+		}
+		
+		return null;
+	}
+}
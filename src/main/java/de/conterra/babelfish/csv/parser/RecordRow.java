@@ -0,0 +1,69 @@
+package de.conterra.babelfish.csv.parser;
+
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * defines a {@link CsvRow}, which wraps a {@link CSVRecord}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class RecordRow
+		implements CsvRow {
+	/**
+	 * the wrapped {@link CSVRecord}
+	 *
+	 * @since 0.4.0
+	 */
+	private final CSVRecord record;
+	/**
+	 * the number of the row before the first {@link CSVRecord} of its parser
+	 *
+	 * @since 0.4.0
+	 */
+	private final long      offset;
+	
+	/**
+	 * constructor, with given {@link CSVRecord}
+	 *
+	 * @param record the {@link CSVRecord} to wrap
+	 * @since 0.4.0
+	 */
+	public RecordRow(CSVRecord record) {
+		this(record, 0L);
+	}
+	
+	/**
+	 * constructor, with given {@link CSVRecord} of a parser, which doesn't start at the beginning of the file
+	 *
+	 * @param record the {@link CSVRecord} to wrap
+	 * @param offset the number of the row before the first {@link CSVRecord} of its parser
+	 * @since 0.4.0
+	 */
+	public RecordRow(CSVRecord record, long offset) {
+		this.record = record;
+		this.offset = offset;
+	}
+	
+	@Override
+	public long getRecordNumber() {
+		return this.offset + this.record.getRecordNumber();
+	}
+	
+	@Override
+	public int size() {
+		return this.record.size();
+	}
+	
+	@Override
+	public String get(int column)
+	throws IndexOutOfBoundsException {
+		return this.record.get(column);
+	}
+	
+	@Override
+	public double getDouble(int column) {
+		return column >= 0 && column < this.record.size() ? DecimalParser.parse(this.record.get(column)) : Double.NaN;
+	}
+}
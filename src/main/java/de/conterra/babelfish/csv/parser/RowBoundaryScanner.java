@@ -0,0 +1,122 @@
+package de.conterra.babelfish.csv.parser;
+
+/**
+ * defines a scanner of the boundaries of the rows of a CSV stream, which is fed byte by byte<br>
+ * The boundaries are the same as of the {@link MappedRowReader} and the {@link org.apache.commons.csv.CSVFormat#EXCEL} dialect of the {@link CommonsRowReader}:
+ * A quote is only an encapsulator at the start of a cell, a doubled quote inside of an encapsulated cell is an escaped quote
+ * and a row ends at a line feed, a carriage return or both outside of an encapsulated cell.
+ * The bytes must be of a {@link java.nio.charset.Charset}, which is supported by {@link MappedRowReader#isSupported(java.nio.charset.Charset)}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+class RowBoundaryScanner {
+	/**
+	 * the delimiter of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte DELIMITER = ',';
+	/**
+	 * the encapsulator of the cells
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte QUOTE     = '"';
+	/**
+	 * the carriage return
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte CR        = '\r';
+	/**
+	 * the line feed
+	 *
+	 * @since 0.4.0
+	 */
+	private static final byte LF        = '\n';
+	
+	/**
+	 * is the next byte the first byte of a row?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean rowStart  = true;
+	/**
+	 * is the next byte the first byte of a cell?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean cellStart = true;
+	/**
+	 * is the scanner inside of an encapsulated cell?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean quoted    = false;
+	/**
+	 * was the last byte a quote inside of an encapsulated cell, which either closes the cell or is escaped by the next byte?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean quoteEnd  = false;
+	/**
+	 * was the last byte a carriage return, which ended a row?
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean crPending = false;
+	
+	/**
+	 * scans the next byte
+	 *
+	 * @param b the next byte of the CSV stream
+	 * @return {@code true}, if the byte is the first byte of a row
+	 *
+	 * @since 0.4.0
+	 */
+	boolean next(byte b) {
+		if (this.crPending) {
+			this.crPending = false;
+			
+			if (b == RowBoundaryScanner.LF) {
+				return false;
+			}
+		}
+		
+		boolean result = this.rowStart;
+		this.rowStart = false;
+		
+		if (this.quoted) {
+			if (!(this.quoteEnd)) {
+				this.quoteEnd = b == RowBoundaryScanner.QUOTE;
+				return result;
+			}
+			
+			this.quoteEnd = false;
+			
+			if (b == RowBoundaryScanner.QUOTE) {
+				return result;
+			}
+			
+			this.quoted = false;
+		} else if (this.cellStart && b == RowBoundaryScanner.QUOTE) {
+			this.quoted = true;
+			this.cellStart = false;
+			return result;
+		}
+		
+		if (b == RowBoundaryScanner.DELIMITER) {
+			this.cellStart = true;
+		} else if (b == RowBoundaryScanner.LF || b == RowBoundaryScanner.CR) {
+			this.rowStart = true;
+			this.cellStart = true;
+			this.crPending = b == RowBoundaryScanner.CR;
+		} else {
+			this.cellStart = false;
+		}
+		
+		return result;
+	}
+}
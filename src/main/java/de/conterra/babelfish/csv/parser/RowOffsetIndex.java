@@ -0,0 +1,368 @@
+package de.conterra.babelfish.csv.parser;
+
+import de.conterra.babelfish.util.DataUtils;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * defines an immutable sparse index of the positions of the rows of a CSV file<br>
+ * The position of every {@link #INTERVAL}th row is held, so a {@link MappedRowReader} could seek to any row
+ * and has to skip less than {@link #INTERVAL} rows, instead of reading all rows before.
+ * The first row of a file is excluded, if it contains the headers.
+ * The positions of a compressed file are positions in its decompressed content. They are completed by a block index
+ * of the positions of its gzip members, so the decompression starts at the nearest member before a row instead of at the start of the file.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class RowOffsetIndex {
+	/**
+	 * the number of rows between two indexed positions
+	 *
+	 * @since 0.4.0
+	 */
+	public static final int INTERVAL = 4096;
+	
+	/**
+	 * the positions of the rows {@code 0}, {@link #INTERVAL}, {@code 2 * }{@link #INTERVAL}, ... in the file
+	 *
+	 * @since 0.4.0
+	 */
+	private final long[]      positions;
+	/**
+	 * the number of the row before the first indexed row (e.g. {@code 1}, if the first row contains the headers)
+	 *
+	 * @since 0.4.0
+	 */
+	private final long        recordNumber;
+	/**
+	 * the number of indexed rows
+	 *
+	 * @since 0.4.0
+	 */
+	private final long        size;
+	/**
+	 * the {@link Compression} of the file
+	 *
+	 * @since 0.4.0
+	 */
+	private final Compression compression;
+	/**
+	 * the positions in the compressed file, at which the decompression could start, or {@code null}, if the file isn't compressed
+	 *
+	 * @since 0.4.0
+	 */
+	private final long[]      blockStarts;
+	/**
+	 * the positions of {@link #blockStarts} in the decompressed content or {@code null}, if the file isn't compressed
+	 *
+	 * @since 0.4.0
+	 */
+	private final long[]      blockOffsets;
+	
+	/**
+	 * constructor, with given positions
+	 *
+	 * @param positions    the positions of every {@link #INTERVAL}th row in the (decompressed) file
+	 * @param recordNumber the number of the row before the first indexed row
+	 * @param size         the number of indexed rows
+	 * @param compression  the {@link Compression} of the file
+	 * @param blockStarts  the positions in the compressed file, at which the decompression could start, or {@code null}, if the file isn't compressed
+	 * @param blockOffsets the positions of {@code blockStarts} in the decompressed content or {@code null}, if the file isn't compressed
+	 * @since 0.4.0
+	 */
+	private RowOffsetIndex(long[] positions, long recordNumber, long size, Compression compression, long[] blockStarts, long[] blockOffsets) {
+		this.positions = positions;
+		this.recordNumber = recordNumber;
+		this.size = size;
+		this.compression = compression;
+		this.blockStarts = blockStarts;
+		this.blockOffsets = blockOffsets;
+	}
+	
+	/**
+	 * creates the {@link RowOffsetIndex} of a CSV {@link File}<br>
+	 * The boundaries of the rows are found by a {@link MappedRowReader}, which doesn't decode any cell.
+	 * A compressed {@link File} is decompressed once and its rows are found by scanning the delimiters and quotes of the decompressed bytes.
+	 *
+	 * @param file           the CSV {@link File} to index
+	 * @param ignoreFirstRow should the first row be excluded, because it contains the headers?
+	 * @return the created {@link RowOffsetIndex}
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public static RowOffsetIndex of(File file, boolean ignoreFirstRow)
+	throws IOException {
+		Compression compression = Compression.of(file);
+		
+		if (compression != Compression.NONE) {
+			return RowOffsetIndex.scan(file, compression, ignoreFirstRow);
+		}
+		
+		try (MappedRowReader reader = new MappedRowReader(file)) {
+			if (ignoreFirstRow) {
+				reader.next();
+			}
+			
+			long   recordNumber = reader.getRecordNumber();
+			long[] positions    = new long[16];
+			int    count        = 0;
+			long   size         = 0;
+			
+			do {
+				if (size % RowOffsetIndex.INTERVAL == 0) {
+					if (count == positions.length) {
+						positions = Arrays.copyOf(positions, 2 * count);
+					}
+					positions[count++] = reader.getPosition();
+				}
+				
+				size++;
+			} while (reader.next() != null);
+			
+			return new RowOffsetIndex(Arrays.copyOf(positions, count), recordNumber, size - 1, Compression.NONE, null, null);
+		}
+	}
+	
+	/**
+	 * creates the {@link RowOffsetIndex} of a compressed CSV {@link File} by scanning its decompressed bytes<br>
+	 * The rows are found by a {@link RowBoundaryScanner}, so they are the same rows as of a {@link MappedRowReader} or {@link CommonsRowReader}.
+	 *
+	 * @param file           the compressed CSV {@link File} to index
+	 * @param compression    the {@link Compression} of the {@link File}
+	 * @param ignoreFirstRow should the first row be excluded, because it contains the headers?
+	 * @return the created {@link RowOffsetIndex}
+	 *
+	 * @throws IOException if the {@link File} couldn't be read or decompressed
+	 * @since 0.4.0
+	 */
+	private static RowOffsetIndex scan(File file, Compression compression, boolean ignoreFirstRow)
+	throws IOException {
+		long[] positions  = new long[16];
+		int    count      = 0;
+		long[] starts     = new long[]{0L};
+		long[] offsets    = new long[]{0L};
+		int    blockCount = 1;
+		long   position   = 0L;
+		long   rows       = ignoreFirstRow ? -1L : 0L;
+		
+		try (InputStream in = compression == Compression.GZIP ? new GzipBlockInputStream(file) : compression.open(file, 0L)) {
+			GzipBlockInputStream blocks  = in instanceof GzipBlockInputStream ? (GzipBlockInputStream) in : null;
+			RowBoundaryScanner   scanner = new RowBoundaryScanner();
+			byte[]               buffer  = new byte[1 << 16];
+			int                  read;
+			
+			while ((read = in.read(buffer)) > 0) {
+				if (blocks != null && blocks.getBlockCount() > 1 && blocks.getBlockStart() > starts[blockCount - 1]) {
+					if (blockCount == starts.length) {
+						starts = Arrays.copyOf(starts, 2 * blockCount);
+						offsets = Arrays.copyOf(offsets, 2 * blockCount);
+					}
+					
+					starts[blockCount] = blocks.getBlockStart();
+					offsets[blockCount] = blocks.getBlockOffset();
+					blockCount++;
+				}
+				
+				for (int i = 0; i < read; i++, position++) {
+					if (scanner.next(buffer[i])) {
+						if (rows >= 0 && rows % RowOffsetIndex.INTERVAL == 0) {
+							if (count == positions.length) {
+								positions = Arrays.copyOf(positions, 2 * count);
+							}
+							positions[count++] = position;
+						}
+						
+						rows++;
+					}
+				}
+			}
+		}
+		
+		if (count == 0) {
+			positions[count++] = position;
+		}
+		
+		return new RowOffsetIndex(Arrays.copyOf(positions, count), ignoreFirstRow ? 1L : 0L, Math.max(rows, 0L), compression, Arrays.copyOf(starts, blockCount), Arrays.copyOf(offsets, blockCount));
+	}
+	
+	/**
+	 * gives the number of indexed rows
+	 *
+	 * @return the number of rows of the file, without the headers
+	 *
+	 * @since 0.4.0
+	 */
+	public long size() {
+		return this.size;
+	}
+	
+	/**
+	 * gives the {@link Compression} of the indexed file
+	 *
+	 * @return the {@link Compression}
+	 *
+	 * @since 0.4.0
+	 */
+	public Compression getCompression() {
+		return this.compression;
+	}
+	
+	/**
+	 * gives the number of positions in the compressed file, at which the decompression could start
+	 *
+	 * @return the number of blocks (e.g. gzip members) or {@code 0}, if the file isn't compressed
+	 *
+	 * @since 0.4.0
+	 */
+	public int getBlockCount() {
+		return this.blockStarts != null ? this.blockStarts.length : 0;
+	}
+	
+	/**
+	 * opens a {@link RowReader}, which reads a page of the rows of a CSV {@link File}<br>
+	 * It starts at the nearest indexed position before the first row of the page and skips the rows up to it.
+	 * The rows of a compressed file are read by a {@link CommonsRowReader}, which decompresses the file from the nearest block before this position.
+	 *
+	 * @param file   the indexed CSV {@link File}
+	 * @param offset the index of the first row of the page, where {@code 0} is the first row without the headers
+	 * @param count  the maximum number of rows of the page
+	 * @return the opened {@link RowReader}, which must be closed by the caller
+	 *
+	 * @throws IOException if the {@link File} couldn't be read
+	 * @since 0.4.0
+	 */
+	public RowReader open(File file, long offset, int count)
+	throws IOException {
+		int       block  = (int) Math.min(Math.max(offset, 0L) / RowOffsetIndex.INTERVAL, this.positions.length - 1);
+		long      first  = (long) block * RowOffsetIndex.INTERVAL;
+		RowReader reader = this.compression == Compression.NONE
+		                   ? new MappedRowReader(file, new FileRange(this.positions[block], Long.MAX_VALUE, this.recordNumber + first))
+		                   : this.openCompressed(file, this.positions[block], this.recordNumber + first);
+		
+		try {
+			long skipped = first;
+			while (skipped < offset && reader.next() != null) {
+				skipped++;
+			}
+			
+			return new PageReader(reader, count);
+		} catch (IOException | RuntimeException e) {
+			DataUtils.closeStream(reader);
+			throw e;
+		}
+	}
+	
+	/**
+	 * opens a compressed CSV {@link File} at a position in its decompressed content
+	 *
+	 * @param file         the compressed CSV {@link File}
+	 * @param position     the position of a row in the decompressed content
+	 * @param recordNumber the number of the row before the row at {@code position}
+	 * @return the opened {@link CommonsRowReader}, which must be closed by the caller
+	 *
+	 * @throws IOException if the {@link File} couldn't be read or decompressed
+	 * @since 0.4.0
+	 */
+	private RowReader openCompressed(File file, long position, long recordNumber)
+	throws IOException {
+		int block = Arrays.binarySearch(this.blockOffsets, position);
+		
+		if (block < 0) {
+			block = -block - 2;
+		}
+		
+		InputStream in = this.compression.open(file, this.blockStarts[block]);
+		
+		try {
+			long skip = position - this.blockOffsets[block];
+			
+			while (skip > 0) {
+				long skipped = in.skip(skip);
+				
+				if (skipped <= 0) {
+					if (in.read() < 0) {
+						throw new EOFException("The decompressed content of " + file.getName() + " is shorter than " + position + " bytes!");
+					}
+					
+					skipped = 1;
+				}
+				
+				skip -= skipped;
+			}
+			
+			return new CommonsRowReader(new InputStreamReader(in, Charset.defaultCharset()), recordNumber);
+		} catch (IOException | RuntimeException e) {
+			DataUtils.closeStream(in);
+			throw e;
+		}
+	}
+	
+	/**
+	 * estimates the number of bytes, which are retained by the {@link RowOffsetIndex} on the heap
+	 *
+	 * @return the estimated number of bytes
+	 *
+	 * @since 0.4.0
+	 */
+	public long getHeapSize() {
+		return 48L + 16L + 8L * this.positions.length + (this.blockStarts != null ? 32L + 16L * this.blockStarts.length : 0L);
+	}
+	
+	/**
+	 * defines a {@link RowReader}, which stops after a maximum number of rows
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	public static final class PageReader
+			implements RowReader {
+		/**
+		 * the {@link RowReader} to read the rows from
+		 *
+		 * @since 0.4.0
+		 */
+		private final RowReader reader;
+		/**
+		 * the number of rows, which could be read
+		 *
+		 * @since 0.4.0
+		 */
+		private int             remaining;
+		
+		/**
+		 * constructor, with given {@link RowReader} and maximum number of rows
+		 *
+		 * @param reader the {@link RowReader} to read the rows from
+		 * @param count  the maximum number of rows to read
+		 * @since 0.4.0
+		 */
+		public PageReader(RowReader reader, int count) {
+			this.reader = reader;
+			this.remaining = count;
+		}
+		
+		@Override
+		public CsvRow next()
+		throws IOException {
+			if (this.remaining <= 0) {
+				return null;
+			}
+			
+			this.remaining--;
+			
+			return this.reader.next();
+		}
+		
+		@Override
+		public void close()
+		throws IOException {
+			this.reader.close();
+		}
+	}
+}
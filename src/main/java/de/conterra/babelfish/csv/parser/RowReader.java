@@ -0,0 +1,26 @@
+package de.conterra.babelfish.csv.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * defines a reader, which gives the {@link CsvRow}s of a CSV file one after another
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public interface RowReader
+		extends Closeable {
+	/**
+	 * reads the next {@link CsvRow}<br>
+	 * The returned {@link CsvRow} is only valid until the next call, because an implementation may reuse it.
+	 *
+	 * @return the next {@link CsvRow} or {@code null}, if the end of the file is reached
+	 *
+	 * @throws IOException if the file couldn't be read or isn't a valid CSV file
+	 * @since 0.4.0
+	 */
+	CsvRow next()
+	throws IOException;
+}
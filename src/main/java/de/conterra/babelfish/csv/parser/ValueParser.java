@@ -0,0 +1,196 @@
+package de.conterra.babelfish.csv.parser;
+
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * defines a parser of the cells of typed columns<br>
+ * Integers are parsed without any allocation, decimals by the {@link DecimalParser} and dates in the ISO-8601 format
+ * (e.g. {@code 2017-03-21}, {@code 2017-03-21 12:30:00} or {@code 2017-03-21T12:30:00+01:00}) to milliseconds since the epoch,
+ * as expected by the ArcGIS REST API. A date without an offset is interpreted as UTC.
+ * Leading and trailing whitespaces are ignored. Empty and malformed cells are returned as missing values instead of throwing an {@link Exception}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class ValueParser {
+	/**
+	 * the format of a date with time and offset
+	 *
+	 * @since 0.4.0
+	 */
+	private static final DateTimeFormatter OFFSET_DATE_TIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+	/**
+	 * the format of a date with time, but without offset
+	 *
+	 * @since 0.4.0
+	 */
+	private static final DateTimeFormatter LOCAL_DATE_TIME  = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+	/**
+	 * the format of a date without time
+	 *
+	 * @since 0.4.0
+	 */
+	private static final DateTimeFormatter LOCAL_DATE       = DateTimeFormatter.ISO_LOCAL_DATE;
+	
+	/**
+	 * private standard constructor, to prevent initialization
+	 *
+	 * @since 0.4.0
+	 */
+	private ValueParser() {
+	}
+	
+	/**
+	 * parses a cell to the value of a {@link FieldType}
+	 *
+	 * @param type the {@link FieldType} of the column
+	 * @param cell the cell to parse or {@code null}, if it is missing
+	 * @return an {@link Integer}, a {@link Double}, the milliseconds of a date as {@link Long} or the cell itself for all other {@link FieldType}s
+	 * or {@code null}, if the cell is missing, empty or malformed
+	 *
+	 * @since 0.4.0
+	 */
+	public static Object parse(FieldType type, String cell) {
+		if (cell == null) {
+			return null;
+		}
+		
+		switch (type) {
+			case Integer:
+				return ValueParser.parseInteger(cell);
+			case Double:
+				double value = ValueParser.parseDouble(cell);
+				
+				return Double.isNaN(value) ? null : value;
+			case Date:
+				return ValueParser.parseDate(cell);
+			default:
+				return cell;
+		}
+	}
+	
+	/**
+	 * parses an integer, which fits into an {@code int}
+	 *
+	 * @param text the text to parse
+	 * @return the parsed integer or {@code null}, if {@code text} is {@code null} or no valid integer
+	 *
+	 * @since 0.4.0
+	 */
+	public static Integer parseInteger(CharSequence text) {
+		if (text == null) {
+			return null;
+		}
+		
+		int from = 0;
+		int to   = text.length();
+		
+		while (from < to && text.charAt(from) <= ' ') {
+			from++;
+		}
+		while (to > from && text.charAt(to - 1) <= ' ') {
+			to--;
+		}
+		
+		boolean negative = false;
+		if (from < to && (text.charAt(from) == '-' || text.charAt(from) == '+')) {
+			negative = text.charAt(from) == '-';
+			from++;
+		}
+		
+		if (from >= to || to - from > 10) {
+			return null;
+		}
+		
+		long value = 0L;
+		for (int i = from; i < to; i++) {
+			char c = text.charAt(i);
+			
+			if (c < '0' || c > '9') {
+				return null;
+			}
+			
+			value = 10L * value + (c - '0');
+		}
+		
+		value = negative ? -value : value;
+		
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			return null;
+		}
+		
+		return (int) value;
+	}
+	
+	/**
+	 * parses a decimal number
+	 *
+	 * @param text the text to parse
+	 * @return the parsed number or {@link Double#NaN}, if {@code text} is {@code null} or no valid decimal number
+	 *
+	 * @see DecimalParser#parse(CharSequence)
+	 * @since 0.4.0
+	 */
+	public static double parseDouble(CharSequence text) {
+		return DecimalParser.parse(text);
+	}
+	
+	/**
+	 * parses an ISO-8601 date with an optional time and offset
+	 *
+	 * @param text the text to parse
+	 * @return the milliseconds since the epoch or {@code null}, if {@code text} is {@code null} or no valid date
+	 *
+	 * @since 0.4.0
+	 */
+	public static Long parseDate(String text) {
+		if (text == null) {
+			return null;
+		}
+		
+		String trimmed = text.trim();
+		
+		if (trimmed.length() < 10 || trimmed.charAt(4) != '-' || trimmed.charAt(7) != '-') {
+			return null;
+		}
+		
+		try {
+			if (trimmed.length() == 10) {
+				return LocalDate.parse(trimmed, ValueParser.LOCAL_DATE).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+			}
+			
+			if (trimmed.charAt(10) == ' ') {
+				trimmed = trimmed.substring(0, 10) + 'T' + trimmed.substring(11);
+			}
+			
+			char last = trimmed.charAt(trimmed.length() - 1);
+			if (last == 'Z' || trimmed.indexOf('+', 10) >= 0 || trimmed.indexOf('-', 10) >= 0) {
+				return OffsetDateTime.parse(trimmed, ValueParser.OFFSET_DATE_TIME).toInstant().toEpochMilli();
+			}
+			
+			return LocalDateTime.parse(trimmed, ValueParser.LOCAL_DATE_TIME).toInstant(ZoneOffset.UTC).toEpochMilli();
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * formats the milliseconds of a date as ISO-8601 date and time in UTC
+	 *
+	 * @param millis the milliseconds since the epoch
+	 * @return the formatted date
+	 *
+	 * @since 0.4.0
+	 */
+	public static String formatDate(long millis) {
+		return ValueParser.LOCAL_DATE_TIME.format(LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1000000, ZoneOffset.UTC));
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * package of readers, which split CSV files into rows and cells
+ *
+ * @version 0.4.0
+ * @author ChrissW-R1
+ * @since 0.4.0
+ */
+package de.conterra.babelfish.csv.parser;
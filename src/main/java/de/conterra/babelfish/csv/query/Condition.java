@@ -0,0 +1,222 @@
+package de.conterra.babelfish.csv.query;
+
+import de.conterra.babelfish.csv.data.LayerData;
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * defines a compiled condition of a where-clause<br>
+ * A condition is evaluated on raw {@link CsvRow}s, on the rows of parsed CSV data or on the attributes of already built features.
+ * Negations are pushed down to the {@link FieldCondition}s, so a missing value never satisfies a condition,
+ * like the {@code UNKNOWN} of SQL.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+abstract class Condition {
+	/**
+	 * defines a {@link Condition} with a constant result
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	static final class Constant
+			extends Condition {
+		/**
+		 * the {@link Constant}, which accepts all rows
+		 *
+		 * @since 0.4.0
+		 */
+		static final Constant TRUE  = new Constant(true);
+		/**
+		 * the {@link Constant}, which rejects all rows
+		 *
+		 * @since 0.4.0
+		 */
+		static final Constant FALSE = new Constant(false);
+		
+		/**
+		 * the result
+		 *
+		 * @since 0.4.0
+		 */
+		private final boolean value;
+		
+		/**
+		 * constructor, with given result
+		 *
+		 * @param value the result
+		 * @since 0.4.0
+		 */
+		private Constant(boolean value) {
+			this.value = value;
+		}
+		
+		/**
+		 * gives the {@link Constant} of a result
+		 *
+		 * @param value the result
+		 * @return {@link #TRUE} or {@link #FALSE}
+		 *
+		 * @since 0.4.0
+		 */
+		static Constant of(boolean value) {
+			return value ? Constant.TRUE : Constant.FALSE;
+		}
+		
+		@Override
+		boolean test(CsvRow row) {
+			return this.value;
+		}
+		
+		@Override
+		boolean test(Map<? extends Field, ?> attributes) {
+			return this.value;
+		}
+		
+		@Override
+		IntPredicate bind(LayerData data) {
+			boolean result = this.value;
+			
+			return row -> result;
+		}
+		
+		@Override
+		Condition negate() {
+			return Constant.of(!(this.value));
+		}
+	}
+	
+	/**
+	 * defines a conjunction ({@code AND}) or disjunction ({@code OR}) of {@link Condition}s, which are evaluated in the given order
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	static final class Junction
+			extends Condition {
+		/**
+		 * must all {@link Condition}s be satisfied or only one of them?
+		 *
+		 * @since 0.4.0
+		 */
+		private final boolean     conjunction;
+		/**
+		 * the combined {@link Condition}s
+		 *
+		 * @since 0.4.0
+		 */
+		private final Condition[] conditions;
+		
+		/**
+		 * constructor, with given {@link Condition}s
+		 *
+		 * @param conjunction must all {@link Condition}s be satisfied ({@code AND}) or only one of them ({@code OR})?
+		 * @param conditions  the {@link Condition}s to combine
+		 * @since 0.4.0
+		 */
+		Junction(boolean conjunction, Condition... conditions) {
+			this.conjunction = conjunction;
+			this.conditions = conditions;
+		}
+		
+		@Override
+		boolean test(CsvRow row) {
+			for (Condition condition : this.conditions) {
+				if (condition.test(row) != this.conjunction) {
+					return !(this.conjunction);
+				}
+			}
+			
+			return this.conjunction;
+		}
+		
+		@Override
+		boolean test(Map<? extends Field, ?> attributes) {
+			for (Condition condition : this.conditions) {
+				if (condition.test(attributes) != this.conjunction) {
+					return !(this.conjunction);
+				}
+			}
+			
+			return this.conjunction;
+		}
+		
+		@Override
+		IntPredicate bind(LayerData data) {
+			IntPredicate[] predicates  = new IntPredicate[this.conditions.length];
+			boolean        conjunction = this.conjunction;
+			
+			for (int i = 0; i < predicates.length; i++) {
+				predicates[i] = this.conditions[i].bind(data);
+			}
+			
+			return row -> {
+				for (IntPredicate predicate : predicates) {
+					if (predicate.test(row) != conjunction) {
+						return !(conjunction);
+					}
+				}
+				
+				return conjunction;
+			};
+		}
+		
+		@Override
+		Condition negate() {
+			Condition[] negated = new Condition[this.conditions.length];
+			
+			for (int i = 0; i < negated.length; i++) {
+				negated[i] = this.conditions[i].negate();
+			}
+			
+			return new Junction(!(this.conjunction), negated);
+		}
+	}
+	
+	/**
+	 * evaluates the {@link Condition} on a raw {@link CsvRow}
+	 *
+	 * @param row the {@link CsvRow} to evaluate
+	 * @return {@code true}, if the {@link CsvRow} satisfies the {@link Condition}
+	 *
+	 * @since 0.4.0
+	 */
+	abstract boolean test(CsvRow row);
+	
+	/**
+	 * evaluates the {@link Condition} on the attributes of a feature
+	 *
+	 * @param attributes the attributes of the feature
+	 * @return {@code true}, if the attributes satisfy the {@link Condition}
+	 *
+	 * @since 0.4.0
+	 */
+	abstract boolean test(Map<? extends Field, ?> attributes);
+	
+	/**
+	 * binds the {@link Condition} to the columns of parsed CSV data<br>
+	 * Everything, which doesn't depend on a single row, is computed once here.
+	 *
+	 * @param data the parsed CSV data
+	 * @return an {@link IntPredicate} of the indices of the rows in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	abstract IntPredicate bind(LayerData data);
+	
+	/**
+	 * gives the negation of the {@link Condition}
+	 *
+	 * @return the negated {@link Condition}
+	 *
+	 * @since 0.4.0
+	 */
+	abstract Condition negate();
+}
@@ -0,0 +1,424 @@
+package de.conterra.babelfish.csv.query;
+
+import de.conterra.babelfish.csv.data.AttributeColumn;
+import de.conterra.babelfish.csv.data.DictionaryColumn;
+import de.conterra.babelfish.csv.data.LayerData;
+import de.conterra.babelfish.csv.data.NumberColumn;
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.csv.parser.ValueParser;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * defines a {@link Condition} on the values of a single {@link Operand}<br>
+ * The literals are converted once to the {@link FieldType} of the {@link Operand}, so numbers and dates are compared as {@code double}s
+ * and all other values as {@link String}s. A missing or malformed value satisfies only {@code IS NULL}, also if the {@link Condition} is negated.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+final class FieldCondition
+		extends Condition {
+	/**
+	 * defines the operators of a {@link FieldCondition}
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	enum Operator {
+		/**
+		 * {@code =} with one literal
+		 *
+		 * @since 0.4.0
+		 */
+		EQUAL,
+		/**
+		 * {@code <} with one literal
+		 *
+		 * @since 0.4.0
+		 */
+		LESS,
+		/**
+		 * {@code <=} with one literal
+		 *
+		 * @since 0.4.0
+		 */
+		LESS_EQUAL,
+		/**
+		 * {@code >} with one literal
+		 *
+		 * @since 0.4.0
+		 */
+		GREATER,
+		/**
+		 * {@code >=} with one literal
+		 *
+		 * @since 0.4.0
+		 */
+		GREATER_EQUAL,
+		/**
+		 * {@code BETWEEN} with the lower and upper bound as literals
+		 *
+		 * @since 0.4.0
+		 */
+		BETWEEN,
+		/**
+		 * {@code IN} with any number of literals
+		 *
+		 * @since 0.4.0
+		 */
+		IN,
+		/**
+		 * {@code LIKE} with a pattern as literal, which contains {@code %} for any number of characters and {@code _} for a single character
+		 *
+		 * @since 0.4.0
+		 */
+		LIKE,
+		/**
+		 * {@code IS NULL} without literals
+		 *
+		 * @since 0.4.0
+		 */
+		NULL
+	}
+	
+	/**
+	 * the {@link Operand} to evaluate
+	 *
+	 * @since 0.4.0
+	 */
+	private final Operand     operand;
+	/**
+	 * the {@link Operator}
+	 *
+	 * @since 0.4.0
+	 */
+	private final Operator    operator;
+	/**
+	 * is the result of the {@link Operator} negated?
+	 *
+	 * @since 0.4.0
+	 */
+	private final boolean     negated;
+	/**
+	 * the literals as numbers (ascending sorted for {@link Operator#IN}) or {@code null}, if the {@link Operand} isn't numeric
+	 *
+	 * @since 0.4.0
+	 */
+	private final double[]    numbers;
+	/**
+	 * the literals as {@link String}s or {@code null}, if the {@link Operand} is numeric
+	 *
+	 * @since 0.4.0
+	 */
+	private final String[]    texts;
+	/**
+	 * the literals of {@link Operator#IN} as {@link String}s or {@code null}, if the {@link Operand} is numeric or the {@link Operator} is another one
+	 *
+	 * @since 0.4.0
+	 */
+	private final Set<String> textSet;
+	/**
+	 * the {@link Pattern} of {@link Operator#LIKE} or {@code null}, if the {@link Operator} is another one
+	 *
+	 * @since 0.4.0
+	 */
+	private final Pattern     pattern;
+	
+	/**
+	 * constructor, with given {@link Operand}, {@link Operator} and literals
+	 *
+	 * @param operand  the {@link Operand} to evaluate
+	 * @param operator the {@link Operator}
+	 * @param literals the literals as {@link String}s or {@link BigDecimal}s
+	 * @param negated  is the result of the {@link Operator} negated?
+	 * @throws IllegalArgumentException if a literal couldn't be converted to the {@link FieldType} of the {@link Operand}
+	 *                                  or {@link Operator#LIKE} is used on a numeric {@link Operand}
+	 * @since 0.4.0
+	 */
+	FieldCondition(Operand operand, Operator operator, List<?> literals, boolean negated)
+	throws IllegalArgumentException {
+		this.operand = operand;
+		this.operator = operator;
+		this.negated = negated;
+		
+		if (operand.isNumeric()) {
+			if (operator == Operator.LIKE) {
+				throw new IllegalArgumentException("LIKE could only be used on text fields, but not on the " + operand.getType() + " field " + operand.getField().getName() + "!");
+			}
+			
+			this.numbers = new double[literals.size()];
+			for (int i = 0; i < this.numbers.length; i++) {
+				this.numbers[i] = this.toNumber(literals.get(i));
+			}
+			
+			if (operator == Operator.IN) {
+				Arrays.sort(this.numbers);
+			}
+			
+			this.texts = null;
+			this.textSet = null;
+			this.pattern = null;
+		} else {
+			this.texts = new String[literals.size()];
+			for (int i = 0; i < this.texts.length; i++) {
+				Object literal = literals.get(i);
+				
+				this.texts[i] = literal instanceof BigDecimal ? ((BigDecimal) literal).toPlainString() : literal.toString();
+			}
+			
+			this.numbers = null;
+			this.textSet = operator == Operator.IN ? new HashSet<>(Arrays.asList(this.texts)) : null;
+			this.pattern = operator == Operator.LIKE ? FieldCondition.toPattern(this.texts[0]) : null;
+		}
+	}
+	
+	/**
+	 * copy constructor, with another negation
+	 *
+	 * @param other   the {@link FieldCondition} to copy
+	 * @param negated is the result of the {@link Operator} negated?
+	 * @since 0.4.0
+	 */
+	private FieldCondition(FieldCondition other, boolean negated) {
+		this.operand = other.operand;
+		this.operator = other.operator;
+		this.negated = negated;
+		this.numbers = other.numbers;
+		this.texts = other.texts;
+		this.textSet = other.textSet;
+		this.pattern = other.pattern;
+	}
+	
+	/**
+	 * converts a literal to a number of the {@link FieldType} of the {@link Operand}
+	 *
+	 * @param literal the literal to convert
+	 * @return the number or the milliseconds of a date
+	 *
+	 * @throws IllegalArgumentException if the literal is no valid number or date
+	 * @since 0.4.0
+	 */
+	private double toNumber(Object literal)
+	throws IllegalArgumentException {
+		if (literal instanceof BigDecimal) {
+			return ((BigDecimal) literal).doubleValue();
+		}
+		
+		String text  = literal.toString();
+		double value = this.operand.getType() == FieldType.Date && !(this.operand.isObjectId()) ? this.operand.parse(text) : ValueParser.parseDouble(text);
+		
+		if (Double.isNaN(value)) {
+			throw new IllegalArgumentException("The literal '" + text + "' couldn't be compared with the " + this.operand.getType() + " field " + this.operand.getField().getName() + "!");
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * converts the pattern of {@link Operator#LIKE} to a {@link Pattern}
+	 *
+	 * @param like the pattern with {@code %} for any number of characters and {@code _} for a single character
+	 * @return the {@link Pattern}, which matches the same {@link String}s
+	 *
+	 * @since 0.4.0
+	 */
+	private static Pattern toPattern(String like) {
+		StringBuilder regex = new StringBuilder();
+		int           start = 0;
+		
+		for (int i = 0; i < like.length(); i++) {
+			char c = like.charAt(i);
+			
+			if (c == '%' || c == '_') {
+				if (i > start) {
+					regex.append(Pattern.quote(like.substring(start, i)));
+				}
+				
+				regex.append(c == '%' ? ".*" : ".");
+				start = i + 1;
+			}
+		}
+		
+		if (like.length() > start) {
+			regex.append(Pattern.quote(like.substring(start)));
+		}
+		
+		return Pattern.compile(regex.toString(), Pattern.DOTALL);
+	}
+	
+	/**
+	 * evaluates the {@link Condition} on a number
+	 *
+	 * @param value the number, the milliseconds of a date or {@link Double#NaN}, if the value is missing
+	 * @return {@code true}, if the value satisfies the {@link Condition}
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean testNumber(double value) {
+		if (Double.isNaN(value)) {
+			return this.operator == Operator.NULL && !(this.negated);
+		}
+		
+		boolean result;
+		switch (this.operator) {
+			case EQUAL:
+				result = value == this.numbers[0];
+				break;
+			case LESS:
+				result = value < this.numbers[0];
+				break;
+			case LESS_EQUAL:
+				result = value <= this.numbers[0];
+				break;
+			case GREATER:
+				result = value > this.numbers[0];
+				break;
+			case GREATER_EQUAL:
+				result = value >= this.numbers[0];
+				break;
+			case BETWEEN:
+				result = value >= this.numbers[0] && value <= this.numbers[1];
+				break;
+			case IN:
+				result = Arrays.binarySearch(this.numbers, value) >= 0;
+				break;
+			default:
+				result = false;
+		}
+		
+		return result != this.negated;
+	}
+	
+	/**
+	 * evaluates the {@link Condition} on a text
+	 *
+	 * @param value the text or {@code null}, if the value is missing
+	 * @return {@code true}, if the value satisfies the {@link Condition}
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean testText(String value) {
+		if (value == null) {
+			return this.operator == Operator.NULL && !(this.negated);
+		}
+		
+		boolean result;
+		switch (this.operator) {
+			case EQUAL:
+				result = value.equals(this.texts[0]);
+				break;
+			case LESS:
+				result = value.compareTo(this.texts[0]) < 0;
+				break;
+			case LESS_EQUAL:
+				result = value.compareTo(this.texts[0]) <= 0;
+				break;
+			case GREATER:
+				result = value.compareTo(this.texts[0]) > 0;
+				break;
+			case GREATER_EQUAL:
+				result = value.compareTo(this.texts[0]) >= 0;
+				break;
+			case BETWEEN:
+				result = value.compareTo(this.texts[0]) >= 0 && value.compareTo(this.texts[1]) <= 0;
+				break;
+			case IN:
+				result = this.textSet.contains(value);
+				break;
+			case LIKE:
+				result = this.pattern.matcher(value).matches();
+				break;
+			default:
+				result = false;
+		}
+		
+		return result != this.negated;
+	}
+	
+	@Override
+	boolean test(CsvRow row) {
+		if (this.numbers != null) {
+			return this.testNumber(this.operand.getNumber(row));
+		}
+		
+		return this.testText(this.operand.getText(row));
+	}
+	
+	@Override
+	boolean test(Map<? extends Field, ?> attributes) {
+		if (this.numbers != null) {
+			return this.testNumber(this.operand.getNumber(attributes));
+		}
+		
+		return this.testText(this.operand.getText(attributes));
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * The values of a dictionary-encoded {@link DictionaryColumn} are evaluated only once per distinct value,
+	 * so the rows are only checked by their codes.
+	 */
+	@Override
+	IntPredicate bind(LayerData data) {
+		if (this.operand.isObjectId()) {
+			return row -> this.testNumber(data.hasObjectId(row) ? data.getObjectId(row) : Double.NaN);
+		}
+		
+		AttributeColumn column = data.getAttributes().get(this.operand.getColumn());
+		
+		if (column == null) {
+			boolean result = this.numbers != null ? this.testNumber(Double.NaN) : this.testText(null);
+			
+			return row -> result;
+		}
+		
+		if (this.numbers != null) {
+			if (column instanceof NumberColumn) {
+				NumberColumn numbers = (NumberColumn) column;
+				
+				return row -> this.testNumber(numbers.getDouble(row));
+			}
+			
+			return row -> this.testNumber(this.operand.parse(column.get(row)));
+		}
+		
+		if (column instanceof DictionaryColumn && ((DictionaryColumn) column).isEncoded()) {
+			DictionaryColumn dictionaryColumn = (DictionaryColumn) column;
+			List<String>     dictionary       = dictionaryColumn.getDictionary();
+			BitSet           matches          = new BitSet(dictionary.size());
+			boolean          missing          = this.testText(null);
+			
+			for (int code = 0; code < dictionary.size(); code++) {
+				if (this.testText(dictionary.get(code))) {
+					matches.set(code);
+				}
+			}
+			
+			return row -> {
+				int code = dictionaryColumn.getCode(row);
+				
+				return code != DictionaryColumn.NULL ? matches.get(code) : missing;
+			};
+		}
+		
+		return row -> this.testText(column.get(row));
+	}
+	
+	@Override
+	Condition negate() {
+		return new FieldCondition(this, !(this.negated));
+	}
+}
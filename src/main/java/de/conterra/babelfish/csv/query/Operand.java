@@ -0,0 +1,207 @@
+package de.conterra.babelfish.csv.query;
+
+import de.conterra.babelfish.csv.data.NumberColumn;
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.csv.parser.ValueParser;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+
+import java.util.Map;
+
+/**
+ * defines a header {@link Field} or the object ID, which is referenced by a where-clause<br>
+ * It reads the values of its column of {@link CsvRow}s and of the attribute {@link Map}s of already built features.
+ * The cells of numeric {@link FieldType}s are parsed like the cells of a {@link NumberColumn}.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+final class Operand {
+	/**
+	 * the {@link Field}, which holds the values in the attributes of the features
+	 *
+	 * @since 0.4.0
+	 */
+	private final Field     field;
+	/**
+	 * the index of the column or a negative number for the synthetic object IDs
+	 *
+	 * @since 0.4.0
+	 */
+	private final int       column;
+	/**
+	 * the {@link FieldType} of the values
+	 *
+	 * @since 0.4.0
+	 */
+	private final FieldType type;
+	/**
+	 * is the column the object ID column?
+	 *
+	 * @since 0.4.0
+	 */
+	private final boolean   objectId;
+	
+	/**
+	 * constructor, with given {@link Field}, column and {@link FieldType}
+	 *
+	 * @param field    the {@link Field}, which holds the values in the attributes of the features
+	 * @param column   the index of the column or a negative number for the synthetic object IDs
+	 * @param type     the {@link FieldType} of the values
+	 * @param objectId is the column the object ID column?
+	 * @since 0.4.0
+	 */
+	Operand(Field field, int column, FieldType type, boolean objectId) {
+		this.field = field;
+		this.column = column;
+		this.type = type;
+		this.objectId = objectId;
+	}
+	
+	/**
+	 * gives the {@link Field}, which holds the values in the attributes of the features
+	 *
+	 * @return the {@link Field}
+	 *
+	 * @since 0.4.0
+	 */
+	Field getField() {
+		return this.field;
+	}
+	
+	/**
+	 * gives the index of the column
+	 *
+	 * @return the index of the column
+	 *
+	 * @since 0.4.0
+	 */
+	int getColumn() {
+		return this.column;
+	}
+	
+	/**
+	 * gives the {@link FieldType} of the values
+	 *
+	 * @return the {@link FieldType} of the values
+	 *
+	 * @since 0.4.0
+	 */
+	FieldType getType() {
+		return this.type;
+	}
+	
+	/**
+	 * checks, if the column is the object ID column
+	 *
+	 * @return {@code true}, if the column is the object ID column
+	 *
+	 * @since 0.4.0
+	 */
+	boolean isObjectId() {
+		return this.objectId;
+	}
+	
+	/**
+	 * checks, if the values are compared as numbers
+	 *
+	 * @return {@code true}, if the column is the object ID column or contains numbers or dates
+	 *
+	 * @since 0.4.0
+	 */
+	boolean isNumeric() {
+		return this.objectId || NumberColumn.isSupported(this.type);
+	}
+	
+	/**
+	 * parses a cell to a number
+	 *
+	 * @param cell the cell to parse or {@code null}, if it is missing
+	 * @return the parsed number, the milliseconds of a date or {@link Double#NaN}, if the cell is missing or malformed
+	 *
+	 * @since 0.4.0
+	 */
+	double parse(String cell) {
+		if (cell == null) {
+			return Double.NaN;
+		}
+		
+		if (this.objectId || this.type == FieldType.Integer) {
+			Integer value = ValueParser.parseInteger(cell);
+			
+			return value != null ? value : Double.NaN;
+		}
+		if (this.type == FieldType.Date) {
+			Long millis = ValueParser.parseDate(cell);
+			
+			return millis != null ? millis : Double.NaN;
+		}
+		
+		return ValueParser.parseDouble(cell);
+	}
+	
+	/**
+	 * gives the cell of a {@link CsvRow}
+	 *
+	 * @param row the {@link CsvRow} to read
+	 * @return the cell or {@code null}, if the {@link CsvRow} has no cell in the column
+	 *
+	 * @since 0.4.0
+	 */
+	String getText(CsvRow row) {
+		return this.column < row.size() ? row.get(this.column) : null;
+	}
+	
+	/**
+	 * gives the cell of a {@link CsvRow} as number
+	 *
+	 * @param row the {@link CsvRow} to read
+	 * @return the number, the milliseconds of a date, the number of the {@link CsvRow} as synthetic object ID
+	 * or {@link Double#NaN}, if the cell is missing or malformed
+	 *
+	 * @since 0.4.0
+	 */
+	double getNumber(CsvRow row) {
+		if (this.objectId && this.column < 0) {
+			return row.getRecordNumber();
+		}
+		if (!(this.objectId) && this.type == FieldType.Double) {
+			return row.getDouble(this.column);
+		}
+		
+		return this.parse(this.getText(row));
+	}
+	
+	/**
+	 * gives the attribute of a feature as text
+	 *
+	 * @param attributes the attributes of the feature
+	 * @return the attribute as text or {@code null}, if it is missing
+	 *
+	 * @since 0.4.0
+	 */
+	String getText(Map<? extends Field, ?> attributes) {
+		Object value = attributes.get(this.field);
+		
+		return value != null ? value.toString() : null;
+	}
+	
+	/**
+	 * gives the attribute of a feature as number
+	 *
+	 * @param attributes the attributes of the feature
+	 * @return the number, the milliseconds of a date or {@link Double#NaN}, if the attribute is missing or malformed
+	 *
+	 * @since 0.4.0
+	 */
+	double getNumber(Map<? extends Field, ?> attributes) {
+		Object value = attributes.get(this.field);
+		
+		if (value instanceof Number) {
+			return ((Number) value).doubleValue();
+		}
+		
+		return this.parse(value != null ? value.toString() : null);
+	}
+}
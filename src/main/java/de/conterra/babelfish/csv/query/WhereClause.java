@@ -0,0 +1,154 @@
+package de.conterra.babelfish.csv.query;
+
+import de.conterra.babelfish.csv.data.LayerData;
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import de.conterra.babelfish.plugin.v10_02.feature.wrapper.LayerWrapper;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * defines a compiled where-clause, which filters the rows of a CSV file by the header {@link Field}s<br>
+ * It is evaluated on raw {@link CsvRow}s, so rejected rows are skipped before any feature is built,
+ * on the columns of parsed CSV data without building features at all or on the attributes of already built features.
+ * The object ID is referenced by the name of its header {@link Field} or of {@link LayerWrapper#DEFAULT_OBJECT_ID_FIELD}.
+ * See {@link WhereParser} for the supported syntax.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public final class WhereClause {
+	/**
+	 * the {@link WhereClause}, which accepts all rows
+	 *
+	 * @since 0.4.0
+	 */
+	public static final WhereClause ALL = new WhereClause("1=1", Condition.Constant.TRUE);
+	
+	/**
+	 * the where-clause as text
+	 *
+	 * @since 0.4.0
+	 */
+	private final String    text;
+	/**
+	 * the compiled {@link Condition}
+	 *
+	 * @since 0.4.0
+	 */
+	private final Condition condition;
+	
+	/**
+	 * constructor, with given text and compiled {@link Condition}
+	 *
+	 * @param text      the where-clause as text
+	 * @param condition the compiled {@link Condition}
+	 * @since 0.4.0
+	 */
+	private WhereClause(String text, Condition condition) {
+		this.text = text;
+		this.condition = condition;
+	}
+	
+	/**
+	 * compiles a where-clause against the header {@link Field}s of a CSV file
+	 *
+	 * @param where    the where-clause to compile or {@code null}, if all rows should be accepted
+	 * @param headers  the header {@link Field}s, mapped by their column index
+	 * @param idColumn the index of the object ID column or a negative number, if the numbers of the rows are used as synthetic object IDs
+	 * @return the compiled {@link WhereClause} or {@link #ALL}, if {@code where} is {@code null} or empty
+	 *
+	 * @throws IllegalArgumentException if the where-clause is invalid, references an unknown field
+	 *                                  or compares a field with a literal, which couldn't be converted to its {@link FieldType}
+	 * @since 0.4.0
+	 */
+	public static WhereClause compile(String where, Map<Integer, ? extends Field> headers, int idColumn)
+	throws IllegalArgumentException {
+		if (where == null || where.trim().isEmpty()) {
+			return WhereClause.ALL;
+		}
+		
+		Map<String, Operand> operands = new HashMap<>();
+		Operand              objectId = new Operand(LayerWrapper.DEFAULT_OBJECT_ID_FIELD, idColumn, FieldType.Integer, true);
+		
+		for (Map.Entry<Integer, ? extends Field> header : headers.entrySet()) {
+			int   column = header.getKey();
+			Field field  = header.getValue();
+			
+			operands.put(field.getName().toLowerCase(Locale.ROOT), column == idColumn ? objectId : new Operand(field, column, field.getType(), false));
+		}
+		
+		operands.putIfAbsent(LayerWrapper.DEFAULT_OBJECT_ID_FIELD.getName().toLowerCase(Locale.ROOT), objectId);
+		
+		return new WhereClause(where, new WhereParser(where, operands).parse());
+	}
+	
+	/**
+	 * gives the where-clause as text
+	 *
+	 * @return the where-clause as text
+	 *
+	 * @since 0.4.0
+	 */
+	public String getText() {
+		return this.text;
+	}
+	
+	/**
+	 * checks, if the {@link WhereClause} accepts all rows (e.g. {@code 1=1})
+	 *
+	 * @return {@code true}, if no row has to be evaluated
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean isAll() {
+		return this.condition == Condition.Constant.TRUE;
+	}
+	
+	/**
+	 * evaluates the {@link WhereClause} on a raw {@link CsvRow}<br>
+	 * Only the cells of the referenced columns are read and parsed.
+	 *
+	 * @param row the {@link CsvRow} to evaluate
+	 * @return {@code true}, if the {@link CsvRow} is accepted
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean test(CsvRow row) {
+		return this.condition.test(row);
+	}
+	
+	/**
+	 * evaluates the {@link WhereClause} on the attributes of a feature
+	 *
+	 * @param attributes the attributes of the feature
+	 * @return {@code true}, if the feature is accepted
+	 *
+	 * @since 0.4.0
+	 */
+	public boolean test(Map<? extends Field, ?> attributes) {
+		return this.condition.test(attributes);
+	}
+	
+	/**
+	 * binds the {@link WhereClause} to the columns of parsed CSV data, so the rows could be evaluated without building features
+	 *
+	 * @param data the parsed CSV data
+	 * @return an {@link IntPredicate}, which accepts the indices of the accepted rows in {@code data}
+	 *
+	 * @since 0.4.0
+	 */
+	public IntPredicate bind(LayerData data) {
+		return this.condition.bind(data);
+	}
+	
+	@Override
+	public String toString() {
+		return this.text;
+	}
+}
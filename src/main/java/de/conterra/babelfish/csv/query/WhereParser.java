@@ -0,0 +1,719 @@
+package de.conterra.babelfish.csv.query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * defines a recursive descent parser of where-clauses, which compiles them to {@link Condition}s<br>
+ * It supports comparisons ({@code =}, {@code <>}, {@code !=}, {@code <}, {@code <=}, {@code >}, {@code >=}) of a field with a literal,
+ * {@code [NOT] BETWEEN}, {@code [NOT] IN}, {@code [NOT] LIKE}, {@code IS [NOT] NULL}, {@code AND}, {@code OR}, {@code NOT} and parentheses.
+ * Literals are numbers, {@link String}s in single quotes and dates as {@code DATE 'yyyy-mm-dd'} or {@code TIMESTAMP 'yyyy-mm-dd hh:mm:ss'}.
+ * Field names and keywords are case-insensitive and a field name could be put in double quotes.
+ * Comparisons of two literals (like the common {@code 1=1}) are evaluated once while compiling.
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+final class WhereParser {
+	/**
+	 * defines the kinds of {@link Token}s
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private enum Kind {
+		/**
+		 * a field name or keyword
+		 *
+		 * @since 0.4.0
+		 */
+		WORD,
+		/**
+		 * a field name in double quotes
+		 *
+		 * @since 0.4.0
+		 */
+		QUOTED_WORD,
+		/**
+		 * a {@link String} in single quotes
+		 *
+		 * @since 0.4.0
+		 */
+		STRING,
+		/**
+		 * an unsigned number
+		 *
+		 * @since 0.4.0
+		 */
+		NUMBER,
+		/**
+		 * an operator, a parenthesis or a comma
+		 *
+		 * @since 0.4.0
+		 */
+		SYMBOL,
+		/**
+		 * the end of the where-clause
+		 *
+		 * @since 0.4.0
+		 */
+		END
+	}
+	
+	/**
+	 * defines a token of a where-clause
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private static final class Token {
+		/**
+		 * the {@link Kind}
+		 *
+		 * @since 0.4.0
+		 */
+		private final Kind   kind;
+		/**
+		 * the text without quotes
+		 *
+		 * @since 0.4.0
+		 */
+		private final String text;
+		/**
+		 * the position in the where-clause
+		 *
+		 * @since 0.4.0
+		 */
+		private final int    position;
+		
+		/**
+		 * constructor, with given {@link Kind}, text and position
+		 *
+		 * @param kind     the {@link Kind}
+		 * @param text     the text without quotes
+		 * @param position the position in the where-clause
+		 * @since 0.4.0
+		 */
+		private Token(Kind kind, String text, int position) {
+			this.kind = kind;
+			this.text = text;
+			this.position = position;
+		}
+		
+		/**
+		 * checks, if this {@link Token} is a keyword
+		 *
+		 * @param keyword the keyword in upper case
+		 * @return {@code true}, if this {@link Token} is an unquoted word, which equals {@code keyword} ignoring the case
+		 *
+		 * @since 0.4.0
+		 */
+		private boolean isKeyword(String keyword) {
+			return this.kind == Kind.WORD && this.text.equalsIgnoreCase(keyword);
+		}
+		
+		/**
+		 * checks, if this {@link Token} is the name of a field
+		 *
+		 * @return {@code true}, if this {@link Token} is a quoted word or an unquoted word, which doesn't start a date literal
+		 *
+		 * @since 0.4.0
+		 */
+		private boolean isField() {
+			return this.kind == Kind.QUOTED_WORD || (this.kind == Kind.WORD && !(this.isKeyword("DATE")) && !(this.isKeyword("TIMESTAMP")));
+		}
+		
+		/**
+		 * checks, if this {@link Token} is a symbol
+		 *
+		 * @param symbol the symbol
+		 * @return {@code true}, if this {@link Token} is the given symbol
+		 *
+		 * @since 0.4.0
+		 */
+		private boolean isSymbol(String symbol) {
+			return this.kind == Kind.SYMBOL && this.text.equals(symbol);
+		}
+	}
+	
+	/**
+	 * the where-clause
+	 *
+	 * @since 0.4.0
+	 */
+	private final String               where;
+	/**
+	 * the referable {@link Operand}s, mapped by their lower case names
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<String, Operand> operands;
+	/**
+	 * the {@link Token}s of the where-clause
+	 *
+	 * @since 0.4.0
+	 */
+	private final List<Token>          tokens = new ArrayList<>();
+	/**
+	 * the index of the next {@link Token}
+	 *
+	 * @since 0.4.0
+	 */
+	private int                        next   = 0;
+	
+	/**
+	 * constructor, with given where-clause and {@link Operand}s
+	 *
+	 * @param where    the where-clause to parse
+	 * @param operands the referable {@link Operand}s, mapped by their lower case names
+	 * @throws IllegalArgumentException if the where-clause contains an invalid token
+	 * @since 0.4.0
+	 */
+	WhereParser(String where, Map<String, Operand> operands)
+	throws IllegalArgumentException {
+		this.where = where;
+		this.operands = operands;
+		
+		this.tokenize();
+	}
+	
+	/**
+	 * splits the where-clause into {@link Token}s
+	 *
+	 * @throws IllegalArgumentException if the where-clause contains an invalid token
+	 * @since 0.4.0
+	 */
+	private void tokenize()
+	throws IllegalArgumentException {
+		String where  = this.where;
+		int    length = where.length();
+		int    i      = 0;
+		
+		while (i < length) {
+			char c     = where.charAt(i);
+			int  start = i;
+			
+			if (Character.isWhitespace(c)) {
+				i++;
+			} else if (c == '\'' || c == '"') {
+				StringBuilder text = new StringBuilder();
+				
+				i++;
+				while (true) {
+					if (i >= length) {
+						throw this.error("Unterminated quote", start);
+					}
+					
+					char current = where.charAt(i++);
+					if (current == c) {
+						if (i < length && where.charAt(i) == c) {
+							i++;
+						} else {
+							break;
+						}
+					}
+					
+					text.append(current);
+				}
+				
+				this.tokens.add(new Token(c == '\'' ? Kind.STRING : Kind.QUOTED_WORD, text.toString(), start));
+			} else if (Character.isDigit(c) || (c == '.' && i + 1 < length && Character.isDigit(where.charAt(i + 1)))) {
+				while (i < length && (Character.isDigit(where.charAt(i)) || where.charAt(i) == '.')) {
+					i++;
+				}
+				if (i < length && (where.charAt(i) == 'e' || where.charAt(i) == 'E')) {
+					i++;
+					if (i < length && (where.charAt(i) == '+' || where.charAt(i) == '-')) {
+						i++;
+					}
+					while (i < length && Character.isDigit(where.charAt(i))) {
+						i++;
+					}
+				}
+				
+				this.tokens.add(new Token(Kind.NUMBER, where.substring(start, i), start));
+			} else if (Character.isLetter(c) || c == '_') {
+				while (i < length && (Character.isLetterOrDigit(where.charAt(i)) || where.charAt(i) == '_')) {
+					i++;
+				}
+				
+				this.tokens.add(new Token(Kind.WORD, where.substring(start, i), start));
+			} else if ((c == '<' || c == '>' || c == '!') && i + 1 < length && (where.charAt(i + 1) == '=' || (c == '<' && where.charAt(i + 1) == '>'))) {
+				i += 2;
+				this.tokens.add(new Token(Kind.SYMBOL, where.substring(start, i), start));
+			} else if ("=<>(),-+".indexOf(c) >= 0) {
+				i++;
+				this.tokens.add(new Token(Kind.SYMBOL, String.valueOf(c), start));
+			} else {
+				throw this.error("Unexpected character '" + c + "'", start);
+			}
+		}
+		
+		this.tokens.add(new Token(Kind.END, "", length));
+	}
+	
+	/**
+	 * creates an {@link IllegalArgumentException} of a syntax error
+	 *
+	 * @param message  the description of the error
+	 * @param position the position of the error in the where-clause
+	 * @return the created {@link IllegalArgumentException}
+	 *
+	 * @since 0.4.0
+	 */
+	private IllegalArgumentException error(String message, int position) {
+		return new IllegalArgumentException(message + " at position " + position + " of the where-clause: " + this.where);
+	}
+	
+	/**
+	 * gives the next {@link Token} without consuming it
+	 *
+	 * @return the next {@link Token}
+	 *
+	 * @since 0.4.0
+	 */
+	private Token peek() {
+		return this.tokens.get(this.next);
+	}
+	
+	/**
+	 * consumes the next {@link Token}
+	 *
+	 * @return the consumed {@link Token}
+	 *
+	 * @since 0.4.0
+	 */
+	private Token poll() {
+		Token token = this.tokens.get(this.next);
+		
+		if (token.kind != Kind.END) {
+			this.next++;
+		}
+		
+		return token;
+	}
+	
+	/**
+	 * consumes the next {@link Token}, if it is a keyword
+	 *
+	 * @param keyword the keyword in upper case
+	 * @return {@code true}, if the keyword was consumed
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean acceptKeyword(String keyword) {
+		if (this.peek().isKeyword(keyword)) {
+			this.next++;
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * consumes the next {@link Token}, if it is a symbol
+	 *
+	 * @param symbol the symbol
+	 * @return {@code true}, if the symbol was consumed
+	 *
+	 * @since 0.4.0
+	 */
+	private boolean acceptSymbol(String symbol) {
+		if (this.peek().isSymbol(symbol)) {
+			this.next++;
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * consumes the next {@link Token}, which must be a symbol
+	 *
+	 * @param symbol the expected symbol
+	 * @throws IllegalArgumentException if the next {@link Token} is another one
+	 * @since 0.4.0
+	 */
+	private void expectSymbol(String symbol)
+	throws IllegalArgumentException {
+		if (!(this.acceptSymbol(symbol))) {
+			throw this.error("Expected '" + symbol + "'", this.peek().position);
+		}
+	}
+	
+	/**
+	 * parses the whole where-clause
+	 *
+	 * @return the compiled {@link Condition}
+	 *
+	 * @throws IllegalArgumentException if the where-clause is invalid or references an unknown field
+	 * @since 0.4.0
+	 */
+	Condition parse()
+	throws IllegalArgumentException {
+		Condition result = this.parseOr();
+		
+		Token token = this.peek();
+		if (token.kind != Kind.END) {
+			throw this.error("Unexpected '" + token.text + "'", token.position);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * parses a disjunction of conjunctions
+	 *
+	 * @return the compiled {@link Condition}
+	 *
+	 * @throws IllegalArgumentException if the where-clause is invalid
+	 * @since 0.4.0
+	 */
+	private Condition parseOr()
+	throws IllegalArgumentException {
+		List<Condition> conditions = new ArrayList<>();
+		
+		do {
+			conditions.add(this.parseAnd());
+		} while (this.acceptKeyword("OR"));
+		
+		return WhereParser.combine(false, conditions);
+	}
+	
+	/**
+	 * parses a conjunction of negations
+	 *
+	 * @return the compiled {@link Condition}
+	 *
+	 * @throws IllegalArgumentException if the where-clause is invalid
+	 * @since 0.4.0
+	 */
+	private Condition parseAnd()
+	throws IllegalArgumentException {
+		List<Condition> conditions = new ArrayList<>();
+		
+		do {
+			conditions.add(this.parseNot());
+		} while (this.acceptKeyword("AND"));
+		
+		return WhereParser.combine(true, conditions);
+	}
+	
+	/**
+	 * combines {@link Condition}s to a {@link Condition.Junction} and removes the {@link Condition.Constant}s, which don't change the result
+	 *
+	 * @param conjunction must all {@link Condition}s be satisfied ({@code AND}) or only one of them ({@code OR})?
+	 * @param conditions  the {@link Condition}s to combine
+	 * @return the combined {@link Condition}
+	 *
+	 * @since 0.4.0
+	 */
+	private static Condition combine(boolean conjunction, List<Condition> conditions) {
+		List<Condition> remaining = new ArrayList<>();
+		
+		for (Condition condition : conditions) {
+			if (condition == Condition.Constant.of(!(conjunction))) {
+				return condition;
+			}
+			if (condition != Condition.Constant.of(conjunction)) {
+				remaining.add(condition);
+			}
+		}
+		
+		if (remaining.isEmpty()) {
+			return Condition.Constant.of(conjunction);
+		}
+		if (remaining.size() == 1) {
+			return remaining.get(0);
+		}
+		
+		return new Condition.Junction(conjunction, remaining.toArray(new Condition[remaining.size()]));
+	}
+	
+	/**
+	 * parses an optional {@code NOT} with a predicate
+	 *
+	 * @return the compiled {@link Condition}
+	 *
+	 * @throws IllegalArgumentException if the where-clause is invalid
+	 * @since 0.4.0
+	 */
+	private Condition parseNot()
+	throws IllegalArgumentException {
+		if (this.acceptKeyword("NOT")) {
+			return this.parseNot().negate();
+		}
+		
+		return this.parsePredicate();
+	}
+	
+	/**
+	 * parses a predicate in parentheses or on a field
+	 *
+	 * @return the compiled {@link Condition}
+	 *
+	 * @throws IllegalArgumentException if the where-clause is invalid
+	 * @since 0.4.0
+	 */
+	private Condition parsePredicate()
+	throws IllegalArgumentException {
+		if (this.acceptSymbol("(")) {
+			Condition result = this.parseOr();
+			this.expectSymbol(")");
+			
+			return result;
+		}
+		
+		Token token = this.peek();
+		if (token.isField()) {
+			Operand operand = this.parseOperand();
+			
+			if (this.acceptKeyword("IS")) {
+				boolean negated = this.acceptKeyword("NOT");
+				
+				if (!(this.acceptKeyword("NULL"))) {
+					throw this.error("Expected NULL", this.peek().position);
+				}
+				
+				return new FieldCondition(operand, FieldCondition.Operator.NULL, Collections.emptyList(), negated);
+			}
+			
+			boolean negated = this.acceptKeyword("NOT");
+			
+			if (this.acceptKeyword("BETWEEN")) {
+				List<Object> literals = new ArrayList<>();
+				literals.add(this.parseLiteral());
+				
+				if (!(this.acceptKeyword("AND"))) {
+					throw this.error("Expected AND", this.peek().position);
+				}
+				
+				literals.add(this.parseLiteral());
+				
+				return new FieldCondition(operand, FieldCondition.Operator.BETWEEN, literals, negated);
+			}
+			if (this.acceptKeyword("IN")) {
+				List<Object> literals = new ArrayList<>();
+				
+				this.expectSymbol("(");
+				do {
+					literals.add(this.parseLiteral());
+				} while (this.acceptSymbol(","));
+				this.expectSymbol(")");
+				
+				return new FieldCondition(operand, FieldCondition.Operator.IN, literals, negated);
+			}
+			if (this.acceptKeyword("LIKE")) {
+				return new FieldCondition(operand, FieldCondition.Operator.LIKE, Collections.singletonList(this.parseLiteral()), negated);
+			}
+			if (negated) {
+				throw this.error("Expected BETWEEN, IN or LIKE", this.peek().position);
+			}
+			
+			String symbol = this.parseComparison();
+			Token  next   = this.peek();
+			
+			if (next.isField()) {
+				throw this.error("Fields could only be compared with literals", next.position);
+			}
+			
+			return WhereParser.compare(operand, symbol, this.parseLiteral());
+		}
+		
+		Object literal = this.parseLiteral();
+		String symbol  = this.parseComparison();
+		Token  next    = this.peek();
+		
+		if (next.isField()) {
+			return WhereParser.compare(this.parseOperand(), WhereParser.mirror(symbol), literal);
+		}
+		
+		return WhereParser.compare(literal, symbol, this.parseLiteral());
+	}
+	
+	/**
+	 * parses the name of a field
+	 *
+	 * @return the referenced {@link Operand}
+	 *
+	 * @throws IllegalArgumentException if no field with the parsed name exists
+	 * @since 0.4.0
+	 */
+	private Operand parseOperand()
+	throws IllegalArgumentException {
+		Token   token   = this.poll();
+		Operand operand = this.operands.get(token.text.toLowerCase(Locale.ROOT));
+		
+		if (operand == null) {
+			throw this.error("Unknown field '" + token.text + "'", token.position);
+		}
+		
+		return operand;
+	}
+	
+	/**
+	 * parses a comparison operator
+	 *
+	 * @return the operator, where {@code !=} is given as {@code <>}
+	 *
+	 * @throws IllegalArgumentException if the next {@link Token} is no comparison operator
+	 * @since 0.4.0
+	 */
+	private String parseComparison()
+	throws IllegalArgumentException {
+		Token token = this.poll();
+		
+		if (token.kind == Kind.SYMBOL) {
+			switch (token.text) {
+				case "=":
+				case "<>":
+				case "<":
+				case "<=":
+				case ">":
+				case ">=":
+					return token.text;
+				case "!=":
+					return "<>";
+				default:
+			}
+		}
+		
+		throw this.error("Expected a comparison operator", token.position);
+	}
+	
+	/**
+	 * parses a literal
+	 *
+	 * @return a {@link BigDecimal} of a number or a {@link String} of a text or date
+	 *
+	 * @throws IllegalArgumentException if the next {@link Token} is no literal
+	 * @since 0.4.0
+	 */
+	private Object parseLiteral()
+	throws IllegalArgumentException {
+		Token token = this.poll();
+		
+		if (token.isKeyword("DATE") || token.isKeyword("TIMESTAMP")) {
+			token = this.poll();
+			
+			if (token.kind != Kind.STRING) {
+				throw this.error("Expected a date in single quotes", token.position);
+			}
+		}
+		
+		if (token.kind == Kind.STRING) {
+			return token.text;
+		}
+		
+		boolean negative = false;
+		if (token.isSymbol("-") || token.isSymbol("+")) {
+			negative = token.isSymbol("-");
+			token = this.poll();
+		}
+		
+		if (token.kind == Kind.NUMBER) {
+			try {
+				BigDecimal number = new BigDecimal(token.text);
+				
+				return negative ? number.negate() : number;
+			} catch (NumberFormatException e) {
+				throw this.error("Malformed number '" + token.text + "'", token.position);
+			}
+		}
+		
+		throw this.error("Expected a literal", token.position);
+	}
+	
+	/**
+	 * gives the comparison operator with swapped sides
+	 *
+	 * @param symbol the comparison operator
+	 * @return the operator, which gives the same result, if the sides are swapped
+	 *
+	 * @since 0.4.0
+	 */
+	private static String mirror(String symbol) {
+		switch (symbol) {
+			case "<":
+				return ">";
+			case "<=":
+				return ">=";
+			case ">":
+				return "<";
+			case ">=":
+				return "<=";
+			default:
+				return symbol;
+		}
+	}
+	
+	/**
+	 * creates the {@link FieldCondition} of a comparison of a field with a literal
+	 *
+	 * @param operand the {@link Operand} of the field
+	 * @param symbol  the comparison operator
+	 * @param literal the literal
+	 * @return the created {@link FieldCondition}
+	 *
+	 * @throws IllegalArgumentException if the literal couldn't be compared with the field
+	 * @since 0.4.0
+	 */
+	private static Condition compare(Operand operand, String symbol, Object literal)
+	throws IllegalArgumentException {
+		List<Object> literals = Collections.singletonList(literal);
+		
+		switch (symbol) {
+			case "<":
+				return new FieldCondition(operand, FieldCondition.Operator.LESS, literals, false);
+			case "<=":
+				return new FieldCondition(operand, FieldCondition.Operator.LESS_EQUAL, literals, false);
+			case ">":
+				return new FieldCondition(operand, FieldCondition.Operator.GREATER, literals, false);
+			case ">=":
+				return new FieldCondition(operand, FieldCondition.Operator.GREATER_EQUAL, literals, false);
+			default:
+				return new FieldCondition(operand, FieldCondition.Operator.EQUAL, literals, "<>".equals(symbol));
+		}
+	}
+	
+	/**
+	 * evaluates the comparison of two literals
+	 *
+	 * @param left   the left literal
+	 * @param symbol the comparison operator
+	 * @param right  the right literal
+	 * @return the {@link Condition.Constant} of the result
+	 *
+	 * @since 0.4.0
+	 */
+	private static Condition compare(Object left, String symbol, Object right) {
+		int comparison;
+		if (left instanceof BigDecimal && right instanceof BigDecimal) {
+			comparison = ((BigDecimal) left).compareTo((BigDecimal) right);
+		} else {
+			comparison = left.toString().compareTo(right.toString());
+		}
+		
+		switch (symbol) {
+			case "=":
+				return Condition.Constant.of(comparison == 0);
+			case "<>":
+				return Condition.Constant.of(comparison != 0);
+			case "<":
+				return Condition.Constant.of(comparison < 0);
+			case "<=":
+				return Condition.Constant.of(comparison <= 0);
+			case ">":
+				return Condition.Constant.of(comparison > 0);
+			default:
+				return Condition.Constant.of(comparison >= 0);
+		}
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * package of the where-clauses, which filter the rows of CSV files by their attributes
+ *
+ * @version 0.4.0
+ * @author ChrissW-R1
+ * @since 0.4.0
+ */
+package de.conterra.babelfish.csv.query;
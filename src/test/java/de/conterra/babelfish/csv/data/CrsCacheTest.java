@@ -0,0 +1,243 @@
+package de.conterra.babelfish.csv.data;
+
+import org.junit.Test;
+import org.opengis.referencing.FactoryException;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+/**
+ * tests the decoding, the eviction and the caching of failures of the {@link CrsCache}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class CrsCacheTest {
+	/**
+	 * defines a {@link CrsCache.Decoder}, which counts the decoded codes and rejects all codes, which start with {@code "x"}
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private static class CountingDecoder
+			implements CrsCache.Decoder {
+		/**
+		 * the number of decodes by their codes
+		 *
+		 * @since 0.4.0
+		 */
+		private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+		
+		@Override
+		public CoordinateReferenceSystem decode(String code)
+		throws FactoryException {
+			this.counts.computeIfAbsent(code, key -> new AtomicInteger()).incrementAndGet();
+			
+			if (code.startsWith("x")) {
+				throw new FactoryException("Unknown code " + code);
+			}
+			
+			try {
+				Thread.sleep(20L);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			
+			return mock(CoordinateReferenceSystem.class);
+		}
+		
+		/**
+		 * gives the number of decodes of a code
+		 *
+		 * @param code the code
+		 * @return the number of decodes
+		 *
+		 * @since 0.4.0
+		 */
+		public int getCount(String code) {
+			AtomicInteger count = this.counts.get(code);
+			
+			return count != null ? count.get() : 0;
+		}
+	}
+	
+	/**
+	 * tests, that a code is decoded only once and gives the same instance afterwards
+	 *
+	 * @throws FactoryException if a code couldn't be decoded
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testDecodeOnce()
+	throws FactoryException {
+		CountingDecoder decoder = new CountingDecoder();
+		CrsCache        cache   = new CrsCache(8, decoder);
+		
+		CoordinateReferenceSystem crs = cache.decode("EPSG:4326");
+		
+		assertSame(crs, cache.decode("EPSG:4326"));
+		assertSame(crs, cache.decode("EPSG:4326"));
+		assertEquals(1, decoder.getCount("EPSG:4326"));
+		assertEquals(1L, cache.getMisses());
+		assertEquals(2L, cache.getHits());
+		assertEquals("EPSG:4326", cache.encode(crs));
+		assertNull(cache.encode(mock(CoordinateReferenceSystem.class)));
+	}
+	
+	/**
+	 * tests, that every caller counts only the codes, which had to be decoded for it, including the codes, which couldn't be decoded
+	 *
+	 * @throws FactoryException if a valid code couldn't be decoded
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testDecodeCounter()
+	throws FactoryException {
+		CrsCache   cache  = new CrsCache(8, new CountingDecoder());
+		AtomicLong first  = new AtomicLong();
+		AtomicLong second = new AtomicLong();
+		
+		cache.decode("a", first);
+		cache.decode("a", first);
+		cache.decode("a", second);
+		cache.decode("b", second);
+		cache.decode("b");
+		
+		try {
+			cache.decode("x", second);
+			fail("The code x was decoded!");
+		} catch (FactoryException e) {
+			assertEquals("Unknown code x", e.getMessage());
+		}
+		
+		assertEquals(1L, first.get());
+		assertEquals(2L, second.get());
+		assertEquals(3L, cache.getMisses());
+		assertEquals(3L, cache.getHits());
+	}
+	
+	/**
+	 * tests, that concurrent requests of the same code decode it only once and get the same instance
+	 *
+	 * @throws Exception if a request failed
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testConcurrentMisses()
+	throws Exception {
+		final CountingDecoder decoder = new CountingDecoder();
+		final CrsCache        cache   = new CrsCache(8, decoder);
+		final CountDownLatch  start   = new CountDownLatch(1);
+		int                   threads = 8;
+		
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<CoordinateReferenceSystem>> results = new ArrayList<>();
+			
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(new Callable<CoordinateReferenceSystem>() {
+					@Override
+					public CoordinateReferenceSystem call()
+					throws Exception {
+						start.await();
+						return cache.decode("EPSG:25832");
+					}
+				}));
+			}
+			
+			start.countDown();
+			
+			CoordinateReferenceSystem crs = results.get(0).get();
+			for (Future<CoordinateReferenceSystem> result : results) {
+				assertSame(crs, result.get());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		
+		assertEquals(1, decoder.getCount("EPSG:25832"));
+	}
+	
+	/**
+	 * tests, that the least recently used code is removed, if the cache is full
+	 *
+	 * @throws FactoryException if a code couldn't be decoded
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testLeastRecentlyUsed()
+	throws FactoryException {
+		CountingDecoder decoder = new CountingDecoder();
+		CrsCache        cache   = new CrsCache(2, decoder);
+		
+		CoordinateReferenceSystem a = cache.decode("a");
+		CoordinateReferenceSystem b = cache.decode("b");
+		cache.decode("a");
+		cache.decode("c");
+		
+		assertEquals(2, cache.size());
+		assertNull(cache.encode(b));
+		assertEquals("a", cache.encode(a));
+		assertSame(a, cache.decode("a"));
+		assertEquals(1, decoder.getCount("a"));
+		
+		cache.decode("b");
+		
+		assertEquals(2, decoder.getCount("b"));
+		assertEquals(1, decoder.getCount("c"));
+		assertEquals(2, cache.size());
+	}
+	
+	/**
+	 * tests, that codes, which couldn't be decoded, are cached within their own bound and never remove a decoded code
+	 *
+	 * @throws FactoryException if a valid code couldn't be decoded
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testFailures()
+	throws FactoryException {
+		CountingDecoder decoder = new CountingDecoder();
+		CrsCache        cache   = new CrsCache(1, decoder);
+		
+		CoordinateReferenceSystem crs = cache.decode("a");
+		
+		for (String code : new String[]{"x1", "x2", "x1", "x2", "x1"}) {
+			try {
+				cache.decode(code);
+				fail("The code " + code + " was decoded!");
+			} catch (FactoryException e) {
+				assertEquals("Unknown code " + code, e.getMessage());
+			}
+		}
+		
+		assertSame(crs, cache.decode("a"));
+		assertEquals(1, decoder.getCount("a"));
+		assertEquals(3, decoder.getCount("x1"));
+		assertEquals(2, decoder.getCount("x2"));
+		assertEquals(1, cache.size());
+		
+		cache.clear();
+		
+		assertEquals(0, cache.size());
+		assertNull(cache.encode(crs));
+	}
+}
@@ -0,0 +1,208 @@
+package de.conterra.babelfish.csv.data;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests, that a {@link DictionaryColumn} gives the added values, no matter if they are dictionary-encoded, narrowed or stored directly
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class DictionaryColumnTest {
+	/**
+	 * gives the value of a row with a given number of distinct values
+	 *
+	 * @param row      the index of the row
+	 * @param distinct the number of distinct values
+	 * @return the value or {@code null} for every tenth row
+	 *
+	 * @since 0.4.0
+	 */
+	private static String value(int row, int distinct) {
+		return row % 10 == 3 ? null : "value " + (row % distinct);
+	}
+	
+	/**
+	 * creates a {@link DictionaryColumn}
+	 *
+	 * @param rows     the number of rows
+	 * @param distinct the number of distinct values
+	 * @return the created {@link DictionaryColumn}
+	 *
+	 * @since 0.4.0
+	 */
+	private static DictionaryColumn create(int rows, int distinct) {
+		DictionaryColumn column = new DictionaryColumn();
+		
+		for (int row = 0; row < rows; row++) {
+			column.add(DictionaryColumnTest.value(row, distinct));
+		}
+		
+		return column;
+	}
+	
+	/**
+	 * checks the values of a {@link DictionaryColumn}
+	 *
+	 * @param column   the {@link DictionaryColumn} to check
+	 * @param rows     the number of rows
+	 * @param distinct the number of distinct values
+	 * @since 0.4.0
+	 */
+	private static void assertValues(DictionaryColumn column, int rows, int distinct) {
+		assertEquals(rows, column.size());
+		
+		for (int row = 0; row < rows; row++) {
+			String value = DictionaryColumnTest.value(row, distinct);
+			
+			assertEquals(value, column.get(row));
+			assertEquals(value, column.getValue(row));
+			
+			if (column.isEncoded()) {
+				int code = column.getCode(row);
+				
+				assertEquals(value, code != DictionaryColumn.NULL ? column.getDictionary().get(code) : null);
+			}
+		}
+	}
+	
+	/**
+	 * tests, that repeated values are dictionary-encoded in the order of their first occurrence
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testEncoded() {
+		DictionaryColumn column = DictionaryColumnTest.create(100, 5);
+		
+		assertTrue(column.isEncoded());
+		assertEquals(Arrays.asList("value 0", "value 1", "value 2", "value 4"), column.getDictionary().subList(0, 4));
+		assertEquals(5, column.getDictionary().size());
+		assertEquals(DictionaryColumn.NULL, column.getCode(3));
+		assertNull(column.get(3));
+		DictionaryColumnTest.assertValues(column, 100, 5);
+	}
+	
+	/**
+	 * tests, that the codes are narrowed on freezing, if the dictionary is small enough, and kept otherwise
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testNarrow() {
+		for (int distinct : new int[]{1, 254, 255, 1000}) {
+			for (boolean trim : new boolean[]{true, false}) {
+				int              rows   = Math.max(2 * distinct, 1000);
+				DictionaryColumn column = DictionaryColumnTest.create(rows, distinct);
+				
+				column.freeze(trim);
+				
+				assertTrue(column.isEncoded());
+				DictionaryColumnTest.assertValues(column, rows, distinct);
+			}
+		}
+	}
+	
+	/**
+	 * tests, that the column stores the values directly, if most of the added values are distinct
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testStoreDirectly() {
+		DictionaryColumn column = DictionaryColumnTest.create(20000, Integer.MAX_VALUE);
+		
+		assertFalse(column.isEncoded());
+		assertTrue(column.getDictionary().isEmpty());
+		DictionaryColumnTest.assertValues(column, 20000, Integer.MAX_VALUE);
+		
+		column.freeze(true);
+		DictionaryColumnTest.assertValues(column, 20000, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * tests, that appending the rows of another {@link DictionaryColumn} gives the same codes as adding them one by one
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testAppend() {
+		DictionaryColumn column = DictionaryColumnTest.create(50, 20);
+		DictionaryColumn other  = new DictionaryColumn();
+		
+		for (int row = 50; row < 400; row++) {
+			other.add(DictionaryColumnTest.value(row, 20));
+		}
+		
+		column.append(other);
+		
+		DictionaryColumn expected = DictionaryColumnTest.create(400, 20);
+		
+		DictionaryColumnTest.assertValues(column, 400, 20);
+		assertEquals(expected.getDictionary(), column.getDictionary());
+		for (int row = 0; row < 400; row++) {
+			assertEquals(expected.getCode(row), column.getCode(row));
+		}
+	}
+	
+	/**
+	 * tests, that a copy of a frozen {@link DictionaryColumn} keeps the codes, no matter if the arrays are shared or copied
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testCopy() {
+		for (boolean trim : new boolean[]{true, false}) {
+			for (boolean share : new boolean[]{true, false}) {
+				DictionaryColumn frozen = DictionaryColumnTest.create(1000, 301);
+				frozen.freeze(trim);
+				
+				DictionaryColumn copy = new DictionaryColumn(frozen, share);
+				for (int row = 1000; row < 3000; row++) {
+					copy.add(DictionaryColumnTest.value(row, 301));
+				}
+				
+				DictionaryColumnTest.assertValues(copy, 3000, 301);
+				DictionaryColumnTest.assertValues(frozen, 1000, 301);
+				assertEquals(301, copy.getDictionary().size());
+			}
+		}
+	}
+	
+	/**
+	 * tests, that a {@link DictionaryColumn}, which was read of a snapshot, contains the same values
+	 *
+	 * @throws IOException if the snapshot couldn't be written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRoundTrip()
+	throws IOException {
+		for (int distinct : new int[]{10, Integer.MAX_VALUE}) {
+			DictionaryColumn column = DictionaryColumnTest.create(10000, distinct);
+			column.freeze(false);
+			
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				column.write(out);
+			}
+			
+			DictionaryColumn read = DictionaryColumn.read(ByteBuffer.wrap(bytes.toByteArray()));
+			
+			assertEquals(column.isEncoded(), read.isEncoded());
+			DictionaryColumnTest.assertValues(read, 10000, distinct);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package de.conterra.babelfish.csv.data;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests, that a {@link GroupColumn} assigns the same ID to all rows with equal values of the group columns,
+ * no matter if the rows are added one by one, appended or copied
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class GroupColumnTest {
+	/**
+	 * gives the values of the group columns of a row, which depend on its index only
+	 *
+	 * @param row the index of the row
+	 * @return the values of the two group columns
+	 *
+	 * @since 0.4.0
+	 */
+	private static String[] values(int row) {
+		return new String[]{row % 7 == 0 ? null : "a" + (row % 50), "b" + (row % 30)};
+	}
+	
+	/**
+	 * creates a {@link GroupColumn} of two group columns
+	 *
+	 * @param from the index of the first row to add
+	 * @param to   the index after the last row to add
+	 * @return the created {@link GroupColumn}
+	 *
+	 * @since 0.4.0
+	 */
+	private static GroupColumn create(int from, int to) {
+		GroupColumn column = new GroupColumn(2);
+		
+		for (int row = from; row < to; row++) {
+			column.add(GroupColumnTest.values(row));
+		}
+		
+		return column;
+	}
+	
+	/**
+	 * checks, that the group IDs are given in the order of the first occurrence of the composite keys
+	 *
+	 * @param column the {@link GroupColumn} to check
+	 * @param rows   the number of rows
+	 * @since 0.4.0
+	 */
+	private static void assertGroups(GroupColumn column, int rows) {
+		Map<String, Integer> expected = new HashMap<>();
+		
+		assertEquals(rows, column.size());
+		for (int row = 0; row < rows; row++) {
+			String[] values = GroupColumnTest.values(row);
+			Integer  id     = expected.get(values[0] + "\u0000" + values[1]);
+			
+			if (id == null) {
+				id = expected.size();
+				expected.put(values[0] + "\u0000" + values[1], id);
+			}
+			
+			assertEquals("row " + row, id.intValue(), column.getGroup(row));
+		}
+		assertEquals(expected.size(), column.getGroupCount());
+	}
+	
+	/**
+	 * tests, that the groups of rows, which are added one by one, are found, even if the table grows many times
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testAdd() {
+		GroupColumn column = GroupColumnTest.create(0, 5000);
+		
+		GroupColumnTest.assertGroups(column, 5000);
+		column.freeze(true);
+		GroupColumnTest.assertGroups(column, 5000);
+	}
+	
+	/**
+	 * tests, that a missing value is distinguished from every other value
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testMissingValues() {
+		GroupColumn column = new GroupColumn(2);
+		
+		column.add(new String[]{null, "x"});
+		column.add(new String[]{"", "x"});
+		column.add(new String[]{null, null});
+		column.add(new String[]{null, "x"});
+		column.add(new String[]{"null", null});
+		
+		assertEquals(0, column.getGroup(0));
+		assertEquals(1, column.getGroup(1));
+		assertEquals(2, column.getGroup(2));
+		assertEquals(0, column.getGroup(3));
+		assertEquals(3, column.getGroup(4));
+		assertEquals(4, column.getGroupCount());
+	}
+	
+	/**
+	 * tests, that appending the rows of another {@link GroupColumn} gives the same IDs as adding them one by one
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testAppend() {
+		GroupColumn column = GroupColumnTest.create(0, 1000);
+		
+		column.append(GroupColumnTest.create(1000, 1700));
+		column.append(GroupColumnTest.create(1700, 1700));
+		column.append(GroupColumnTest.create(1700, 3000));
+		
+		GroupColumnTest.assertGroups(column, 3000);
+	}
+	
+	/**
+	 * tests, that a copy of a frozen {@link GroupColumn} keeps the IDs of the existing groups, no matter if the arrays are shared or copied
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testCopy() {
+		for (boolean trim : new boolean[]{true, false}) {
+			for (boolean share : new boolean[]{true, false}) {
+				GroupColumn frozen = GroupColumnTest.create(0, 1000);
+				frozen.freeze(trim);
+				
+				GroupColumn copy = new GroupColumn(frozen, share);
+				for (int row = 1000; row < 2500; row++) {
+					copy.add(GroupColumnTest.values(row));
+				}
+				
+				GroupColumnTest.assertGroups(copy, 2500);
+				GroupColumnTest.assertGroups(frozen, 1000);
+			}
+		}
+	}
+	
+	/**
+	 * tests, that a {@link GroupColumn}, which was read of a snapshot, contains the same groups and could be continued
+	 *
+	 * @throws IOException if the snapshot couldn't be written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRoundTrip()
+	throws IOException {
+		GroupColumn column = GroupColumnTest.create(0, 2000);
+		column.freeze(false);
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			column.write(out);
+		}
+		
+		GroupColumn read = GroupColumn.read(ByteBuffer.wrap(bytes.toByteArray()));
+		
+		GroupColumnTest.assertGroups(read, 2000);
+		
+		GroupColumn copy = new GroupColumn(read, true);
+		for (int row = 2000; row < 2600; row++) {
+			copy.add(GroupColumnTest.values(row));
+		}
+		
+		GroupColumnTest.assertGroups(copy, 2600);
+	}
+}
@@ -0,0 +1,230 @@
+package de.conterra.babelfish.csv.data;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests, that a {@link LayerCache} loads its value only once, updates it after an append and loads it again after any other change
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class LayerCacheTest {
+	/**
+	 * defines a {@link LayerCache.Loader}, which gives the content of the file and counts its calls
+	 *
+	 * @author ChrissW-R1
+	 * @version 0.4.0
+	 * @since 0.4.0
+	 */
+	private class CountingLoader
+			implements LayerCache.Loader<String> {
+		/**
+		 * the number of loads
+		 *
+		 * @since 0.4.0
+		 */
+		private int loads   = 0;
+		/**
+		 * the number of updates
+		 *
+		 * @since 0.4.0
+		 */
+		private int updates = 0;
+		
+		@Override
+		public String load()
+		throws IOException {
+			this.loads++;
+			
+			return new String(Files.readAllBytes(LayerCacheTest.this.file.toPath()), StandardCharsets.US_ASCII);
+		}
+		
+		/**
+		 * updates the content by reading the appended bytes only
+		 *
+		 * @param previous the content, which was loaded before the file grew
+		 * @return the updated content
+		 *
+		 * @throws IOException if the file couldn't be read
+		 * @since 0.4.0
+		 */
+		@Override
+		public String update(String previous)
+		throws IOException {
+			this.updates++;
+			
+			byte[] content = Files.readAllBytes(LayerCacheTest.this.file.toPath());
+			
+			return previous + new String(content, previous.length(), content.length - previous.length(), StandardCharsets.US_ASCII);
+		}
+	}
+	
+	/**
+	 * the temporary file
+	 *
+	 * @since 0.4.0
+	 */
+	private File               file;
+	/**
+	 * the {@link LayerCache.Loader} of the tested {@link LayerCache}
+	 *
+	 * @since 0.4.0
+	 */
+	private CountingLoader     loader;
+	/**
+	 * the tested {@link LayerCache}
+	 *
+	 * @since 0.4.0
+	 */
+	private LayerCache<String> cache;
+	
+	/**
+	 * creates the temporary file and the {@link LayerCache}
+	 *
+	 * @throws IOException if the file couldn't be created
+	 * @since 0.4.0
+	 */
+	@Before
+	public void setUp()
+	throws IOException {
+		this.file = File.createTempFile("layer", ".csv");
+		this.loader = new CountingLoader();
+		this.cache = new LayerCache<>(this.file, this.loader);
+		
+		this.write("a,b\r\n1,2\r\n", false, 1000000L);
+	}
+	
+	/**
+	 * deletes the temporary file
+	 *
+	 * @since 0.4.0
+	 */
+	@After
+	public void tearDown() {
+		if (this.file != null && this.file.exists() && !(this.file.delete())) {
+			this.file.deleteOnExit();
+		}
+	}
+	
+	/**
+	 * writes to the temporary file and sets its modification time
+	 *
+	 * @param content      the content to write
+	 * @param append       append the content instead of replacing the file?
+	 * @param lastModified the modification time in milliseconds since the epoch
+	 * @throws IOException if the file couldn't be written
+	 * @since 0.4.0
+	 */
+	private void write(String content, boolean append, long lastModified)
+	throws IOException {
+		byte[] bytes = content.getBytes(StandardCharsets.US_ASCII);
+		
+		if (append) {
+			Files.write(this.file.toPath(), bytes, StandardOpenOption.APPEND);
+		} else {
+			Files.write(this.file.toPath(), bytes);
+		}
+		
+		assertTrue(this.file.setLastModified(lastModified));
+	}
+	
+	/**
+	 * tests, that the value is loaded only once, as long as the file isn't changed
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testHit()
+	throws IOException {
+		assertNull(this.cache.getStamp());
+		
+		String value = this.cache.get();
+		
+		assertSame(value, this.cache.get());
+		assertSame(value, this.cache.get());
+		assertEquals(1, this.loader.loads);
+		assertEquals(0, this.loader.updates);
+		assertEquals(1L, this.cache.getMisses());
+		assertEquals(2L, this.cache.getHits());
+		assertEquals(FileStamp.of(this.file), this.cache.getStamp());
+	}
+	
+	/**
+	 * tests, that the value is updated, if the file was only appended
+	 *
+	 * @throws IOException if the file couldn't be read or written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testAppend()
+	throws IOException {
+		this.cache.get();
+		
+		this.write("3,4\r\n", true, 2000000L);
+		assertEquals("a,b\r\n1,2\r\n3,4\r\n", this.cache.get());
+		
+		this.write("5,6\r\n", true, 3000000L);
+		assertEquals("a,b\r\n1,2\r\n3,4\r\n5,6\r\n", this.cache.get());
+		
+		assertEquals(1, this.loader.loads);
+		assertEquals(2, this.loader.updates);
+	}
+	
+	/**
+	 * tests, that the value is loaded again, if the file was replaced, truncated or grew with an older modification time
+	 *
+	 * @throws IOException if the file couldn't be read or written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testChanged()
+	throws IOException {
+		this.cache.get();
+		
+		this.write("a,b\r\n7,8\r\n", false, 2000000L);
+		assertEquals("a,b\r\n7,8\r\n", this.cache.get());
+		
+		this.write("a,b\r\n", false, 3000000L);
+		assertEquals("a,b\r\n", this.cache.get());
+		
+		this.write("c,d\r\n9,9\r\n", false, 1000L);
+		assertEquals("c,d\r\n9,9\r\n", this.cache.get());
+		
+		assertEquals(4, this.loader.loads);
+		assertEquals(0, this.loader.updates);
+	}
+	
+	/**
+	 * tests, that the value is loaded again after it was invalidated, even if the file wasn't changed
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testInvalidate()
+	throws IOException {
+		String value = this.cache.get();
+		
+		this.cache.invalidate();
+		
+		assertNull(this.cache.getStamp());
+		assertEquals(value, this.cache.get());
+		assertEquals(2, this.loader.loads);
+		assertEquals(0, this.loader.updates);
+	}
+}
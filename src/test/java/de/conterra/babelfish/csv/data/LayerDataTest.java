@@ -0,0 +1,225 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * tests, that rows appended to {@link LayerData} give the same rows as parsing all of them at once,
+ * without changing the rows of the previous {@link LayerData}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class LayerDataTest {
+	/**
+	 * the {@link CoordinateReferenceSystem} of the rows
+	 *
+	 * @since 0.4.0
+	 */
+	private final CoordinateReferenceSystem crs = mock(CoordinateReferenceSystem.class);
+	/**
+	 * the temporary CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	private File     file;
+	/**
+	 * the temporary snapshot file
+	 *
+	 * @since 0.4.0
+	 */
+	private File     snapshot;
+	/**
+	 * the end of the parsed part of the followed CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	private FileTail tail;
+	
+	/**
+	 * creates the temporary CSV file
+	 *
+	 * @throws IOException if the file couldn't be created
+	 * @since 0.4.0
+	 */
+	@Before
+	public void setUp()
+	throws IOException {
+		this.file = File.createTempFile("layer", ".csv");
+		this.snapshot = new File(this.file.getPath() + LayerSnapshot.EXTENSION);
+		this.tail = FileTail.of(this.file, 0L, 0L);
+	}
+	
+	/**
+	 * deletes the temporary files
+	 *
+	 * @since 0.4.0
+	 */
+	@After
+	public void tearDown() {
+		for (File temp : new File[]{this.file, this.snapshot}) {
+			if (temp != null && temp.exists() && !(temp.delete())) {
+				temp.deleteOnExit();
+			}
+		}
+	}
+	
+	/**
+	 * creates a {@link LayerData.Builder} with a dictionary-encoded, a numeric and a group column
+	 *
+	 * @return the created {@link LayerData.Builder}
+	 *
+	 * @since 0.4.0
+	 */
+	private static LayerData.Builder createBuilder() {
+		return new LayerData.Builder(new int[]{3, 4}, new FieldType[]{FieldType.String, FieldType.Double}, true, true, 1);
+	}
+	
+	/**
+	 * adds rows to a {@link LayerData.Builder}, which values depend on their index only<br>
+	 * The rows from {@code 4500} on contain distinct names, so the name column switches to store its values directly.
+	 *
+	 * @param builder the {@link LayerData.Builder} to add the rows to
+	 * @param from    the index of the first row to add
+	 * @param to      the index after the last row to add
+	 * @param ids     add the object IDs?
+	 * @return {@code builder}
+	 *
+	 * @since 0.4.0
+	 */
+	private LayerData.Builder add(LayerData.Builder builder, int from, int to, boolean ids) {
+		for (int row = from; row < to; row++) {
+			String name = row < 4500 ? "name " + (row % 13) : "free " + row;
+			
+			builder.add("EPSG:4326", this.crs, 51.0 + row / 1000.0, 7.0 - row / 1000.0, row, ids && row % 5 != 0 ? row * 3 : null,
+			            new String[]{row % 11 == 0 ? null : name, row % 9 == 0 ? "" : Integer.toString(row)}, new String[]{"group " + (row % 4)});
+		}
+		
+		return builder;
+	}
+	
+	/**
+	 * creates followed {@link LayerData} of rows, which values depend on their index only
+	 *
+	 * @param rows the number of rows
+	 * @return the created {@link LayerData}
+	 *
+	 * @since 0.4.0
+	 */
+	private LayerData createData(int rows) {
+		return this.add(LayerDataTest.createBuilder(), 0, rows, true).setTail(this.tail).build();
+	}
+	
+	/**
+	 * tests, that appended rows are stored behind the rows of the previous {@link LayerData} in the same arrays,
+	 * which rows are not changed
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testAppend() {
+		LayerData previous = this.createData(900);
+		LayerData expected = this.createData(1000);
+		LayerData appended = this.add(new LayerData.Builder(previous), 900, 1000, true).build();
+		
+		LayerSnapshotTest.assertSameRows(expected, appended);
+		LayerSnapshotTest.assertSameRows(this.createData(900), previous);
+		assertSame(previous.getLatitudes(), appended.getLatitudes());
+		assertSame(previous.getLongitudes(), appended.getLongitudes());
+		assertEquals(900, previous.getAttributes().get(3).size());
+		assertEquals(4, previous.getGroups().getGroupCount());
+	}
+	
+	/**
+	 * tests, that many small appends give the same rows as parsing all of them at once,
+	 * even if a column switches to store its values directly
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRepeatedAppend() {
+		LayerData first = this.createData(100);
+		LayerData data  = first;
+		
+		for (int row = 100; row < 9000; row += 250) {
+			data = this.add(new LayerData.Builder(data), row, Math.min(row + 250, 9000), true).setTail(this.tail).build();
+		}
+		
+		LayerSnapshotTest.assertSameRows(this.createData(9000), data);
+		LayerSnapshotTest.assertSameRows(this.createData(100), first);
+		assertTrue(((DictionaryColumn) first.getAttributes().get(3)).isEncoded());
+		assertFalse(((DictionaryColumn) data.getAttributes().get(3)).isEncoded());
+	}
+	
+	/**
+	 * tests, that a second {@link LayerData.Builder} of the same {@link LayerData} copies the columns
+	 * and ignores the rows, which were added by the first one (e.g. if the first update failed)
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testSecondBuilder() {
+		LayerData previous = this.createData(1000);
+		
+		this.add(new LayerData.Builder(previous), 1000, 1100, true);
+		
+		LayerData appended = this.add(new LayerData.Builder(previous), 1000, 1100, false).build();
+		LayerData expected = this.add(this.add(LayerDataTest.createBuilder(), 0, 1000, true), 1000, 1100, false).build();
+		
+		LayerSnapshotTest.assertSameRows(expected, appended);
+		LayerSnapshotTest.assertSameRows(this.createData(1000), previous);
+		assertNotSame(previous.getLatitudes(), appended.getLatitudes());
+		
+		for (int row = 1000; row < 1100; row++) {
+			assertFalse(appended.hasObjectId(row));
+		}
+	}
+	
+	/**
+	 * tests, that the columns of {@link LayerData}, which isn't followed, are trimmed to the number of rows
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testTrimmed() {
+		LayerData data = this.add(LayerDataTest.createBuilder(), 0, 1000, true).build();
+		
+		assertNull(data.getTail());
+		assertEquals(1000, data.getLatitudes().length);
+		assertEquals(1000, data.getLongitudes().length);
+		assertEquals(13, ((DictionaryColumn) data.getAttributes().get(3)).getDictionary().size());
+		
+		LayerSnapshotTest.assertSameRows(this.createData(1100), this.add(new LayerData.Builder(data), 1000, 1100, true).build());
+	}
+	
+	/**
+	 * tests, that appended rows of {@link LayerData}, which was read of a snapshot, are the same as the parsed ones
+	 *
+	 * @throws IOException if the snapshot couldn't be written or read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testAppendToSnapshot()
+	throws IOException {
+		assertTrue(LayerSnapshot.write(this.snapshot, this.file, FileStamp.of(this.file), 0L, this.createData(1000)));
+		
+		LayerData read = LayerSnapshot.read(this.snapshot, this.file, 0L, new CrsCache(8, code -> this.crs));
+		
+		LayerSnapshotTest.assertSameRows(this.createData(1100), this.add(new LayerData.Builder(read), 1000, 1100, true).build());
+	}
+}
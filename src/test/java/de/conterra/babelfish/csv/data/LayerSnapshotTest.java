@@ -0,0 +1,308 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * tests, that a {@link LayerSnapshot} gives the same {@link LayerData}, which was written, and that outdated snapshots are rejected
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class LayerSnapshotTest {
+	/**
+	 * the checksum of the configuration
+	 *
+	 * @since 0.4.0
+	 */
+	private static final long CONFIG_HASH = 42L;
+	
+	/**
+	 * the decoded {@link CoordinateReferenceSystem}s by their identifiers
+	 *
+	 * @since 0.4.0
+	 */
+	private final Map<String, CoordinateReferenceSystem> crs = new HashMap<>();
+	/**
+	 * the {@link CrsCache} to read the snapshots with
+	 *
+	 * @since 0.4.0
+	 */
+	private final CrsCache                               crsCache;
+	/**
+	 * the temporary CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	private File file;
+	/**
+	 * the temporary snapshot file
+	 *
+	 * @since 0.4.0
+	 */
+	private File snapshot;
+	
+	/**
+	 * standard constructor
+	 *
+	 * @since 0.4.0
+	 */
+	public LayerSnapshotTest() {
+		this.crs.put("EPSG:4326", mock(CoordinateReferenceSystem.class));
+		this.crs.put("EPSG:25832", mock(CoordinateReferenceSystem.class));
+		this.crsCache = new CrsCache(8, this.crs::get);
+	}
+	
+	/**
+	 * creates the temporary CSV file
+	 *
+	 * @throws IOException if the file couldn't be created
+	 * @since 0.4.0
+	 */
+	@Before
+	public void setUp()
+	throws IOException {
+		this.file = File.createTempFile("layer", ".csv");
+		this.snapshot = new File(this.file.getPath() + LayerSnapshot.EXTENSION);
+		
+		StringBuilder content = new StringBuilder("lat,long,crs,name,value,group\r\n");
+		for (int i = 0; i < 20000; i++) {
+			content.append(i).append(',').append(i).append(",EPSG:4326,name ").append(i).append(',').append(i).append(",g\r\n");
+		}
+		
+		Files.write(this.file.toPath(), content.toString().getBytes(StandardCharsets.US_ASCII));
+	}
+	
+	/**
+	 * deletes the temporary files
+	 *
+	 * @since 0.4.0
+	 */
+	@After
+	public void tearDown() {
+		for (File temp : new File[]{this.file, this.snapshot}) {
+			if (temp != null && temp.exists() && !(temp.delete())) {
+				temp.deleteOnExit();
+			}
+		}
+	}
+	
+	/**
+	 * creates {@link LayerData} with all kinds of columns
+	 *
+	 * @param rows the number of rows
+	 * @return the created {@link LayerData}
+	 *
+	 * @throws IOException if the {@link FileTail} couldn't be read
+	 * @since 0.4.0
+	 */
+	private LayerData createData(int rows)
+	throws IOException {
+		LayerData.Builder builder = new LayerData.Builder(new int[]{3, 4}, new FieldType[]{FieldType.String, FieldType.Double}, true, true, 1);
+		
+		for (int row = 0; row < rows; row++) {
+			String identifier = row % 7 == 0 ? "EPSG:25832" : "EPSG:4326";
+			
+			builder.add(identifier, this.crs.get(identifier), 51.0 + row / 1000.0, 7.0 - row / 1000.0, row, row % 5 == 0 ? null : row * 3,
+			            new String[]{row % 11 == 0 ? null : "name " + (row % 13), row % 9 == 0 ? "" : Integer.toString(row)}, new String[]{"group " + (row % 4)});
+		}
+		
+		builder.skip();
+		builder.setTail(FileTail.of(this.file, 128L, 4L));
+		
+		return builder.build();
+	}
+	
+	/**
+	 * checks, that two {@link LayerData} contain the same rows
+	 *
+	 * @param expected the expected {@link LayerData}
+	 * @param actual   the actual {@link LayerData}
+	 * @since 0.4.0
+	 */
+	static void assertSameRows(LayerData expected, LayerData actual) {
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.getSkippedRows(), actual.getSkippedRows());
+		assertEquals(expected.hasElevation(), actual.hasElevation());
+		assertEquals(expected.getCrsIdentifiers(), actual.getCrsIdentifiers());
+		assertEquals(expected.getAttributes().keySet(), actual.getAttributes().keySet());
+		
+		for (int row = 0; row < expected.size(); row++) {
+			assertEquals(expected.getLatitude(row), actual.getLatitude(row), 0.0);
+			assertEquals(expected.getLongitude(row), actual.getLongitude(row), 0.0);
+			assertEquals(expected.getElevation(row), actual.getElevation(row), 0.0);
+			assertSame(expected.getCrs(row), actual.getCrs(row));
+			assertEquals(expected.hasObjectId(row), actual.hasObjectId(row));
+			
+			if (expected.hasObjectId(row)) {
+				assertEquals(expected.getObjectId(row), actual.getObjectId(row));
+			}
+			
+			for (Map.Entry<Integer, AttributeColumn> column : expected.getAttributes().entrySet()) {
+				AttributeColumn other = actual.getAttributes().get(column.getKey());
+				
+				assertEquals(column.getValue().getType(), other.getType());
+				assertEquals(column.getValue().get(row), other.get(row));
+				assertEquals(column.getValue().getValue(row), other.getValue(row));
+			}
+			
+			if (expected.getGroups() != null) {
+				assertEquals(expected.getGroups().getGroup(row), actual.getGroups().getGroup(row));
+			}
+		}
+		
+		assertEquals(expected.getGroups() != null ? expected.getGroups().getGroupCount() : -1, actual.getGroups() != null ? actual.getGroups().getGroupCount() : -1);
+	}
+	
+	/**
+	 * tests, that the read {@link LayerData} contains the same rows, {@link CoordinateReferenceSystem}s and {@link FileTail} as the written one
+	 *
+	 * @throws IOException if a file couldn't be read or written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRoundTrip()
+	throws IOException {
+		LayerData data = this.createData(5000);
+		
+		assertTrue(LayerSnapshot.write(this.snapshot, this.file, FileStamp.of(this.file), LayerSnapshotTest.CONFIG_HASH, data));
+		
+		LayerData read = LayerSnapshot.read(this.snapshot, this.file, LayerSnapshotTest.CONFIG_HASH, this.crsCache);
+		
+		assertNotNull(read);
+		LayerSnapshotTest.assertSameRows(data, read);
+		assertEquals(data.getTail().getOffset(), read.getTail().getOffset());
+		assertEquals(data.getTail().getRecordNumber(), read.getTail().getRecordNumber());
+		assertTrue(read.getTail().isContainedIn(this.file));
+	}
+	
+	/**
+	 * tests, that the snapshot is written, even if the {@link CoordinateReferenceSystem}s were removed from the {@link CrsCache} in between
+	 *
+	 * @throws IOException if a file couldn't be read or written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testClearedCrsCache()
+	throws IOException {
+		LayerData data = this.createData(100);
+		
+		CrsCache.INSTANCE.clear();
+		
+		assertTrue(LayerSnapshot.write(this.snapshot, this.file, FileStamp.of(this.file), LayerSnapshotTest.CONFIG_HASH, data));
+		assertNotNull(LayerSnapshot.read(this.snapshot, this.file, LayerSnapshotTest.CONFIG_HASH, this.crsCache));
+	}
+	
+	/**
+	 * tests, that an outdated snapshot is rejected
+	 *
+	 * @throws IOException if a file couldn't be read or written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testOutdated()
+	throws IOException {
+		assertNull(LayerSnapshot.read(this.snapshot, this.file, LayerSnapshotTest.CONFIG_HASH, this.crsCache));
+		assertTrue(LayerSnapshot.write(this.snapshot, this.file, FileStamp.of(this.file), LayerSnapshotTest.CONFIG_HASH, this.createData(10)));
+		
+		assertNull(LayerSnapshot.read(this.snapshot, this.file, LayerSnapshotTest.CONFIG_HASH + 1L, this.crsCache));
+		
+		Files.write(this.file.toPath(), "1,1,EPSG:4326,name,1,g\r\n".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+		
+		assertNull(LayerSnapshot.read(this.snapshot, this.file, LayerSnapshotTest.CONFIG_HASH, this.crsCache));
+	}
+	
+	/**
+	 * tests, that a snapshot is rejected, if the CSV file was replaced by one with the same size and modification time, but other content
+	 *
+	 * @throws IOException if a file couldn't be read or written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testReplacedContent()
+	throws IOException {
+		assertTrue(LayerSnapshot.write(this.snapshot, this.file, FileStamp.of(this.file), LayerSnapshotTest.CONFIG_HASH, this.createData(10)));
+		
+		for (boolean head : new boolean[]{true, false}) {
+			long   lastModified = this.file.lastModified();
+			byte[] content      = Files.readAllBytes(this.file.toPath());
+			byte[] changed      = content.clone();
+			int    index        = head ? 10 : changed.length - 5;
+			
+			changed[index] = (byte) (changed[index] == '1' ? '2' : '1');
+			
+			Files.write(this.file.toPath(), changed);
+			assertTrue(this.file.setLastModified(lastModified));
+			
+			assertNull(LayerSnapshot.read(this.snapshot, this.file, LayerSnapshotTest.CONFIG_HASH, this.crsCache));
+			
+			Files.write(this.file.toPath(), content);
+			assertTrue(this.file.setLastModified(lastModified));
+			
+			assertNotNull(LayerSnapshot.read(this.snapshot, this.file, LayerSnapshotTest.CONFIG_HASH, this.crsCache));
+		}
+	}
+	
+	/**
+	 * tests, that no snapshot is written, if the CSV file changed after it was parsed
+	 *
+	 * @throws IOException if a file couldn't be read or written
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testChangedWhileParsing()
+	throws IOException {
+		FileStamp stamp = FileStamp.of(this.file);
+		LayerData data  = this.createData(10);
+		
+		Files.write(this.file.toPath(), "1,1,EPSG:4326,name,1,g\r\n".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+		
+		assertFalse(LayerSnapshot.write(this.snapshot, this.file, stamp, LayerSnapshotTest.CONFIG_HASH, data));
+		assertFalse(this.snapshot.exists());
+	}
+	
+	/**
+	 * tests, that the checksum covers only the first and the last bytes of a large file
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testSample()
+	throws IOException {
+		byte[] content = Files.readAllBytes(this.file.toPath());
+		long   sample  = LayerSnapshot.sample(this.file, content.length);
+		
+		assertTrue(content.length > 2 * LayerSnapshot.SAMPLE_SIZE);
+		
+		content[content.length / 2] = (byte) (content[content.length / 2] == '1' ? '2' : '1');
+		Files.write(this.file.toPath(), content);
+		
+		assertEquals(sample, LayerSnapshot.sample(this.file, content.length));
+		
+		content[0] = 'L';
+		Files.write(this.file.toPath(), content);
+		
+		assertFalse(sample == LayerSnapshot.sample(this.file, content.length));
+	}
+}
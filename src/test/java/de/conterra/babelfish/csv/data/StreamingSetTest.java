@@ -0,0 +1,95 @@
+package de.conterra.babelfish.csv.data;
+
+import de.conterra.babelfish.csv.parser.CommonsRowReader;
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests, that a {@link StreamingSet} creates its elements on every pass and reports the duration of every pass, which reached the end or was closed
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class StreamingSetTest {
+	/**
+	 * the reported durations of the passes in nanoseconds
+	 *
+	 * @since 0.4.0
+	 */
+	private final List<Long>           passes = new ArrayList<>();
+	/**
+	 * the tested {@link StreamingSet} of the first cells of the rows, which skips the rows with an empty first cell
+	 *
+	 * @since 0.4.0
+	 */
+	private final StreamingSet<String> set    = new StreamingSet<>(() -> new CommonsRowReader(new StringReader("a,1\r\n,2\r\nb,3\r\nc,4\r\n"), 0L),
+	                                                               row -> row.get(0).isEmpty() ? null : row.get(0), this.passes::add);
+	
+	/**
+	 * tests, that the elements are created of the rows, which aren't skipped, on every pass
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testElements() {
+		assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(this.set));
+		assertEquals(3, this.set.size());
+		assertTrue(this.set.contains("b"));
+		assertFalse(this.set.contains("d"));
+		assertFalse(this.set.isEmpty());
+	}
+	
+	/**
+	 * tests, that a pass is reported once, if it reached the end, even if the end is checked again
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testEnd() {
+		Iterator<String> iterator = this.set.iterator();
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+		
+		assertFalse(iterator.hasNext());
+		assertEquals(1, this.passes.size());
+		assertTrue(this.passes.get(0) >= 0L);
+		
+		this.set.size();
+		
+		assertEquals(2, this.passes.size());
+	}
+	
+	/**
+	 * tests, that a pass is reported, if it was closed before the end, and not before
+	 *
+	 * @throws IOException if the {@link java.io.Reader} couldn't be closed
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testClose()
+	throws IOException {
+		Iterator<String> iterator = this.set.iterator();
+		
+		assertEquals("a", iterator.next());
+		assertTrue(this.passes.isEmpty());
+		
+		((Closeable) iterator).close();
+		((Closeable) iterator).close();
+		
+		assertFalse(iterator.hasNext());
+		assertEquals(1, this.passes.size());
+	}
+}
@@ -0,0 +1,135 @@
+package de.conterra.babelfish.csv.index;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests, that a {@link ClusterGrid} aggregates every point into the cell, which is given by its indices, even if the cells are far apart
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class ClusterGridTest {
+	/**
+	 * tests, that the cells are ordered by the first occurrence of their points and hold the number, the bounding box and the representative of their points
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testCells() {
+		double[]    first  = {0.5, 10.2, 0.1, -0.5, 0.9, -0.1};
+		double[]    second = {0.5, 10.2, 0.9, 0.5, 0.1, -0.1};
+		ClusterGrid grid   = ClusterGrid.of(first, second, first.length, 1.0);
+		
+		assertEquals(1.0, grid.getCellSize(), 0.0);
+		assertEquals(4, grid.size());
+		
+		assertEquals(3, grid.getCount(0));
+		assertEquals(0, grid.getRow(0));
+		assertEquals(0.1, grid.getMinFirst(0), 0.0);
+		assertEquals(0.1, grid.getMinSecond(0), 0.0);
+		assertEquals(0.9, grid.getMaxFirst(0), 0.0);
+		assertEquals(0.9, grid.getMaxSecond(0), 0.0);
+		
+		assertEquals(1, grid.getCount(1));
+		assertEquals(1, grid.getRow(1));
+		assertEquals(1, grid.getCount(2));
+		assertEquals(3, grid.getRow(2));
+		assertEquals(1, grid.getCount(3));
+		assertEquals(5, grid.getRow(3));
+	}
+	
+	/**
+	 * tests, that cells, which indices differ only beyond their lower 32 bits, are kept apart
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testFarCells() {
+		double   far    = Math.scalb(1.0, 32);
+		double[] first  = {0.5, far + 0.5, 0.5, -far + 0.5, 0.5};
+		double[] second = {0.5, 0.5, far + 0.5, 0.5, -far + 0.5};
+		
+		ClusterGrid grid = ClusterGrid.of(first, second, first.length, 1.0);
+		
+		assertEquals(5, grid.size());
+		for (int cell = 0; cell < grid.size(); cell++) {
+			assertEquals(1, grid.getCount(cell));
+			assertEquals(cell, grid.getRow(cell));
+		}
+	}
+	
+	/**
+	 * tests, that many random points are aggregated into the same cells as by a {@link Map} of their indices
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRandom() {
+		Random   random = new Random(42L);
+		int      count  = 20000;
+		double   size   = 0.37;
+		double[] first  = new double[count];
+		double[] second = new double[count];
+		
+		Map<String, Integer> expected = new HashMap<>();
+		Map<String, Integer> counts   = new HashMap<>();
+		
+		for (int row = 0; row < count; row++) {
+			first[row] = (random.nextDouble() - 0.5) * 50.0;
+			second[row] = (random.nextDouble() - 0.5) * 50.0;
+			
+			String key = (long) Math.floor(first[row] / size) + "/" + (long) Math.floor(second[row] / size);
+			
+			expected.putIfAbsent(key, expected.size());
+			counts.merge(key, 1, Integer::sum);
+		}
+		
+		ClusterGrid grid = ClusterGrid.of(first, second, count, size);
+		
+		assertEquals(expected.size(), grid.size());
+		for (Map.Entry<String, Integer> cell : expected.entrySet()) {
+			assertEquals(cell.getKey(), counts.get(cell.getKey()).intValue(), grid.getCount(cell.getValue()));
+		}
+	}
+	
+	/**
+	 * tests, that a {@link FeatureIndex} of the cells finds them by the bounding boxes of their points
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testFeatureIndex() {
+		double[]    first  = {0.5, 5.5, 0.7};
+		double[]    second = {0.5, 5.5, 0.2};
+		ClusterGrid grid   = ClusterGrid.of(first, second, first.length, 1.0);
+		
+		FeatureIndex<Integer> index = grid.toFeatureIndex(cell -> cell, feature -> feature instanceof Integer ? (Integer) feature : -1);
+		
+		assertEquals(2, index.getFeatures().size());
+		assertEquals(1, index.getFeatures(0.6, 0.0, 0.8, 0.3).size());
+		assertEquals(Integer.valueOf(1), index.getFeatures(5.0, 5.0, 6.0, 6.0).iterator().next());
+		assertTrue(index.getFeatures().contains(1));
+		assertFalse(index.getFeatures(0.6, 0.0, 0.8, 0.3).contains(1));
+		assertFalse(index.getFeatures().contains(2));
+		assertFalse(index.getFeatures().contains("1"));
+	}
+	
+	/**
+	 * tests, that a cell size, which isn't positive, is rejected
+	 *
+	 * @since 0.4.0
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		ClusterGrid.of(new double[0], new double[0], 0, 0.0);
+	}
+}
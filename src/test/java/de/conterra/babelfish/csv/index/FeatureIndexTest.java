@@ -0,0 +1,131 @@
+package de.conterra.babelfish.csv.index;
+
+import de.conterra.babelfish.csv.PopupTemplate;
+import de.conterra.babelfish.csv.SimpleFeature;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.object.feature.FeatureObject;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * tests, that the {@link Set}s of a {@link FeatureIndex} hold the contract of a {@link Set}, even if the features are created again on every iteration
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class FeatureIndexTest {
+	/**
+	 * the number of features
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int SIZE = 100;
+	
+	/**
+	 * the {@link PopupTemplate} of the features
+	 *
+	 * @since 0.4.0
+	 */
+	private final PopupTemplate template = new PopupTemplate(Collections.<Field>emptyList(), 0L);
+	
+	/**
+	 * creates a {@link FeatureIndex} of points on a diagonal, which creates a new {@link SimpleFeature} on every request
+	 *
+	 * @param locate should the {@link FeatureIndex} locate the features by their identifiers?
+	 * @return the created {@link FeatureIndex}
+	 *
+	 * @since 0.4.0
+	 */
+	private FeatureIndex<SimpleFeature<FeatureObject>> create(boolean locate) {
+		double[] ordinates = new double[FeatureIndexTest.SIZE];
+		for (int i = 0; i < ordinates.length; i++) {
+			ordinates[i] = i;
+		}
+		
+		return new FeatureIndex<>(ordinates.length, i -> new SimpleFeature<>(mock(FeatureObject.class), this.template, i),
+		                          locate ? feature -> feature instanceof SimpleFeature ? (Integer) ((SimpleFeature<?>) feature).getId() : -1 : null,
+		                          ordinates, ordinates, ordinates, ordinates);
+	}
+	
+	/**
+	 * tests, that {@link SimpleFeature}s are equal, if they have the same {@link PopupTemplate} and an equal identifier
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testEquals() {
+		FeatureObject object = mock(FeatureObject.class);
+		
+		SimpleFeature<FeatureObject> feature = new SimpleFeature<>(object, this.template, 7);
+		
+		assertEquals(feature, new SimpleFeature<>(mock(FeatureObject.class), this.template, 7));
+		assertEquals(feature.hashCode(), new SimpleFeature<>(mock(FeatureObject.class), this.template, 7).hashCode());
+		assertEquals(feature, new SimpleFeature<>(object, this.template, null, 7));
+		assertNotEquals(feature, new SimpleFeature<>(object, this.template, 8));
+		assertNotEquals(feature, new SimpleFeature<>(object, PopupTemplate.EMPTY, 7));
+		assertNotEquals(feature, new SimpleFeature<>(object, this.template, 7L));
+		assertNotEquals(new SimpleFeature<>(object), new SimpleFeature<>(object));
+	}
+	
+	/**
+	 * tests, that the {@link Set}s contain the features, which were created for their indices, no matter if they are located or searched
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testContains() {
+		for (boolean locate : new boolean[]{true, false}) {
+			FeatureIndex<SimpleFeature<FeatureObject>> index = this.create(locate);
+			
+			Set<SimpleFeature<FeatureObject>> all   = index.getFeatures();
+			Set<SimpleFeature<FeatureObject>> found = index.getFeatures(9.5, 9.5, 20.5, 20.5);
+			Set<SimpleFeature<FeatureObject>> page  = index.getPage(40, 10);
+			
+			assertEquals(FeatureIndexTest.SIZE, all.size());
+			assertEquals(11, found.size());
+			
+			for (SimpleFeature<FeatureObject> feature : all) {
+				int i = (Integer) feature.getId();
+				
+				assertTrue(all.contains(feature));
+				assertEquals(i >= 10 && i <= 20, found.contains(feature));
+				assertEquals(i >= 40 && i < 50, page.contains(feature));
+				assertEquals(i % 3 == 0, index.getFeatures(j -> j % 3 == 0).contains(feature));
+			}
+			
+			assertFalse(all.contains(new SimpleFeature<>(mock(FeatureObject.class), this.template, FeatureIndexTest.SIZE)));
+			assertFalse(all.contains(new SimpleFeature<>(mock(FeatureObject.class), PopupTemplate.EMPTY, 5)));
+			assertFalse(all.contains("5"));
+			assertFalse(all.contains(null));
+			assertTrue(found.containsAll(index.getFeatures(new int[]{10, 15, 20})));
+		}
+	}
+	
+	/**
+	 * tests, that the {@link Set}s are equal to other {@link Set}s of the same features and have the same hash code
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testSetEquals() {
+		FeatureIndex<SimpleFeature<FeatureObject>> index = this.create(true);
+		
+		Set<SimpleFeature<FeatureObject>> found = index.getFeatures(9.5, 9.5, 20.5, 20.5);
+		
+		assertEquals(new HashSet<>(found), found);
+		assertEquals(found, new HashSet<>(found));
+		assertEquals(new HashSet<>(found).hashCode(), found.hashCode());
+		assertEquals(found, index.getPage(10, 11));
+		assertNotEquals(found, index.getPage(10, 10));
+	}
+}
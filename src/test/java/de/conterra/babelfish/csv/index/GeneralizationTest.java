@@ -0,0 +1,216 @@
+package de.conterra.babelfish.csv.index;
+
+import de.conterra.babelfish.csv.Group;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import org.junit.Test;
+import org.opengis.geometry.DirectPosition;
+import org.opengis.geometry.primitive.Point;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+import org.opengis.referencing.crs.GeographicCRS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * tests, that the precomputed {@link Generalization} selects the same {@link Point}s as the Douglas-Peucker algorithm
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class GeneralizationTest {
+	/**
+	 * the tolerances to check
+	 *
+	 * @since 0.4.0
+	 */
+	private static final double[] TOLERANCES = {0.0, 0.01, 0.1, 0.3, 1.0, 2.5, 10.0, 1000.0};
+	
+	/**
+	 * creates a {@link Point}
+	 *
+	 * @param x the first ordinate
+	 * @param y the second ordinate
+	 * @return the created {@link Point}
+	 *
+	 * @since 0.4.0
+	 */
+	private static Point point(double x, double y) {
+		DirectPosition position = mock(DirectPosition.class);
+		when(position.getOrdinate(0)).thenReturn(x);
+		when(position.getOrdinate(1)).thenReturn(y);
+		
+		Point result = mock(Point.class);
+		when(result.getDirectPosition()).thenReturn(position);
+		
+		return result;
+	}
+	
+	/**
+	 * creates a {@link Group} of a random walk
+	 *
+	 * @param random the {@link Random} to create the {@link Point}s with
+	 * @param count  the number of {@link Point}s
+	 * @return the created {@link Group}
+	 *
+	 * @since 0.4.0
+	 */
+	private static Group randomWalk(Random random, int count) {
+		Set<Point> points = new LinkedHashSet<>();
+		double     x      = 0.0;
+		double     y      = 0.0;
+		
+		for (int i = 0; i < count; i++) {
+			x += random.nextGaussian();
+			y += random.nextGaussian();
+			
+			points.add(GeneralizationTest.point(x, y));
+		}
+		
+		return new Group(points, Collections.<Field, String>emptyMap(), null);
+	}
+	
+	/**
+	 * gives an ordinate of a {@link Point}
+	 *
+	 * @param point     the {@link Point}
+	 * @param dimension the index of the ordinate
+	 * @return the ordinate
+	 *
+	 * @since 0.4.0
+	 */
+	private static double ordinate(Point point, int dimension) {
+		return point.getDirectPosition().getOrdinate(dimension);
+	}
+	
+	/**
+	 * generalizes a line by the recursive Douglas-Peucker algorithm
+	 *
+	 * @param points    the vertices of the line
+	 * @param first     the index of the first vertex of the segment
+	 * @param last      the index of the last vertex of the segment
+	 * @param tolerance the maximum distance of an omitted vertex
+	 * @param result    the kept inner vertices in their order
+	 * @since 0.4.0
+	 */
+	private static void douglasPeucker(List<Point> points, int first, int last, double tolerance, List<Point> result) {
+		if (last - first < 2) {
+			return;
+		}
+		
+		double startX = GeneralizationTest.ordinate(points.get(first), 0);
+		double startY = GeneralizationTest.ordinate(points.get(first), 1);
+		double dx     = GeneralizationTest.ordinate(points.get(last), 0) - startX;
+		double dy     = GeneralizationTest.ordinate(points.get(last), 1) - startY;
+		double length = dx * dx + dy * dy;
+		
+		int    index    = first + 1;
+		double distance = -1.0;
+		for (int i = first + 1; i < last; i++) {
+			double x       = GeneralizationTest.ordinate(points.get(i), 0) - startX;
+			double y       = GeneralizationTest.ordinate(points.get(i), 1) - startY;
+			double factor  = length > 0.0 ? Math.max(0.0, Math.min(1.0, (x * dx + y * dy) / length)) : 0.0;
+			double current = Math.hypot(x - factor * dx, y - factor * dy);
+			
+			if (current > distance) {
+				distance = current;
+				index = i;
+			}
+		}
+		
+		if ((float) distance > tolerance) {
+			GeneralizationTest.douglasPeucker(points, first, index, tolerance, result);
+			result.add(points.get(index));
+			GeneralizationTest.douglasPeucker(points, index, last, tolerance, result);
+		}
+	}
+	
+	/**
+	 * tests, that the {@link Point}s of lines are selected like the Douglas-Peucker algorithm selects them
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testLines() {
+		Random      random = new Random(11L);
+		List<Group> groups = new ArrayList<>();
+		
+		for (int i = 0; i < 8; i++) {
+			groups.add(GeneralizationTest.randomWalk(random, 2 + random.nextInt(300)));
+		}
+		
+		Generalization generalization = Generalization.of(groups, false);
+		
+		assertEquals(groups.size(), generalization.size());
+		
+		for (int i = 0; i < groups.size(); i++) {
+			List<Point> points = new ArrayList<>(groups.get(i).getPoints());
+			
+			for (double tolerance : GeneralizationTest.TOLERANCES) {
+				List<Point> expected = new ArrayList<>();
+				expected.add(points.get(0));
+				GeneralizationTest.douglasPeucker(points, 0, points.size() - 1, tolerance, expected);
+				expected.add(points.get(points.size() - 1));
+				
+				assertEquals("group " + i + " with tolerance " + tolerance, expected, generalization.getPoints(i, tolerance));
+			}
+		}
+	}
+	
+	/**
+	 * tests, that a ring keeps at least three {@link Point}s and that a higher tolerance never keeps more {@link Point}s
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRings() {
+		Random      random = new Random(5L);
+		List<Group> groups = new ArrayList<>();
+		
+		for (int i = 0; i < 8; i++) {
+			groups.add(GeneralizationTest.randomWalk(random, 1 + random.nextInt(200)));
+		}
+		
+		Generalization generalization = Generalization.of(groups, true);
+		
+		for (int i = 0; i < groups.size(); i++) {
+			List<Point> points   = new ArrayList<>(groups.get(i).getPoints());
+			List<Point> previous = points;
+			
+			for (double tolerance : GeneralizationTest.TOLERANCES) {
+				List<Point> kept = generalization.getPoints(i, tolerance);
+				
+				assertTrue(kept.size() >= Math.min(3, points.size()));
+				assertEquals(points.get(0), kept.get(0));
+				assertTrue(previous.containsAll(kept));
+				
+				previous = kept;
+			}
+			
+			assertEquals(Math.min(3, points.size()), generalization.getPoints(i, Double.MAX_VALUE).size());
+		}
+	}
+	
+	/**
+	 * tests the conversion of a scale into the units of a {@link CoordinateReferenceSystem}
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testResolution() {
+		double metres = 10000.0 * 0.0254 / 96.0;
+		
+		assertEquals(metres, Generalization.getResolution(10000.0, null), 1e-12);
+		assertEquals(metres, Generalization.getResolution(10000.0, mock(CoordinateReferenceSystem.class)), 1e-12);
+		assertEquals(metres / Generalization.METRES_PER_DEGREE, Generalization.getResolution(10000.0, mock(GeographicCRS.class)), 1e-18);
+	}
+}
@@ -0,0 +1,197 @@
+package de.conterra.babelfish.csv.index;
+
+import de.conterra.babelfish.csv.data.LayerData;
+import org.junit.Test;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * tests, that an {@link ObjectIdIndex} finds the first row of every object ID, no matter if the object IDs ascend or not
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class ObjectIdIndexTest {
+	/**
+	 * the {@link LayerData.Key} of the {@link ObjectIdIndex}, under which it is derived like by the layers
+	 *
+	 * @since 0.4.0
+	 */
+	private static final LayerData.Key<ObjectIdIndex> KEY = new LayerData.Key<>("objectIdIndex");
+	
+	/**
+	 * the {@link CoordinateReferenceSystem} of the rows
+	 *
+	 * @since 0.4.0
+	 */
+	private final CoordinateReferenceSystem crs = mock(CoordinateReferenceSystem.class);
+	
+	/**
+	 * adds rows with given object IDs to a {@link LayerData.Builder}
+	 *
+	 * @param builder the {@link LayerData.Builder} to add the rows to
+	 * @param ids     the object IDs of the rows, where {@code null} adds a row without an object ID
+	 * @return {@code builder}
+	 *
+	 * @since 0.4.0
+	 */
+	private LayerData.Builder add(LayerData.Builder builder, Integer... ids) {
+		for (Integer id : ids) {
+			builder.add("EPSG:4326", this.crs, 51.0, 7.0, 0.0, id, new String[0], null);
+		}
+		
+		return builder;
+	}
+	
+	/**
+	 * creates {@link LayerData} of rows with given object IDs
+	 *
+	 * @param ids the object IDs of the rows, where {@code null} adds a row without an object ID
+	 * @return the created {@link LayerData}
+	 *
+	 * @since 0.4.0
+	 */
+	private LayerData create(Integer... ids) {
+		return this.add(new LayerData.Builder(new int[0], false, true, 0), ids).build();
+	}
+	
+	/**
+	 * checks, that the object ID of every row, which isn't a duplicate, is found at its row
+	 *
+	 * @param data  the parsed CSV data
+	 * @param index the {@link ObjectIdIndex} of {@code data}
+	 * @since 0.4.0
+	 */
+	private static void assertRoundTrip(LayerData data, ObjectIdIndex index) {
+		Map<Integer, Integer> first = new HashMap<>();
+		
+		for (int row = 0; row < data.size(); row++) {
+			if (data.hasObjectId(row)) {
+				first.putIfAbsent(data.getObjectId(row), row);
+			}
+		}
+		
+		for (Map.Entry<Integer, Integer> entry : first.entrySet()) {
+			int row = index.getRow(entry.getKey());
+			
+			assertEquals("object ID " + entry.getKey(), entry.getValue().intValue(), row);
+			assertEquals(entry.getKey().intValue(), data.getObjectId(row));
+		}
+		assertEquals(first.size(), index.size());
+	}
+	
+	/**
+	 * tests, that ascending object IDs are held in a sorted array, even if some rows have no object ID
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testSorted() {
+		LayerData     data  = this.create(3, 5, null, 8, 13, null, 21);
+		ObjectIdIndex index = ObjectIdIndex.of(data);
+		
+		assertTrue(index.isSorted());
+		assertEquals(0, index.getDuplicateCount());
+		ObjectIdIndexTest.assertRoundTrip(data, index);
+		assertEquals(ObjectIdIndex.MISSING, index.getRow(4));
+		assertEquals(ObjectIdIndex.MISSING, index.getRow(Integer.MIN_VALUE));
+		assertEquals(ObjectIdIndex.MISSING, index.getRow(22));
+	}
+	
+	/**
+	 * tests, that unordered object IDs are found in the hash table, even if many of them collide
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testHashed() {
+		Integer[] ids = new Integer[5000];
+		for (int row = 0; row < ids.length; row++) {
+			ids[row] = row % 17 == 0 ? null : (ids.length - row) << 16;
+		}
+		
+		LayerData     data  = this.create(ids);
+		ObjectIdIndex index = ObjectIdIndex.of(data);
+		
+		assertFalse(index.isSorted());
+		ObjectIdIndexTest.assertRoundTrip(data, index);
+		assertEquals(ObjectIdIndex.MISSING, index.getRow(1));
+		assertEquals(ObjectIdIndex.MISSING, index.getRow(0));
+		assertEquals(ObjectIdIndex.MISSING, index.getRow(-1));
+	}
+	
+	/**
+	 * tests, that an object ID, which occurs in more than one row, is found at its first row only,
+	 * while the later rows are counted as duplicates
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testDuplicates() {
+		LayerData     data  = this.create(7, 2, 7, 9, 2, 7);
+		ObjectIdIndex index = ObjectIdIndex.of(data);
+		
+		assertEquals(3, index.getDuplicateCount());
+		assertEquals(3, index.size());
+		assertEquals(0, index.getRow(7));
+		assertEquals(1, index.getRow(2));
+		assertEquals(3, index.getRow(9));
+		assertArrayEquals(new int[]{0, 1}, index.getRows(7, 2, 7));
+	}
+	
+	/**
+	 * tests, that the rows of a batch of object IDs are sorted, without duplicates and without the unknown object IDs
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testGetRows() {
+		ObjectIdIndex index = ObjectIdIndex.of(this.create(40, 10, 30, null, 20));
+		
+		assertArrayEquals(new int[]{0, 2, 4}, index.getRows(20, 99, 40, 30, 20));
+		assertArrayEquals(new int[0], index.getRows(99));
+		assertArrayEquals(new int[0], index.getRows());
+	}
+	
+	/**
+	 * tests, that {@link LayerData} with appended rows derives a new {@link ObjectIdIndex}, which finds the appended rows,
+	 * while the {@link ObjectIdIndex} of the previous {@link LayerData} is kept
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testAppend() {
+		LayerData     previous = this.create(1, 2, 3);
+		ObjectIdIndex index    = previous.derive(ObjectIdIndexTest.KEY, ObjectIdIndex::of);
+		
+		assertSame(index, previous.derive(ObjectIdIndexTest.KEY, ObjectIdIndex::of));
+		assertNull(previous.getInherited(ObjectIdIndexTest.KEY));
+		
+		LayerData     appended = this.add(new LayerData.Builder(previous), 4, 0, 2).build();
+		ObjectIdIndex updated  = appended.derive(ObjectIdIndexTest.KEY, ObjectIdIndex::of);
+		
+		assertNotSame(index, updated);
+		assertNull(appended.getInherited(ObjectIdIndexTest.KEY));
+		assertFalse(updated.isSorted());
+		assertEquals(1, updated.getDuplicateCount());
+		assertEquals(3, updated.getRow(4));
+		assertEquals(4, updated.getRow(0));
+		assertEquals(1, updated.getRow(2));
+		ObjectIdIndexTest.assertRoundTrip(appended, updated);
+		
+		assertEquals(ObjectIdIndex.MISSING, index.getRow(4));
+		ObjectIdIndexTest.assertRoundTrip(previous, index);
+	}
+}
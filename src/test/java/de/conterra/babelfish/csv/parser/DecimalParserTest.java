@@ -0,0 +1,132 @@
+package de.conterra.babelfish.csv.parser;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests, that the {@link DecimalParser} gives the same results as {@link Double#parseDouble(String)}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class DecimalParserTest {
+	/**
+	 * the number of random values of a test
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int VALUES = 200000;
+	
+	/**
+	 * checks, that a text is parsed exactly to a given value from characters and from bytes
+	 *
+	 * @param expected the expected value
+	 * @param text     the text to parse
+	 * @since 0.4.0
+	 */
+	private static void assertParsed(double expected, String text) {
+		byte[] bytes = (" " + text + " ").getBytes(StandardCharsets.US_ASCII);
+		
+		assertEquals(text, Double.doubleToLongBits(expected), Double.doubleToLongBits(DecimalParser.parse(text)));
+		assertEquals(text, Double.doubleToLongBits(expected), Double.doubleToLongBits(DecimalParser.parse(ByteBuffer.wrap(bytes), 0, bytes.length)));
+	}
+	
+	/**
+	 * tests, that the shortest representation of any finite {@code double} is parsed back to the same {@code double}
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRoundTrip() {
+		Random random = new Random(42L);
+		
+		for (int i = 0; i < DecimalParserTest.VALUES; i++) {
+			double value = Double.longBitsToDouble(random.nextLong());
+			
+			if (!(Double.isNaN(value) || Double.isInfinite(value))) {
+				DecimalParserTest.assertParsed(value, Double.toString(value));
+			}
+		}
+	}
+	
+	/**
+	 * tests random decimal numbers, like they are written to CSV files
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testDecimals() {
+		Random random = new Random(7L);
+		
+		for (int i = 0; i < DecimalParserTest.VALUES; i++) {
+			StringBuilder text = new StringBuilder();
+			
+			if (random.nextBoolean()) {
+				text.append('-');
+			}
+			
+			int digits   = 1 + random.nextInt(24);
+			int fraction = random.nextInt(digits + 1);
+			
+			for (int d = 0; d < digits; d++) {
+				if (d == digits - fraction) {
+					text.append('.');
+				}
+				
+				text.append((char) ('0' + random.nextInt(10)));
+			}
+			
+			if (random.nextInt(4) == 0) {
+				text.append('e').append(random.nextInt(700) - 350);
+			}
+			
+			DecimalParserTest.assertParsed(Double.parseDouble(text.toString()), text.toString());
+		}
+	}
+	
+	/**
+	 * tests the separators, signs and exponents, which are accepted
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testFormats() {
+		DecimalParserTest.assertParsed(1.5, "1,5");
+		DecimalParserTest.assertParsed(1.5, "1.5");
+		DecimalParserTest.assertParsed(1.5, "+1.5");
+		DecimalParserTest.assertParsed(0.5, ".5");
+		DecimalParserTest.assertParsed(1.0, "1.");
+		DecimalParserTest.assertParsed(-0.0, "-0");
+		DecimalParserTest.assertParsed(0.0, "0.000");
+		DecimalParserTest.assertParsed(1500.0, "1.5e3");
+		DecimalParserTest.assertParsed(1500.0, "1.5E+3");
+		DecimalParserTest.assertParsed(0.0015, "1.5e-3");
+		DecimalParserTest.assertParsed(51.9625, "0051.9625");
+		DecimalParserTest.assertParsed(0.1, "0.1000000000000000000000000");
+		DecimalParserTest.assertParsed(Double.POSITIVE_INFINITY, "1e999");
+		DecimalParserTest.assertParsed(0.0, "1e-999");
+		DecimalParserTest.assertParsed(Double.MAX_VALUE, "1.7976931348623157E308");
+		DecimalParserTest.assertParsed(Double.MIN_VALUE, "4.9E-324");
+	}
+	
+	/**
+	 * tests, that malformed numbers are returned as {@link Double#NaN}
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testMalformed() {
+		assertTrue(Double.isNaN(DecimalParser.parse(null)));
+		
+		for (String text : new String[]{"", "   ", "-", "+", ".", "e5", "1e", "1e+", "1.2.3", "1,2,3", "1 2", "abc", "12a", "0x10", "NaN", "Infinity"}) {
+			assertTrue(text, Double.isNaN(DecimalParser.parse(text)));
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package de.conterra.babelfish.csv.parser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests the decompression of gzip files of concatenated members by the {@link GzipBlockInputStream} and the reported boundaries of the members
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class GzipBlockInputStreamTest {
+	/**
+	 * the flags of a header with extra field, file name, comment and header checksum
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int ALL_FLAGS = 4 | 8 | 16 | 2;
+	
+	/**
+	 * the temporary gzip file
+	 *
+	 * @since 0.4.0
+	 */
+	private File file;
+	
+	/**
+	 * creates the temporary gzip file
+	 *
+	 * @throws IOException if the file couldn't be created
+	 * @since 0.4.0
+	 */
+	@Before
+	public void setUp()
+	throws IOException {
+		this.file = File.createTempFile("blocks", ".csv.gz");
+	}
+	
+	/**
+	 * deletes the temporary gzip file
+	 *
+	 * @since 0.4.0
+	 */
+	@After
+	public void tearDown() {
+		if (this.file != null && !(this.file.delete())) {
+			this.file.deleteOnExit();
+		}
+	}
+	
+	/**
+	 * compresses bytes into a single gzip member
+	 *
+	 * @param content the bytes to compress
+	 * @param flags   the flags of the header, which optional fields are written
+	 * @return the gzip member
+	 *
+	 * @since 0.4.0
+	 */
+	private static byte[] member(byte[] content, int flags) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		
+		out.write(0x1F);
+		out.write(0x8B);
+		out.write(8);
+		out.write(flags);
+		out.write(new byte[6], 0, 6);
+		
+		if ((flags & 4) != 0) {
+			out.write(3);
+			out.write(0);
+			out.write(new byte[]{'x', 'y', 'z'}, 0, 3);
+		}
+		if ((flags & 8) != 0) {
+			byte[] name = "data.csv\0".getBytes(StandardCharsets.US_ASCII);
+			out.write(name, 0, name.length);
+		}
+		if ((flags & 16) != 0) {
+			byte[] comment = "a comment\0".getBytes(StandardCharsets.US_ASCII);
+			out.write(comment, 0, comment.length);
+		}
+		if ((flags & 2) != 0) {
+			CRC32 header = new CRC32();
+			header.update(out.toByteArray());
+			
+			out.write((int) header.getValue() & 0xFF);
+			out.write((int) (header.getValue() >>> 8) & 0xFF);
+		}
+		
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		deflater.setInput(content);
+		deflater.finish();
+		
+		byte[] buffer = new byte[8192];
+		while (!(deflater.finished())) {
+			out.write(buffer, 0, deflater.deflate(buffer));
+		}
+		deflater.end();
+		
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		
+		GzipBlockInputStreamTest.writeInt(out, crc.getValue());
+		GzipBlockInputStreamTest.writeInt(out, content.length);
+		
+		return out.toByteArray();
+	}
+	
+	/**
+	 * writes an unsigned integer of four bytes in little endian order
+	 *
+	 * @param out   the stream to write to
+	 * @param value the value to write
+	 * @since 0.4.0
+	 */
+	private static void writeInt(ByteArrayOutputStream out, long value) {
+		for (int i = 0; i < 4; i++) {
+			out.write((int) (value >>> (8 * i)) & 0xFF);
+		}
+	}
+	
+	/**
+	 * reads all remaining bytes of a stream
+	 *
+	 * @param in the stream to read
+	 * @return the read bytes
+	 *
+	 * @throws IOException if the stream couldn't be read
+	 * @since 0.4.0
+	 */
+	private static byte[] readAll(InputStream in)
+	throws IOException {
+		ByteArrayOutputStream out    = new ByteArrayOutputStream();
+		byte[]                buffer = new byte[4096];
+		
+		try {
+			int count;
+			while ((count = in.read(buffer)) >= 0) {
+				out.write(buffer, 0, count);
+			}
+		} finally {
+			in.close();
+		}
+		
+		return out.toByteArray();
+	}
+	
+	/**
+	 * tests, that the reported boundaries of the members are the positions, at which a decompression could start again
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testBlocks()
+	throws IOException {
+		Random                random  = new Random(3L);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		ByteArrayOutputStream file    = new ByteArrayOutputStream();
+		int                   members = 12;
+		
+		for (int i = 0; i < members; i++) {
+			byte[] part = new byte[i == 4 ? 0 : random.nextInt(100000)];
+			for (int j = 0; j < part.length; j++) {
+				part[j] = (byte) ('a' + random.nextInt(8));
+			}
+			
+			byte[] member = GzipBlockInputStreamTest.member(part, i % 3 == 0 ? GzipBlockInputStreamTest.ALL_FLAGS : 0);
+			
+			content.write(part, 0, part.length);
+			file.write(member, 0, member.length);
+		}
+		
+		Files.write(this.file.toPath(), file.toByteArray());
+		
+		byte[]                expected = content.toByteArray();
+		ByteArrayOutputStream actual   = new ByteArrayOutputStream();
+		int                   checked  = 0;
+		
+		try (GzipBlockInputStream in = new GzipBlockInputStream(this.file)) {
+			byte[] buffer = new byte[1 + random.nextInt(65536)];
+			int    blocks = 0;
+			int    count;
+			
+			while ((count = in.read(buffer, 0, 1 + random.nextInt(buffer.length))) >= 0) {
+				if (in.getBlockCount() != blocks) {
+					blocks = in.getBlockCount();
+					
+					assertEquals(actual.size(), in.getBlockOffset());
+					
+					byte[] rest = GzipBlockInputStreamTest.readAll(Compression.GZIP.open(this.file, in.getBlockStart()));
+					assertArrayEquals(Arrays.copyOfRange(expected, actual.size(), expected.length), rest);
+					checked++;
+				}
+				
+				actual.write(buffer, 0, count);
+			}
+			
+			assertEquals(members, in.getBlockCount());
+		}
+		
+		assertArrayEquals(expected, actual.toByteArray());
+		assertTrue(checked > 1);
+	}
+	
+	/**
+	 * tests, that padding after the last member is ignored
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testPadding()
+	throws IOException {
+		byte[] content = "id,name\r\n1,a\r\n".getBytes(StandardCharsets.US_ASCII);
+		byte[] member  = GzipBlockInputStreamTest.member(content, 0);
+		
+		Files.write(this.file.toPath(), Arrays.copyOf(member, member.length + 16));
+		
+		assertArrayEquals(content, GzipBlockInputStreamTest.readAll(new GzipBlockInputStream(this.file)));
+	}
+	
+	/**
+	 * tests, that a member with a wrong checksum is rejected
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test(expected = ZipException.class)
+	public void testCorruptMember()
+	throws IOException {
+		byte[] member = GzipBlockInputStreamTest.member("id,name\r\n1,a\r\n".getBytes(StandardCharsets.US_ASCII), 0);
+		member[member.length - 8] ^= 0x01;
+		
+		Files.write(this.file.toPath(), member);
+		
+		GzipBlockInputStreamTest.readAll(new GzipBlockInputStream(this.file));
+	}
+	
+	/**
+	 * tests, that a file, which isn't compressed by gzip, is rejected
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test(expected = ZipException.class)
+	public void testNotGzip()
+	throws IOException {
+		Files.write(this.file.toPath(), "id,name\r\n1,a\r\n".getBytes(StandardCharsets.US_ASCII));
+		
+		GzipBlockInputStreamTest.readAll(new GzipBlockInputStream(this.file));
+	}
+}
@@ -0,0 +1,191 @@
+package de.conterra.babelfish.csv.parser;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * tests the {@link MappedRowReader} against the EXCEL dialect of the {@link CommonsRowReader}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class MappedRowReaderTest {
+	/**
+	 * the rows with the edge cases of the EXCEL dialect
+	 *
+	 * @since 0.4.0
+	 */
+	private static final String EDGE_CASES = "id,name,remark\r\n"
+	                                         + "1,plain,text\r\n"
+	                                         + "2,\"with, delimiter\",x\n"
+	                                         + "3,\"with \"\"escaped\"\" quotes\",x\r"
+	                                         + "4,\"multi\r\nline\ncell\",x\r\n"
+	                                         + "5,5\" pipe,a \"quote\" inside\r\n"
+	                                         + "6,,\r\n"
+	                                         + "7,\"\",\"\"\r\n"
+	                                         + "8,\"trailing\"  ,x\r\n"
+	                                         + "\r\n"
+	                                         + "9,\"\"\"\",last";
+	
+	/**
+	 * the temporary CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	private File file;
+	
+	/**
+	 * creates the temporary CSV file, if the default charset could be read by a {@link MappedRowReader}
+	 *
+	 * @throws IOException if the file couldn't be created
+	 * @since 0.4.0
+	 */
+	@Before
+	public void setUp()
+	throws IOException {
+		Assume.assumeTrue(MappedRowReader.isSupported(Charset.defaultCharset()));
+		
+		this.file = File.createTempFile("mapped", ".csv");
+		Files.write(this.file.toPath(), MappedRowReaderTest.EDGE_CASES.getBytes(Charset.defaultCharset()));
+	}
+	
+	/**
+	 * deletes the temporary CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	@After
+	public void tearDown() {
+		if (this.file != null && !(this.file.delete())) {
+			this.file.deleteOnExit();
+		}
+	}
+	
+	/**
+	 * reads all rows of a {@link RowReader}
+	 *
+	 * @param reader the {@link RowReader} to read
+	 * @return the cells of all rows
+	 *
+	 * @throws IOException if a row couldn't be read
+	 * @since 0.4.0
+	 */
+	static List<List<String>> readAll(RowReader reader)
+	throws IOException {
+		List<List<String>> result = new ArrayList<>();
+		
+		try {
+			CsvRow row;
+			while ((row = reader.next()) != null) {
+				List<String> cells = new ArrayList<>(row.size());
+				
+				for (int i = 0; i < row.size(); i++) {
+					cells.add(row.get(i));
+				}
+				
+				result.add(cells);
+			}
+		} finally {
+			reader.close();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * tests, that all rows are read like the EXCEL dialect of commons-csv reads them
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testSameRowsAsCommons()
+	throws IOException {
+		assertEquals(MappedRowReaderTest.readAll(new CommonsRowReader(this.file)), MappedRowReaderTest.readAll(new MappedRowReader(this.file)));
+	}
+	
+	/**
+	 * tests the cells of the quoting edge cases
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testQuoting()
+	throws IOException {
+		List<List<String>> rows = MappedRowReaderTest.readAll(new MappedRowReader(this.file));
+		
+		assertEquals(11, rows.size());
+		assertEquals(Arrays.asList("2", "with, delimiter", "x"), rows.get(2));
+		assertEquals(Arrays.asList("3", "with \"escaped\" quotes", "x"), rows.get(3));
+		assertEquals(Arrays.asList("4", "multi\r\nline\ncell", "x"), rows.get(4));
+		assertEquals(Arrays.asList("5", "5\" pipe", "a \"quote\" inside"), rows.get(5));
+		assertEquals(Arrays.asList("6", "", ""), rows.get(6));
+		assertEquals(Arrays.asList("7", "", ""), rows.get(7));
+		assertEquals(Arrays.asList("8", "trailing", "x"), rows.get(8));
+		assertEquals(Arrays.asList("9", "\"", "last"), rows.get(10));
+	}
+	
+	/**
+	 * tests, that the record numbers count the rows and not the lines
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testRecordNumbers()
+	throws IOException {
+		try (MappedRowReader reader = new MappedRowReader(this.file)) {
+			long expected = 0;
+			
+			while (reader.next() != null) {
+				assertEquals(++expected, reader.getRecordNumber());
+			}
+			
+			assertEquals(11, expected);
+		}
+	}
+	
+	/**
+	 * tests, that the {@link FileRange}s of any split contain all rows exactly once,
+	 * even if a quoted cell contains line breaks
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testSplit()
+	throws IOException {
+		List<List<String>> expected = MappedRowReaderTest.readAll(new MappedRowReader(this.file));
+		expected.remove(0);
+		
+		for (int count = 1; count <= 16; count++) {
+			List<List<String>> rows   = new ArrayList<>();
+			long               record = 1;
+			
+			for (FileRange range : MappedRowReader.split(this.file, true, count)) {
+				assertEquals(record, range.getRecordNumber());
+				
+				List<List<String>> part = MappedRowReaderTest.readAll(new MappedRowReader(this.file, range));
+				
+				rows.addAll(part);
+				record += part.size();
+			}
+			
+			assertEquals("split into " + count, expected, rows);
+		}
+	}
+}
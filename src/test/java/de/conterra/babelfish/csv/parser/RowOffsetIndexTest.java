@@ -0,0 +1,223 @@
+package de.conterra.babelfish.csv.parser;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests the pages of a {@link RowOffsetIndex} of plain and compressed files against the EXCEL dialect of the {@link CommonsRowReader}
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class RowOffsetIndexTest {
+	/**
+	 * the number of rows without the headers
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int ROWS    = 5 * RowOffsetIndex.INTERVAL + 123;
+	/**
+	 * the number of members of the gzip file
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int MEMBERS = 7;
+	/**
+	 * the number of rows of a page
+	 *
+	 * @since 0.4.0
+	 */
+	private static final int COUNT   = 50;
+	
+	/**
+	 * the plain CSV file
+	 *
+	 * @since 0.4.0
+	 */
+	private File               plain;
+	/**
+	 * the CSV file of concatenated gzip members
+	 *
+	 * @since 0.4.0
+	 */
+	private File               gzip;
+	/**
+	 * the rows without the headers, which are read by commons-csv
+	 *
+	 * @since 0.4.0
+	 */
+	private List<List<String>> expected;
+	
+	/**
+	 * creates the plain and the compressed CSV file with rows,
+	 * which contain delimiters, escaped quotes, line breaks and quotes inside unquoted cells
+	 *
+	 * @throws IOException if a file couldn't be created
+	 * @since 0.4.0
+	 */
+	@Before
+	public void setUp()
+	throws IOException {
+		Assume.assumeTrue(MappedRowReader.isSupported(Charset.defaultCharset()));
+		
+		StringBuilder content = new StringBuilder("id,name,remark\r\n");
+		for (int i = 0; i < RowOffsetIndexTest.ROWS; i++) {
+			content.append(i).append(',');
+			
+			if (i % 7 == 0) {
+				content.append("\"multi\r\nline, ").append(i).append('"');
+			} else if (i % 5 == 0) {
+				content.append(i % 100).append("\" pipe");
+			} else if (i % 11 == 0) {
+				content.append("\"\"\"quoted\"\"\"");
+			} else {
+				content.append("name ").append(i);
+			}
+			
+			content.append(',').append(i % 3 == 0 ? "" : "x").append(i % 13 == 0 ? "\n" : "\r\n");
+		}
+		
+		byte[] bytes = content.toString().getBytes(Charset.defaultCharset());
+		
+		this.plain = File.createTempFile("offsets", ".csv");
+		Files.write(this.plain.toPath(), bytes);
+		
+		this.gzip = File.createTempFile("offsets", ".csv.gz");
+		try (OutputStream out = new FileOutputStream(this.gzip)) {
+			int start = 0;
+			
+			for (int i = 1; i <= RowOffsetIndexTest.MEMBERS; i++) {
+				int end = (int) ((long) bytes.length * i / RowOffsetIndexTest.MEMBERS) + (i < RowOffsetIndexTest.MEMBERS ? i : 0);
+				
+				GZIPOutputStream member = new GZIPOutputStream(out) {
+					@Override
+					public void close()
+					throws IOException {
+						this.finish();
+					}
+				};
+				member.write(bytes, start, end - start);
+				member.close();
+				
+				start = end;
+			}
+		}
+		
+		this.expected = MappedRowReaderTest.readAll(new CommonsRowReader(this.plain));
+		this.expected.remove(0);
+	}
+	
+	/**
+	 * deletes the temporary CSV files
+	 *
+	 * @since 0.4.0
+	 */
+	@After
+	public void tearDown() {
+		for (File file : new File[]{this.plain, this.gzip}) {
+			if (file != null && !(file.delete())) {
+				file.deleteOnExit();
+			}
+		}
+	}
+	
+	/**
+	 * checks the pages of a {@link RowOffsetIndex} at the boundaries of the indexed positions
+	 *
+	 * @param file the indexed CSV file
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	private void assertPages(File file)
+	throws IOException {
+		RowOffsetIndex index = RowOffsetIndex.of(file, true);
+		
+		assertEquals(RowOffsetIndexTest.ROWS, index.size());
+		
+		int   interval = RowOffsetIndex.INTERVAL;
+		int[] offsets  = {0, 1, interval - 1, interval, interval + 1, 3 * interval + 17, RowOffsetIndexTest.ROWS - 1, RowOffsetIndexTest.ROWS, RowOffsetIndexTest.ROWS + 5};
+		
+		for (int offset : offsets) {
+			List<List<String>> page   = new ArrayList<>();
+			long               record = offset + 2;
+			RowReader          reader = index.open(file, offset, RowOffsetIndexTest.COUNT);
+			
+			try {
+				CsvRow row;
+				while ((row = reader.next()) != null) {
+					assertEquals("record number at offset " + offset, record++, row.getRecordNumber());
+					
+					List<String> cells = new ArrayList<>(row.size());
+					for (int i = 0; i < row.size(); i++) {
+						cells.add(row.get(i));
+					}
+					page.add(cells);
+				}
+			} finally {
+				reader.close();
+			}
+			
+			int from = Math.min(offset, RowOffsetIndexTest.ROWS);
+			int to   = Math.min(offset + RowOffsetIndexTest.COUNT, RowOffsetIndexTest.ROWS);
+			
+			assertEquals("page at offset " + offset, this.expected.subList(from, to), page);
+		}
+	}
+	
+	/**
+	 * tests the pages of a plain CSV file
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testPlainPages()
+	throws IOException {
+		this.assertPages(this.plain);
+	}
+	
+	/**
+	 * tests the pages of a gzip file, whose members split rows and quoted cells at arbitrary bytes
+	 *
+	 * @throws IOException if the file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testGzipPages()
+	throws IOException {
+		RowOffsetIndex index = RowOffsetIndex.of(this.gzip, true);
+		
+		assertEquals(Compression.GZIP, index.getCompression());
+		assertTrue(index.getBlockCount() > 1);
+		
+		this.assertPages(this.gzip);
+	}
+	
+	/**
+	 * tests, that the compressed file is read like the plain file
+	 *
+	 * @throws IOException if a file couldn't be read
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testGzipContent()
+	throws IOException {
+		assertEquals(MappedRowReaderTest.readAll(new CommonsRowReader(this.plain)), MappedRowReaderTest.readAll(new CommonsRowReader(this.gzip)));
+	}
+}
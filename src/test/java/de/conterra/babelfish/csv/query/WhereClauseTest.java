@@ -0,0 +1,262 @@
+package de.conterra.babelfish.csv.query;
+
+import de.conterra.babelfish.csv.SimpleField;
+import de.conterra.babelfish.csv.parser.CsvRow;
+import de.conterra.babelfish.csv.parser.ValueParser;
+import de.conterra.babelfish.plugin.v10_02.feature.Field;
+import de.conterra.babelfish.plugin.v10_02.feature.FieldType;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * tests the compilation and the evaluation of {@link WhereClause}s, especially the handling of missing values
+ *
+ * @author ChrissW-R1
+ * @version 0.4.0
+ * @since 0.4.0
+ */
+public class WhereClauseTest {
+	/**
+	 * the text field
+	 *
+	 * @since 0.4.0
+	 */
+	private static final Field NAME    = new SimpleField("name", FieldType.String, "", false, 50, null);
+	/**
+	 * the decimal field
+	 *
+	 * @since 0.4.0
+	 */
+	private static final Field VALUE   = new SimpleField("value", FieldType.Double, "", false, 24, null);
+	/**
+	 * the date field
+	 *
+	 * @since 0.4.0
+	 */
+	private static final Field CREATED = new SimpleField("created", FieldType.Date, "", false, 24, null);
+	
+	/**
+	 * compiles a where-clause against the test fields
+	 *
+	 * @param where the where-clause to compile
+	 * @return the compiled {@link WhereClause}
+	 *
+	 * @since 0.4.0
+	 */
+	private static WhereClause compile(String where) {
+		Map<Integer, Field> headers = new LinkedHashMap<>();
+		headers.put(0, WhereClauseTest.NAME);
+		headers.put(1, WhereClauseTest.VALUE);
+		headers.put(2, WhereClauseTest.CREATED);
+		
+		return WhereClause.compile(where, headers, -1);
+	}
+	
+	/**
+	 * creates the attributes of a feature
+	 *
+	 * @param name  the value of the text field or {@code null}, if it is missing
+	 * @param value the value of the decimal field or {@code null}, if it is missing
+	 * @return the attributes
+	 *
+	 * @since 0.4.0
+	 */
+	private static Map<Field, Object> attributes(String name, Double value) {
+		Map<Field, Object> result = new HashMap<>();
+		
+		if (name != null) {
+			result.put(WhereClauseTest.NAME, name);
+		}
+		if (value != null) {
+			result.put(WhereClauseTest.VALUE, value);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * creates a raw {@link CsvRow}
+	 *
+	 * @param cells the cells of the row
+	 * @return the {@link CsvRow}
+	 *
+	 * @since 0.4.0
+	 */
+	private static CsvRow row(String... cells) {
+		return new CsvRow() {
+			@Override
+			public long getRecordNumber() {
+				return 1L;
+			}
+			
+			@Override
+			public int size() {
+				return cells.length;
+			}
+			
+			@Override
+			public String get(int column) {
+				return cells[column];
+			}
+			
+			@Override
+			public double getDouble(int column) {
+				return ValueParser.parseDouble(cells[column]);
+			}
+		};
+	}
+	
+	/**
+	 * checks the result of a where-clause on the attributes of a feature and on the equivalent raw {@link CsvRow}
+	 *
+	 * @param expected the expected result
+	 * @param where    the where-clause to evaluate
+	 * @param name     the value of the text field or {@code null}, if it is missing
+	 * @param value    the value of the decimal field or {@code null}, if it is missing
+	 * @since 0.4.0
+	 */
+	private static void assertResult(boolean expected, String where, String name, Double value) {
+		WhereClause clause = WhereClauseTest.compile(where);
+		CsvRow      row    = name != null
+		                     ? WhereClauseTest.row(name, value != null ? value.toString() : "", "")
+		                     : WhereClauseTest.row();
+		
+		assertEquals(where + " on " + name + ", " + value, expected, clause.test(WhereClauseTest.attributes(name, value)));
+		
+		if (name != null || value == null) {
+			assertEquals(where + " on row " + name + ", " + value, expected, clause.test(row));
+		}
+	}
+	
+	/**
+	 * tests, that a comparison with a missing value is never satisfied, even if it is negated
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testComparisonWithNull() {
+		for (String where : new String[]{"value > 1", "value <= 1", "value = 1", "value <> 1", "value BETWEEN 0 AND 10", "value IN (1, 2)"}) {
+			WhereClauseTest.assertResult(false, where, "a", null);
+			WhereClauseTest.assertResult(false, "NOT " + where, "a", null);
+			WhereClauseTest.assertResult(false, "NOT (" + where + ")", "a", null);
+		}
+		
+		WhereClauseTest.assertResult(false, "value NOT BETWEEN 0 AND 10", "a", null);
+		WhereClauseTest.assertResult(false, "value NOT IN (1, 2)", "a", null);
+		WhereClauseTest.assertResult(false, "name NOT LIKE 'a%'", null, null);
+		WhereClauseTest.assertResult(false, "name <> 'a'", null, null);
+	}
+	
+	/**
+	 * tests {@code IS NULL} and its negations
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testIsNull() {
+		WhereClauseTest.assertResult(true, "value IS NULL", "a", null);
+		WhereClauseTest.assertResult(false, "value IS NULL", "a", 1.0);
+		WhereClauseTest.assertResult(false, "value IS NOT NULL", "a", null);
+		WhereClauseTest.assertResult(true, "value IS NOT NULL", "a", 1.0);
+		WhereClauseTest.assertResult(false, "NOT value IS NULL", "a", null);
+		WhereClauseTest.assertResult(true, "NOT value IS NULL", "a", 1.0);
+		WhereClauseTest.assertResult(true, "NOT value IS NOT NULL", "a", null);
+		WhereClauseTest.assertResult(true, "name IS NULL", null, null);
+		WhereClauseTest.assertResult(false, "name IS NULL", "", null);
+	}
+	
+	/**
+	 * tests, that a negation pushed down into a junction gives the same results as the three-valued logic of SQL
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testNegationPushdown() {
+		String where = "NOT (value > 1 AND name = 'a')";
+		
+		WhereClauseTest.assertResult(true, where, "b", null);
+		WhereClauseTest.assertResult(false, where, "a", null);
+		WhereClauseTest.assertResult(false, where, "a", 2.0);
+		WhereClauseTest.assertResult(true, where, "a", 0.5);
+		
+		where = "NOT (value > 1 OR name = 'a')";
+		
+		WhereClauseTest.assertResult(false, where, "b", null);
+		WhereClauseTest.assertResult(true, where, "b", 0.5);
+		WhereClauseTest.assertResult(false, where, "a", 0.5);
+		
+		WhereClauseTest.assertResult(true, "NOT NOT value > 1", "a", 2.0);
+		WhereClauseTest.assertResult(false, "NOT NOT value > 1", "a", null);
+	}
+	
+	/**
+	 * tests, that comparisons of literals are evaluated while compiling
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testConstantFolding() {
+		assertSame(WhereClause.ALL, WhereClause.compile(null, new HashMap<Integer, Field>(), -1));
+		assertSame(WhereClause.ALL, WhereClause.compile("  ", new HashMap<Integer, Field>(), -1));
+		
+		for (String where : new String[]{"1=1", "1 = 1 AND 2 > 1", "NOT 1 = 2", "1 = 2 OR 1 = 1", "value > 1 OR 1 = 1", "(1 = 1) AND (2 = 2 OR value > 1)", "'a' = 'a'"}) {
+			assertTrue(where, WhereClauseTest.compile(where).isAll());
+		}
+		
+		for (String where : new String[]{"1 = 2", "value > 1 AND 1 = 2", "NOT 1 = 1", "'a' <> 'a'"}) {
+			WhereClause clause = WhereClauseTest.compile(where);
+			
+			assertFalse(where, clause.isAll());
+			assertFalse(where, clause.test(WhereClauseTest.attributes("a", 2.0)));
+			assertFalse(where, clause.test(WhereClauseTest.attributes(null, null)));
+		}
+		
+		WhereClauseTest.assertResult(true, "value > 1 AND 1 = 1", "a", 2.0);
+		WhereClauseTest.assertResult(false, "value > 1 AND 1 = 1", "a", 0.5);
+	}
+	
+	/**
+	 * tests comparisons with the literal on the left side, dates and case-insensitive field names
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testOperands() {
+		WhereClauseTest.assertResult(true, "1 < value", "a", 2.0);
+		WhereClauseTest.assertResult(false, "1 < value", "a", 0.5);
+		WhereClauseTest.assertResult(true, "VALUE >= 2", "a", 2.0);
+		WhereClauseTest.assertResult(true, "\"name\" LIKE 'a_c%'", "abcd", null);
+		
+		Map<Field, Object> attributes = new HashMap<>();
+		attributes.put(WhereClauseTest.CREATED, ValueParser.parseDate("2020-01-02"));
+		
+		assertTrue(WhereClauseTest.compile("created > DATE '2020-01-01'").test(attributes));
+		assertFalse(WhereClauseTest.compile("created > TIMESTAMP '2020-01-02 00:00:00'").test(attributes));
+	}
+	
+	/**
+	 * tests, that invalid where-clauses are rejected
+	 *
+	 * @since 0.4.0
+	 */
+	@Test
+	public void testInvalid() {
+		for (String where : new String[]{"unknown = 1", "value = 'abc'", "value LIKE 'a%'", "value >", "value = 1 AND", "(value = 1", "name = value"}) {
+			try {
+				WhereClauseTest.compile(where);
+			} catch (IllegalArgumentException e) {
+				continue;
+			}
+			
+			throw new AssertionError("The where-clause " + where + " was accepted!");
+		}
+	}
+}